@@ -1,19 +1,24 @@
 package com.proyecto.pokemon_backend;
 
 import com.proyecto.pokemon_backend.component.InicializadorTipos;
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.config.PropiedadesDatos;
 import com.proyecto.pokemon_backend.config.PropiedadesJwt;
 import com.proyecto.pokemon_backend.repository.RepositorioTipo;
+import com.proyecto.pokemon_backend.service.TipoService;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * Arranque de Spring Boot. Registra {@link PropiedadesJwt} y el bean de
+ * Arranque de Spring Boot. Registra {@link PropiedadesJwt}, {@link PropiedadesDatos}, {@link PropiedadesBatalla} y el bean de
  * {@link com.proyecto.pokemon_backend.component.InicializadorTipos} 
  */
 @SpringBootApplication
-@EnableConfigurationProperties(PropiedadesJwt.class)
+@EnableConfigurationProperties({PropiedadesJwt.class, PropiedadesDatos.class, PropiedadesBatalla.class})
+@EnableScheduling
 public class PokemonBackendApplication {
 
     /** Punto de entrada: arranca el contexto Spring Boot del backend. */
@@ -26,7 +31,7 @@ public class PokemonBackendApplication {
      * para evitar el doble registro por tener ambas anotaciones.
      */
     @Bean
-    public InicializadorTipos inicializadorTipos(RepositorioTipo tipoRepository) {
-        return new InicializadorTipos(tipoRepository);
+    public InicializadorTipos inicializadorTipos(RepositorioTipo tipoRepository, TipoService tipoService) {
+        return new InicializadorTipos(tipoRepository, tipoService);
     }
 }
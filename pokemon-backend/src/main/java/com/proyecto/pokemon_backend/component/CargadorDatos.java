@@ -1,11 +1,14 @@
 package com.proyecto.pokemon_backend.component;
 
+import com.proyecto.pokemon_backend.config.PropiedadesDatos;
 import com.proyecto.pokemon_backend.model.Ataques;
 import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
 import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
 import com.proyecto.pokemon_backend.service.api.ServicioPokeApi;
-import org.springframework.boot.CommandLineRunner;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -13,6 +16,7 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Carga inicial de Pokédex y movimientos desde la PokéAPI al arrancar.
@@ -20,38 +24,65 @@ import java.util.stream.Collectors;
  * Solo se ejecuta si la tabla está incompleta, evitando re-descargas innecesarias.
  * Usa WebFlux con concurrencia controlada (5 peticiones simultáneas) para no
  * saturar la PokéAPI.
+ *
+ * Es el camino de respaldo: {@link ImportadorDataset} corre antes y, si el dataset empaquetado cubre las
+ * tablas, aquí no se hace ninguna petición.
  */
 @Component
-public class CargadorDatos implements CommandLineRunner {
+public class CargadorDatos implements EtapaArranque {
 
     private static final int LIMITE_GEN_II = 251;
 
     private final RepositorioPokedexMaestra pokedexRepo;
     private final RepositorioAtaques ataquesRepo;
     private final ServicioPokeApi apiService;
+    private final CatalogoEspecies catalogoEspecies;
+    private final CatalogoAtaques catalogoAtaques;
+    private final CargadorLearnsets cargadorLearnsets;
+    private final PropiedadesDatos propiedades;
 
     /**
      * @param pokedexRepo persistencia de especies Gen II
      * @param ataquesRepo catálogo de movimientos
      * @param apiService cliente HTTP reactivo hacia PokéAPI
+     * @param catalogoEspecies instantánea en memoria que se refresca tras descargar especies
+     * @param catalogoAtaques índice en memoria de movimientos, refrescado tras descargarlos
+     * @param cargadorLearnsets carga de {@code POKEMON_LEARNSET}, que necesita {@code ATAQUES} completo
+     * @param propiedades {@code pokemon.datos.pokeapi-habilitada} desactiva toda descarga
      */
     public CargadorDatos(
         RepositorioPokedexMaestra pokedexRepo,
         RepositorioAtaques ataquesRepo,
-        ServicioPokeApi apiService
+        ServicioPokeApi apiService,
+        CatalogoEspecies catalogoEspecies,
+        CatalogoAtaques catalogoAtaques,
+        CargadorLearnsets cargadorLearnsets,
+        PropiedadesDatos propiedades
     ) {
         this.pokedexRepo = pokedexRepo;
         this.ataquesRepo = ataquesRepo;
         this.apiService = apiService;
+        this.catalogoEspecies = catalogoEspecies;
+        this.catalogoAtaques = catalogoAtaques;
+        this.cargadorLearnsets = cargadorLearnsets;
+        this.propiedades = propiedades;
+    }
+
+    @Override
+    public Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of(ImportadorDataset.class);
     }
 
     /**
-     * {@inheritDoc} — completar Pokédex Gen II si falta filas, luego movimientos.
+     * {@inheritDoc} — completar Pokédex Gen II si falta filas, luego movimientos y learnsets.
+     * Con el dataset empaquetado completo no hace ninguna llamada.
      */
     @Override
-    public void run(String... args) {
+    public void ejecutar() {
+        if (!propiedades.isPokeapiHabilitada()) return;
         cargarPokedex();
         cargarAtaques();
+        cargadorLearnsets.cargar();
     }
 
     /** Descarga en paralelo pares especie+detalles hasta completar 251 especies Gen II. */
@@ -73,6 +104,7 @@ public class CargadorDatos implements CommandLineRunner {
             .doOnNext(pokedexRepo::saveAll)
             .blockLast();
 
+        catalogoEspecies.recargar();
         System.out.println("--- Pokédex lista: " + pokedexRepo.count() + " registros ---");
     }
 
@@ -90,6 +122,7 @@ public class CargadorDatos implements CommandLineRunner {
             .doOnNext(ataquesRepo::saveAll)
             .blockLast();
 
+        catalogoAtaques.recargar();
         System.out.println("--- Movimientos cargados: " + ataquesRepo.count() + " registros ---");
     }
 
@@ -120,10 +153,10 @@ public class CargadorDatos implements CommandLineRunner {
 
         // Tipos
         List<Map<String, Object>> tipos = (List<Map<String, Object>>) detalles.get("types");
-        pkm.setTipo_1((String) ((Map<String, Object>) tipos.get(0).get("type")).get("name"));
-        pkm.setTipo_2(tipos.size() > 1
-            ? (String) ((Map<String, Object>) tipos.get(1).get("type")).get("name")
-            : null);
+        pkm.setTipo_1(TipoPokemon.desde((String) ((Map<String, Object>) tipos.get(0).get("type")).get("name")));
+        // Hada no existe en Gen II: como secundario se descarta (Marill era Agua puro, Jigglypuff Normal puro)
+        String slug2 = tipos.size() > 1 ? (String) ((Map<String, Object>) tipos.get(1).get("type")).get("name") : null;
+        pkm.setTipo_2(slug2 == null || TipoPokemon.esHada(slug2) ? null : TipoPokemon.desde(slug2));
 
         // Ratio de captura
         pkm.setRatioCaptura(especie != null && especie.containsKey("capture_rate")
@@ -143,7 +176,8 @@ public class CargadorDatos implements CommandLineRunner {
         ataque.setPotencia(detalles.get("power") != null ? (Integer) detalles.get("power") : 0);
         ataque.setPrecisionBase(detalles.get("accuracy") != null ? (Integer) detalles.get("accuracy") : 100);
         ataque.setPpBase(detalles.get("pp") != null ? (Integer) detalles.get("pp") : 0);
-        ataque.setTipo((String) ((Map<String, Object>) detalles.get("type")).get("name"));
+        TipoPokemon tipo = TipoPokemon.desde((String) ((Map<String, Object>) detalles.get("type")).get("name"));
+        ataque.setTipo(tipo != null ? tipo : TipoPokemon.NORMAL);
         ataque.setCategoria((String) ((Map<String, Object>) detalles.get("damage_class")).get("name"));
         return ataque;
     }
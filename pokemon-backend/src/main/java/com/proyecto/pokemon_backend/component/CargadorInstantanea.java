@@ -0,0 +1,170 @@
+package com.proyecto.pokemon_backend.component;
+
+import com.proyecto.pokemon_backend.config.PropiedadesDatos;
+import com.proyecto.pokemon_backend.dataset.ArchivoDataset;
+import com.proyecto.pokemon_backend.dataset.InstantaneaBinaria;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.Item;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
+import com.proyecto.pokemon_backend.repository.RepositorioCargaMasiva;
+import com.proyecto.pokemon_backend.repository.RepositorioCargaMasiva.Recuento;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset;
+import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
+import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
+import com.proyecto.pokemon_backend.repository.RepositorioTipo;
+import com.proyecto.pokemon_backend.service.TipoService;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoLearnsets;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * Hidrata los catálogos en memoria desde la instantánea binaria ({@code pokemon.datos.instantanea}) y la
+ * regenera cuando la BD ya no coincide con ella.
+ *
+ * Corre antes que ningún cargador: si el fichero existe, su recuento de filas casa con el de BD y se generó
+ * con el mismo dataset empaquetado, los catálogos se decodifican una sola vez del fichero mapeado, sin JPA ni
+ * JSON, y ImportadorDataset no tiene nada que hacer. Los catálogos se quedan con sus índices de objetos, no con
+ * el buffer. Al terminar el arranque, si faltaba o estaba desfasada, se reescribe desde BD. La huella es un
+ * recuento, no un hash del contenido: tras editar a mano una fila de catálogo, borrar el fichero para forzar su
+ * regeneración.
+ */
+@Component
+public class CargadorInstantanea implements EtapaArranque {
+
+    private final PropiedadesDatos propiedades;
+    private final RepositorioCargaMasiva cargaMasiva;
+    private final RepositorioPokedexMaestra pokedexRepo;
+    private final RepositorioAtaques ataquesRepo;
+    private final RepositorioObjeto itemRepo;
+    private final RepositorioLearnset learnsetRepo;
+    private final RepositorioTipo tipoRepo;
+    private final CatalogoEspecies catalogoEspecies;
+    private final CatalogoAtaques catalogoAtaques;
+    private final CatalogoObjetos catalogoObjetos;
+    private final CatalogoLearnsets catalogoLearnsets;
+    private final TipoService tipoService;
+
+    /** {@code true} si en este arranque los catálogos salieron de la instantánea. */
+    private volatile boolean hidratada;
+
+    public CargadorInstantanea(
+        PropiedadesDatos propiedades,
+        RepositorioCargaMasiva cargaMasiva,
+        RepositorioPokedexMaestra pokedexRepo,
+        RepositorioAtaques ataquesRepo,
+        RepositorioObjeto itemRepo,
+        RepositorioLearnset learnsetRepo,
+        RepositorioTipo tipoRepo,
+        CatalogoEspecies catalogoEspecies,
+        CatalogoAtaques catalogoAtaques,
+        CatalogoObjetos catalogoObjetos,
+        CatalogoLearnsets catalogoLearnsets,
+        TipoService tipoService
+    ) {
+        this.propiedades = propiedades;
+        this.cargaMasiva = cargaMasiva;
+        this.pokedexRepo = pokedexRepo;
+        this.ataquesRepo = ataquesRepo;
+        this.itemRepo = itemRepo;
+        this.learnsetRepo = learnsetRepo;
+        this.tipoRepo = tipoRepo;
+        this.catalogoEspecies = catalogoEspecies;
+        this.catalogoAtaques = catalogoAtaques;
+        this.catalogoObjetos = catalogoObjetos;
+        this.catalogoLearnsets = catalogoLearnsets;
+        this.tipoService = tipoService;
+    }
+
+    /** {@inheritDoc} — publica los catálogos desde la instantánea si existe y sigue al día. */
+    @Override
+    public void ejecutar() {
+        Path fichero = fichero();
+        if (fichero == null || !Files.isRegularFile(fichero)) return;
+
+        long inicio = System.nanoTime();
+        InstantaneaBinaria instantanea;
+        try {
+            instantanea = InstantaneaBinaria.abrir(fichero);
+        } catch (RuntimeException e) {
+            System.err.println("Instantánea de catálogo ilegible, se regenerará: " + e.getMessage());
+            return;
+        }
+        if (!vigente(instantanea.cabecera(), cargaMasiva.recuento())) {
+            System.out.println("--- Instantánea de catálogo desfasada; se regenerará al terminar el arranque ---");
+            return;
+        }
+
+        catalogoEspecies.cargarDesde(instantanea.especies());
+        catalogoAtaques.cargarDesde(instantanea.movimientos());
+        catalogoObjetos.cargarDesde(instantanea.objetos());
+        catalogoLearnsets.cargarDesde(instantanea.learnsets());
+        tipoService.cargarMatrizDesde(instantanea.tipos());
+        hidratada = true;
+        System.out.println("--- Catálogos hidratados desde " + fichero + " en "
+            + (System.nanoTime() - inicio) / 1_000_000 + " ms ---");
+    }
+
+    /** Reescribe la instantánea si no existe o ya no casa con la BD tras los cargadores. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void regenerarSiHaceFalta() {
+        Path fichero = fichero();
+        if (fichero == null) return;
+
+        Recuento recuento = cargaMasiva.recuento();
+        if (Files.isRegularFile(fichero)) {
+            try {
+                if (vigente(InstantaneaBinaria.abrir(fichero).cabecera(), recuento)) return;
+            } catch (RuntimeException e) {
+                // ilegible: se sobrescribe
+            }
+        }
+
+        try {
+            InstantaneaBinaria.escribir(
+                fichero,
+                sumaDataset(),
+                pokedexRepo.findAll().stream().sorted(Comparator.comparing(PokedexMaestra::getId_pokedex)).toList(),
+                ataquesRepo.findAll().stream().sorted(Comparator.comparing(Ataques::getIdAtaque)).toList(),
+                itemRepo.findAll().stream().sorted(Comparator.comparing(Item::getIdItem)).toList(),
+                learnsetRepo.buscarTodos(),
+                tipoRepo.findAll().stream().sorted(Comparator.comparing(Tipo::getIdTipo)).toList()
+            );
+            System.out.println("--- Instantánea de catálogo escrita en " + fichero.toAbsolutePath() + " ---");
+        } catch (RuntimeException e) {
+            System.err.println("No se pudo escribir la instantánea de catálogo: " + e.getMessage());
+        }
+    }
+
+    /** Los catálogos de este arranque salieron de la instantánea (el dataset empaquetado ya estaba importado). */
+    public boolean isHidratada() {
+        return hidratada;
+    }
+
+    private boolean vigente(InstantaneaBinaria.Cabecera cabecera, Recuento recuento) {
+        return cabecera.especies() == recuento.especies()
+            && cabecera.movimientos() == recuento.movimientos()
+            && cabecera.objetos() == recuento.objetos()
+            && cabecera.learnsets() == recuento.learnsets()
+            && cabecera.tipos() == recuento.tipos()
+            && cabecera.sumaDataset().equalsIgnoreCase(sumaDataset());
+    }
+
+    private String sumaDataset() {
+        return propiedades.isImportarDataset() ? ArchivoDataset.sumaEmpaquetada() : "";
+    }
+
+    private Path fichero() {
+        String ruta = propiedades.getInstantanea();
+        return ruta == null || ruta.isBlank() ? null : Path.of(ruta);
+    }
+}
@@ -0,0 +1,146 @@
+package com.proyecto.pokemon_backend.component;
+
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset.FilaLearnset;
+import com.proyecto.pokemon_backend.service.api.ServicioPokeApi;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoLearnsets;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Rellena {@code POKEMON_LEARNSET} en bloque para las especies Gen II que aún no tienen filas.
+ *
+ * Lo invoca CargadorDatos justo después de cargar {@code ATAQUES} (los nombres de PokéAPI se cruzan con
+ * ese catálogo). Así la descarga de {@code /pokemon/{id}} ocurre una vez al arrancar y no en el primer
+ * turno de cada especie, dentro de una transacción de combate.
+ */
+@Component
+public class CargadorLearnsets {
+
+    private static final int LIMITE_GEN_II = 251;
+    private static final String VERSION_ORO_PLATA = "gold-silver";
+
+    private final RepositorioLearnset learnsetRepo;
+    private final ServicioPokeApi apiService;
+    private final CatalogoAtaques catalogoAtaques;
+    private final CatalogoLearnsets catalogoLearnsets;
+
+    /**
+     * @param learnsetRepo destino de las filas
+     * @param apiService cliente PokéAPI ({@code /pokemon/{id}})
+     * @param catalogoAtaques cruce nombre de movimiento → {@code id_ataque}
+     * @param catalogoLearnsets instantánea en memoria que se refresca tras la carga
+     */
+    public CargadorLearnsets(
+        RepositorioLearnset learnsetRepo,
+        ServicioPokeApi apiService,
+        CatalogoAtaques catalogoAtaques,
+        CatalogoLearnsets catalogoLearnsets
+    ) {
+        this.learnsetRepo = learnsetRepo;
+        this.apiService = apiService;
+        this.catalogoAtaques = catalogoAtaques;
+        this.catalogoLearnsets = catalogoLearnsets;
+    }
+
+    /** Descarga en paralelo (5 a la vez) los learnsets que faltan y los guarda en lotes de 20 especies. */
+    public void cargar() {
+        Set<Integer> cargadas = learnsetRepo.especiesCargadas();
+        if (cargadas.size() >= LIMITE_GEN_II) return;
+
+        System.out.println("--- Descargando learnsets Gen II (" + (LIMITE_GEN_II - cargadas.size()) + " especies) ---");
+
+        Flux.range(1, LIMITE_GEN_II)
+            .filter(id -> !cargadas.contains(id))
+            .flatMap(id -> apiService.obtenerDetallesPokemon(String.valueOf(id))
+                .map(datos -> extraerLearnset(id, datos))
+                .onErrorResume(e -> {
+                    System.err.println("Error cargando learnset #" + id + ": " + e.getMessage());
+                    return Mono.empty();
+                }), 5)
+            .buffer(20)
+            .doOnNext(lote -> learnsetRepo.guardarLote(lote.stream().flatMap(List::stream).toList()))
+            .blockLast();
+
+        catalogoLearnsets.recargar();
+        System.out.println("--- Learnsets listos: " + learnsetRepo.especiesCargadas().size() + " especies ---");
+    }
+
+    /**
+     * Parsea {@code moves[]} de {@code /pokemon/{id}} filtrando método level-up y versión oro-plata;
+     * se queda con el menor nivel por movimiento y descarta los que no están en {@code ATAQUES}.
+     */
+    private List<FilaLearnset> extraerLearnset(int pokedexId, Map<String, Object> datos) {
+        Object rawMoves = datos.get("moves");
+        if (!(rawMoves instanceof List<?> lista)) return List.of();
+
+        Map<Integer, Integer> nivelMinPorMoveId = new HashMap<>();
+
+        for (Object entrada : lista) {
+            if (!(entrada instanceof Map<?, ?> movEntry)) continue;
+
+            String nombre = nombreAnidado(movEntry.get("move"));
+            if (nombre.isBlank()) continue;
+
+            Optional<Ataques> ataque = catalogoAtaques.buscarPorNombre(nombre);
+            if (ataque.isEmpty()) continue;
+
+            int nivel = nivelAprendizajeOroPlata(movEntry.get("version_group_details"));
+            if (nivel < 0) continue;
+
+            nivelMinPorMoveId.merge(ataque.get().getIdAtaque(), nivel, Math::min);
+        }
+
+        List<FilaLearnset> filas = new ArrayList<>(nivelMinPorMoveId.size());
+        nivelMinPorMoveId.forEach((moveId, nivel) -> filas.add(new FilaLearnset(pokedexId, moveId, nivel)));
+        return filas;
+    }
+
+    /**
+     * Menor nivel de aprendizaje en Gen II (gold-silver) para un movimiento; {@code -1} si no aplica.
+     */
+    private int nivelAprendizajeOroPlata(Object rawDetalles) {
+        if (!(rawDetalles instanceof List<?> lista)) return -1;
+
+        int nivel = Integer.MAX_VALUE;
+        for (Object raw : lista) {
+            if (!(raw instanceof Map<?, ?> detalle)) continue;
+
+            String version = nombreAnidado(detalle.get("version_group"));
+            String metodo  = nombreAnidado(detalle.get("move_learn_method"));
+
+            if (!VERSION_ORO_PLATA.equalsIgnoreCase(version)) continue;
+            if (!"level-up".equalsIgnoreCase(metodo)) continue;
+
+            int n = toInt(detalle.get("level_learned_at"), 0);
+            nivel = Math.min(nivel, n);
+        }
+
+        return nivel == Integer.MAX_VALUE ? -1 : nivel;
+    }
+
+    /** Extrae {@code name} de mapas anidados típicos de PokéAPI ({@code move}, {@code type}, etc.). */
+    private String nombreAnidado(Object raw) {
+        if (!(raw instanceof Map<?, ?> map)) return "";
+        Object name = map.get("name");
+        return name == null ? "" : String.valueOf(name);
+    }
+
+    /** Coerción tolerante de JSON numérico o string a int. */
+    private int toInt(Object raw, int defecto) {
+        if (raw == null) return defecto;
+        if (raw instanceof Number n) return n.intValue();
+        try { return Integer.parseInt(String.valueOf(raw)); }
+        catch (NumberFormatException e) { return defecto; }
+    }
+}
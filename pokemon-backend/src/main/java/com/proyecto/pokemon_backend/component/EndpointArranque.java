@@ -0,0 +1,25 @@
+package com.proyecto.pokemon_backend.component;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/arranque}: duración de cada etapa de {@link PipelineArranque} en el último arranque,
+ * para seguir el tiempo de arranque entre despliegues.
+ */
+@Component
+@Endpoint(id = "arranque")
+public class EndpointArranque {
+
+    private final PipelineArranque pipeline;
+
+    public EndpointArranque(PipelineArranque pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @ReadOperation
+    public PipelineArranque.InformeArranque informe() {
+        return pipeline.informe();
+    }
+}
@@ -0,0 +1,20 @@
+package com.proyecto.pokemon_backend.component;
+
+import java.util.Set;
+
+/**
+ * Paso de la carga inicial (siembra, importación, descarga de catálogos…).
+ *
+ * Lo ejecuta {@link PipelineArranque} en cuanto terminan sus {@link #dependencias()}; las etapas sin
+ * relación entre sí corren en paralelo, así que cada una solo debe tocar sus tablas y catálogos.
+ */
+public interface EtapaArranque {
+
+    /** Etapas que deben haber terminado antes que esta; por defecto ninguna. */
+    default Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of();
+    }
+
+    /** Ejecuta la etapa. Una excepción aborta el arranque, como un {@code CommandLineRunner}. */
+    void ejecutar();
+}
@@ -0,0 +1,118 @@
+package com.proyecto.pokemon_backend.component;
+
+import com.proyecto.pokemon_backend.config.PropiedadesDatos;
+import com.proyecto.pokemon_backend.dataset.ArchivoDataset;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.Item;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset;
+import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
+import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
+import com.proyecto.pokemon_backend.repository.RepositorioTipo;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * Vuelca los catálogos de BD a un fichero de dataset cuando se arranca con
+ * {@code pokemon.datos.exportar-dataset=<ruta>}.
+ *
+ * Es la forma de regenerar {@code src/main/resources/datos/gen2-dataset-v1.json}: arrancar una vez contra
+ * una BD que PokéAPI haya completado y copiar el fichero (y su {@code .sha256}) al recurso. Corre el último.
+ * {@code mvn test -Dtest=RegenerarDatasetTest -Dpokemon.regenerar-dataset=true} hace todo el ciclo sobre H2 y
+ * solo reemplaza el recurso si el volcado sale completo.
+ */
+@Component
+public class ExportadorDataset implements EtapaArranque {
+
+    private final PropiedadesDatos propiedades;
+    private final RepositorioPokedexMaestra pokedexRepo;
+    private final RepositorioAtaques ataquesRepo;
+    private final RepositorioObjeto itemRepo;
+    private final RepositorioLearnset learnsetRepo;
+    private final RepositorioTipo tipoRepo;
+
+    public ExportadorDataset(
+        PropiedadesDatos propiedades,
+        RepositorioPokedexMaestra pokedexRepo,
+        RepositorioAtaques ataquesRepo,
+        RepositorioObjeto itemRepo,
+        RepositorioLearnset learnsetRepo,
+        RepositorioTipo tipoRepo
+    ) {
+        this.propiedades = propiedades;
+        this.pokedexRepo = pokedexRepo;
+        this.ataquesRepo = ataquesRepo;
+        this.itemRepo = itemRepo;
+        this.learnsetRepo = learnsetRepo;
+        this.tipoRepo = tipoRepo;
+    }
+
+    @Override
+    public Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of(InicializadorTipos.class, FijarPrecioItemsUnidad.class, CargadorDatos.class);
+    }
+
+    /** {@inheritDoc} — no hace nada si {@code pokemon.datos.exportar-dataset} está vacío. */
+    @Override
+    public void ejecutar() {
+        String ruta = propiedades.getExportarDataset();
+        if (ruta == null || ruta.isBlank()) return;
+
+        DatasetGenII dataset = new DatasetGenII(
+            DatasetGenII.FORMATO,
+            "gen2-v" + DatasetGenII.FORMATO,
+            pokedexRepo.findAll().stream()
+                .sorted(Comparator.comparing(PokedexMaestra::getId_pokedex))
+                .map(ExportadorDataset::especie)
+                .toList(),
+            ataquesRepo.findAll().stream()
+                .sorted(Comparator.comparing(Ataques::getIdAtaque))
+                .map(ExportadorDataset::movimiento)
+                .toList(),
+            itemRepo.findAll().stream()
+                .sorted(Comparator.comparing(Item::getIdItem))
+                .map(i -> new DatasetGenII.Objeto(i.getNombre(), nvl(i.getPrecio(), 1), i.getEfecto()))
+                .toList(),
+            learnsetRepo.buscarTodos().stream()
+                .map(f -> new DatasetGenII.Learnset(f.pokedexId(), f.moveId(), f.nivel()))
+                .toList(),
+            tipoRepo.findAll().stream()
+                .sorted(Comparator.comparing(Tipo::getIdTipo))
+                .map(t -> new DatasetGenII.RelacionTipo(t.getAtacante(), t.getDefensor(), t.getMultiplicador()))
+                .toList()
+        );
+
+        Path destino = Path.of(ruta);
+        String suma = ArchivoDataset.escribir(dataset, destino);
+        System.out.println("--- Dataset exportado en " + destino.toAbsolutePath() + " (sha256 " + suma + ") ---");
+    }
+
+    private static DatasetGenII.Especie especie(PokedexMaestra p) {
+        return new DatasetGenII.Especie(
+            p.getId_pokedex(), p.getNombre(),
+            TipoPokemon.slugDe(p.getTipo_1()), TipoPokemon.slugDe(p.getTipo_2()),
+            nvl(p.getStat_base_hp(), 1), nvl(p.getStat_base_ataque(), 1), nvl(p.getStat_base_defensa(), 1),
+            nvl(p.getStat_base_atq_especial(), 1), nvl(p.getStat_base_def_especial(), 1),
+            nvl(p.getStat_base_velocidad(), 1),
+            p.getXp_base(), p.getRatioCaptura()
+        );
+    }
+
+    private static DatasetGenII.Movimiento movimiento(Ataques a) {
+        return new DatasetGenII.Movimiento(
+            a.getIdAtaque(), a.getNombre(), TipoPokemon.slugDe(a.getTipo()), a.getCategoria(),
+            nvl(a.getPotencia(), 0), nvl(a.getPrecisionBase(), 100), nvl(a.getPpBase(), 0)
+        );
+    }
+
+    private static int nvl(Integer value, int defecto) {
+        return value == null ? defecto : value;
+    }
+}
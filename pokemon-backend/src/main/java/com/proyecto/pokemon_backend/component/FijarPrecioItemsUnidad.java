@@ -1,31 +1,38 @@
 package com.proyecto.pokemon_backend.component;
 
-import com.proyecto.pokemon_backend.model.Item;
 import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.annotation.Order;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
 
 /**
  * Fuerza precio 1 en todo el catálogo (incluye BD ya sembrada con costes PokéAPI).
+ *
+ * Es un único {@code UPDATE} condicional: en un arranque normal no cambia ninguna fila y no recarga nada.
  */
 @Component
-@Order(101)
-public class FijarPrecioItemsUnidad implements CommandLineRunner {
+public class FijarPrecioItemsUnidad implements EtapaArranque {
 
     private final RepositorioObjeto itemRepo;
+    private final CatalogoObjetos catalogoObjetos;
 
-    public FijarPrecioItemsUnidad(RepositorioObjeto itemRepo) {
+    public FijarPrecioItemsUnidad(RepositorioObjeto itemRepo, CatalogoObjetos catalogoObjetos) {
         this.itemRepo = itemRepo;
+        this.catalogoObjetos = catalogoObjetos;
+    }
+
+    @Override
+    public Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of(SembradorObjetos.class);
     }
 
     @Override
-    @Transactional
-    public void run(String... args) {
-        for (Item i : itemRepo.findAll()) {
-            i.setPrecio(1);
-            itemRepo.save(i);
+    public void ejecutar() {
+        int cambiados = itemRepo.fijarPrecioUnidad();
+        if (cambiados > 0) {
+            catalogoObjetos.recargar();
+            System.out.println("--- Precio 1 aplicado a " + cambiados + " ítems ---");
         }
     }
 }
@@ -0,0 +1,148 @@
+package com.proyecto.pokemon_backend.component;
+
+import com.proyecto.pokemon_backend.config.PropiedadesDatos;
+import com.proyecto.pokemon_backend.dataset.ArchivoDataset;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.Especie;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.Movimiento;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.Objeto;
+import com.proyecto.pokemon_backend.repository.RepositorioCargaMasiva;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset.FilaLearnset;
+import com.proyecto.pokemon_backend.service.TipoService;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoLearnsets;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Siembra los catálogos desde el dataset Gen II empaquetado, sin red.
+ *
+ * Corre antes que cualquier otro cargador. Inserta en lote solo lo que falta (especies y movimientos por id,
+ * ítems por nombre, learnsets con upsert; la matriz de tipos solo si {@code TIPOS} está vacía), así que es
+ * idempotente y respeta datos ya cargados. Después, CargadorDatos/SembradorObjetos solo tocan PokéAPI si
+ * el dataset no cubría alguna tabla y {@code pokemon.datos.pokeapi-habilitada} lo permite.
+ *
+ * Si al dataset le falta una sección obligatoria ({@link DatasetGenII#seccionesObligatoriasVacias}) se avisa
+ * por {@code System.err}; si además PokéAPI está deshabilitada y la BD no tiene especies o movimientos, el
+ * arranque falla: no habría de dónde sacarlos y el juego quedaría sin Pokémon.
+ *
+ * Si {@link CargadorInstantanea} ya hidrató los catálogos, el dataset se importó en el arranque que escribió
+ * la instantánea y ni siquiera se parsea.
+ */
+@Component
+public class ImportadorDataset implements EtapaArranque {
+
+    private final PropiedadesDatos propiedades;
+    private final RepositorioCargaMasiva cargaMasiva;
+    private final RepositorioLearnset learnsetRepo;
+    private final CatalogoEspecies catalogoEspecies;
+    private final CatalogoAtaques catalogoAtaques;
+    private final CatalogoObjetos catalogoObjetos;
+    private final CatalogoLearnsets catalogoLearnsets;
+    private final TipoService tipoService;
+    private final CargadorInstantanea cargadorInstantanea;
+
+    public ImportadorDataset(
+        PropiedadesDatos propiedades,
+        RepositorioCargaMasiva cargaMasiva,
+        RepositorioLearnset learnsetRepo,
+        CatalogoEspecies catalogoEspecies,
+        CatalogoAtaques catalogoAtaques,
+        CatalogoObjetos catalogoObjetos,
+        CatalogoLearnsets catalogoLearnsets,
+        TipoService tipoService,
+        CargadorInstantanea cargadorInstantanea
+    ) {
+        this.propiedades = propiedades;
+        this.cargaMasiva = cargaMasiva;
+        this.learnsetRepo = learnsetRepo;
+        this.catalogoEspecies = catalogoEspecies;
+        this.catalogoAtaques = catalogoAtaques;
+        this.catalogoObjetos = catalogoObjetos;
+        this.catalogoLearnsets = catalogoLearnsets;
+        this.tipoService = tipoService;
+        this.cargadorInstantanea = cargadorInstantanea;
+    }
+
+    @Override
+    public Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of(CargadorInstantanea.class);
+    }
+
+    /** {@inheritDoc} — verifica el checksum del dataset e inserta las filas ausentes tabla a tabla. */
+    @Override
+    public void ejecutar() {
+        if (!propiedades.isImportarDataset() || cargadorInstantanea.isHidratada()) return;
+
+        long inicio = System.nanoTime();
+        DatasetGenII dataset = ArchivoDataset.leerEmpaquetado();
+
+        Set<Integer> especiesBd = cargaMasiva.idsEspeciesExistentes();
+        Set<Integer> ataquesBd = cargaMasiva.idsAtaquesExistentes();
+        comprobarSecciones(dataset, especiesBd.isEmpty(), ataquesBd.isEmpty());
+
+        List<Especie> especies = dataset.especies().stream()
+            .filter(e -> !especiesBd.contains(e.id()))
+            .toList();
+        cargaMasiva.insertarEspecies(especies);
+
+        List<Movimiento> movimientos = dataset.movimientos().stream()
+            .filter(m -> !ataquesBd.contains(m.id()))
+            .toList();
+        cargaMasiva.insertarMovimientos(movimientos);
+
+        Set<String> objetosBd = cargaMasiva.nombresObjetosExistentes();
+        List<Objeto> objetos = dataset.objetos().stream()
+            .filter(o -> !objetosBd.contains(o.nombre().toLowerCase(Locale.ROOT)))
+            .toList();
+        cargaMasiva.insertarObjetos(objetos);
+
+        List<FilaLearnset> learnsets = dataset.learnsets().stream()
+            .map(l -> new FilaLearnset(l.pokedexId(), l.moveId(), l.nivel()))
+            .toList();
+        learnsetRepo.guardarLote(learnsets);
+
+        boolean importarTipos = cargaMasiva.contarRelacionesTipo() == 0 && !dataset.tipos().isEmpty();
+        if (importarTipos) {
+            cargaMasiva.insertarRelacionesTipo(dataset.tipos());
+        }
+
+        if (!especies.isEmpty()) catalogoEspecies.recargar();
+        if (!movimientos.isEmpty()) catalogoAtaques.recargar();
+        if (!objetos.isEmpty()) catalogoObjetos.recargar();
+        if (!learnsets.isEmpty()) catalogoLearnsets.recargar();
+        if (importarTipos) tipoService.recargarMatriz();
+
+        System.out.println("--- Dataset " + dataset.version() + " importado en "
+            + (System.nanoTime() - inicio) / 1_000_000 + " ms: "
+            + especies.size() + " especies, " + movimientos.size() + " movimientos, "
+            + objetos.size() + " ítems, " + learnsets.size() + " filas de learnset, "
+            + (importarTipos ? dataset.tipos().size() : 0) + " relaciones de tipo ---");
+    }
+
+    /**
+     * Avisa de las secciones obligatorias vacías, o falla si tampoco pueden venir de la BD ni de PokéAPI.
+     *
+     * @param sinEspeciesBd {@code POKEDEX_MAESTRA} está vacía
+     * @param sinAtaquesBd  {@code ATAQUES} está vacía
+     */
+    private void comprobarSecciones(DatasetGenII dataset, boolean sinEspeciesBd, boolean sinAtaquesBd) {
+        List<String> vacias = dataset.seccionesObligatoriasVacias();
+        if (vacias.isEmpty()) return;
+
+        String aviso = "Dataset " + dataset.version() + " sin " + String.join(", ", vacias)
+            + "; regenerarlo con mvn test -Dtest=RegenerarDatasetTest -Dpokemon.regenerar-dataset=true";
+        boolean sinFuente = !propiedades.isPokeapiHabilitada()
+            && (vacias.contains("especies") && sinEspeciesBd || vacias.contains("movimientos") && sinAtaquesBd);
+        if (sinFuente) {
+            throw new IllegalStateException(aviso + " (pokemon.datos.pokeapi-habilitada=false y la BD está vacía)");
+        }
+        System.err.println("*** " + aviso + ". Lo que falte se pedirá a PokéAPI si está habilitada ***");
+    }
+}
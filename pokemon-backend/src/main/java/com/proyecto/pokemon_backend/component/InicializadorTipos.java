@@ -2,21 +2,23 @@ package com.proyecto.pokemon_backend.component;
 
 import com.proyecto.pokemon_backend.model.Tipo;
 import com.proyecto.pokemon_backend.repository.RepositorioTipo;
-import org.springframework.boot.CommandLineRunner;
+import com.proyecto.pokemon_backend.service.TipoService;
 import org.springframework.lang.NonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Carga la matriz de efectividad de tipos Gen II en base de datos al arrancar.
  *
  * Solo se ejecuta si la tabla TIPOS está vacía, evitando duplicados en reinicios.
+ * Tras sembrar, pide a {@link TipoService} que reconstruya su matriz en memoria.
  *
  * NOTA: Esta clase NO tiene @Component. Se registra como @Bean en PokemonBackendApplication
  * para evitar el doble registro que causaría tener ambas anotaciones.
  */
-public class InicializadorTipos implements CommandLineRunner {
+public class InicializadorTipos implements EtapaArranque {
 
     private static final String[] TIPOS = {
         "Normal", "Fuego", "Agua", "Planta", "Eléctrico", "Hielo",
@@ -31,21 +33,32 @@ public class InicializadorTipos implements CommandLineRunner {
     private static final int DRAGON = 14, SINIESTRO = 15, ACERO = 16;
 
     private final RepositorioTipo tipoRepository;
+    private final TipoService tipoService;
 
-    /** @param tipoRepository destino de las filas de la matriz de efectividad */
-    public InicializadorTipos(RepositorioTipo tipoRepository) {
+    /**
+     * @param tipoRepository destino de las filas de la matriz de efectividad
+     * @param tipoService matriz en memoria que se recarga tras insertar
+     */
+    public InicializadorTipos(RepositorioTipo tipoRepository, TipoService tipoService) {
         this.tipoRepository = tipoRepository;
+        this.tipoService = tipoService;
+    }
+
+    @Override
+    public Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of(ImportadorDataset.class);
     }
 
     /**
      * {@inheritDoc} — solo si {@code TIPOS} está vacío, inserta todas las relaciones no neutras Gen II.
      */
     @Override
-    public void run(String... args) {
+    public void ejecutar() {
         if (tipoRepository.count() > 0) return;
 
         System.out.println("--- Cargando matriz de tipos Gen II ---");
         construirMatriz().forEach((@NonNull Tipo t) -> tipoRepository.save(t));
+        tipoService.recargarMatriz();
         System.out.println("--- Matriz de tipos cargada ---");
     }
 
@@ -0,0 +1,196 @@
+package com.proyecto.pokemon_backend.component;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Único {@code CommandLineRunner} de carga inicial: ejecuta todas las {@link EtapaArranque} respetando sus
+ * dependencias y en paralelo cuando no dependen unas de otras.
+ *
+ * Antes de lanzar nada valida el grafo (dependencias que no son etapas registradas o ciclos abortan el
+ * arranque). Si una etapa falla, las que dependen de ella no se ejecutan y el arranque falla con su
+ * excepción. La duración de cada etapa queda en {@link #informe()}, expuesto en {@code /actuator/arranque}.
+ */
+@Component
+public class PipelineArranque implements CommandLineRunner {
+
+    /** Las etapas son sobre todo E/S (BD y PokéAPI); no merece la pena más hilos que etapas independientes. */
+    private static final int HILOS = 4;
+
+    private final List<EtapaArranque> etapas;
+
+    private volatile InformeArranque informe = new InformeArranque(null, 0, List.of());
+
+    /** @param etapas todas las etapas registradas como bean */
+    public PipelineArranque(List<EtapaArranque> etapas) {
+        this.etapas = etapas;
+    }
+
+    /** {@inheritDoc} — bloquea hasta que terminan todas las etapas. */
+    @Override
+    public void run(String... args) {
+        Map<Class<?>, EtapaArranque> porClase = indexar(etapas);
+        List<Class<?>> orden = ordenTopologico(porClase);
+
+        Instant inicio = Instant.now();
+        long t0 = System.nanoTime();
+        Map<Class<?>, MedicionEtapa> mediciones = new ConcurrentHashMap<>();
+        Map<Class<?>, CompletableFuture<Void>> futuros = new HashMap<>();
+        AtomicInteger hilo = new AtomicInteger();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS, r -> {
+            Thread t = new Thread(r, "arranque-" + hilo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            for (Class<?> clase : orden) {
+                EtapaArranque etapa = porClase.get(clase);
+                CompletableFuture<?>[] previas = etapa.dependencias().stream()
+                    .map(futuros::get)
+                    .toArray(CompletableFuture[]::new);
+                futuros.put(clase, CompletableFuture.allOf(previas)
+                    .thenRunAsync(() -> medir(clase, etapa, t0, mediciones), ejecutor));
+            }
+            CompletableFuture.allOf(futuros.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        } finally {
+            ejecutor.shutdownNow();
+            List<MedicionEtapa> lista = new ArrayList<>();
+            for (Class<?> clase : orden) {
+                lista.add(mediciones.getOrDefault(clase, new MedicionEtapa(
+                    clase.getSimpleName(), nombres(porClase.get(clase)), null, -1, 0, Estado.NO_EJECUTADA)));
+            }
+            lista.sort(Comparator.comparing((MedicionEtapa m) -> m.estado() == Estado.NO_EJECUTADA)
+                .thenComparingLong(MedicionEtapa::inicioMs));
+            informe = new InformeArranque(inicio, (System.nanoTime() - t0) / 1_000_000, List.copyOf(lista));
+            System.out.println("--- Arranque de datos en " + informe.duracionMs() + " ms: " + resumen(lista) + " ---");
+        }
+    }
+
+    /** Última ejecución del pipeline; vacío hasta que termina. */
+    public InformeArranque informe() {
+        return informe;
+    }
+
+    /** Ejecuta la etapa y registra su medición tanto si termina bien como si lanza. */
+    private static void medir(
+        Class<?> clase, EtapaArranque etapa, long t0, Map<Class<?>, MedicionEtapa> mediciones
+    ) {
+        long inicio = System.nanoTime();
+        Estado estado = Estado.ERROR;
+        try {
+            etapa.ejecutar();
+            estado = Estado.OK;
+        } finally {
+            mediciones.put(clase, new MedicionEtapa(nombre(etapa), nombres(etapa), Thread.currentThread().getName(),
+                (inicio - t0) / 1_000_000, (System.nanoTime() - inicio) / 1_000_000, estado));
+        }
+    }
+
+    private static Map<Class<?>, EtapaArranque> indexar(List<EtapaArranque> etapas) {
+        Map<Class<?>, EtapaArranque> porClase = new LinkedHashMap<>();
+        for (EtapaArranque etapa : etapas) {
+            if (porClase.put(ClassUtils.getUserClass(etapa), etapa) != null) {
+                throw new IllegalStateException("Etapa de arranque duplicada: " + nombre(etapa));
+            }
+        }
+        for (EtapaArranque etapa : etapas) {
+            for (Class<? extends EtapaArranque> dep : etapa.dependencias()) {
+                if (!porClase.containsKey(dep)) {
+                    throw new IllegalStateException(
+                        nombre(etapa) + " depende de " + dep.getSimpleName() + ", que no es una etapa registrada");
+                }
+            }
+        }
+        return porClase;
+    }
+
+    /** Kahn: dependencias antes que dependientes; si queda alguna etapa sin ordenar hay un ciclo. */
+    private static List<Class<?>> ordenTopologico(Map<Class<?>, EtapaArranque> porClase) {
+        Map<Class<?>, Integer> pendientes = new HashMap<>();
+        Map<Class<?>, List<Class<?>>> dependientes = new HashMap<>();
+        porClase.forEach((clase, etapa) -> {
+            pendientes.put(clase, etapa.dependencias().size());
+            for (Class<?> dep : etapa.dependencias()) {
+                dependientes.computeIfAbsent(dep, k -> new ArrayList<>()).add(clase);
+            }
+        });
+        Deque<Class<?>> listas = new ArrayDeque<>();
+        pendientes.forEach((clase, n) -> { if (n == 0) listas.add(clase); });
+        List<Class<?>> orden = new ArrayList<>();
+        while (!listas.isEmpty()) {
+            Class<?> clase = listas.poll();
+            orden.add(clase);
+            for (Class<?> siguiente : dependientes.getOrDefault(clase, List.of())) {
+                if (pendientes.merge(siguiente, -1, Integer::sum) == 0) listas.add(siguiente);
+            }
+        }
+        if (orden.size() != porClase.size()) {
+            List<String> enCiclo = porClase.keySet().stream()
+                .filter(c -> !orden.contains(c))
+                .map(Class::getSimpleName)
+                .sorted()
+                .toList();
+            throw new IllegalStateException("Ciclo entre etapas de arranque: " + enCiclo);
+        }
+        return orden;
+    }
+
+    private static String nombre(EtapaArranque etapa) {
+        return ClassUtils.getUserClass(etapa).getSimpleName();
+    }
+
+    private static List<String> nombres(EtapaArranque etapa) {
+        return etapa.dependencias().stream().map(Class::getSimpleName).sorted().toList();
+    }
+
+    private static String resumen(List<MedicionEtapa> lista) {
+        StringBuilder sb = new StringBuilder();
+        for (MedicionEtapa m : lista) {
+            if (!sb.isEmpty()) sb.append(", ");
+            sb.append(m.etapa()).append('=').append(m.estado() == Estado.OK ? m.duracionMs() + "ms" : m.estado());
+        }
+        return sb.toString();
+    }
+
+    /** Resultado de una etapa. */
+    public enum Estado { OK, ERROR, NO_EJECUTADA }
+
+    /**
+     * Medición de una etapa.
+     *
+     * @param inicioMs milisegundos desde el inicio del pipeline hasta que empezó ({@code -1} si no se ejecutó)
+     */
+    public record MedicionEtapa(
+        String etapa,
+        List<String> dependencias,
+        String hilo,
+        long inicioMs,
+        long duracionMs,
+        Estado estado
+    ) {}
+
+    /**
+     * Ejecución completa: instante de inicio, duración total (camino crítico) y etapas por orden de inicio
+     * (las no ejecutadas al final).
+     */
+    public record InformeArranque(Instant inicio, long duracionMs, List<MedicionEtapa> etapas) {}
+}
@@ -1,26 +1,27 @@
 package com.proyecto.pokemon_backend.component;
 
+import com.proyecto.pokemon_backend.config.PropiedadesDatos;
 import com.proyecto.pokemon_backend.model.Item;
 import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
 import com.proyecto.pokemon_backend.service.api.ServicioPokeApi;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.annotation.Order;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Carga el catálogo de ítems de la tienda al arrancar.
  *
  * Los ítems se descargan de la PokéAPI y se les asigna un código de efecto
  * interno que BatallaService/TiendaService interpreta en tiempo de ejecución.
+ * Con el dataset empaquetado ({@link ImportadorDataset}) la tabla ya llega llena y esto no descarga nada.
  */
 @Component
-@Order(100)
-public class SembradorObjetos implements CommandLineRunner {
+public class SembradorObjetos implements EtapaArranque {
 
     private static final List<String> ITEMS_GEN_II = List.of(
         "potion", "super-potion", "hyper-potion", "max-potion", "full-restore",
@@ -32,22 +33,38 @@ public class SembradorObjetos implements CommandLineRunner {
 
     private final RepositorioObjeto itemRepo;
     private final ServicioPokeApi apiService;
+    private final CatalogoObjetos catalogoObjetos;
+    private final PropiedadesDatos propiedades;
 
     /**
      * @param itemRepo persistencia del catálogo ITEMS
      * @param apiService cliente PokéAPI para precios y nombres
+     * @param catalogoObjetos índice en memoria de ítems y efectos, refrescado tras sembrar
+     * @param propiedades {@code pokemon.datos.pokeapi-habilitada} desactiva la descarga
      */
-    public SembradorObjetos(RepositorioObjeto itemRepo, ServicioPokeApi apiService) {
+    public SembradorObjetos(
+        RepositorioObjeto itemRepo,
+        ServicioPokeApi apiService,
+        CatalogoObjetos catalogoObjetos,
+        PropiedadesDatos propiedades
+    ) {
         this.itemRepo = itemRepo;
         this.apiService = apiService;
+        this.catalogoObjetos = catalogoObjetos;
+        this.propiedades = propiedades;
+    }
+
+    @Override
+    public Set<Class<? extends EtapaArranque>> dependencias() {
+        return Set.of(ImportadorDataset.class);
     }
 
     /**
      * {@inheritDoc} — no hace nada si la tabla ITEMS ya tiene filas.
      */
     @Override
-    public void run(String... args) {
-        if (itemRepo.count() > 0) return;
+    public void ejecutar() {
+        if (!propiedades.isPokeapiHabilitada() || itemRepo.count() > 0) return;
 
         System.out.println("--- Cargando ítems de tienda Gen II ---");
 
@@ -62,6 +79,7 @@ public class SembradorObjetos implements CommandLineRunner {
             .doOnSuccess(itemRepo::saveAll)
             .block();
 
+        catalogoObjetos.recargar();
         System.out.println("--- Tienda lista: " + itemRepo.count() + " ítems ---");
     }
 
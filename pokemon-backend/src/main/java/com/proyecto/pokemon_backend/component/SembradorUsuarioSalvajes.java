@@ -3,8 +3,6 @@ package com.proyecto.pokemon_backend.component;
 import com.proyecto.pokemon_backend.model.Usuario;
 import com.proyecto.pokemon_backend.repository.RepositorioUsuario;
 import com.proyecto.pokemon_backend.support.CuentaSalvajes;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -13,8 +11,7 @@ import org.springframework.stereotype.Component;
  * No se usa para login; solo FK en {@code POKEMON_USUARIO}.
  */
 @Component
-@Order(1)
-public class SembradorUsuarioSalvajes implements CommandLineRunner {
+public class SembradorUsuarioSalvajes implements EtapaArranque {
 
     private final RepositorioUsuario userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -32,7 +29,7 @@ public class SembradorUsuarioSalvajes implements CommandLineRunner {
      * {@inheritDoc} — sale si ya existe {@link CuentaSalvajes#USERNAME}.
      */
     @Override
-    public void run(String... args) {
+    public void ejecutar() {
         if (userRepository.findByUsername(CuentaSalvajes.USERNAME).isPresent()) {
             return;
         }
@@ -42,7 +42,8 @@ public class ConfiguracionSeguridad {
     }
 
     /**
-     * Cadena solo para Actuator: sin JWT ni sesión, para que {@code GET /actuator/health} responda sin token.
+     * Cadena solo para Actuator, sin sesión: {@code /actuator/health} responde sin token y el resto (métricas,
+     * informe de arranque...) pide JWT como la API de juego.
      * Debe evaluarse antes que la cadena principal (orden más bajo = mayor prioridad).
      */
     @Bean
@@ -51,7 +52,11 @@ public class ConfiguracionSeguridad {
         http.securityMatcher("/actuator/**")
             .csrf(csrf -> csrf.disable())
             .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .anyRequest().authenticated()
+            );
         return http.build();
     }
 
@@ -0,0 +1,81 @@
+package com.proyecto.pokemon_backend.config;
+
+import com.proyecto.pokemon_backend.service.batalla.IaSalvaje;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades {@code pokemon.batalla.*}: aleatoriedad de los combates, política del salvaje, purga de
+ * salvajes abandonados, límites de la caché de movesets, reserva de salvajes por mapa y salvajes a medida.
+ *
+ * Cada combate tiene su propio generador con una semilla que se registra al abrirlo. Sin semilla base, esa
+ * semilla es aleatoria; con ella se deriva del id del combate, así una prueba de carga o de regresión sobre una
+ * BD recién creada repite exactamente los mismos combates.
+ */
+@ConfigurationProperties(prefix = "pokemon.batalla")
+public class PropiedadesBatalla {
+
+    /** Semilla base para derivar la de cada combate; {@code null} para semillas aleatorias. */
+    private Long semilla;
+
+    /** Cómo elige movimiento el salvaje ({@link IaSalvaje}). */
+    private IaSalvaje.Politica ia = IaSalvaje.Politica.ALEATORIO;
+
+    /**
+     * Sin usarse durante este tiempo un salvaje se purga (en memoria o fila antigua). Por defecto el doble de la
+     * inactividad que cierra un combate, para que no caduque antes que él.
+     */
+    private Duration edadMaximaSalvaje = Duration.ofMinutes(30);
+
+    /** Filas de salvaje por página y por borrado en la purga. */
+    private int lotePurga = 500;
+
+    /** Movesets que {@code CacheMovesets} intenta no superar; por encima expulsa los menos usados. */
+    private int maximoMovesets = 10_000;
+
+    /** Un moveset sin usarse durante este tiempo sale de la caché (ya volcado y fuera de combate). */
+    private Duration inactividadMoveset = Duration.ofMinutes(30);
+
+    /** Salvajes ya construidos por mapa y momento del día; {@code 0} desactiva la reserva. */
+    private int reservaSalvajes = 32;
+
+    /**
+     * Si {@code /salvaje/preparar} acepta especie, nivel y moveset del cliente (salas de demostración y depuración).
+     * Apagado por defecto: en una partida normal los salvajes solo salen de {@code /salvaje/encuentro}.
+     */
+    private boolean salvajesLibres;
+
+    /** @return valor de {@code pokemon.batalla.semilla} */
+    public Long getSemilla() { return semilla; }
+    /** @param semilla fija para combates reproducibles; vacío en producción */
+    public void setSemilla(Long semilla) { this.semilla = semilla; }
+    /** @return valor de {@code pokemon.batalla.ia} */
+    public IaSalvaje.Politica getIa() { return ia; }
+    /** @param ia ALEATORIO (por defecto, como en los juegos), VORAZ o ESTADOS */
+    public void setIa(IaSalvaje.Politica ia) { this.ia = ia; }
+    /** @return valor de {@code pokemon.batalla.edad-maxima-salvaje} */
+    public Duration getEdadMaximaSalvaje() { return edadMaximaSalvaje; }
+    /** @param edadMaximaSalvaje p. ej. {@code 30m}; no debe ser menor que la inactividad de un combate */
+    public void setEdadMaximaSalvaje(Duration edadMaximaSalvaje) { this.edadMaximaSalvaje = edadMaximaSalvaje; }
+    /** @return valor de {@code pokemon.batalla.lote-purga} */
+    public int getLotePurga() { return lotePurga; }
+    /** @param lotePurga filas por sentencia; acota la duración de cada borrado */
+    public void setLotePurga(int lotePurga) { this.lotePurga = lotePurga; }
+    /** @return valor de {@code pokemon.batalla.maximo-movesets} */
+    public int getMaximoMovesets() { return maximoMovesets; }
+    /** @param maximoMovesets tamaño objetivo; puede superarse entre pasadas o por movesets en combate */
+    public void setMaximoMovesets(int maximoMovesets) { this.maximoMovesets = maximoMovesets; }
+    /** @return valor de {@code pokemon.batalla.inactividad-moveset} */
+    public Duration getInactividadMoveset() { return inactividadMoveset; }
+    /** @param inactividadMoveset p. ej. {@code 30m} */
+    public void setInactividadMoveset(Duration inactividadMoveset) { this.inactividadMoveset = inactividadMoveset; }
+    /** @return valor de {@code pokemon.batalla.reserva-salvajes} */
+    public int getReservaSalvajes() { return reservaSalvajes; }
+    /** @param reservaSalvajes capacidad de cada cola de la reserva */
+    public void setReservaSalvajes(int reservaSalvajes) { this.reservaSalvajes = reservaSalvajes; }
+    /** @return valor de {@code pokemon.batalla.salvajes-libres} */
+    public boolean isSalvajesLibres() { return salvajesLibres; }
+    /** @param salvajesLibres {@code true} solo en desarrollo */
+    public void setSalvajesLibres(boolean salvajesLibres) { this.salvajesLibres = salvajesLibres; }
+}
@@ -0,0 +1,44 @@
+package com.proyecto.pokemon_backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades {@code pokemon.datos.*}: de dónde salen los catálogos al arrancar.
+ *
+ * Por defecto se importa el dataset empaquetado y PokéAPI solo rellena lo que este no cubra.
+ */
+@ConfigurationProperties(prefix = "pokemon.datos")
+public class PropiedadesDatos {
+
+    /** Importar {@code datos/gen2-dataset-v1.json} en las tablas de catálogo que tengan huecos. */
+    private boolean importarDataset = true;
+
+    /** Permitir que los cargadores completen desde PokéAPI lo que falte tras la importación. */
+    private boolean pokeapiHabilitada = true;
+
+    /** Si no está vacío, ruta donde volcar el catálogo de BD como dataset al terminar el arranque. */
+    private String exportarDataset = "";
+
+    /** Si no está vacío, ruta de la instantánea binaria del catálogo (se mapea al arrancar y se regenera si cambia la BD). */
+    private String instantanea = "";
+
+    /** @return valor de {@code pokemon.datos.importar-dataset} */
+    public boolean isImportarDataset() { return importarDataset; }
+    /** @param importarDataset {@code false} para arrancar sin tocar el dataset empaquetado */
+    public void setImportarDataset(boolean importarDataset) { this.importarDataset = importarDataset; }
+
+    /** @return valor de {@code pokemon.datos.pokeapi-habilitada} */
+    public boolean isPokeapiHabilitada() { return pokeapiHabilitada; }
+    /** @param pokeapiHabilitada {@code false} para un arranque estrictamente sin red */
+    public void setPokeapiHabilitada(boolean pokeapiHabilitada) { this.pokeapiHabilitada = pokeapiHabilitada; }
+
+    /** @return valor de {@code pokemon.datos.exportar-dataset} */
+    public String getExportarDataset() { return exportarDataset; }
+    /** @param exportarDataset ruta del fichero JSON de salida (su {@code .sha256} va al lado) */
+    public void setExportarDataset(String exportarDataset) { this.exportarDataset = exportarDataset; }
+
+    /** @return valor de {@code pokemon.datos.instantanea} */
+    public String getInstantanea() { return instantanea; }
+    /** @param instantanea ruta del fichero binario; varios nodos pueden compartirlo */
+    public void setInstantanea(String instantanea) { this.instantanea = instantanea; }
+}
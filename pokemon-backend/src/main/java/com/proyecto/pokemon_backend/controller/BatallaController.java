@@ -1,9 +1,18 @@
 package com.proyecto.pokemon_backend.controller;
 
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.dto.RespuestaPrevisualizacion;
+import com.proyecto.pokemon_backend.dto.RespuestaProbabilidad;
+import com.proyecto.pokemon_backend.dto.RespuestaRepeticion;
+import com.proyecto.pokemon_backend.dto.RespuestaRonda;
 import com.proyecto.pokemon_backend.dto.RespuestaTurno;
 import com.proyecto.pokemon_backend.dto.SolicitudCaptura;
 import com.proyecto.pokemon_backend.dto.SolicitudHuir;
+import com.proyecto.pokemon_backend.dto.SolicitudPrevisualizacion;
+import com.proyecto.pokemon_backend.dto.SolicitudProbabilidad;
+import com.proyecto.pokemon_backend.dto.SolicitudRonda;
 import com.proyecto.pokemon_backend.dto.SolicitudTurno;
+import com.proyecto.pokemon_backend.exception.ErrorNegocio;
 import com.proyecto.pokemon_backend.service.BatallaService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -16,16 +25,19 @@ import java.util.Map;
 
 /**
  * Combate: turnos con daño Gen II, PP persistidos, captura con consumo de Ball y ciclo de vida de salvajes
- * (crear instancia bajo usuario técnico → liberar o capturar).
+ * (crear instancia bajo usuario técnico → liberar o capturar). Los turnos trabajan en memoria y el estado se
+ * guarda al terminar el combate o con {@code /checkpoint}.
  */
 @RestController
 @RequestMapping("/api/v1/batalla")
 public class BatallaController {
 
     private final BatallaService batallaService;
+    private final PropiedadesBatalla propiedades;
 
-    public BatallaController(BatallaService batallaService) {
+    public BatallaController(BatallaService batallaService, PropiedadesBatalla propiedades) {
         this.batallaService = batallaService;
+        this.propiedades = propiedades;
     }
 
     // --- Moveset ---
@@ -57,7 +69,8 @@ public class BatallaController {
 
     /**
      * Un ataque del atacante al defensor. Valida propiedad/participación, baja PP, aplica daño o ramas de
-     * estado y devuelve HP restantes + texto para la UI.
+     * estado y devuelve HP restantes + texto para la UI. Si ataca el salvaje, su movimiento lo elige el servidor
+     * y el del cuerpo se ignora.
      */
     @PostMapping("/turno")
     public ResponseEntity<RespuestaTurno> turno(
@@ -67,6 +80,42 @@ public class BatallaController {
         return ResponseEntity.ok(batallaService.ejecutarTurno(auth.getName(), request));
     }
 
+    /**
+     * Ronda completa contra el salvaje: acción del jugador, acción del salvaje elegida en servidor, orden por
+     * velocidad y residuales de fin de ronda, en una sola petición.
+     */
+    @PostMapping("/ronda")
+    public ResponseEntity<RespuestaRonda> ronda(
+        @Valid @RequestBody SolicitudRonda request,
+        Authentication auth
+    ) {
+        return ResponseEntity.ok(batallaService.ejecutarRonda(auth.getName(), request));
+    }
+
+    /**
+     * Rango de daño (normal y crítico), precisión y probabilidad de debilitar de cada movimiento del atacante
+     * contra el defensor actual, calculados de forma exacta. No ejecuta ningún turno.
+     */
+    @PostMapping("/previsualizar")
+    public ResponseEntity<RespuestaPrevisualizacion> previsualizar(
+        @Valid @RequestBody SolicitudPrevisualizacion request,
+        Authentication auth
+    ) {
+        return ResponseEntity.ok(batallaService.previsualizar(auth.getName(), request));
+    }
+
+    /**
+     * Probabilidad estimada de ganar al salvaje desde el estado actual, simulando miles de combates en servidor
+     * (ambos bandos eligen movimiento al azar). No altera el combate.
+     */
+    @PostMapping("/probabilidad")
+    public ResponseEntity<RespuestaProbabilidad> probabilidad(
+        @Valid @RequestBody SolicitudProbabilidad request,
+        Authentication auth
+    ) {
+        return ResponseEntity.ok(batallaService.estimarProbabilidad(auth.getName(), request));
+    }
+
     /**
      * Intento de huir (combate salvaje). Probabilidad según velocidades e n.º de intento (aprox. Gen II).
      */
@@ -79,29 +128,62 @@ public class BatallaController {
     }
 
     /**
-     * Gasta 1 Ball del inventario, tira la probabilidad Gen II y, si toca, reasigna el salvaje al jugador
-     * con hueco en el equipo.
+     * Gasta 1 Ball del inventario, tira la probabilidad Gen II y, si toca, guarda el salvaje como Pokémon del
+     * jugador con hueco en el equipo. Con éxito devuelve su {@code pokemonUsuarioId}, distinto del id del
+     * salvaje.
      */
     @PostMapping("/captura")
-    public ResponseEntity<Map<String, String>> captura(
+    public ResponseEntity<Map<String, Object>> captura(
         @Valid @RequestBody SolicitudCaptura request,
         Authentication auth
     ) {
-        String resultado = batallaService.intentarCaptura(auth.getName(), request);
-        return ResponseEntity.ok(Map.of("mensaje", resultado));
+        return ResponseEntity.ok(batallaService.intentarCaptura(auth.getName(), request));
+    }
+
+    /**
+     * Guarda en BD el estado del combate en memoria (PS, estados y PP) sin terminarlo. El id de batalla es el
+     * {@code pokemonUsuarioId} del salvaje; si no hay combate abierto no hace nada.
+     */
+    @PostMapping("/checkpoint/{batallaId}")
+    public ResponseEntity<Void> checkpoint(
+        @PathVariable Long batallaId,
+        Authentication auth
+    ) {
+        batallaService.checkpoint(auth.getName(), batallaId);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Repetición turno a turno de un combate del usuario (abierto o terminado) desde su diario: semilla,
+     * acciones, fallos, críticos, daño, cambios de estado y experiencia.
+     */
+    @GetMapping("/{batallaId}/repeticion")
+    public ResponseEntity<RespuestaRepeticion> repeticion(
+        @PathVariable Long batallaId,
+        Authentication auth
+    ) {
+        return ResponseEntity.ok(batallaService.repeticion(auth.getName(), batallaId));
     }
 
     // --- Salvajes ---
 
     /**
-     * Crea una fila en {@code POKEMON_USUARIO} propiedad del usuario {@link com.proyecto.pokemon_backend.support.CuentaSalvajes}.
-     * El cliente debe llamar a {@code /salvaje/liberar} al salir del combate si no hubo captura.
+     * Crea en memoria un salvaje propiedad del usuario {@link com.proyecto.pokemon_backend.support.CuentaSalvajes},
+     * con id negativo; no se escribe en {@code POKEMON_USUARIO} salvo que se capture. El cliente debe llamar a
+     * {@code /salvaje/liberar} al salir del combate si no hubo captura (si no, caduca solo).
+     *
+     * Especie, nivel y moveset los pone el cliente, así que solo responde con {@code pokemon.batalla.salvajes-libres}
+     * (perfil {@code dev}: salas de demostración y depuración); en partida los salvajes salen de
+     * {@code /salvaje/encuentro}.
      */
     @PostMapping("/salvaje/preparar")
     public ResponseEntity<Map<String, Object>> prepararSalvaje(
         @RequestBody(required = false) Map<String, Object> body,
         @SuppressWarnings("unused") Authentication auth
     ) {
+        if (!propiedades.isSalvajesLibres()) {
+            throw new ErrorNegocio("Los salvajes a medida solo están disponibles en desarrollo.");
+        }
         if (body == null) {
             body = Map.of();
         }
@@ -118,7 +200,21 @@ public class BatallaController {
         );
     }
 
-    /** Elimina la instancia salvaje y sus PP persistidos; no acepta Pokémon del jugador real. */
+    /**
+     * Encuentro en hierba: el servidor elige especie y nivel con la tabla del mapa y la hora, y prepara la
+     * instancia como {@code /salvaje/preparar}. Body opcional {@code {"mapaActual": "new-bark-town"}} con el mapa
+     * en el que camina el jugador; sin él se usa el último guardado.
+     */
+    @PostMapping("/salvaje/encuentro")
+    public ResponseEntity<Map<String, Object>> encuentroSalvaje(
+        @RequestBody(required = false) Map<String, Object> body,
+        Authentication auth
+    ) {
+        String mapa = body == null ? null : stringOpcional(body.get("mapaActual"));
+        return ResponseEntity.ok(batallaService.encuentroSalvaje(auth.getName(), mapa));
+    }
+
+    /** Olvida la instancia salvaje (o borra la fila y sus PP si es de antes); no acepta Pokémon del jugador real. */
     @PostMapping("/salvaje/liberar")
     public ResponseEntity<Map<String, String>> liberarSalvaje(
         @RequestBody(required = false) Map<String, Object> body,
@@ -0,0 +1,30 @@
+package com.proyecto.pokemon_backend.controller;
+
+import com.proyecto.pokemon_backend.service.catalogo.TablaEnfrentamientos;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Consultas de solo lectura sobre el catálogo de especies Gen II. Requiere JWT.
+ */
+@RestController
+@RequestMapping("/api/v1/pokedex")
+public class PokedexController {
+
+    private final TablaEnfrentamientos tablaEnfrentamientos;
+
+    public PokedexController(TablaEnfrentamientos tablaEnfrentamientos) {
+        this.tablaEnfrentamientos = tablaEnfrentamientos;
+    }
+
+    /**
+     * Multiplicador defensivo de la especie frente a cada tipo (slug → valor) más debilidades,
+     * resistencias e inmunidades, para pintar pistas sin pasar por los endpoints de combate.
+     */
+    @GetMapping("/{id}/matchups")
+    public ResponseEntity<Map<String, Object>> matchups(@PathVariable Integer id) {
+        return ResponseEntity.ok(tablaEnfrentamientos.resumen(id));
+    }
+}
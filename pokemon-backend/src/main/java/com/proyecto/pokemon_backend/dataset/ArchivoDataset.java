@@ -0,0 +1,115 @@
+package com.proyecto.pokemon_backend.dataset;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Lectura y escritura del fichero de datos Gen II junto a su suma SHA-256.
+ *
+ * El checksum va en un fichero hermano {@code <nombre>.sha256} con el formato de {@code sha256sum}
+ * ({@code <hex>  <nombre>}), así que también se puede comprobar a mano. Un fichero que no casa con su
+ * suma o con {@link DatasetGenII#FORMATO} se rechaza con {@link IllegalStateException}: mejor no
+ * arrancar que sembrar datos corruptos.
+ */
+public final class ArchivoDataset {
+
+    /** Dataset empaquetado en el jar. */
+    public static final String RECURSO = "datos/gen2-dataset-v1.json";
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private ArchivoDataset() {}
+
+    /** Lee y verifica el dataset empaquetado ({@link #RECURSO}). */
+    public static DatasetGenII leerEmpaquetado() {
+        return leer(new ClassPathResource(RECURSO), new ClassPathResource(RECURSO + ".sha256"));
+    }
+
+    /** SHA-256 declarado para el dataset empaquetado (su {@code .sha256}), sin leer ni parsear el JSON. */
+    public static String sumaEmpaquetada() {
+        return leerTexto(new ClassPathResource(RECURSO + ".sha256")).trim().split("\\s+")[0];
+    }
+
+    /**
+     * Lee {@code datos}, comprueba su SHA-256 contra {@code suma} y el formato, y lo deserializa.
+     *
+     * @throws IllegalStateException si falta algún fichero, la suma no coincide o el formato no es el esperado
+     */
+    public static DatasetGenII leer(Resource datos, Resource suma) {
+        byte[] bytes = leerBytes(datos);
+        String esperado = leerTexto(suma).trim().split("\\s+")[0];
+        String real = sha256(bytes);
+        if (!real.equalsIgnoreCase(esperado)) {
+            throw new IllegalStateException(
+                "Checksum del dataset no coincide (" + datos.getFilename() + "): esperado " + esperado + ", real " + real);
+        }
+        try {
+            DatasetGenII dataset = JSON.readValue(bytes, DatasetGenII.class);
+            if (dataset.formato() != DatasetGenII.FORMATO) {
+                throw new IllegalStateException("Formato de dataset no soportado: " + dataset.formato());
+            }
+            return dataset;
+        } catch (IOException e) {
+            throw new IllegalStateException("Dataset ilegible: " + datos.getFilename(), e);
+        }
+    }
+
+    /**
+     * Escribe {@code dataset} en {@code destino} y su suma en {@code destino + ".sha256"}.
+     *
+     * @return checksum hexadecimal del fichero escrito
+     */
+    public static String escribir(DatasetGenII dataset, Path destino) {
+        try {
+            byte[] bytes = JSON.writeValueAsBytes(dataset);
+            String suma = sha256(bytes);
+            Path padre = destino.toAbsolutePath().getParent();
+            if (padre != null) Files.createDirectories(padre);
+            Files.write(destino, bytes);
+            Files.writeString(
+                destino.resolveSibling(destino.getFileName() + ".sha256"),
+                suma + "  " + destino.getFileName() + "\n",
+                StandardCharsets.UTF_8);
+            return suma;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el dataset en " + destino, e);
+        }
+    }
+
+    /** SHA-256 en hexadecimal minúsculas. */
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en esta JVM", e);
+        }
+    }
+
+    private static byte[] leerBytes(Resource recurso) {
+        if (!recurso.exists()) {
+            throw new IllegalStateException("Falta el fichero de dataset: " + recurso.getDescription());
+        }
+        try (InputStream in = recurso.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo leer " + recurso.getDescription(), e);
+        }
+    }
+
+    private static String leerTexto(Resource recurso) {
+        return new String(leerBytes(recurso), StandardCharsets.UTF_8);
+    }
+}
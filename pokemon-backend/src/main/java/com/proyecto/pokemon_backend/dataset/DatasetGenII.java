@@ -0,0 +1,63 @@
+package com.proyecto.pokemon_backend.dataset;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contenido del fichero de datos Gen II: todo lo que hoy se descarga de PokéAPI al arrancar más la
+ * matriz de tipos. Los tipos de especies y movimientos van como slug de PokéAPI ({@code fire}); los de
+ * la matriz, con el nombre en español de {@code TIPOS}.
+ *
+ * @param formato versión del esquema del fichero (ver {@link #FORMATO})
+ * @param version etiqueta de los datos, p. ej. {@code gen2-v1}
+ */
+public record DatasetGenII(
+    int formato,
+    String version,
+    List<Especie> especies,
+    List<Movimiento> movimientos,
+    List<Objeto> objetos,
+    List<Learnset> learnsets,
+    List<RelacionTipo> tipos
+) {
+
+    /** Esquema que entiende este código; un fichero con otro valor se rechaza. */
+    public static final int FORMATO = 1;
+
+    /** Listas nulas (secciones ausentes en el JSON) se normalizan a vacías. */
+    public DatasetGenII {
+        especies = especies == null ? List.of() : List.copyOf(especies);
+        movimientos = movimientos == null ? List.of() : List.copyOf(movimientos);
+        objetos = objetos == null ? List.of() : List.copyOf(objetos);
+        learnsets = learnsets == null ? List.of() : List.copyOf(learnsets);
+        tipos = tipos == null ? List.of() : List.copyOf(tipos);
+    }
+
+    /** Secciones sin las que no hay combates (especies, movimientos, learnsets) que vienen vacías. */
+    public List<String> seccionesObligatoriasVacias() {
+        List<String> vacias = new ArrayList<>(3);
+        if (especies.isEmpty()) vacias.add("especies");
+        if (movimientos.isEmpty()) vacias.add("movimientos");
+        if (learnsets.isEmpty()) vacias.add("learnsets");
+        return vacias;
+    }
+
+    /** Fila de {@code POKEDEX_MAESTRA}. */
+    public record Especie(
+        int id, String nombre, String tipo1, String tipo2,
+        int hp, int ataque, int defensa, int ataqueEspecial, int defensaEspecial, int velocidad,
+        Integer xpBase, Integer ratioCaptura
+    ) {}
+
+    /** Fila de {@code ATAQUES}. */
+    public record Movimiento(int id, String nombre, String tipo, String categoria, int potencia, int precision, int pp) {}
+
+    /** Fila de {@code ITEMS} (el id lo asigna la BD; la clave natural es el nombre). */
+    public record Objeto(String nombre, int precio, String efecto) {}
+
+    /** Fila de {@code POKEMON_LEARNSET}. */
+    public record Learnset(int pokedexId, int moveId, int nivel) {}
+
+    /** Fila no neutra de {@code TIPOS}. */
+    public record RelacionTipo(String atacante, String defensor, double multiplicador) {}
+}
@@ -0,0 +1,361 @@
+package com.proyecto.pokemon_backend.dataset;
+
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.Item;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset.FilaLearnset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Instantánea binaria de todo el catálogo estático (especies, movimientos, ítems, learnsets y matriz de
+ * tipos) en registros de ancho fijo, pensada para abrirse con {@link FileChannel#map}.
+ *
+ * <p>Formato (big-endian): cabecera de {@value #CABECERA} bytes con magia, versión, número de registros por
+ * sección y SHA-256 del dataset empaquetado con el que se generó; después las cinco secciones seguidas.
+ * Los enteros ausentes se guardan como {@code -1}, los tipos como ordinal de {@link TipoPokemon} y los
+ * textos en UTF-8 rellenos con ceros. El registro {@code i} de una sección está en
+ * {@code inicioSeccion + i * ancho}, así que leer uno no exige recorrer el fichero.</p>
+ *
+ * <p>Las lecturas son absolutas sobre el buffer mapeado (no mueven su posición) y por tanto seguras entre
+ * hilos. Los catálogos copian cada sección a sus propios índices en el arranque ({@link #especies()} y
+ * demás) y no guardan la instancia, así que el mapeo solo vive durante esa lectura: lo que se ahorra es JPA y
+ * el JSON, no memoria de montículo.</p>
+ */
+public final class InstantaneaBinaria {
+
+    /** {@code "PKC2"}. */
+    static final int MAGIA = 0x504B4332;
+    /** Se incrementa con cualquier cambio de anchos o secciones; una versión distinta se rechaza. */
+    static final int VERSION = 1;
+
+    static final int CABECERA = 64;
+    static final int ANCHO_NOMBRE = 24;
+    static final int ANCHO_CATEGORIA = 12;
+
+    static final int ANCHO_ESPECIE = 48;
+    static final int ANCHO_MOVIMIENTO = 48;
+    static final int ANCHO_OBJETO = 56;
+    static final int ANCHO_LEARNSET = 6;
+    static final int ANCHO_TIPO = 16;
+
+    private static final int SIN_VALOR = -1;
+
+    private final ByteBuffer datos;
+    private final Cabecera cabecera;
+    private final int inicioEspecies;
+    private final int inicioMovimientos;
+    private final int inicioObjetos;
+    private final int inicioLearnsets;
+    private final int inicioTipos;
+
+    private InstantaneaBinaria(ByteBuffer datos) {
+        this.datos = datos;
+        if (datos.capacity() < CABECERA || datos.getInt(0) != MAGIA) {
+            throw new IllegalStateException("No es una instantánea de catálogo");
+        }
+        if (datos.getInt(4) != VERSION) {
+            throw new IllegalStateException("Versión de instantánea no soportada: " + datos.getInt(4));
+        }
+        byte[] suma = new byte[32];
+        datos.get(28, suma);
+        this.cabecera = new Cabecera(
+            datos.getInt(8), datos.getInt(12), datos.getInt(16), datos.getInt(20), datos.getInt(24),
+            esCero(suma) ? "" : HexFormat.of().formatHex(suma)
+        );
+        this.inicioEspecies = CABECERA;
+        this.inicioMovimientos = inicioEspecies + cabecera.especies() * ANCHO_ESPECIE;
+        this.inicioObjetos = inicioMovimientos + cabecera.movimientos() * ANCHO_MOVIMIENTO;
+        this.inicioLearnsets = inicioObjetos + cabecera.objetos() * ANCHO_OBJETO;
+        this.inicioTipos = inicioLearnsets + cabecera.learnsets() * ANCHO_LEARNSET;
+        int fin = inicioTipos + cabecera.tipos() * ANCHO_TIPO;
+        if (fin != datos.capacity()) {
+            throw new IllegalStateException("Instantánea truncada: " + datos.capacity() + " bytes, se esperaban " + fin);
+        }
+    }
+
+    /**
+     * Mapea {@code fichero} en solo lectura y valida cabecera y tamaño.
+     *
+     * @throws IllegalStateException si el fichero no es una instantánea válida de esta versión
+     * @throws UncheckedIOException si no se puede abrir
+     */
+    public static InstantaneaBinaria abrir(Path fichero) {
+        try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return new InstantaneaBinaria(mapa);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo mapear la instantánea " + fichero, e);
+        }
+    }
+
+    /** Envuelve bytes ya en memoria (tests, herramientas). */
+    static InstantaneaBinaria desdeBytes(byte[] bytes) {
+        return new InstantaneaBinaria(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+    }
+
+    /**
+     * Escribe la instantánea en un temporal junto a {@code destino} y lo mueve encima de forma atómica, para
+     * que un proceso que esté leyendo la versión anterior nunca vea un fichero a medias.
+     *
+     * @param sumaDataset SHA-256 hexadecimal del dataset importado; vacío si no aplica
+     * @throws IllegalArgumentException si un texto no cabe en su campo
+     */
+    public static void escribir(
+        Path destino,
+        String sumaDataset,
+        List<PokedexMaestra> especies,
+        List<Ataques> movimientos,
+        List<Item> objetos,
+        List<FilaLearnset> learnsets,
+        List<Tipo> tipos
+    ) {
+        byte[] bytes = serializar(sumaDataset, especies, movimientos, objetos, learnsets, tipos);
+        try {
+            Path padre = destino.toAbsolutePath().getParent();
+            if (padre != null) Files.createDirectories(padre);
+            Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+            Files.write(temporal, bytes);
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la instantánea en " + destino, e);
+        }
+    }
+
+    static byte[] serializar(
+        String sumaDataset,
+        List<PokedexMaestra> especies,
+        List<Ataques> movimientos,
+        List<Item> objetos,
+        List<FilaLearnset> learnsets,
+        List<Tipo> tipos
+    ) {
+        int total = CABECERA
+            + especies.size() * ANCHO_ESPECIE
+            + movimientos.size() * ANCHO_MOVIMIENTO
+            + objetos.size() * ANCHO_OBJETO
+            + learnsets.size() * ANCHO_LEARNSET
+            + tipos.size() * ANCHO_TIPO;
+        ByteBuffer b = ByteBuffer.allocate(total);
+
+        b.putInt(MAGIA).putInt(VERSION)
+            .putInt(especies.size()).putInt(movimientos.size()).putInt(objetos.size())
+            .putInt(learnsets.size()).putInt(tipos.size());
+        b.put(sumaDataset == null || sumaDataset.isBlank() ? new byte[32] : HexFormat.of().parseHex(sumaDataset));
+        b.position(CABECERA);
+
+        for (PokedexMaestra p : especies) {
+            int inicio = b.position();
+            b.putInt(p.getId_pokedex());
+            texto(b, p.getNombre(), ANCHO_NOMBRE);
+            b.put(tipo(p.getTipo_1())).put(tipo(p.getTipo_2()));
+            corto(b, p.getStat_base_hp());
+            corto(b, p.getStat_base_ataque());
+            corto(b, p.getStat_base_defensa());
+            corto(b, p.getStat_base_atq_especial());
+            corto(b, p.getStat_base_def_especial());
+            corto(b, p.getStat_base_velocidad());
+            corto(b, p.getXp_base());
+            corto(b, p.getRatioCaptura());
+            corto(b, p.getId_evolucion());
+            b.position(inicio + ANCHO_ESPECIE);
+        }
+        for (Ataques a : movimientos) {
+            int inicio = b.position();
+            b.putInt(a.getIdAtaque());
+            texto(b, a.getNombre(), ANCHO_NOMBRE);
+            b.put(tipo(a.getTipo()));
+            texto(b, a.getCategoria(), ANCHO_CATEGORIA);
+            corto(b, a.getPotencia());
+            corto(b, a.getPrecisionBase());
+            corto(b, a.getPpBase());
+            b.position(inicio + ANCHO_MOVIMIENTO);
+        }
+        for (Item i : objetos) {
+            int inicio = b.position();
+            b.putInt(i.getIdItem());
+            texto(b, i.getNombre(), ANCHO_NOMBRE);
+            b.putInt(i.getPrecio() == null ? SIN_VALOR : i.getPrecio());
+            texto(b, i.getEfecto(), ANCHO_NOMBRE);
+            b.position(inicio + ANCHO_OBJETO);
+        }
+        for (FilaLearnset l : learnsets) {
+            b.putShort((short) l.pokedexId()).putShort((short) l.moveId()).putShort((short) l.nivel());
+        }
+        for (Tipo t : tipos) {
+            int inicio = b.position();
+            b.putInt(t.getIdTipo() == null ? SIN_VALOR : t.getIdTipo());
+            b.put(tipo(TipoPokemon.desde(t.getAtacante()))).put(tipo(TipoPokemon.desde(t.getDefensor())));
+            b.putDouble(t.getMultiplicador() == null ? 1.0 : t.getMultiplicador());
+            b.position(inicio + ANCHO_TIPO);
+        }
+        return b.array();
+    }
+
+    /** Número de registros por sección y dataset de origen, para decidir si sigue vigente. */
+    public Cabecera cabecera() {
+        return cabecera;
+    }
+
+    /** Especie {@code i} (0-based, orden de escritura) decodificada del buffer. */
+    public PokedexMaestra especie(int i) {
+        int o = inicioEspecies + i * ANCHO_ESPECIE;
+        PokedexMaestra p = new PokedexMaestra();
+        p.setId_pokedex(datos.getInt(o));
+        p.setNombre(leerTexto(o + 4, ANCHO_NOMBRE));
+        o += 4 + ANCHO_NOMBRE;
+        p.setTipo_1(leerTipo(o));
+        p.setTipo_2(leerTipo(o + 1));
+        o += 2;
+        p.setStat_base_hp(leerCorto(o));
+        p.setStat_base_ataque(leerCorto(o + 2));
+        p.setStat_base_defensa(leerCorto(o + 4));
+        p.setStat_base_atq_especial(leerCorto(o + 6));
+        p.setStat_base_def_especial(leerCorto(o + 8));
+        p.setStat_base_velocidad(leerCorto(o + 10));
+        p.setXp_base(leerCorto(o + 12));
+        p.setRatioCaptura(leerCorto(o + 14));
+        p.setId_evolucion(leerCorto(o + 16));
+        return p;
+    }
+
+    /** Movimiento {@code i} decodificado del buffer. */
+    public Ataques movimiento(int i) {
+        int o = inicioMovimientos + i * ANCHO_MOVIMIENTO;
+        Ataques a = new Ataques();
+        a.setIdAtaque(datos.getInt(o));
+        a.setNombre(leerTexto(o + 4, ANCHO_NOMBRE));
+        o += 4 + ANCHO_NOMBRE;
+        a.setTipo(leerTipo(o));
+        a.setCategoria(leerTexto(o + 1, ANCHO_CATEGORIA));
+        o += 1 + ANCHO_CATEGORIA;
+        a.setPotencia(leerCorto(o));
+        a.setPrecisionBase(leerCorto(o + 2));
+        a.setPpBase(leerCorto(o + 4));
+        return a;
+    }
+
+    /** Ítem {@code i} decodificado del buffer. */
+    public Item objeto(int i) {
+        int o = inicioObjetos + i * ANCHO_OBJETO;
+        Item item = new Item();
+        item.setIdItem(datos.getInt(o));
+        item.setNombre(leerTexto(o + 4, ANCHO_NOMBRE));
+        int precio = datos.getInt(o + 4 + ANCHO_NOMBRE);
+        item.setPrecio(precio == SIN_VALOR ? null : precio);
+        item.setEfecto(leerTexto(o + 8 + ANCHO_NOMBRE, ANCHO_NOMBRE));
+        return item;
+    }
+
+    /** Fila de learnset {@code i}. */
+    public FilaLearnset learnset(int i) {
+        int o = inicioLearnsets + i * ANCHO_LEARNSET;
+        return new FilaLearnset(datos.getShort(o), datos.getShort(o + 2), datos.getShort(o + 4));
+    }
+
+    /** Relación de tipos {@code i}; los tipos se devuelven con el nombre en castellano, como en {@code TIPOS}. */
+    public Tipo tipo(int i) {
+        int o = inicioTipos + i * ANCHO_TIPO;
+        Tipo t = new Tipo();
+        int id = datos.getInt(o);
+        t.setIdTipo(id == SIN_VALOR ? null : id);
+        TipoPokemon atacante = leerTipo(o + 4);
+        TipoPokemon defensor = leerTipo(o + 5);
+        t.setAtacante(atacante == null ? null : atacante.getNombre());
+        t.setDefensor(defensor == null ? null : defensor.getNombre());
+        t.setMultiplicador(datos.getDouble(o + 6));
+        return t;
+    }
+
+    public List<PokedexMaestra> especies() {
+        List<PokedexMaestra> lista = new ArrayList<>(cabecera.especies());
+        for (int i = 0; i < cabecera.especies(); i++) lista.add(especie(i));
+        return lista;
+    }
+
+    public List<Ataques> movimientos() {
+        List<Ataques> lista = new ArrayList<>(cabecera.movimientos());
+        for (int i = 0; i < cabecera.movimientos(); i++) lista.add(movimiento(i));
+        return lista;
+    }
+
+    public List<Item> objetos() {
+        List<Item> lista = new ArrayList<>(cabecera.objetos());
+        for (int i = 0; i < cabecera.objetos(); i++) lista.add(objeto(i));
+        return lista;
+    }
+
+    public List<FilaLearnset> learnsets() {
+        List<FilaLearnset> lista = new ArrayList<>(cabecera.learnsets());
+        for (int i = 0; i < cabecera.learnsets(); i++) lista.add(learnset(i));
+        return lista;
+    }
+
+    public List<Tipo> tipos() {
+        List<Tipo> lista = new ArrayList<>(cabecera.tipos());
+        for (int i = 0; i < cabecera.tipos(); i++) lista.add(tipo(i));
+        return lista;
+    }
+
+    private String leerTexto(int offset, int ancho) {
+        byte[] bytes = new byte[ancho];
+        datos.get(offset, bytes);
+        int largo = 0;
+        while (largo < ancho && bytes[largo] != 0) largo++;
+        return largo == 0 ? null : new String(bytes, 0, largo, StandardCharsets.UTF_8);
+    }
+
+    private TipoPokemon leerTipo(int offset) {
+        byte ordinal = datos.get(offset);
+        return ordinal < 0 ? null : TipoPokemon.values()[ordinal];
+    }
+
+    private Integer leerCorto(int offset) {
+        short valor = datos.getShort(offset);
+        return valor == SIN_VALOR ? null : (int) valor;
+    }
+
+    private static void texto(ByteBuffer b, String valor, int ancho) {
+        byte[] bytes = valor == null ? new byte[0] : valor.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > ancho) {
+            throw new IllegalArgumentException("Texto demasiado largo para la instantánea (" + ancho + " bytes): " + valor);
+        }
+        b.put(bytes);
+        b.position(b.position() + ancho - bytes.length);
+    }
+
+    private static void corto(ByteBuffer b, Integer valor) {
+        b.putShort(valor == null ? SIN_VALOR : valor.shortValue());
+    }
+
+    private static byte tipo(TipoPokemon tipo) {
+        return tipo == null ? SIN_VALOR : (byte) tipo.ordinal();
+    }
+
+    private static boolean esCero(byte[] bytes) {
+        for (byte x : bytes) {
+            if (x != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Recuento de registros por sección y SHA-256 del dataset empaquetado vigente al escribir
+     * (vacío si se generó sin dataset).
+     */
+    public record Cabecera(int especies, int movimientos, int objetos, int learnsets, int tipos, String sumaDataset) {}
+}
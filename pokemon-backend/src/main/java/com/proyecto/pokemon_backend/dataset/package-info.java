@@ -0,0 +1,6 @@
+/**
+ * Dataset Gen II empaquetado en {@code src/main/resources/datos}: formato versionado, lectura con
+ * verificación SHA-256 y escritura (exportación desde una BD ya cargada). Sin dependencias de red.
+ * Incluye también la instantánea binaria del catálogo, que se abre mapeada en memoria.
+ */
+package com.proyecto.pokemon_backend.dataset;
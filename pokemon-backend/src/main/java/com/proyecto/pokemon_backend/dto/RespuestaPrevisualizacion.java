@@ -0,0 +1,50 @@
+package com.proyecto.pokemon_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de {@code /batalla/previsualizar}: rango de daño exacto, precisión y probabilidad de debilitar de
+ * cada movimiento del atacante contra el estado actual del defensor.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RespuestaPrevisualizacion {
+
+    private Long atacanteId;
+    private Long defensorId;
+    private int hpDefensor;
+    private int hpMaxDefensor;
+    /** En el orden de los slots del moveset. */
+    private List<Movimiento> movimientos;
+
+    /**
+     * Previsión de un slot. Los movimientos de estado y los que no afectan al defensor tienen daño 0.
+     *
+     * @param efectividad         multiplicador de tipos contra el defensor
+     * @param danioEsperado       PS que quita de media, contando fallo y crítico
+     * @param probabilidadImpacto 0-1, según la precisión
+     * @param probabilidadKo      0-1, de que este golpe lo debilite (contando fallo y crítico)
+     */
+    public record Movimiento(
+        Integer movimientoId,
+        String nombre,
+        int ppActual,
+        int ppMax,
+        boolean deEstado,
+        double efectividad,
+        int danioMinimo,
+        int danioMaximo,
+        int danioMinimoCritico,
+        int danioMaximoCritico,
+        double danioEsperado,
+        double probabilidadImpacto,
+        double probabilidadKo
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.proyecto.pokemon_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Resultado de {@code /batalla/probabilidad}: frecuencias sobre los combates simulados. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RespuestaProbabilidad {
+
+    private int simulaciones;
+    /** Fracción de combates que gana el Pokémon del jugador. */
+    private double probabilidadVictoria;
+    private double probabilidadDerrota;
+    /** Ambos debilitados a la vez, o sin ganador tras el máximo de rondas. */
+    private double probabilidadEmpate;
+    private double rondasMedias;
+    /** Semilla usada; reenviarla repite la misma estimación mientras el estado no cambie. */
+    private long semilla;
+    /** Política con la que eligió el salvaje en la simulación ({@code pokemon.batalla.ia}). */
+    private String iaSalvaje;
+    private long duracionMs;
+}
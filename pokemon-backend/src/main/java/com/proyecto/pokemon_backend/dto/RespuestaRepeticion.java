@@ -0,0 +1,33 @@
+package com.proyecto.pokemon_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de {@code /batalla/{id}/repeticion}: el diario del combate agrupado por turnos, tal como se anotó.
+ * El turno 0 es la apertura (semilla y participantes); si el combate se reabrió, aparece otra apertura
+ * ({@code INICIO}) en el turno en que ocurrió.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RespuestaRepeticion {
+
+    private Long batallaId;
+    private List<Turno> turnos;
+
+    public record Turno(int numero, List<Evento> eventos) {}
+
+    /**
+     * @param tipo      nombre de {@code EventoCombate.Tipo}
+     * @param pokemonId protagonista del evento
+     * @param datos     campos del tipo, con nombre
+     */
+    public record Evento(String tipo, long pokemonId, Map<String, Object> datos) {}
+}
@@ -0,0 +1,50 @@
+package com.proyecto.pokemon_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/** Resultado de una ronda (acción del jugador + acción del salvaje + residuales) devuelto al cliente. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RespuestaRonda {
+
+    /** Acciones en el orden en que se resolvieron; la segunda falta si la primera debilitó a alguien. */
+    private List<Accion> acciones;
+    /** Daño residual de fin de ronda (veneno, quemadura, drenadoras), ya incluido en {@link #mensajeGeneral}. */
+    private String mensajeResidual;
+    /** Texto de toda la ronda, una línea por mensaje. */
+    private String mensajeGeneral;
+
+    private Integer hpJugador;
+    private Integer hpMaxJugador;
+    private Integer hpSalvaje;
+    private String estadoJugador;
+    private String estadoSalvaje;
+    private boolean jugadorDebilitado;
+    private boolean salvajeDebilitado;
+
+    /** XP ganada si el salvaje cayó esta ronda (por ataque o por residual); null en otro caso. */
+    private Integer experienciaGanada;
+    private Integer nivelAnterior;
+    private Integer nuevoNivel;
+    private Integer xpActual;
+    /** Igual que en {@link RespuestaTurno}: pendientes de decisión, moveset actual y auto-aprendidos. */
+    private List<Map<String, Object>> movimientosNuevos;
+    private List<Map<String, Object>> movimientosActuales;
+    private List<Map<String, Object>> movimientosAutoAprendidos;
+
+    /**
+     * Una acción de la ronda.
+     *
+     * @param actor {@code "jugador"} o {@code "salvaje"}
+     * @param resultado mismo formato que {@code /turno}, visto desde quien actúa (atacante = {@code actor})
+     */
+    public record Accion(String actor, RespuestaTurno resultado) {}
+}
@@ -0,0 +1,17 @@
+package com.proyecto.pokemon_backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Qué harían los movimientos del atacante contra el defensor, sin ejecutar ningún turno. */
+@Data
+@NoArgsConstructor
+public class SolicitudPrevisualizacion {
+
+    @NotNull(message = "atacanteId es obligatorio.")
+    private Long atacanteId;
+
+    @NotNull(message = "defensorId es obligatorio.")
+    private Long defensorId;
+}
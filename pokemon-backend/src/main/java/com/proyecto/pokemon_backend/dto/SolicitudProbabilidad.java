@@ -0,0 +1,27 @@
+package com.proyecto.pokemon_backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Estimación por simulación de quién gana un combate entre un Pokémon del jugador y un salvaje. */
+@Data
+@NoArgsConstructor
+public class SolicitudProbabilidad {
+
+    @NotNull(message = "jugadorPokemonId es obligatorio.")
+    private Long jugadorPokemonId;
+
+    @NotNull(message = "salvajePokemonId es obligatorio.")
+    private Long salvajePokemonId;
+
+    /** Combates a simular; si es null, 10 000. */
+    @Min(value = 1, message = "Hay que simular al menos un combate.")
+    @Max(value = 1_000_000, message = "Como máximo se simulan 1 000 000 de combates.")
+    private Integer simulaciones;
+
+    /** Semilla para repetir exactamente una estimación; si es null, una al azar. */
+    private Long semilla;
+}
@@ -0,0 +1,23 @@
+package com.proyecto.pokemon_backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Acción del jugador para una ronda completa contra un salvaje. El movimiento del salvaje y el orden de
+ * actuación los decide el servidor.
+ */
+@Data
+@NoArgsConstructor
+public class SolicitudRonda {
+
+    @NotNull(message = "jugadorPokemonId es obligatorio.")
+    private Long jugadorPokemonId;
+
+    @NotNull(message = "salvajePokemonId es obligatorio.")
+    private Long salvajePokemonId;
+
+    /** ID del movimiento del jugador (tabla ATAQUES); si es null, el primero con PP disponible. */
+    private Long movimientoId;
+}
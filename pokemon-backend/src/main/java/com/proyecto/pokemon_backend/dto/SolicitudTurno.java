@@ -22,7 +22,8 @@ public class SolicitudTurno {
 
     /**
      * ID del movimiento a usar (de la tabla ATAQUES).
-     * Si es null, se usa el primer movimiento con PP disponible.
+     * Si es null, se usa el primer movimiento con PP disponible. Si ataca el salvaje se ignora (junto con los
+     * campos legacy): elige el servidor.
      */
     private Long movimientoId;
 
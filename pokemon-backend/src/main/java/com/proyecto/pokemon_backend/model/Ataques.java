@@ -1,5 +1,6 @@
 package com.proyecto.pokemon_backend.model;
 
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -28,8 +29,10 @@ public class Ataques {
     @Column(nullable = false)
     private String nombre;
 
+    /** Tipo del movimiento; en BD, slug de PokéAPI ({@code fire}, {@code water}...). */
     @Column(nullable = false)
-    private String tipo;
+    @Convert(converter = ConversorTipoPokemon.class)
+    private TipoPokemon tipo;
 
     @Column(nullable = false)
     private String categoria;
@@ -0,0 +1,28 @@
+package com.proyecto.pokemon_backend.model;
+
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Columnas de tipo ({@code tipo_1}, {@code tipo}) ↔ {@link TipoPokemon}; {@code tipo_2} usa {@link ConversorTipoSecundario}.
+ *
+ * En BD se sigue escribiendo el slug de PokéAPI, así que no hace falta migrar datos. Al leer se acepta
+ * cualquier variante que entienda {@link TipoPokemon#desde}; un texto no vacío que no sea de Gen II
+ * (p. ej. {@code ???} o {@code shadow}) se lee como {@link TipoPokemon#NORMAL}.
+ */
+@Converter
+public class ConversorTipoPokemon implements AttributeConverter<TipoPokemon, String> {
+
+    @Override
+    public String convertToDatabaseColumn(TipoPokemon tipo) {
+        return TipoPokemon.slugDe(tipo);
+    }
+
+    @Override
+    public TipoPokemon convertToEntityAttribute(String columna) {
+        if (columna == null || columna.isBlank()) return null;
+        TipoPokemon tipo = TipoPokemon.desde(columna);
+        return tipo != null ? tipo : TipoPokemon.NORMAL;
+    }
+}
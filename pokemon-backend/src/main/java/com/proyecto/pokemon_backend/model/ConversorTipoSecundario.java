@@ -0,0 +1,18 @@
+package com.proyecto.pokemon_backend.model;
+
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import jakarta.persistence.Converter;
+
+/**
+ * Columna {@code tipo_2} ↔ {@link TipoPokemon}. Como {@link ConversorTipoPokemon}, salvo que un Hada secundario
+ * se lee como {@code null}: en Gen II esas especies (Marill, Mr. Mime...) tenían un solo tipo, no Normal.
+ */
+@Converter
+public class ConversorTipoSecundario extends ConversorTipoPokemon {
+
+    @Override
+    public TipoPokemon convertToEntityAttribute(String columna) {
+        if (columna != null && TipoPokemon.esHada(columna)) return null;
+        return super.convertToEntityAttribute(columna);
+    }
+}
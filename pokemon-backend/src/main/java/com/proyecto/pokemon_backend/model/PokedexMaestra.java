@@ -1,5 +1,6 @@
 package com.proyecto.pokemon_backend.model;
 
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -26,9 +27,11 @@ public class PokedexMaestra {
 
     private String nombre;
 
-    // --- Tipos (usados por TipoService para calcular efectividad) ---
-    private String tipo_1;
-    private String tipo_2;
+    // --- Tipos (usados por TipoService para calcular efectividad); en BD, slug de PokéAPI ---
+    @Convert(converter = ConversorTipoPokemon.class)
+    private TipoPokemon tipo_1;
+    @Convert(converter = ConversorTipoSecundario.class)
+    private TipoPokemon tipo_2;
 
     // --- Stats base Gen II ---
     private Integer stat_base_hp;
@@ -0,0 +1,89 @@
+package com.proyecto.pokemon_backend.model.enums;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Los 17 tipos de Gen II, en el mismo orden que la tabla de tipos (el ordinal es el índice de la matriz
+ * de efectividad).
+ *
+ * Cada tipo lleva su nombre en español (el de la tabla {@code TIPOS}) y el slug en inglés de PokéAPI,
+ * que es lo que se guarda en {@code POKEDEX_MAESTRA}/{@code ATAQUES} y lo que consume el frontend.
+ * La conversión desde texto se hace una vez al leer la fila; en combate solo se comparan constantes.
+ */
+public enum TipoPokemon {
+
+    NORMAL("Normal", "normal"),
+    FUEGO("Fuego", "fire"),
+    AGUA("Agua", "water"),
+    PLANTA("Planta", "grass"),
+    ELECTRICO("Eléctrico", "electric"),
+    HIELO("Hielo", "ice"),
+    LUCHA("Lucha", "fighting"),
+    VENENO("Veneno", "poison"),
+    TIERRA("Tierra", "ground"),
+    VOLADOR("Volador", "flying"),
+    PSIQUICO("Psíquico", "psychic"),
+    BICHO("Bicho", "bug"),
+    ROCA("Roca", "rock"),
+    FANTASMA("Fantasma", "ghost"),
+    DRAGON("Dragón", "dragon"),
+    SINIESTRO("Siniestro", "dark"),
+    ACERO("Acero", "steel");
+
+    /** Slug, nombre español, nombre sin tilde y nombre de la constante, en minúsculas → tipo. */
+    private static final Map<String, TipoPokemon> POR_TEXTO = construirIndice();
+
+    private final String nombre;
+    private final String slug;
+
+    TipoPokemon(String nombre, String slug) {
+        this.nombre = nombre;
+        this.slug = slug;
+    }
+
+    /** Nombre en español tal como figura en {@code TIPOS}. */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /** Slug en inglés de PokéAPI ({@code fire}, {@code water}...). */
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * Tipo a partir de cualquier representación conocida ({@code "fire"}, {@code "Fuego"}, {@code "ELECTRICO"}...).
+     *
+     * @return {@code null} si el texto es nulo, vacío o no corresponde a ningún tipo Gen II
+     */
+    public static TipoPokemon desde(String texto) {
+        if (texto == null) return null;
+        return POR_TEXTO.get(texto.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /** {@code true} si el texto es el tipo Hada, que se lee como Normal (ver {@link #desde}). */
+    public static boolean esHada(String texto) {
+        String t = texto.trim().toLowerCase(Locale.ROOT);
+        return t.equals("fairy") || t.equals("hada");
+    }
+
+    /** Slug del tipo o {@code null}; atajo para DTOs. */
+    public static String slugDe(TipoPokemon tipo) {
+        return tipo == null ? null : tipo.slug;
+    }
+
+    private static Map<String, TipoPokemon> construirIndice() {
+        Map<String, TipoPokemon> indice = new HashMap<>();
+        for (TipoPokemon t : values()) {
+            indice.put(t.slug, t);
+            indice.put(t.nombre.toLowerCase(Locale.ROOT), t);
+            indice.put(t.name().toLowerCase(Locale.ROOT), t);
+        }
+        // Hada no existe en Gen II: sus movimientos y especies retroactivas (Encanto, Clefairy...) eran Normal
+        indice.put("fairy", NORMAL);
+        indice.put("hada", NORMAL);
+        return Map.copyOf(indice);
+    }
+}
@@ -0,0 +1,123 @@
+package com.proyecto.pokemon_backend.repository;
+
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.Especie;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.Movimiento;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.Objeto;
+import com.proyecto.pokemon_backend.dataset.DatasetGenII.RelacionTipo;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserciones en lote sobre las tablas de catálogo ({@code POKEDEX_MAESTRA}, {@code ATAQUES}, {@code ITEMS},
+ * {@code TIPOS}) para importar el dataset empaquetado sin pasar por {@code saveAll} fila a fila.
+ *
+ * <p>Cada método recibe ya filtradas las filas que faltan; las claves existentes se consultan con los
+ * métodos {@code ...Existentes}.</p>
+ */
+@Repository
+public class RepositorioCargaMasiva {
+
+    /** Filas por sentencia de lote JDBC. */
+    private static final int TAMANO_LOTE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RepositorioCargaMasiva(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** {@code id_pokedex} ya presentes. */
+    public Set<Integer> idsEspeciesExistentes() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id_pokedex FROM POKEDEX_MAESTRA", Integer.class));
+    }
+
+    /** {@code id_ataque} ya presentes. */
+    public Set<Integer> idsAtaquesExistentes() {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id_ataque FROM ATAQUES", Integer.class));
+    }
+
+    /** Nombres de ítem ya presentes, en minúsculas (la tienda los trata sin distinguir mayúsculas). */
+    public Set<String> nombresObjetosExistentes() {
+        Set<String> nombres = new HashSet<>();
+        for (String n : jdbcTemplate.queryForList("SELECT nombre FROM ITEMS", String.class)) {
+            nombres.add(n.toLowerCase(Locale.ROOT));
+        }
+        return nombres;
+    }
+
+    /** Número de filas en {@code TIPOS}; la matriz se importa entera o no se importa. */
+    public long contarRelacionesTipo() {
+        return contar("TIPOS");
+    }
+
+    /** Filas actuales de cada tabla de catálogo; sirve de huella barata para saber si una instantánea sigue al día. */
+    public Recuento recuento() {
+        return new Recuento(
+            contar("POKEDEX_MAESTRA"), contar("ATAQUES"), contar("ITEMS"), contar("POKEMON_LEARNSET"), contar("TIPOS"));
+    }
+
+    public void insertarEspecies(List<Especie> filas) {
+        String sql = "INSERT INTO POKEDEX_MAESTRA (id_pokedex, nombre, tipo_1, tipo_2, stat_base_hp, stat_base_ataque,"
+            + " stat_base_defensa, stat_base_atq_especial, stat_base_def_especial, stat_base_velocidad, xp_base,"
+            + " ratio_captura) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, filas, TAMANO_LOTE, (ps, e) -> {
+            ps.setInt(1, e.id());
+            ps.setString(2, e.nombre());
+            ps.setString(3, e.tipo1());
+            ps.setString(4, e.tipo2());
+            ps.setInt(5, e.hp());
+            ps.setInt(6, e.ataque());
+            ps.setInt(7, e.defensa());
+            ps.setInt(8, e.ataqueEspecial());
+            ps.setInt(9, e.defensaEspecial());
+            ps.setInt(10, e.velocidad());
+            ps.setObject(11, e.xpBase(), Types.INTEGER);
+            ps.setObject(12, e.ratioCaptura(), Types.INTEGER);
+        });
+    }
+
+    public void insertarMovimientos(List<Movimiento> filas) {
+        String sql = "INSERT INTO ATAQUES (id_ataque, nombre, tipo, categoria, potencia, precision_base, pp_base)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, filas, TAMANO_LOTE, (ps, m) -> {
+            ps.setInt(1, m.id());
+            ps.setString(2, m.nombre());
+            ps.setString(3, m.tipo());
+            ps.setString(4, m.categoria());
+            ps.setInt(5, m.potencia());
+            ps.setInt(6, m.precision());
+            ps.setInt(7, m.pp());
+        });
+    }
+
+    public void insertarObjetos(List<Objeto> filas) {
+        String sql = "INSERT INTO ITEMS (nombre, precio, efecto) VALUES (?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, filas, TAMANO_LOTE, (ps, o) -> {
+            ps.setString(1, o.nombre());
+            ps.setInt(2, o.precio());
+            ps.setString(3, o.efecto());
+        });
+    }
+
+    public void insertarRelacionesTipo(List<RelacionTipo> filas) {
+        String sql = "INSERT INTO TIPOS (atacante, defensor, multiplicador) VALUES (?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, filas, TAMANO_LOTE, (ps, t) -> {
+            ps.setString(1, t.atacante());
+            ps.setString(2, t.defensor());
+            ps.setDouble(3, t.multiplicador());
+        });
+    }
+
+    private int contar(String tabla) {
+        Integer n = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabla, Integer.class);
+        return n == null ? 0 : n;
+    }
+
+    /** Número de filas por tabla de catálogo. */
+    public record Recuento(int especies, int movimientos, int objetos, int learnsets, int tipos) {}
+}
@@ -2,6 +2,7 @@ package com.proyecto.pokemon_backend.repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -51,6 +52,31 @@ public class RepositorioEstadoMovimientoPokemon {
         jdbcTemplate.update(sql, pokemonId, moveId, slotIndex, ppActual);
     }
 
+    /**
+     * Upsert en lote de varios slots de un Pokémon: una sentencia preparada con {@code batchUpdate}, un solo
+     * round trip (MySQL necesita {@code rewriteBatchedStatements=true} en la URL para no enviarlas una a una).
+     * Pensado para pasar solo los slots que han cambiado.
+     */
+    public void insertarOActualizarLote(Long pokemonId, List<EstadoPpMovimiento> filas) {
+        if (filas == null || filas.isEmpty()) return;
+        insertarOActualizarLote(Map.of(pokemonId, filas));
+    }
+
+    /** Como {@link #insertarOActualizarLote(Long, List)}, pero las filas de varios Pokémon van en el mismo lote. */
+    public void insertarOActualizarLote(Map<Long, List<EstadoPpMovimiento>> filasPorPokemon) {
+        List<Object[]> filas = new ArrayList<>();
+        filasPorPokemon.forEach((pokemonId, estados) -> {
+            for (EstadoPpMovimiento f : estados) {
+                filas.add(new Object[] {pokemonId, f.moveId(), f.slotIndex(), f.ppActual()});
+            }
+        });
+        if (filas.isEmpty()) return;
+        String sql = "INSERT INTO " + TABLE_NAME
+            + " (id_pokemon_usuario, id_ataque, slot_index, pp_actual) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE slot_index = VALUES(slot_index), pp_actual = VALUES(pp_actual)";
+        jdbcTemplate.batchUpdate(sql, filas);
+    }
+
     /**
      * Tras consumir PP en un turno de batalla.
      */
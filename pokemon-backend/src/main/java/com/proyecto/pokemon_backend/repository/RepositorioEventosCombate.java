@@ -0,0 +1,45 @@
+package com.proyecto.pokemon_backend.repository;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Diario de combates en {@code COMBATE_EVENTOS}: bloques de eventos ya codificados, solo inserción y lectura
+ * en orden.
+ *
+ * <p>La tabla se crea con Flyway ({@code db/migration}); este repositorio solo ejecuta DML.</p>
+ */
+@Repository
+public class RepositorioEventosCombate {
+
+    private static final String TABLE_NAME = "COMBATE_EVENTOS";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RepositorioEventosCombate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserta los bloques en una sola sentencia preparada con {@code batchUpdate}; el orden de la lista es el
+     * de los ids generados.
+     */
+    public void insertarLote(List<BloqueEventos> bloques) {
+        if (bloques == null || bloques.isEmpty()) return;
+        String sql = "INSERT INTO " + TABLE_NAME + " (id_combate, id_usuario, datos) VALUES (?, ?, ?)";
+        jdbcTemplate.batchUpdate(
+            sql,
+            bloques.stream().map(b -> new Object[] {b.combateId(), b.usuarioId(), b.datos()}).toList()
+        );
+    }
+
+    /** Bloques del combate {@code combateId} jugados por {@code usuarioId}, en el orden en que se escribieron. */
+    public List<byte[]> buscarPorCombate(Long combateId, Long usuarioId) {
+        String sql = "SELECT datos FROM " + TABLE_NAME + " WHERE id_combate = ? AND id_usuario = ? ORDER BY id ASC";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBytes("datos"), combateId, usuarioId);
+    }
+
+    /** Un bloque por escribir: eventos binarios de un combate, tal como salen de la sesión. */
+    public record BloqueEventos(Long combateId, Long usuarioId, byte[] datos) {}
+}
@@ -0,0 +1,58 @@
+package com.proyecto.pokemon_backend.repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Learnset por especie en tabla auxiliar {@code POKEMON_LEARNSET} (nivel mínimo de aprendizaje en oro-plata).
+ *
+ * <p>La tabla se crea con Flyway ({@code db/migration}); este repositorio solo ejecuta DML.</p>
+ */
+@Repository
+public class RepositorioLearnset {
+
+    private static final String TABLE_NAME = "POKEMON_LEARNSET";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RepositorioLearnset(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Todas las filas, ordenadas por especie, nivel y movimiento (una sola consulta para hidratar la caché). */
+    public List<FilaLearnset> buscarTodos() {
+        String sql = "SELECT id_pokedex, id_ataque, nivel FROM " + TABLE_NAME
+            + " ORDER BY id_pokedex ASC, nivel ASC, id_ataque ASC";
+        return jdbcTemplate.query(
+            sql,
+            (rs, rowNum) -> new FilaLearnset(rs.getInt("id_pokedex"), rs.getInt("id_ataque"), rs.getInt("nivel"))
+        );
+    }
+
+    /** Especies que ya tienen al menos una fila (el cargador solo descarga las que faltan). */
+    public Set<Integer> especiesCargadas() {
+        String sql = "SELECT DISTINCT id_pokedex FROM " + TABLE_NAME;
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Integer.class));
+    }
+
+    /**
+     * Upsert en lote: una sola sentencia preparada con {@code batchUpdate}, no un round trip por fila.
+     */
+    public void guardarLote(List<FilaLearnset> filas) {
+        if (filas == null || filas.isEmpty()) return;
+        String sql = "INSERT INTO " + TABLE_NAME
+            + " (id_pokedex, id_ataque, nivel) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE nivel = VALUES(nivel)";
+        jdbcTemplate.batchUpdate(sql, filas, filas.size(), (ps, f) -> {
+            ps.setInt(1, f.pokedexId());
+            ps.setInt(2, f.moveId());
+            ps.setInt(3, f.nivel());
+        });
+    }
+
+    /** Entrada del learnset: especie, id en {@code ATAQUES} y nivel al que se aprende. */
+    public record FilaLearnset(int pokedexId, int moveId, int nivel) {}
+}
@@ -2,6 +2,9 @@ package com.proyecto.pokemon_backend.repository;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import com.proyecto.pokemon_backend.model.Item;
 
 
@@ -18,5 +21,11 @@ public interface RepositorioObjeto extends JpaRepository<Item, Integer> {
 
     /** Búsqueda tolerante a mayúsculas y variantes de espacios/guiones en nombres de Ball. */
     Optional<Item> findByNombreIgnoreCase(String nombre);
+
+    /** Pone precio 1 solo a los ítems que no lo tienen ya; devuelve las filas cambiadas. */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Item i SET i.precio = 1 WHERE i.precio IS NULL OR i.precio <> 1")
+    int fijarPrecioUnidad();
 }
 
@@ -0,0 +1,58 @@
+package com.proyecto.pokemon_backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Purga de filas de salvajes huérfanas en {@code POKEMON_USUARIO} (las de la cuenta técnica que quedaron al
+ * cerrar la pestaña a mitad de combate) y de sus PP en {@code POKEMON_MOVIMIENTOS_USUARIO}. Lectura por páginas
+ * de ids y borrado por conjuntos, sin cargar entidades.
+ */
+@Repository
+public class RepositorioPurgaSalvajes {
+
+    private static final String TABLE_POKEMON = "POKEMON_USUARIO";
+    private static final String TABLE_PP = "POKEMON_MOVIMIENTOS_USUARIO";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RepositorioPurgaSalvajes(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Hasta {@code limite} ids de Pokémon de {@code usuarioId} mayores que {@code despuesDe}, en orden: paginación
+     * por clave, estable aunque se borren filas entre páginas.
+     */
+    public List<Long> idsDeUsuario(Long usuarioId, long despuesDe, int limite) {
+        String sql = "SELECT id_pokemon_usuario FROM " + TABLE_POKEMON
+            + " WHERE id_usuario = ? AND id_pokemon_usuario > ? ORDER BY id_pokemon_usuario ASC LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, usuarioId, despuesDe, limite);
+    }
+
+    /**
+     * Borra los PP y las filas de {@code ids} que sigan siendo de {@code usuarioId} (un salvaje capturado entre
+     * medias ya no lo es y se respeta). Dos sentencias; el llamante decide la transacción.
+     *
+     * @return filas de {@code POKEMON_USUARIO} borradas
+     */
+    public int eliminar(Long usuarioId, List<Long> ids) {
+        if (ids == null || ids.isEmpty()) return 0;
+        String placeholders = String.join(",", ids.stream().map(id -> "?").toList());
+        List<Object> args = new ArrayList<>();
+        args.add(usuarioId);
+        args.addAll(ids);
+
+        jdbcTemplate.update(
+            "DELETE FROM " + TABLE_PP + " WHERE id_pokemon_usuario IN (SELECT id_pokemon_usuario FROM "
+                + TABLE_POKEMON + " WHERE id_usuario = ? AND id_pokemon_usuario IN (" + placeholders + "))",
+            args.toArray()
+        );
+        return jdbcTemplate.update(
+            "DELETE FROM " + TABLE_POKEMON + " WHERE id_usuario = ? AND id_pokemon_usuario IN (" + placeholders + ")",
+            args.toArray()
+        );
+    }
+}
@@ -8,7 +8,8 @@ import java.util.Optional;
  * Repositorio de Acceso a Datos para la Matriz de Efectividad (Tabla de Tipos).
  * * Gestiona las consultas sobre la tabla 'TIPOS', que almacena las relaciones
  * de daño entre los distintos elementos (Fuego, Agua, Planta, etc.).
- * * Es fundamental para el 'BatallaService' y 'TipoService' al calcular el daño.
+ * * TipoService la lee entera con findAll() y resuelve el daño en memoria; la consulta puntual
+ * queda para herramientas y depuración.
  */
 
 public interface RepositorioTipo extends JpaRepository<Tipo, Integer> {
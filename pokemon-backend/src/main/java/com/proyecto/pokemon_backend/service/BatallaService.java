@@ -1,8 +1,15 @@
 package com.proyecto.pokemon_backend.service;
 
+import com.proyecto.pokemon_backend.dto.RespuestaPrevisualizacion;
+import com.proyecto.pokemon_backend.dto.RespuestaProbabilidad;
+import com.proyecto.pokemon_backend.dto.RespuestaRepeticion;
+import com.proyecto.pokemon_backend.dto.RespuestaRonda;
 import com.proyecto.pokemon_backend.dto.RespuestaTurno;
 import com.proyecto.pokemon_backend.dto.SolicitudCaptura;
 import com.proyecto.pokemon_backend.dto.SolicitudHuir;
+import com.proyecto.pokemon_backend.dto.SolicitudPrevisualizacion;
+import com.proyecto.pokemon_backend.dto.SolicitudProbabilidad;
+import com.proyecto.pokemon_backend.dto.SolicitudRonda;
 import com.proyecto.pokemon_backend.dto.SolicitudTurno;
 import com.proyecto.pokemon_backend.exception.ErrorNegocio;
 import com.proyecto.pokemon_backend.exception.RecursoNoEncontrado;
@@ -13,21 +20,51 @@ import com.proyecto.pokemon_backend.model.PokedexMaestra;
 import com.proyecto.pokemon_backend.model.PokemonUsuario;
 import com.proyecto.pokemon_backend.model.Usuario;
 import com.proyecto.pokemon_backend.model.enums.Estado;
-import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento;
 import com.proyecto.pokemon_backend.repository.RepositorioInventarioUsuario;
-import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
-import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
 import com.proyecto.pokemon_backend.repository.RepositorioPokemonUsuario;
 import com.proyecto.pokemon_backend.repository.RepositorioUsuario;
-import com.proyecto.pokemon_backend.service.api.ServicioPokeApi;
+import com.proyecto.pokemon_backend.service.batalla.CacheMovesets;
+import com.proyecto.pokemon_backend.service.batalla.DiarioCombates;
+import com.proyecto.pokemon_backend.service.batalla.EventoCombate;
+import com.proyecto.pokemon_backend.service.batalla.EventoCombate.Tipo;
+import com.proyecto.pokemon_backend.service.batalla.FichaPokemon;
+import com.proyecto.pokemon_backend.service.batalla.FuenteSemillas;
+import com.proyecto.pokemon_backend.service.batalla.IaSalvaje;
+import com.proyecto.pokemon_backend.service.batalla.ReservaSalvajes;
+import com.proyecto.pokemon_backend.service.batalla.ReservaSalvajes.SalvajePreparado;
+import com.proyecto.pokemon_backend.service.batalla.Moveset;
+import com.proyecto.pokemon_backend.service.batalla.SalvajesEfimeros;
+import com.proyecto.pokemon_backend.service.batalla.SalvajesEfimeros.SalvajeEfimero;
+import com.proyecto.pokemon_backend.service.batalla.SesionBatalla;
+import com.proyecto.pokemon_backend.service.batalla.SesionBatalla.Combatiente;
+import com.proyecto.pokemon_backend.service.batalla.SesionesBatalla;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEfectos;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoLearnsets;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoLearnsets.EntradaLearnset;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
+import com.proyecto.pokemon_backend.service.catalogo.TablaEnfrentamientos;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.Encuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.MomentoDia;
 import com.proyecto.pokemon_backend.service.logica.CalculoService;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento;
+import com.proyecto.pokemon_backend.service.logica.PrevisionDanio;
+import com.proyecto.pokemon_backend.service.logica.ReglasTurno;
+import com.proyecto.pokemon_backend.service.simulacion.Luchador;
+import com.proyecto.pokemon_backend.service.simulacion.ResultadoSimulacion;
+import com.proyecto.pokemon_backend.service.simulacion.SimuladorCombate;
 import com.proyecto.pokemon_backend.support.CuentaSalvajes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -40,14 +77,21 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Motor de combate Gen II: daño y efectividad vía {@link CalculoService}, estados alterados, PP por movimiento
- * en tabla auxiliar, y captura reutilizando inventario de Balls. Los salvajes viven bajo un usuario técnico
- * hasta captura o {@link #liberarInstanciaSalvaje}.
+ * en tabla auxiliar, y captura reutilizando inventario de Balls. Los salvajes pertenecen a un usuario técnico
+ * y viven en memoria ({@link SalvajesEfimeros}) hasta captura o {@link #liberarInstanciaSalvaje}; solo la
+ * captura los escribe en BD.
+ *
+ * Durante el combate el estado vive en una {@link SesionBatalla} (ver {@link SesionesBatalla}): los turnos no
+ * leen ni escriben {@code POKEMON_USUARIO} ni PP, y el volcado ocurre al terminar, capturar, huir, liberar o
+ * en un checkpoint. Cada petición deja sus eventos en el diario del combate ({@link DiarioCombates}), que se
+ * escribe fuera del turno.
  */
 @Service
 public class BatallaService {
@@ -56,56 +100,84 @@ public class BatallaService {
 
     private static final int LIMITE_EQUIPO = 6;
     private static final int MAX_MOVIMIENTOS_ACTIVOS = 4;
-    private static final String VERSION_ORO_PLATA = "gold-silver";
+    private static final String ACTOR_JUGADOR = "jugador";
+    private static final String ACTOR_SALVAJE = "salvaje";
+    private static final int SIMULACIONES_POR_DEFECTO = 10_000;
 
     private final RepositorioPokemonUsuario pokemonRepo;
-    private final RepositorioPokedexMaestra pokedexRepo;
-    private final RepositorioAtaques ataquesRepo;
+    private final CatalogoEspecies catalogoEspecies;
+    private final CatalogoAtaques catalogoAtaques;
+    private final CatalogoLearnsets catalogoLearnsets;
+    private final CatalogoEfectos catalogoEfectos;
     private final CalculoService calculoService;
     private final TipoService tipoService;
-    private final RepositorioObjeto itemRepo;
+    private final TablaEnfrentamientos tablaEnfrentamientos;
+    private final CatalogoObjetos catalogoObjetos;
     private final RepositorioInventarioUsuario inventarioRepo;
     private final RepositorioUsuario userRepo;
-    private final ServicioPokeApi pokeApiService;
     private final RepositorioEstadoMovimientoPokemon moveStateRepo;
-
-    /** Cache de learnsets para no consultar PokeAPI en cada turno. */
-    private final ConcurrentHashMap<Integer, List<EntradaLearnset>> learnsetCache = new ConcurrentHashMap<>();
-
-    /**
-     * Moveset personalizado para salvajes debug (sala NPC): id instancia → lista de ids de {@code ATAQUES}.
-     * 1 entrada → comportamiento antiguo (3 learnset + 1 demo). 2-4 → moveset completo fijo.
-     * Se elimina al liberar/capturar para no afectar al mismo id como Pokémon del jugador.
-     */
-    private final ConcurrentHashMap<Long, List<Integer>> movesetPersonalizadoPorPokemonId = new ConcurrentHashMap<>();
+    private final SesionesBatalla sesiones;
+    private final CacheMovesets cacheMovesets;
+    private final SimuladorCombate simulador;
+    private final FuenteSemillas fuenteSemillas;
+    private final IaSalvaje iaSalvaje;
+    private final DiarioCombates diarioCombates;
+    private final SalvajesEfimeros salvajesEfimeros;
+    private final TablasEncuentro tablasEncuentro;
+    private final ReservaSalvajes reservaSalvajes;
 
     private volatile Long cachedSalvajesUserId;
 
     /**
-     * Compone el servicio con todos los repositorios de dominio, cálculo puro, tipos, ítems y cliente PokéAPI.
+     * Compone el servicio con los repositorios de dominio, los catálogos de especies, movimientos, learnsets y
+     * efectos, cálculo puro, tipos (matriz y tabla por especie), ítems, el registro de combates abiertos, la caché
+     * de movesets, el simulador, la fuente de semillas, la IA del salvaje, el diario de combates, los salvajes
+     * en memoria, las tablas de encuentro por mapa y la reserva de salvajes ya construidos.
      */
     public BatallaService(
         RepositorioPokemonUsuario pokemonRepo,
-        RepositorioPokedexMaestra pokedexRepo,
-        RepositorioAtaques ataquesRepo,
+        CatalogoEspecies catalogoEspecies,
+        CatalogoAtaques catalogoAtaques,
+        CatalogoLearnsets catalogoLearnsets,
+        CatalogoEfectos catalogoEfectos,
         CalculoService calculoService,
         TipoService tipoService,
-        RepositorioObjeto itemRepo,
+        TablaEnfrentamientos tablaEnfrentamientos,
+        CatalogoObjetos catalogoObjetos,
         RepositorioInventarioUsuario inventarioRepo,
         RepositorioUsuario userRepo,
-        ServicioPokeApi pokeApiService,
-        RepositorioEstadoMovimientoPokemon moveStateRepo
+        RepositorioEstadoMovimientoPokemon moveStateRepo,
+        SesionesBatalla sesiones,
+        CacheMovesets cacheMovesets,
+        SimuladorCombate simulador,
+        FuenteSemillas fuenteSemillas,
+        IaSalvaje iaSalvaje,
+        DiarioCombates diarioCombates,
+        SalvajesEfimeros salvajesEfimeros,
+        TablasEncuentro tablasEncuentro,
+        ReservaSalvajes reservaSalvajes
     ) {
         this.pokemonRepo = pokemonRepo;
-        this.pokedexRepo = pokedexRepo;
-        this.ataquesRepo = ataquesRepo;
+        this.catalogoEspecies = catalogoEspecies;
+        this.catalogoAtaques = catalogoAtaques;
+        this.catalogoLearnsets = catalogoLearnsets;
+        this.catalogoEfectos = catalogoEfectos;
         this.calculoService = calculoService;
         this.tipoService = tipoService;
-        this.itemRepo = itemRepo;
+        this.tablaEnfrentamientos = tablaEnfrentamientos;
+        this.catalogoObjetos = catalogoObjetos;
         this.inventarioRepo = inventarioRepo;
         this.userRepo = userRepo;
-        this.pokeApiService = pokeApiService;
         this.moveStateRepo = moveStateRepo;
+        this.sesiones = sesiones;
+        this.cacheMovesets = cacheMovesets;
+        this.simulador = simulador;
+        this.fuenteSemillas = fuenteSemillas;
+        this.iaSalvaje = iaSalvaje;
+        this.diarioCombates = diarioCombates;
+        this.salvajesEfimeros = salvajesEfimeros;
+        this.tablasEncuentro = tablasEncuentro;
+        this.reservaSalvajes = reservaSalvajes;
     }
 
     /** Resuelve una vez el {@code id_usuario} de la fila técnica {@link CuentaSalvajes#USERNAME}. */
@@ -128,10 +200,10 @@ public class BatallaService {
     // =========================================================================
 
     /**
-     * Inserta un salvaje con stats base escaladas al nivel; {@code posicionEquipo = 100} lo marca fuera del
-     * orden 0–5 del jugador. El moveset se materializa al listar/ejecutar turno (learnset + PokeAPI, con caché).
+     * Crea en memoria un salvaje con stats base escaladas al nivel ({@link SalvajesEfimeros}, id negativo);
+     * {@code posicionEquipo = 100} lo marca fuera del orden 0–5 del jugador. El moveset se materializa al
+     * listar/ejecutar turno (learnset precargado en memoria). No escribe en BD.
      */
-    @Transactional
     public Map<String, Object> prepararInstanciaSalvaje(Integer pokedexId, Integer nivel) {
         return prepararInstanciaSalvaje(pokedexId, nivel, null, null, null);
     }
@@ -141,7 +213,6 @@ public class BatallaService {
      * Si {@code ataquesMoveset} tiene entradas se usan directamente (hasta 4). Si tiene 1 entrada se aplica
      * como demo (3 learnset + 1 fijo). Sin moveset: {@code ataqueDemostracionId/Nombre} como antes.
      */
-    @Transactional
     public Map<String, Object> prepararInstanciaSalvaje(
         Integer pokedexId,
         Integer nivel,
@@ -153,13 +224,29 @@ public class BatallaService {
             throw new ErrorNegocio("pokedexId es obligatorio.");
         }
         int niv = nivel == null || nivel < 1 ? 1 : Math.min(nivel, 100);
-        Long propietarioSalvajes = idUsuarioCuentaSalvajes();
-        PokedexMaestra especie = pokedexRepo.findById(pokedexId)
+        PokedexMaestra especie = catalogoEspecies.buscar(pokedexId)
             .orElseThrow(() -> new RecursoNoEncontrado("Pokémon no encontrado en Pokédex: " + pokedexId));
+        PokemonUsuario p = nuevoSalvaje(especie, niv);
+
+        // Moveset personalizado (sala NPC): 1 entrada → 3 learnset + 1 demo; 2-4 → moveset completo fijo
+        List<Integer> personalizado = new ArrayList<>();
+        if (ataquesMoveset != null && !ataquesMoveset.isEmpty()) {
+            for (String nombre : ataquesMoveset) {
+                resolverAtaqueDemostracion(null, nombre).ifPresent(a -> personalizado.add(a.getIdAtaque()));
+            }
+        } else {
+            resolverAtaqueDemostracion(ataqueDemostracionId, ataqueDemostracionNombre)
+                .ifPresent(a -> personalizado.add(a.getIdAtaque()));
+        }
+        PokemonUsuario guardado = salvajesEfimeros.registrar(p, personalizado).pokemon();
+        return dtoSalvaje(guardado, especie.getNombre());
+    }
 
+    /** Entidad sin id de un salvaje de la cuenta técnica, con las stats base de la especie y los PS llenos. */
+    private PokemonUsuario nuevoSalvaje(PokedexMaestra especie, int niv) {
         PokemonUsuario p = new PokemonUsuario();
-        p.setUsuarioId(propietarioSalvajes);
-        p.setPokedexId(pokedexId);
+        p.setUsuarioId(idUsuarioCuentaSalvajes());
+        p.setPokedexId(especie.getId_pokedex());
         p.setNivel(niv);
         p.setExperiencia(0);
         p.setPosicionEquipo(100); // no compite con huecos 0–5 del equipo del jugador
@@ -177,25 +264,16 @@ public class BatallaService {
         p.setAtaqueEspecialStat(Math.max(5, nvl(especie.getStat_base_atq_especial(), 10)));
         p.setDefensaEspecialStat(Math.max(5, nvl(especie.getStat_base_def_especial(), 10)));
         p.setVelocidadStat(Math.max(5, nvl(especie.getStat_base_velocidad(), 10)));
+        return p;
+    }
 
-        PokemonUsuario guardado = pokemonRepo.save(p);
-
-        if (ataquesMoveset != null && !ataquesMoveset.isEmpty()) {
-            List<Integer> ids = new ArrayList<>();
-            for (String nombre : ataquesMoveset) {
-                resolverAtaqueDemostracion(null, nombre).ifPresent(a -> ids.add(a.getIdAtaque()));
-            }
-            if (!ids.isEmpty()) movesetPersonalizadoPorPokemonId.put(guardado.getId(), ids);
-        } else {
-            resolverAtaqueDemostracion(ataqueDemostracionId, ataqueDemostracionNombre)
-                .ifPresent(a -> movesetPersonalizadoPorPokemonId.put(guardado.getId(), List.of(a.getIdAtaque())));
-        }
-
+    /** Respuesta de {@code /salvaje/preparar} para un salvaje ya registrado. */
+    private static Map<String, Object> dtoSalvaje(PokemonUsuario guardado, String nombre) {
         Map<String, Object> dto = new LinkedHashMap<>();
         dto.put("pokemonUsuarioId", guardado.getId());
-        dto.put("pokedexId", pokedexId);
-        dto.put("nombre", especie.getNombre());
-        dto.put("nivel", niv);
+        dto.put("pokedexId", guardado.getPokedexId());
+        dto.put("nombre", nombre);
+        dto.put("nivel", guardado.getNivel());
         dto.put("hpActual", guardado.getHpActual());
         dto.put("hpMax", guardado.getHpMax());
         dto.put("ataque", guardado.getAtaqueStat());
@@ -203,7 +281,67 @@ public class BatallaService {
         return dto;
     }
 
-    /** Borra fila de Pokémon y PP solo si sigue perteneciendo al pool de salvajes. */
+    /**
+     * Encuentro en hierba decidido en servidor: tira especie y nivel en la tabla del mapa del usuario a la hora
+     * actual ({@link TablasEncuentro}) y prepara la instancia como {@link #prepararInstanciaSalvaje}, en una sola
+     * llamada. El cliente ya no elige qué sale. Si {@link ReservaSalvajes} tiene uno ya tirado y construido
+     * para ese mapa y momento, solo se registra.
+     *
+     * @param mapaCliente mapa en el que camina el jugador; si viene, pasa a ser su {@code mapaActual} (el mismo
+     *                    campo que escribe el guardado), así la tabla nunca es la de un mapa ya dejado atrás. Un
+     *                    mapa sin tabla se rechaza antes de guardar nada
+     * @return el DTO de {@code /salvaje/preparar} más {@code mapa} y {@code momento}
+     */
+    @Transactional
+    public Map<String, Object> encuentroSalvaje(String username, String mapaCliente) {
+        Usuario usuario = cargarUsuario(username);
+        boolean mapaNuevo = mapaCliente != null && !mapaCliente.isBlank() && !mapaCliente.equals(usuario.getMapaActual());
+        String mapa = mapaNuevo ? mapaCliente : usuario.getMapaActual();
+        if (!tablasEncuentro.tieneEncuentros(mapa)) {
+            throw new ErrorNegocio("No hay Pokémon salvajes en " + mapa + ".");
+        }
+        if (mapaNuevo) {
+            usuario.setMapaActual(mapaCliente);
+            userRepo.save(usuario);
+        }
+        MomentoDia momento = MomentoDia.de(LocalTime.now());
+
+        Map<String, Object> dto = reservaSalvajes.tomar(mapa, momento)
+            .map(this::registrarPreparado)
+            .orElseGet(() -> {
+                Encuentro encuentro = tablasEncuentro.tirar(mapa, momento, ThreadLocalRandom.current())
+                    .orElseThrow(() -> new ErrorNegocio("No hay Pokémon salvajes en " + mapa + " a esta hora."));
+                return prepararInstanciaSalvaje(encuentro.pokedexId(), encuentro.nivel());
+            });
+        dto.put("mapa", TablasEncuentro.normalizarMapa(mapa));
+        dto.put("momento", momento.name());
+        return dto;
+    }
+
+    /** Da id al salvaje de la reserva y le deja el moveset ya resuelto, sin tocar learnset ni catálogo. */
+    private Map<String, Object> registrarPreparado(SalvajePreparado preparado) {
+        SalvajeEfimero s = salvajesEfimeros.registrar(preparado.pokemon(), List.of());
+        Long id = s.pokemon().getId();
+        s.moveset(() -> Moveset.sinFilas(id, preparado.movimientos(), preparado.ppMax()));
+        return dtoSalvaje(s.pokemon(), preparado.nombre());
+    }
+
+    /**
+     * Salvaje del encuentro con stats y moveset resueltos, sin id ni registrar; lo usa
+     * {@link com.proyecto.pokemon_backend.service.batalla.ProductorReservaSalvajes} para llenar la reserva.
+     */
+    public SalvajePreparado construirPreparado(Encuentro encuentro) {
+        PokedexMaestra especie = catalogoEspecies.buscar(encuentro.pokedexId())
+            .orElseThrow(() -> new RecursoNoEncontrado("Pokémon no encontrado en Pokédex: " + encuentro.pokedexId()));
+        PokemonUsuario p = nuevoSalvaje(especie, encuentro.nivel());
+        List<Ataques> movimientos = movimientosSalvaje(p);
+        return new SalvajePreparado(p, especie.getNombre(), movimientos, ppMaximos(movimientos));
+    }
+
+    /**
+     * Olvida el salvaje en memoria o, si es una fila de antes de {@link SalvajesEfimeros}, la borra con sus PP;
+     * solo si sigue perteneciendo al pool de salvajes.
+     */
     @Transactional
     public void liberarInstanciaSalvaje(Long pokemonUsuarioId) {
         if (pokemonUsuarioId == null) {
@@ -213,7 +351,13 @@ public class BatallaService {
         if (!Objects.equals(p.getUsuarioId(), idUsuarioCuentaSalvajes())) {
             throw new ErrorNegocio("No se puede liberar un Pokémon que no es una instancia salvaje.");
         }
-        movesetPersonalizadoPorPokemonId.remove(pokemonUsuarioId);
+        // Los PS/PP del jugador en ese combate sí deben quedar guardados
+        sesiones.cerrar(pokemonUsuarioId, true);
+        if (SalvajesEfimeros.esEfimero(pokemonUsuarioId)) {
+            salvajesEfimeros.eliminar(pokemonUsuarioId);
+            return;
+        }
+        cacheMovesets.descartar(pokemonUsuarioId);
         moveStateRepo.eliminarPorPokemonId(pokemonUsuarioId);
         pokemonRepo.delete(p);
     }
@@ -234,10 +378,13 @@ public class BatallaService {
             throw new ErrorNegocio("Ese Pokémon no es tuyo.");
         }
         moveStateRepo.eliminarPorPokemonId(pokemonId);
+        // Si está en combate, la sesión comparte este mismo moveset
+        cacheMovesets.restaurar(pokemonId);
     }
 
     public List<Map<String, Object>> listarMovimientos(String username, Long pokemonId) {
         Usuario usuario = cargarUsuario(username);
+
         PokemonUsuario pokemon = cargarPokemon(pokemonId);
 
         boolean esDelJugador = Objects.equals(pokemon.getUsuarioId(), usuario.getIdUsuario());
@@ -246,15 +393,19 @@ public class BatallaService {
             throw new ErrorNegocio("No puedes consultar movimientos de un Pokémon que no es tuyo.");
         }
 
-        List<HuecoMovimiento> slots = construirSlots(pokemon);
+        // Los PP vivos (también los de un combate abierto) están en la caché; la BD puede ir por detrás
+        List<HuecoMovimiento> slots = huecos(moveset(pokemon));
         logMovesetResuelto(pokemon, slots);
+        return dtoMovimientos(slots);
+    }
 
+    private List<Map<String, Object>> dtoMovimientos(List<HuecoMovimiento> slots) {
         return slots.stream()
             .map(slot -> {
                 Map<String, Object> dto = new LinkedHashMap<>();
                 dto.put("movimientoId",  slot.ataque().getIdAtaque());
                 dto.put("nombre",        slot.ataque().getNombre());
-                dto.put("tipo",          slot.ataque().getTipo());
+                dto.put("tipo",          TipoPokemon.slugDe(slot.ataque().getTipo()));
                 dto.put("categoria",     slot.ataque().getCategoria());
                 dto.put("potencia",      slot.ataque().getPotencia());
                 dto.put("precision",     slot.ataque().getPrecisionBase());
@@ -274,7 +425,7 @@ public class BatallaService {
         if (!log.isDebugEnabled()) {
             return;
         }
-        boolean modoDemo = movesetPersonalizadoPorPokemonId.containsKey(pokemon.getId());
+        boolean modoDemo = !movesetPersonalizado(pokemon.getId()).isEmpty();
         String resumen = slots.stream()
             .map(s -> String.format(
                 Locale.ROOT,
@@ -296,38 +447,293 @@ public class BatallaService {
     }
 
     /**
-     * validar dueños → resolver movimiento (id, legacy o primer slot con PP) → bloqueos de estado
-     * → precisión → rama daño o estado → persistir HP/PP y textos. Los efectos residuales de fin de turno
-     * se aplican a ambos bandos según el caso.
+     * validar dueños → resolver movimiento (id, legacy, {@link IaSalvaje} si ataca el salvaje, o primer slot
+     * con PP) → bloqueos de estado → precisión → rama daño o estado → HP/PP y textos. Los efectos residuales de
+     * fin de turno se aplican a ambos bandos según el caso.
+     *
+     * Ambos combatientes salen de la {@link SesionBatalla} del combate, que se abre en el primer turno con una
+     * sola lectura de BD por participante; el turno solo modifica memoria. Se vuelca y cierra al caer el
+     * salvaje, y se vuelca sin cerrar (checkpoint) al caer un Pokémon del jugador.
      */
-    @Transactional
     public RespuestaTurno ejecutarTurno(String username, SolicitudTurno request) {
-        Usuario usuario = cargarUsuario(username);
-        PokemonUsuario atacante = cargarPokemon(request.getAtacanteId());
-        PokemonUsuario defensor = cargarPokemon(request.getDefensorId());
+        return enSesion(username, request.getAtacanteId(), request.getDefensorId(), s -> ejecutarTurno(s, request));
+    }
 
-        validarParticipantes(usuario, atacante, defensor);
+    /**
+     * Ronda completa contra el salvaje en una sola petición: el jugador elige movimiento, el servidor elige el
+     * del salvaje ({@link IaSalvaje}), ordena ambas acciones por velocidad (parálisis la divide entre 4, empate al azar) y aplica
+     * los residuales una sola vez al final de la ronda. Se resuelve entera en memoria bajo el monitor de la
+     * sesión; lo que se vuelca al terminar va en una única transacción.
+     */
+    public RespuestaRonda ejecutarRonda(String username, SolicitudRonda request) {
+        return enSesion(username, request.getJugadorPokemonId(), request.getSalvajePokemonId(),
+            s -> ejecutarRonda(s, request));
+    }
 
-        MovimientoResuelto movResuelto = resolverMovimiento(atacante, request);
-        Ataques movimiento = movResuelto.ataque();
+    /**
+     * Rango de daño exacto, precisión y probabilidad de debilitar de cada movimiento del atacante contra el
+     * defensor, en su estado actual ({@link PrevisionDanio}). Abre el combate en memoria si aún no lo estaba;
+     * a partir de ahí no toca BD ni modifica nada.
+     */
+    public RespuestaPrevisualizacion previsualizar(String username, SolicitudPrevisualizacion request) {
+        return enSesion(username, request.getAtacanteId(), request.getDefensorId(), s -> previsualizar(s, request));
+    }
+
+    /**
+     * Ejecuta {@code accion} con la sesión del combate bloqueada, abriéndola si hace falta. Lo que haya anotado
+     * se encola en el diario al salir, también si falla: el estado en memoria ya ha cambiado igualmente.
+     */
+    private <T> T enSesion(String username, Long idA, Long idB, Function<SesionBatalla, T> accion) {
+        for (int intento = 0; ; intento++) {
+            SesionBatalla sesion = sesionParaTurno(username, idA, idB);
+            synchronized (sesion) {
+                if (!sesion.isCerrada()) {
+                    sesion.tocar();
+                    try {
+                        return accion.apply(sesion);
+                    } finally {
+                        diarioCombates.entregar(sesion);
+                    }
+                }
+                // Otra petición la cerró entre buscarla y bloquearla: se reabre desde BD una vez
+                if (intento > 0) throw new ErrorNegocio("El combate ya ha terminado.");
+            }
+        }
+    }
+
+    /** Previsualización sobre una sesión abierta; el llamante tiene su monitor. */
+    private RespuestaPrevisualizacion previsualizar(SesionBatalla sesion, SolicitudPrevisualizacion request) {
+        Combatiente cAtacante = combatienteEn(sesion, request.getAtacanteId());
+        Combatiente cDefensor = combatienteEn(sesion, request.getDefensorId());
+        if (cAtacante == cDefensor) throw new ErrorNegocio("Participantes de combate no válidos para este usuario.");
+        PokemonUsuario atacante = cAtacante.pokemon();
+        PokemonUsuario defensor = cDefensor.pokemon();
+        validarConPs(atacante, defensor);
+
+        PokedexMaestra especie = cargarPokedex(atacante.getPokedexId());
+        FichaPokemon a = new FichaPokemon(atacante);
+        FichaPokemon d = new FichaPokemon(defensor);
+        List<RespuestaPrevisualizacion.Movimiento> movimientos = new ArrayList<>();
+        for (int slot = 0; slot < cAtacante.movimientos().size(); slot++) {
+            Ataques mov = cAtacante.movimientos().get(slot);
+            int precision = nvl(mov.getPrecisionBase(), 100);
+            boolean deEstado = "status".equalsIgnoreCase(mov.getCategoria()) || nvl(mov.getPotencia(), 0) <= 0;
+            boolean especial = "special".equalsIgnoreCase(mov.getCategoria());
+            double efectividad = tablaEnfrentamientos.multiplicador(mov.getTipo(), defensor.getPokedexId());
+            PrevisionDanio p = deEstado
+                ? new PrevisionDanio(0, 0, 0, 0, PrevisionDanio.probabilidadImpacto(precision), 0, 0)
+                : PrevisionDanio.calcular(
+                    a.nivel(),
+                    especial ? a.ataqueEspecial() : a.ataque(),
+                    especial ? d.defensaEspecial() : d.defensa(),
+                    nvl(mov.getPotencia(), 0),
+                    efectividad,
+                    tieneStab(mov.getTipo(), especie.getTipo_1(), especie.getTipo_2()),
+                    a.estado(),
+                    !especial,
+                    precision,
+                    d.hp());
+            movimientos.add(new RespuestaPrevisualizacion.Movimiento(
+                mov.getIdAtaque(), mov.getNombre(), cAtacante.ppActual(slot), cAtacante.ppMax(slot), deEstado,
+                efectividad, p.minimo(), p.maximo(), p.minimoCritico(), p.maximoCritico(), p.danioEsperado(),
+                p.probabilidadImpacto(), p.probabilidadKo()));
+        }
+        return RespuestaPrevisualizacion.builder()
+            .atacanteId(atacante.getId())
+            .defensorId(defensor.getId())
+            .hpDefensor(d.hp())
+            .hpMaxDefensor(d.hpMax())
+            .movimientos(movimientos)
+            .build();
+    }
+
+    /** Turno sobre una sesión abierta; el llamante tiene su monitor. */
+    private RespuestaTurno ejecutarTurno(SesionBatalla sesion, SolicitudTurno request) {
+        Combatiente cAtacante = combatienteEn(sesion, request.getAtacanteId());
+        Combatiente cDefensor = combatienteEn(sesion, request.getDefensorId());
+        PokemonUsuario atacante = cAtacante.pokemon();
+        PokemonUsuario defensor = cDefensor.pokemon();
+
+        boolean atacanteSalvaje = Objects.equals(atacante.getId(), sesion.getId());
+        if (atacanteSalvaje == Objects.equals(defensor.getId(), sesion.getId())) {
+            throw new ErrorNegocio("Participantes de combate no válidos para este usuario.");
+        }
+        validarConPs(atacante, defensor);
+        sesion.registro().anotar(Tipo.TURNO, 0);
+
+        PokemonUsuario jugador = atacanteSalvaje ? defensor : atacante;
+        int hpJugadorAntes = nvl(jugador.getHpActual(), 0);
+
+        // El movimiento del salvaje lo decide siempre el servidor: lo que mande el cliente (id o legacy) se ignora
+        SolicitudTurno accion = request;
+        if (atacanteSalvaje) {
+            Integer elegido = iaSalvaje.elegir(cAtacante, defensor, sesion.aleatorio());
+            accion = solicitudTurno(atacante.getId(), defensor.getId(), elegido == null ? null : elegido.longValue());
+        }
+
+        RespuestaTurno respuesta = resolverTurno(sesion, cAtacante, defensor, atacanteSalvaje, accion, true);
+        sesion.anotarCambios();
+        cerrarSiProcede(sesion, jugador, hpJugadorAntes);
+        return respuesta;
+    }
+
+    /** Ronda sobre una sesión abierta; el llamante tiene su monitor. */
+    private RespuestaRonda ejecutarRonda(SesionBatalla sesion, SolicitudRonda request) {
+        Combatiente cJugador = combatienteEn(sesion, request.getJugadorPokemonId());
+        Combatiente cSalvaje = combatienteEn(sesion, request.getSalvajePokemonId());
+        if (cSalvaje != sesion.salvaje() || cJugador == cSalvaje) {
+            throw new ErrorNegocio("Participantes de combate no válidos para este usuario.");
+        }
+        PokemonUsuario jugador = cJugador.pokemon();
+        PokemonUsuario salvaje = cSalvaje.pokemon();
+        validarConPs(jugador, salvaje);
+        // El movimiento del jugador se valida antes de que nadie actúe: una ronda rechazada no cambia nada
+        int movJugador = movimientoUtilizable(cJugador, request.getMovimientoId());
+        sesion.registro().anotar(Tipo.TURNO, 0);
+        int hpJugadorAntes = nvl(jugador.getHpActual(), 0);
+
+        SolicitudTurno accionJugador = solicitudTurno(jugador.getId(), salvaje.getId(), (long) movJugador);
+        RandomGenerator rnd = sesion.aleatorio();
+        Integer movSalvaje = iaSalvaje.elegir(cSalvaje, jugador, rnd);
+        SolicitudTurno accionSalvaje = movSalvaje == null
+            ? null
+            : solicitudTurno(salvaje.getId(), jugador.getId(), movSalvaje.longValue());
+        boolean jugadorPrimero = actuaAntes(jugador, salvaje, rnd);
+
+        List<RespuestaRonda.Accion> acciones = new ArrayList<>();
+        RespuestaTurno conExperiencia = null;
+        for (boolean turnoJugador : jugadorPrimero ? new boolean[] {true, false} : new boolean[] {false, true}) {
+            PokemonUsuario actor = turnoJugador ? jugador : salvaje;
+            PokemonUsuario objetivo = turnoJugador ? salvaje : jugador;
+            if (nvl(actor.getHpActual(), 0) <= 0 || nvl(objetivo.getHpActual(), 0) <= 0) break;
+
+            if (!turnoJugador && accionSalvaje == null) {
+                sesion.registro().anotar(Tipo.ACCION, salvaje.getId(), 0, jugador.getId());
+            }
+            RespuestaTurno r = turnoJugador
+                ? resolverTurno(sesion, cJugador, salvaje, false, accionJugador, false)
+                : accionSalvaje != null
+                    ? resolverTurno(sesion, cSalvaje, jugador, true, accionSalvaje, false)
+                    : sinDanio(salvaje, jugador, "¡" + nombreDisplay(salvaje) + " no tiene PP para atacar!");
+            sesion.anotarCambios();
+            acciones.add(new RespuestaRonda.Accion(turnoJugador ? ACTOR_JUGADOR : ACTOR_SALVAJE, r));
+            if (r.getExperienciaGanada() != null) conExperiencia = r;
+        }
+
+        // Residuales una vez por ronda, el más rápido primero; si el salvaje cae aquí también da XP
+        String residuales = "";
+        Experiencia experiencia = null;
+        if (!sesion.isCerrada()) {
+            PokemonUsuario primero = jugadorPrimero ? jugador : salvaje;
+            PokemonUsuario segundo = jugadorPrimero ? salvaje : jugador;
+            residuales = unir(procesarEfectosFinTurno(primero), procesarEfectosFinTurno(segundo));
+            sesion.anotarCambios();
+            if (nvl(salvaje.getHpActual(), 0) == 0 && nvl(jugador.getHpActual(), 0) > 0) {
+                experiencia = otorgarExperiencia(sesion, jugador, salvaje);
+            }
+        }
+        cerrarSiProcede(sesion, jugador, hpJugadorAntes);
+
+        RespuestaRonda.RespuestaRondaBuilder respuesta = RespuestaRonda.builder()
+            .acciones(acciones)
+            .mensajeResidual(residuales)
+            .mensajeGeneral(unir(
+                unir(acciones.stream().map(a -> a.resultado().getMensajeGeneral()).toArray(String[]::new)),
+                residuales))
+            .hpJugador(nvl(jugador.getHpActual(), 0))
+            .hpMaxJugador(nvl(jugador.getHpMax(), 0))
+            .hpSalvaje(nvl(salvaje.getHpActual(), 0))
+            .estadoJugador(estadoDisplay(jugador))
+            .estadoSalvaje(estadoDisplay(salvaje))
+            .jugadorDebilitado(nvl(jugador.getHpActual(), 0) == 0)
+            .salvajeDebilitado(nvl(salvaje.getHpActual(), 0) == 0);
+        if (conExperiencia != null) {
+            respuesta
+                .experienciaGanada(conExperiencia.getExperienciaGanada())
+                .nivelAnterior(conExperiencia.getNivelAnterior())
+                .nuevoNivel(conExperiencia.getNuevoNivel())
+                .xpActual(conExperiencia.getXpActual())
+                .movimientosNuevos(conExperiencia.getMovimientosNuevos())
+                .movimientosActuales(conExperiencia.getMovimientosActuales())
+                .movimientosAutoAprendidos(conExperiencia.getMovimientosAutoAprendidos());
+        } else if (experiencia != null) {
+            respuesta
+                .experienciaGanada(experiencia.xpGanada())
+                .nivelAnterior(experiencia.nivelAntes())
+                .nuevoNivel(experiencia.nivelDespues())
+                .xpActual(nvl(jugador.getExperiencia(), 0))
+                .movimientosNuevos(vacioANull(experiencia.sincMov().pendientes()))
+                .movimientosActuales(experiencia.sincMov().pendientes().isEmpty()
+                    ? null : experiencia.sincMov().movimientosActuales())
+                .movimientosAutoAprendidos(vacioANull(experiencia.sincMov().autoAprendidos()));
+        }
+        return respuesta.build();
+    }
+
+    /** Vuelca y cierra si el salvaje cayó; checkpoint si acaba de caer el Pokémon del jugador. */
+    private void cerrarSiProcede(SesionBatalla sesion, PokemonUsuario jugador, int hpJugadorAntes) {
+        if (sesion.isCerrada()) return;
+        if (nvl(sesion.salvaje().pokemon().getHpActual(), 0) == 0) {
+            sesiones.cerrar(sesion.getId(), true);
+        } else if (hpJugadorAntes > 0 && nvl(jugador.getHpActual(), 0) == 0) {
+            sesiones.volcar(sesion);
+        }
+    }
+
+    /** Orden Gen II sin prioridades: más velocidad actúa antes, la parálisis la divide entre 4, empate al azar. */
+    private boolean actuaAntes(PokemonUsuario a, PokemonUsuario b, RandomGenerator rnd) {
+        return ReglasTurno.actuaAntes(new FichaPokemon(a), new FichaPokemon(b), rnd);
+    }
+
+    private static SolicitudTurno solicitudTurno(Long atacanteId, Long defensorId, Long movimientoId) {
+        SolicitudTurno t = new SolicitudTurno();
+        t.setAtacanteId(atacanteId);
+        t.setDefensorId(defensorId);
+        t.setMovimientoId(movimientoId);
+        return t;
+    }
+
+    private static <T> List<T> vacioANull(List<T> lista) {
+        return lista.isEmpty() ? null : lista;
+    }
+
+    /**
+     * Una acción. Con {@code residuales} aplica los efectos de fin de turno a ambos bandos (turno suelto); la
+     * ronda los desactiva y los aplica una sola vez al final.
+     */
+    private RespuestaTurno resolverTurno(
+        SesionBatalla sesion,
+        Combatiente cAtacante,
+        PokemonUsuario defensor,
+        boolean atacanteSalvaje,
+        SolicitudTurno request,
+        boolean residuales
+    ) {
+        PokemonUsuario atacante = cAtacante.pokemon();
+        RandomGenerator rnd = sesion.aleatorio();
 
         PokedexMaestra datosAtacante = cargarPokedex(atacante.getPokedexId());
         PokedexMaestra datosDefensor = cargarPokedex(defensor.getPokedexId());
 
+        MovimientoResuelto movResuelto = resolverMovimiento(cAtacante, request);
+        Ataques movimiento = movResuelto.ataque();
+        sesion.registro().anotar(Tipo.ACCION, atacante.getId(), nvl(movimiento.getIdAtaque(), 0), defensor.getId());
+
         // --- Pre-turno: estados que bloquean o hacen autodaño ---
-        String mensajeBloqueo = procesarEstadoPreTurno(atacante);
+        String mensajeBloqueo = procesarEstadoPreTurno(atacante, rnd);
         if (mensajeBloqueo != null) {
-            String residual = procesarEfectosFinTurno(atacante);
-            pokemonRepo.save(atacante);
+            sesion.registro().anotar(Tipo.BLOQUEO, atacante.getId(), nvl(atacante.getHpActual(), 0));
+            String residual = residuales ? procesarEfectosFinTurno(atacante) : "";
             return sinDanio(atacante, defensor, unir(mensajeBloqueo, residual));
         }
 
         // --- Precisión ---
-        if (!calculoService.verificaImpacto(nvl(movimiento.getPrecisionBase(), 100))) {
-            procesarEfectosFinTurno(defensor);
-            procesarEfectosFinTurno(atacante);
-            pokemonRepo.save(defensor);
-            pokemonRepo.save(atacante);
+        if (!calculoService.verificaImpacto(nvl(movimiento.getPrecisionBase(), 100), rnd)) {
+            sesion.registro().anotar(Tipo.FALLO, atacante.getId());
+            if (residuales) {
+                procesarEfectosFinTurno(defensor);
+                procesarEfectosFinTurno(atacante);
+            }
             return sinDanio(atacante, defensor, "¡El movimiento falló!");
         }
 
@@ -337,11 +743,9 @@ public class BatallaService {
 
         if (esEstado) {
             String nomAtacante = datosAtacante.getNombre() != null ? datosAtacante.getNombre() : "?";
-            String mensajeEfecto = aplicarEfectoMovimientoEstado(atacante, defensor, movimiento.getNombre(), nomAtacante);
-            String residualDef = procesarEfectosFinTurno(defensor);
-            String residualAtk = procesarEfectosFinTurno(atacante);
-            pokemonRepo.save(defensor);
-            pokemonRepo.save(atacante);
+            String mensajeEfecto = aplicarEfectoMovimientoEstado(atacante, defensor, movimiento, nomAtacante, rnd);
+            String residualDef = residuales ? procesarEfectosFinTurno(defensor) : "";
+            String residualAtk = residuales ? procesarEfectosFinTurno(atacante) : "";
             return sinDanio(atacante, defensor, unir(
                 "¡" + nomAtacante + " usó " + movimiento.getNombre() + "!",
                 mensajeEfecto,
@@ -352,13 +756,11 @@ public class BatallaService {
 
         // --- Cálculo de daño ---
         boolean esEspecial = "special".equalsIgnoreCase(movimiento.getCategoria());
-        String tipoMov = movimiento.getTipo().toLowerCase(Locale.ROOT);
+        TipoPokemon tipoMov = movimiento.getTipo();
 
-        double efectividad = tipoService.calcularEfectividad(
-            tipoMov, datosDefensor.getTipo_1(), datosDefensor.getTipo_2()
-        );
+        double efectividad = tablaEnfrentamientos.multiplicador(tipoMov, datosDefensor.getId_pokedex());
         boolean stab = tieneStab(tipoMov, datosAtacante.getTipo_1(), datosAtacante.getTipo_2());
-        boolean critico = calculoService.fueGolpeCritico();
+        boolean critico = calculoService.fueGolpeCritico(rnd);
         double multiplicadorFinal = critico ? efectividad * 2.0 : efectividad;
 
         int atkStat = esEspecial ? nvl(atacante.getAtaqueEspecialStat(), 1) : nvl(atacante.getAtaqueStat(), 1);
@@ -371,26 +773,26 @@ public class BatallaService {
             multiplicadorFinal,
             stab,
             atacante.getEstado(),
-            !esEspecial
+            !esEspecial,
+            rnd
         );
 
         int hpRestante = Math.max(0, nvl(defensor.getHpActual(), 0) - danio);
         defensor.setHpActual(hpRestante);
+        sesion.registro().danio(atacante.getId(), defensor.getId(), danio, critico, hpRestante);
 
         // --- Efecto secundario del movimiento ---
+        String nombreAtacante = datosAtacante.getNombre() != null ? datosAtacante.getNombre() : "?";
         String msgEfSecundario = "";
-        if (hpRestante > 0 && defensor.getEstado() == Estado.SALUDABLE) {
-            msgEfSecundario = aplicarEfectoSecundarioDano(movimiento.getNombre(), defensor);
+        if (hpRestante > 0) {
+            msgEfSecundario = aplicarEfectoSecundarioDano(movimiento, atacante, defensor, nombreAtacante, rnd);
         }
 
         // --- Post-turno: daño residual ---
-        String residualDef = procesarEfectosFinTurno(defensor);
-        String residualAtk = procesarEfectosFinTurno(atacante);
-        pokemonRepo.save(defensor);
-        pokemonRepo.save(atacante);
+        String residualDef = residuales ? procesarEfectosFinTurno(defensor) : "";
+        String residualAtk = residuales ? procesarEfectosFinTurno(atacante) : "";
 
         String msgEfectividad = tipoService.mensajeEfectividad(efectividad);
-        String nombreAtacante = datosAtacante.getNombre() != null ? datosAtacante.getNombre() : "?";
         String mensajeFinal = unir(
             "¡" + nombreAtacante + " usó " + movimiento.getNombre() + "!",
             critico ? "¡Golpe crítico!" : "",
@@ -404,34 +806,16 @@ public class BatallaService {
         int hpAtkFinal = nvl(atacante.getHpActual(), 0);
 
         // ── XP y subida de nivel cuando el defensor cae ─────────────────────
-        int xpGanada = 0;
-        int nivelAntes = nvl(atacante.getNivel(), 1);
-        int nivelDespues = nivelAntes;
-
-        if (hpDefFinal == 0 && Objects.equals(atacante.getUsuarioId(), usuario.getIdUsuario())) {
-            int xpBase = nvl(datosDefensor.getXp_base(), 50);
-            xpGanada = calculoService.calcularExperiencia(nvl(defensor.getNivel(), 1), xpBase);
-            int xpAcum = nvl(atacante.getExperiencia(), 0) + xpGanada;
-
-            if (nivelAntes < 100) {
-                int umbral = calculoService.xpParaSiguienteNivel(nivelAntes);
-                if (xpAcum >= umbral) {
-                    nivelDespues = nivelAntes + 1;
-                    xpAcum -= umbral;
-                    atacante.setNivel(nivelDespues);
-                    int hpExtra = nivelDespues;
-                    atacante.setHpMax(atacante.getHpMax() + hpExtra);
-                    atacante.setHpActual(atacante.getHpActual() + hpExtra);
-                }
-            }
-            atacante.setExperiencia(xpAcum);
-            pokemonRepo.save(atacante);
-            hpAtkFinal = nvl(atacante.getHpActual(), 0);
-        }
-
-        ResultadoSincMovimientos sincMov = nivelDespues > nivelAntes
-            ? sincronizarMovimientosNuevos(atacante, nivelAntes, nivelDespues)
+        Experiencia experiencia = hpDefFinal == 0 && !atacanteSalvaje
+            ? otorgarExperiencia(sesion, atacante, defensor)
+            : null;
+        int xpGanada = experiencia != null ? experiencia.xpGanada() : 0;
+        int nivelAntes = experiencia != null ? experiencia.nivelAntes() : nvl(atacante.getNivel(), 1);
+        int nivelDespues = experiencia != null ? experiencia.nivelDespues() : nivelAntes;
+        ResultadoSincMovimientos sincMov = experiencia != null
+            ? experiencia.sincMov()
             : new ResultadoSincMovimientos(List.of(), List.of(), List.of());
+        hpAtkFinal = nvl(atacante.getHpActual(), 0);
 
         return RespuestaTurno.builder()
             .danoInfligido(danio)
@@ -456,13 +840,149 @@ public class BatallaService {
     }
 
     /**
-     * Huir de un combate salvaje: valida participantes y aplica probabilidad tipo Gen II.
+     * XP al Pokémon del jugador que ha derrotado al salvaje, con subida de nivel si alcanza el umbral. Cierra el
+     * combate volcándolo antes de sincronizar movimientos nuevos, que trabajan ya sobre las filas de BD.
+     */
+    private Experiencia otorgarExperiencia(SesionBatalla sesion, PokemonUsuario ganador, PokemonUsuario derrotado) {
+        int xpBase = nvl(cargarPokedex(derrotado.getPokedexId()).getXp_base(), 50);
+        int xpGanada = calculoService.calcularExperiencia(nvl(derrotado.getNivel(), 1), xpBase);
+        int xpAcum = nvl(ganador.getExperiencia(), 0) + xpGanada;
+        int nivelAntes = nvl(ganador.getNivel(), 1);
+        int nivelDespues = nivelAntes;
+
+        if (nivelAntes < 100) {
+            int umbral = calculoService.xpParaSiguienteNivel(nivelAntes);
+            if (xpAcum >= umbral) {
+                nivelDespues = nivelAntes + 1;
+                xpAcum -= umbral;
+                ganador.setNivel(nivelDespues);
+                int hpExtra = nivelDespues;
+                ganador.setHpMax(ganador.getHpMax() + hpExtra);
+                ganador.setHpActual(ganador.getHpActual() + hpExtra);
+            }
+        }
+        ganador.setExperiencia(xpAcum);
+        sesion.registro().anotar(Tipo.EXPERIENCIA, ganador.getId(), xpGanada, nivelAntes, nivelDespues, xpAcum);
+        sesion.anotarCambios();
+        sesiones.cerrar(sesion.getId(), true);
+
+        ResultadoSincMovimientos sincMov = nivelDespues > nivelAntes
+            ? sincronizarMovimientosNuevos(ganador, nivelAntes, nivelDespues)
+            : new ResultadoSincMovimientos(List.of(), List.of(), List.of());
+        return new Experiencia(xpGanada, nivelAntes, nivelDespues, sincMov);
+    }
+
+    /**
+     * Sesión del combate al que pertenecen los dos ids. Si no hay ninguna abierta se valida la pareja contra BD
+     * y se abre; si el jugador saca otro Pokémon se incorpora a la sesión existente.
+     */
+    private SesionBatalla sesionParaTurno(String username, Long atacanteId, Long defensorId) {
+        if (atacanteId == null || defensorId == null) throw new ErrorNegocio("ID de Pokémon no puede ser null.");
+
+        Optional<SesionBatalla> abierta = sesiones.buscar(atacanteId).or(() -> sesiones.buscar(defensorId));
+        if (abierta.isPresent()) {
+            SesionBatalla sesion = abierta.get();
+            if (!Objects.equals(sesion.getUsername(), username)) {
+                throw new ErrorNegocio("Participantes de combate no válidos para este usuario.");
+            }
+            Long idJugador = Objects.equals(sesion.getId(), atacanteId) ? defensorId : atacanteId;
+            if (!sesion.participa(idJugador)) {
+                PokemonUsuario entrante = cargarPokemon(idJugador);
+                if (!Objects.equals(entrante.getUsuarioId(), sesion.getUsuarioId())) {
+                    throw new ErrorNegocio("Participantes de combate no válidos para este usuario.");
+                }
+                synchronized (sesion) {
+                    incorporar(sesion, entrante);
+                }
+            }
+            return sesion;
+        }
+
+        Usuario usuario = cargarUsuario(username);
+        PokemonUsuario atacante = cargarPokemon(atacanteId);
+        PokemonUsuario defensor = cargarPokemon(defensorId);
+        validarParticipantes(usuario, atacante, defensor);
+
+        boolean atacanteSalvaje = Objects.equals(atacante.getUsuarioId(), idUsuarioCuentaSalvajes());
+        PokemonUsuario salvaje = atacanteSalvaje ? atacante : defensor;
+        SesionBatalla nueva = new SesionBatalla(
+            salvaje.getId(), usuario.getIdUsuario(), username, fuenteSemillas.nueva(salvaje.getId()));
+        incorporar(nueva, salvaje);
+        incorporar(nueva, atacanteSalvaje ? defensor : atacante);
+        return sesiones.abrir(nueva);
+    }
+
+    /**
+     * Tirada con el generador del combate abierto, bajo su monitor; sin combate en memoria (salvaje aún sin
+     * turnos) tira de ThreadLocalRandom.
+     */
+    private <T> T conAleatorio(Optional<SesionBatalla> sesion, Function<RandomGenerator, T> tirada) {
+        if (sesion.isEmpty()) return tirada.apply(ThreadLocalRandom.current());
+        synchronized (sesion.get()) {
+            return tirada.apply(sesion.get().aleatorio());
+        }
+    }
+
+    /** Anota un evento en el diario de una sesión que el llamante no tiene bloqueada. */
+    private static void anotar(SesionBatalla sesion, Tipo tipo, long pokemonId, long... datos) {
+        synchronized (sesion) {
+            sesion.registro().anotar(tipo, pokemonId, datos);
+        }
+    }
+
+    /** Deja el Pokémon en la sesión con su moveset de la caché. */
+    private void incorporar(SesionBatalla sesion, PokemonUsuario pokemon) {
+        sesion.agregar(pokemon, moveset(pokemon));
+    }
+
+    /**
+     * Moveset en caché del Pokémon; si no está, se materializa desde BD ({@link #construirSlots}). El de un
+     * salvaje en memoria se guarda con él, sin filas de PP.
+     */
+    private Moveset moveset(PokemonUsuario pokemon) {
+        if (SalvajesEfimeros.esEfimero(pokemon.getId())) {
+            return salvajeEfimero(pokemon.getId()).moveset(() -> {
+                List<Ataques> movimientos = movimientosSalvaje(pokemon);
+                return Moveset.sinFilas(pokemon.getId(), movimientos, ppMaximos(movimientos));
+            });
+        }
+        return cacheMovesets.obtener(pokemon.getId(), () -> {
+            List<HuecoMovimiento> slots = construirSlots(pokemon);
+            return new Moveset(
+                pokemon.getId(),
+                slots.stream().map(HuecoMovimiento::ataque).toList(),
+                slots.stream().mapToInt(HuecoMovimiento::ppActual).toArray(),
+                slots.stream().mapToInt(HuecoMovimiento::ppMax).toArray()
+            );
+        });
+    }
+
+    /** Moveset de un salvaje sin filas de PP: el personalizado de la sala si lo tiene, si no por learnset. */
+    private List<Ataques> movimientosSalvaje(PokemonUsuario pokemon) {
+        return resolverMovimientosParaPokemon(pokemon).stream()
+            .filter(a -> a != null && a.getIdAtaque() != null)
+            .toList();
+    }
+
+    private int[] ppMaximos(List<Ataques> movimientos) {
+        return movimientos.stream().mapToInt(a -> Math.max(1, nvl(a.getPpBase(), 1))).toArray();
+    }
+
+    private Combatiente combatienteEn(SesionBatalla sesion, Long pokemonId) {
+        return sesion.combatiente(pokemonId)
+            .orElseThrow(() -> new ErrorNegocio("Participantes de combate no válidos para este usuario."));
+    }
+
+    /**
+     * Huir de un combate salvaje: valida participantes y aplica probabilidad tipo Gen II. Con éxito, el combate
+     * en memoria se vuelca y se cierra.
      */
     @Transactional(readOnly = true)
     public Map<String, Object> intentarHuir(String username, SolicitudHuir request) {
         Usuario usuario = cargarUsuario(username);
-        PokemonUsuario jugador = cargarPokemon(request.getJugadorPokemonId());
-        PokemonUsuario salvaje = cargarPokemon(request.getSalvajePokemonId());
+        Optional<SesionBatalla> sesion = sesionDe(usuario, request.getSalvajePokemonId());
+        PokemonUsuario jugador = enCombateOCargar(sesion, request.getJugadorPokemonId());
+        PokemonUsuario salvaje = enCombateOCargar(sesion, request.getSalvajePokemonId());
 
         if (!Objects.equals(jugador.getUsuarioId(), usuario.getIdUsuario())) {
             throw new ErrorNegocio("Ese Pokémon no es tuyo.");
@@ -482,7 +1002,12 @@ public class BatallaService {
         if (f > 255) {
             f = 255;
         }
-        boolean ok = ThreadLocalRandom.current().nextInt(256) < f;
+        int umbral = f;
+        boolean ok = conAleatorio(sesion, rnd -> rnd.nextInt(256) < umbral);
+        sesion.ifPresent(s -> anotar(s, Tipo.HUIDA, jugador.getId(), ok ? 1 : 0));
+        if (ok) {
+            sesion.ifPresent(s -> sesiones.cerrar(s.getId(), true));
+        }
 
         Map<String, Object> out = new LinkedHashMap<>();
         out.put("exito", ok);
@@ -490,14 +1015,109 @@ public class BatallaService {
         return out;
     }
 
+    /**
+     * Diario del combate {@code batallaId} jugado por el usuario, agrupado por turnos (el 0 es la apertura). Lo
+     * que aún estuviera en cola se escribe antes de leer.
+     */
+    public RespuestaRepeticion repeticion(String username, Long batallaId) {
+        Usuario usuario = cargarUsuario(username);
+        List<EventoCombate> eventos = diarioCombates.leer(batallaId, usuario.getIdUsuario());
+        if (eventos.isEmpty()) throw new RecursoNoEncontrado("No hay registro del combate " + batallaId + ".");
+
+        List<List<RespuestaRepeticion.Evento>> porTurno = new ArrayList<>();
+        porTurno.add(new ArrayList<>());
+        for (EventoCombate e : eventos) {
+            if (e.tipo() == Tipo.TURNO) {
+                porTurno.add(new ArrayList<>());
+            } else {
+                porTurno.getLast().add(new RespuestaRepeticion.Evento(e.tipo().name(), e.pokemonId(), e.valores()));
+            }
+        }
+        List<RespuestaRepeticion.Turno> turnos = new ArrayList<>();
+        for (int i = 0; i < porTurno.size(); i++) turnos.add(new RespuestaRepeticion.Turno(i, porTurno.get(i)));
+        return RespuestaRepeticion.builder().batallaId(batallaId).turnos(turnos).build();
+    }
+
+    /** Vuelca el combate abierto {@code batallaId} del usuario sin cerrarlo; sin combate abierto no hace nada. */
+    public void checkpoint(String username, Long batallaId) {
+        sesionDe(cargarUsuario(username), batallaId).ifPresent(sesiones::volcar);
+    }
+
+    /**
+     * Estima por Monte Carlo la probabilidad de que el Pokémon del jugador gane al salvaje, partiendo del estado
+     * actual (el del combate en memoria si lo hay) y con el salvaje eligiendo según {@code pokemon.batalla.ia}.
+     * No modifica nada: la simulación trabaja sobre copias.
+     */
+    public RespuestaProbabilidad estimarProbabilidad(String username, SolicitudProbabilidad request) {
+        Usuario usuario = cargarUsuario(username);
+        Optional<SesionBatalla> sesion = sesionDe(usuario, request.getSalvajePokemonId());
+        Enfrentamiento e;
+        if (sesion.isPresent()) {
+            synchronized (sesion.get()) {
+                e = enfrentamiento(usuario, sesion, request.getJugadorPokemonId(), request.getSalvajePokemonId());
+            }
+        } else {
+            e = enfrentamiento(usuario, sesion, request.getJugadorPokemonId(), request.getSalvajePokemonId());
+        }
+
+        int simulaciones = request.getSimulaciones() != null ? request.getSimulaciones() : SIMULACIONES_POR_DEFECTO;
+        long semilla = request.getSemilla() != null ? request.getSemilla() : ThreadLocalRandom.current().nextLong();
+        long inicio = System.nanoTime();
+        ResultadoSimulacion r = simulador.simular(e.jugador(), e.salvaje(), iaSalvaje.getPolitica(), simulaciones, semilla);
+
+        return RespuestaProbabilidad.builder()
+            .simulaciones(r.combates())
+            .probabilidadVictoria(r.probabilidadA())
+            .probabilidadDerrota(r.probabilidadB())
+            .probabilidadEmpate(r.probabilidadEmpate())
+            .rondasMedias(r.rondasMedias())
+            .semilla(semilla)
+            .iaSalvaje(iaSalvaje.getPolitica().name())
+            .duracionMs((System.nanoTime() - inicio) / 1_000_000)
+            .build();
+    }
+
+    private Enfrentamiento enfrentamiento(Usuario usuario, Optional<SesionBatalla> sesion, Long jugadorId, Long salvajeId) {
+        PokemonUsuario jugador = enCombateOCargar(sesion, jugadorId);
+        PokemonUsuario salvaje = enCombateOCargar(sesion, salvajeId);
+        validarParticipantes(usuario, jugador, salvaje);
+        return new Enfrentamiento(luchador(jugador, salvaje), luchador(salvaje, jugador));
+    }
+
+    /** Copia primitiva del Pokémon para el simulador, con efectividad y STAB resueltos contra {@code rival}. */
+    private Luchador luchador(PokemonUsuario pokemon, PokemonUsuario rival) {
+        PokedexMaestra especie = cargarPokedex(pokemon.getPokedexId());
+        Moveset m = moveset(pokemon);
+        List<Luchador.Movimiento> movimientos = new ArrayList<>();
+        for (int slot = 0; slot < m.movimientos().size(); slot++) {
+            Ataques a = m.movimientos().get(slot);
+            movimientos.add(new Luchador.Movimiento(
+                nvl(a.getPotencia(), 0),
+                nvl(a.getPrecisionBase(), 100),
+                "special".equalsIgnoreCase(a.getCategoria()),
+                "status".equalsIgnoreCase(a.getCategoria()) || nvl(a.getPotencia(), 0) <= 0,
+                tieneStab(a.getTipo(), especie.getTipo_1(), especie.getTipo_2()),
+                tablaEnfrentamientos.multiplicador(a.getTipo(), rival.getPokedexId()),
+                catalogoEfectos.efecto(a.getIdAtaque()),
+                m.ppActual(slot)
+            ));
+        }
+        FichaPokemon f = new FichaPokemon(pokemon);
+        return new Luchador(f.nivel(), f.hpMax(), f.hp(), f.ataque(), f.defensa(), f.ataqueEspecial(),
+                f.defensaEspecial(), f.velocidad(), movimientos)
+            .conEstado(f.estado(), f.turnosSueno(), f.turnosConfusion(), f.contadorToxico(), f.drenadoras());
+    }
+
     /**
      * Valida que el objetivo sea salvaje y con PS, descuenta una Ball del inventario y ejecuta el RNG de captura.
-     * Si tiene éxito, reasigna {@code usuarioId} y {@code posicionEquipo} al jugador.
+     * Si tiene éxito, cierra el combate volcando su estado y reasigna {@code usuarioId} y {@code posicionEquipo}
+     * al jugador. Los PS y el estado que cuentan para el RNG son los del combate en memoria.
      */
     @Transactional
-    public String intentarCaptura(String username, SolicitudCaptura request) {
+    public Map<String, Object> intentarCaptura(String username, SolicitudCaptura request) {
         Usuario usuario = cargarUsuario(username);
-        PokemonUsuario salvaje = cargarPokemon(request.getDefensorId());
+        Optional<SesionBatalla> sesion = sesionDe(usuario, request.getDefensorId());
+        PokemonUsuario salvaje = enCombateOCargar(sesion, request.getDefensorId());
 
         if (Objects.equals(salvaje.getUsuarioId(), usuario.getIdUsuario())) {
             throw new ErrorNegocio("No puedes capturar un Pokémon que ya es tuyo.");
@@ -516,24 +1136,40 @@ public class BatallaService {
         inventario.setCantidad(inventario.getCantidad() - 1);
         inventarioRepo.save(inventario);
 
-        boolean capturado = calculoService.calcularCaptura(
+        boolean capturado = conAleatorio(sesion, rnd -> calculoService.calcularCaptura(
             nvl(salvaje.getHpMax(), 1),
             nvl(salvaje.getHpActual(), 1),
             nvl(especie.getRatioCaptura(), 45),
             bonoPokeball(ball),
-            salvaje.getEstado()
-        );
+            salvaje.getEstado(),
+            rnd
+        ));
 
+        sesion.ifPresent(s -> anotar(s, Tipo.CAPTURA, salvaje.getId(), nvl(ball.getIdItem(), 0), capturado ? 1 : 0));
+        Map<String, Object> out = new LinkedHashMap<>();
         if (capturado) {
-            movesetPersonalizadoPorPokemonId.remove(salvaje.getId());
+            sesion.ifPresent(s -> sesiones.cerrar(s.getId(), true));
+            Long salvajeId = salvaje.getId();
+            // En memoria: es ahora cuando se inserta (id nuevo), con los PP que le queden de su moveset
+            Moveset movesetSalvaje = SalvajesEfimeros.esEfimero(salvajeId) ? moveset(salvaje) : null;
+            if (movesetSalvaje != null) salvaje.setId(null);
             salvaje.setUsuarioId(usuario.getIdUsuario());
             salvaje.setPosicionEquipo(siguientePosicionEquipo(usuario.getIdUsuario()));
             salvaje.setHpActual(salvaje.getHpMax());
-            pokemonRepo.save(salvaje);
-            return "¡" + especie.getNombre() + " fue capturado!";
+            PokemonUsuario guardado = pokemonRepo.save(salvaje);
+            if (movesetSalvaje != null) {
+                moveStateRepo.insertarOActualizarLote(guardado.getId(), movesetSalvaje.pendientes());
+                salvajesEfimeros.eliminar(salvajeId);
+            }
+            out.put("capturado", true);
+            out.put("pokemonUsuarioId", guardado.getId());
+            out.put("mensaje", "¡" + especie.getNombre() + " fue capturado!");
+            return out;
         }
 
-        return "¡El Pokémon salvaje se escapó!";
+        out.put("capturado", false);
+        out.put("mensaje", "¡El Pokémon salvaje se escapó!");
+        return out;
     }
 
     // =========================================================================
@@ -543,7 +1179,7 @@ public class BatallaService {
     /**
      * Prioridad: {@code movimientoId} del cliente → payload legacy tipo+potencia → primer slot con PP mayor que cero.
      */
-    private MovimientoResuelto resolverMovimiento(PokemonUsuario atacante, SolicitudTurno request) {
+    private MovimientoResuelto resolverMovimiento(Combatiente atacante, SolicitudTurno request) {
         if (request.getMovimientoId() != null) {
             return consumirMovimiento(atacante, request.getMovimientoId().intValue());
         }
@@ -554,48 +1190,72 @@ public class BatallaService {
         }
 
         // Sin movimientoId: usar el primer movimiento con PP disponible
-        HuecoMovimiento primerSlot = construirSlots(atacante).stream()
-            .filter(s -> s.ppActual() > 0)
-            .findFirst()
-            .orElseThrow(() -> new ErrorNegocio("¡No quedan PP en ningún movimiento!"));
-
-        return consumirMovimiento(atacante, primerSlot.ataque().getIdAtaque());
+        for (int slot = 0; slot < atacante.movimientos().size(); slot++) {
+            if (atacante.ppActual(slot) > 0) {
+                return consumirMovimiento(atacante, atacante.movimientos().get(slot).getIdAtaque());
+            }
+        }
+        throw new ErrorNegocio("¡No quedan PP en ningún movimiento!");
     }
 
-    /** Decrementa PP en BD y devuelve el ataque resuelto con metadatos para el mensaje de respuesta. */
-    private MovimientoResuelto consumirMovimiento(PokemonUsuario atacante, int movimientoId) {
-        HuecoMovimiento slot = construirSlots(atacante).stream()
-            .filter(s -> Objects.equals(s.ataque().getIdAtaque(), movimientoId))
-            .findFirst()
-            .orElseThrow(() -> new ErrorNegocio("El movimiento no pertenece al moveset actual del Pokémon."));
+    /**
+     * Id del movimiento que usaría {@code atacante}: el pedido si lo conoce y le quedan PP o, sin pedir ninguno,
+     * el primero con PP. Lanza {@link ErrorNegocio} como lo haría {@link #resolverMovimiento}, sin gastar nada.
+     */
+    private int movimientoUtilizable(Combatiente atacante, Long movimientoId) {
+        if (movimientoId != null) {
+            return atacante.movimientos().get(slotUtilizable(atacante, movimientoId.intValue())).getIdAtaque();
+        }
+        for (int slot = 0; slot < atacante.movimientos().size(); slot++) {
+            if (atacante.ppActual(slot) > 0) return atacante.movimientos().get(slot).getIdAtaque();
+        }
+        throw new ErrorNegocio("¡No quedan PP en ningún movimiento!");
+    }
 
-        if (slot.ppActual() <= 0) {
+    /** Slot de {@code movimientoId} en el moveset, si lo conoce y le quedan PP. */
+    private static int slotUtilizable(Combatiente atacante, int movimientoId) {
+        int slot = atacante.slotDe(movimientoId);
+        if (slot < 0) {
+            throw new ErrorNegocio("El movimiento no pertenece al moveset actual del Pokémon.");
+        }
+        if (atacante.ppActual(slot) <= 0) {
             throw new ErrorNegocio("¡No quedan PP para ese movimiento!");
         }
+        return slot;
+    }
 
-        int ppRestante = slot.ppActual() - 1;
-        moveStateRepo.actualizarPpActual(atacante.getId(), movimientoId, ppRestante);
+    /** Decrementa PP en la sesión y devuelve el ataque resuelto con metadatos para el mensaje de respuesta. */
+    private MovimientoResuelto consumirMovimiento(Combatiente atacante, int movimientoId) {
+        int slot = slotUtilizable(atacante, movimientoId);
+        int ppRestante = atacante.gastarPp(slot);
+        return new MovimientoResuelto(atacante.movimientos().get(slot), ppRestante, atacante.ppMax(slot), true);
+    }
 
-        return new MovimientoResuelto(slot.ataque(), ppRestante, slot.ppMax(), true);
+    /** Vista de los huecos de un moveset con sus PP vivos. */
+    private List<HuecoMovimiento> huecos(Moveset m) {
+        List<HuecoMovimiento> slots = new ArrayList<>();
+        for (int slot = 0; slot < m.movimientos().size(); slot++) {
+            slots.add(new HuecoMovimiento(m.movimientos().get(slot), m.ppActual(slot), m.ppMax(slot)));
+        }
+        return slots;
     }
 
     /**
-     * Materializa hasta 4 movimientos con PP persistido, inserta/actualiza filas auxiliares y purga obsoletos.
+     * Materializa hasta 4 movimientos con PP persistido, inserta/actualiza en un lote solo las filas auxiliares
+     * que no coinciden ya (slot y PP) y purga obsoletos.
      */
     private List<HuecoMovimiento> construirSlots(PokemonUsuario pokemon) {
-        List<RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento> persistidos =
+        List<EstadoPpMovimiento> persistidos =
             moveStateRepo.buscarPorPokemonId(pokemon.getId());
-        boolean tieneMovsetPersonalizado = movesetPersonalizadoPorPokemonId.containsKey(pokemon.getId());
 
-        
         // Solo calculamos desde el learnset cuando la tabla está vacía .
-        boolean usarPersistido = !persistidos.isEmpty() && !tieneMovsetPersonalizado;
+        boolean usarPersistido = !persistidos.isEmpty();
 
         List<Ataques> movimientos;
         if (usarPersistido) {
             movimientos = persistidos.stream()
-                .sorted(Comparator.comparingInt(RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento::slotIndex))
-                .map(e -> ataquesRepo.findById(e.moveId()).orElse(null))
+                .sorted(Comparator.comparingInt(EstadoPpMovimiento::slotIndex))
+                .map(e -> catalogoAtaques.buscar(e.moveId()).orElse(null))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
             if (movimientos.isEmpty()) {
@@ -606,14 +1266,15 @@ public class BatallaService {
             movimientos = resolverMovimientosParaPokemon(pokemon);
         }
 
-        Map<Integer, Integer> ppMap = persistidos.stream()
+        Map<Integer, EstadoPpMovimiento> persistidoPorMovimiento = persistidos.stream()
             .collect(Collectors.toMap(
-                RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento::moveId,
-                RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento::ppActual,
+                EstadoPpMovimiento::moveId,
+                e -> e,
                 (a, b) -> a
             ));
 
         List<HuecoMovimiento> slots = new ArrayList<>();
+        List<EstadoPpMovimiento> cambios = new ArrayList<>();
         Set<Integer> idsValidos = new HashSet<>();
         int slotIndex = 0;
 
@@ -621,13 +1282,19 @@ public class BatallaService {
             if (mov == null || mov.getIdAtaque() == null) continue;
 
             int ppMax = Math.max(1, nvl(mov.getPpBase(), 1));
-            int ppActual = Math.max(0, Math.min(ppMap.getOrDefault(mov.getIdAtaque(), ppMax), ppMax));
+            EstadoPpMovimiento previo = persistidoPorMovimiento.get(mov.getIdAtaque());
+            int ppActual = Math.max(0, Math.min(previo != null ? previo.ppActual() : ppMax, ppMax));
 
+            EstadoPpMovimiento fila =
+                new EstadoPpMovimiento(mov.getIdAtaque(), slotIndex, ppActual);
+            if (!fila.equals(previo)) {
+                cambios.add(fila);
+            }
             idsValidos.add(mov.getIdAtaque());
-            moveStateRepo.insertarOActualizar(pokemon.getId(), mov.getIdAtaque(), slotIndex, ppActual);
             slots.add(new HuecoMovimiento(mov, ppActual, ppMax));
             slotIndex++;
         }
+        moveStateRepo.insertarOActualizarLote(pokemon.getId(), cambios);
 
         
         // Cuando usamos el moveset persistido, NO tocamos la tabla para no borrar decisiones del jugador.
@@ -645,16 +1312,16 @@ public class BatallaService {
      * - Sin lista → hasta 4 learnset.
      */
     private List<Ataques> resolverMovimientosParaPokemon(PokemonUsuario pokemon) {
-        List<Integer> customIds = movesetPersonalizadoPorPokemonId.get(pokemon.getId());
-        if (customIds != null && !customIds.isEmpty()) {
+        List<Integer> customIds = movesetPersonalizado(pokemon.getId());
+        if (!customIds.isEmpty()) {
             if (customIds.size() == 1) {
-                return ataquesRepo.findById(customIds.get(0))
+                return catalogoAtaques.buscar(customIds.get(0))
                     .map(demo -> combinarTresLearnsetMasDemo(pokemon, demo))
                     .orElseGet(() -> resolverCuatroMovimientosSoloLearnset(pokemon));
             }
             List<Ataques> resultado = new ArrayList<>();
             for (Integer id : customIds) {
-                ataquesRepo.findById(id).ifPresent(resultado::add);
+                catalogoAtaques.buscar(id).ifPresent(resultado::add);
             }
             if (!resultado.isEmpty()) return resultado;
         }
@@ -682,7 +1349,7 @@ public class BatallaService {
         List<Ataques> movimientos = new ArrayList<>();
         for (EntradaLearnset entrada : aprendibles) {
             Integer moveId = entrada.moveId();
-            if (moveId != null) ataquesRepo.findById(moveId).ifPresent(movimientos::add);
+            if (moveId != null) catalogoAtaques.buscar(moveId).ifPresent(movimientos::add);
         }
 
         return movimientos.isEmpty() ? movimientosFallback(nvl(pokemon.getPokedexId(), 0)) : movimientos;
@@ -691,20 +1358,12 @@ public class BatallaService {
     /** Resuelve el ataque de demostración enviado al preparar instancia (id numérico o nombre kebab-case en BD). */
     private Optional<Ataques> resolverAtaqueDemostracion(Long id, String nombre) {
         if (id != null && id > 0) {
-            return ataquesRepo.findById(id.intValue());
+            return catalogoAtaques.buscar(id.intValue());
         }
-        if (nombre != null && !nombre.isBlank()) {
-            String n = nombre.trim();
-            Optional<Ataques> a = ataquesRepo.findByNombreIgnoreCase(n);
-            if (a.isPresent()) {
-                return a;
-            }
-            return ataquesRepo.findByNombreIgnoreCase(n.replace(' ', '-'));
-        }
-        return Optional.empty();
+        return catalogoAtaques.buscarPorNombre(nombre);
     }
 
-    /** Los últimos 3 movimientos que el nivel permite según learnset (PokéAPI → filas {@code ATAQUES}). */
+    /** Los últimos 3 movimientos que el nivel permite según el learnset precargado ({@code POKEMON_LEARNSET}). */
     private List<Ataques> tresUltimosLearnset(PokemonUsuario pokemon) {
         List<EntradaLearnset> learnset = obtenerLearnset(nvl(pokemon.getPokedexId(), 0));
         int nivel = nvl(pokemon.getNivel(), 1);
@@ -722,7 +1381,7 @@ public class BatallaService {
         List<Ataques> movimientos = new ArrayList<>();
         for (EntradaLearnset entrada : aprendibles) {
             Integer moveId = entrada.moveId();
-            if (moveId != null) ataquesRepo.findById(moveId).ifPresent(movimientos::add);
+            if (moveId != null) catalogoAtaques.buscar(moveId).ifPresent(movimientos::add);
         }
         return movimientos;
     }
@@ -751,7 +1410,7 @@ public class BatallaService {
         }
         for (int aid : List.of(33, 45, 98, 52, 55, 84)) {
             if (base.size() >= 3) break;
-            Optional<Ataques> opt = ataquesRepo.findById(aid);
+            Optional<Ataques> opt = catalogoAtaques.buscar(aid);
             if (opt.isEmpty()) continue;
             Ataques m = opt.get();
             if (Objects.equals(m.getIdAtaque(), demo.getIdAtaque())) continue;
@@ -765,100 +1424,36 @@ public class BatallaService {
         return out;
     }
 
-    /** Learnset en caché por especie; delega en PokéAPI solo en miss. */
+    /** Learnset de la especie desde {@code POKEMON_LEARNSET} en memoria; nunca sale a PokéAPI en un turno. */
     private List<EntradaLearnset> obtenerLearnset(Integer pokedexId) {
-        if (pokedexId == null || pokedexId <= 0) return List.of();
-        return learnsetCache.computeIfAbsent(pokedexId, this::consultarLearnsetDesdeApi);
-    }
-
-    /**
-     * Parsea {@code moves[]} de {@code /pokemon/{id}} filtrando método level-up y versión oro-plata.
-     *
-     * @return lista vacía ante error de red o JSON inesperado
-     */
-    private List<EntradaLearnset> consultarLearnsetDesdeApi(Integer pokedexId) {
-        try {
-            Map<String, Object> datos = pokeApiService.obtenerDetallesPokemon(String.valueOf(pokedexId)).block();
-            if (datos == null) return List.of();
-
-            Object rawMoves = datos.get("moves");
-            if (!(rawMoves instanceof List<?> lista)) return List.of();
-
-            Map<Integer, Integer> nivelMinPorMoveId = new HashMap<>();
-
-            for (Object entrada : lista) {
-                if (!(entrada instanceof Map<?, ?> movEntry)) continue;
-
-                String nombre = nombreAnidado(movEntry.get("move"));
-                if (nombre.isBlank()) continue;
-
-                Optional<Ataques> ataque = ataquesRepo.findByNombreIgnoreCase(nombre);
-                if (ataque.isEmpty()) continue;
-
-                int nivel = nivelAprendizajeOroPlata(movEntry.get("version_group_details"));
-                if (nivel < 0) continue;
-
-                nivelMinPorMoveId.merge(ataque.get().getIdAtaque(), nivel, (a, b) -> Math.min(a, b));
-            }
-
-            return nivelMinPorMoveId.entrySet().stream()
-                .map(e -> new EntradaLearnset(e.getKey(), e.getValue()))
-                .sorted(Comparator.comparingInt(EntradaLearnset::nivel).thenComparing(EntradaLearnset::moveId))
-                .toList();
-
-        } catch (Exception e) {
-            return List.of();
-        }
-    }
-
-    /**
-     * Menor nivel de aprendizaje en Gen II (gold-silver) para un movimiento; {@code -1} si no aplica.
-     */
-    private int nivelAprendizajeOroPlata(Object rawDetalles) {
-        if (!(rawDetalles instanceof List<?> lista)) return -1;
-
-        int nivel = Integer.MAX_VALUE;
-        for (Object raw : lista) {
-            if (!(raw instanceof Map<?, ?> detalle)) continue;
-
-            String version = nombreAnidado(detalle.get("version_group"));
-            String metodo  = nombreAnidado(detalle.get("move_learn_method"));
-
-            if (!VERSION_ORO_PLATA.equalsIgnoreCase(version)) continue;
-            if (!"level-up".equalsIgnoreCase(metodo)) continue;
-
-            int n = toInt(detalle.get("level_learned_at"), 0);
-            nivel = Math.min(nivel, n);
-        }
-
-        return nivel == Integer.MAX_VALUE ? -1 : nivel;
+        return catalogoLearnsets.learnset(pokedexId);
     }
 
     /** Cuando el learnset no cruza con {@code ATAQUES}: ataques genéricos por tipo1 de la especie. */
     private List<Ataques> movimientosFallback(Integer pokedexId) {
-        String tipo = (pokedexId != null ? pokedexRepo.findById(pokedexId) : Optional.<PokedexMaestra>empty())
-            .map(p -> p.getTipo_1().toLowerCase(Locale.ROOT))
-            .orElse("normal");
+        TipoPokemon tipo = catalogoEspecies.buscar(pokedexId)
+            .map(PokedexMaestra::getTipo_1)
+            .orElse(TipoPokemon.NORMAL);
 
         List<String> candidatos = new ArrayList<>(List.of("tackle", "growl"));
         switch (tipo) {
-            case "fire"     -> { candidatos.add("ember");        candidatos.add("smokescreen"); }
-            case "water"    -> { candidatos.add("water-gun");    candidatos.add("bubble"); }
-            case "grass"    -> { candidatos.add("vine-whip");    candidatos.add("razor-leaf"); }
-            case "electric" -> { candidatos.add("thunder-shock"); candidatos.add("quick-attack"); }
-            default         -> { candidatos.add("quick-attack"); candidatos.add("scratch"); }
+            case FUEGO     -> { candidatos.add("ember");        candidatos.add("smokescreen"); }
+            case AGUA      -> { candidatos.add("water-gun");    candidatos.add("bubble"); }
+            case PLANTA    -> { candidatos.add("vine-whip");    candidatos.add("razor-leaf"); }
+            case ELECTRICO -> { candidatos.add("thunder-shock"); candidatos.add("quick-attack"); }
+            default        -> { candidatos.add("quick-attack"); candidatos.add("scratch"); }
         }
 
         LinkedHashMap<Integer, Ataques> seleccion = new LinkedHashMap<>();
         for (String nombre : candidatos) {
-            ataquesRepo.findByNombreIgnoreCase(nombre)
+            catalogoAtaques.buscarPorNombre(nombre)
                 .ifPresent(m -> seleccion.putIfAbsent(m.getIdAtaque(), m));
             if (seleccion.size() >= MAX_MOVIMIENTOS_ACTIVOS) break;
         }
 
         // Fallback final por IDs clásicos de Gen I/II
         for (int id : List.of(33, 45, 98, 10, 52, 55, 84)) {
-            ataquesRepo.findById(id).ifPresent(m -> seleccion.putIfAbsent(m.getIdAtaque(), m));
+            catalogoAtaques.buscar(id).ifPresent(m -> seleccion.putIfAbsent(m.getIdAtaque(), m));
             if (seleccion.size() >= MAX_MOVIMIENTOS_ACTIVOS) break;
         }
 
@@ -870,7 +1465,7 @@ public class BatallaService {
         Ataques mov = new Ataques();
         mov.setIdAtaque(-1);
         mov.setNombre(str(request.getTipoAtaque()));
-        mov.setTipo(str(request.getTipoAtaque()));
+        mov.setTipo(TipoPokemon.desde(request.getTipoAtaque()));
         mov.setCategoria(Boolean.TRUE.equals(request.getEsEspecial()) ? "special" : "physical");
         mov.setPotencia(nvl(request.getPotenciaMovimiento(), 0));
         mov.setPrecisionBase(100);
@@ -883,108 +1478,56 @@ public class BatallaService {
     // =========================================================================
 
     /**
-     * Aplica el efecto de un movimiento sin daño directo según su nombre (kebab-case de la BD).
-     * Cubre: estados alterados, bajadas/subidas de stat y utilidades sin efecto en este motor.
+     * Aplica el efecto de un movimiento sin daño directo según la tabla de efectos ({@link CatalogoEfectos}):
+     * estados alterados, subidas y bajadas de stat, y utilidades sin efecto en este motor.
      */
     private String aplicarEfectoMovimientoEstado(PokemonUsuario atacante, PokemonUsuario defensor,
-                                                  String nombreMov, String nomAtacante) {
-        String nom = String.valueOf(nombreMov).toLowerCase(Locale.ROOT).trim();
+                                                  Ataques movimiento, String nomAtacante, RandomGenerator rnd) {
         String nomDef = nombreDisplay(defensor);
-        Estado estadoActualDef = defensor.getEstado();
-
-        return switch (nom) {
-            // ── Sueño ─────────────────────────────────────────────────────────
-            case "hypnosis", "sleep-powder", "spore", "sing", "lovely-kiss", "grasswhistle" -> {
-                if (estadoActualDef != Estado.SALUDABLE)
-                    yield nomDef + " ya tiene un estado alterado.";
-                defensor.setEstado(Estado.DORMIDO);
-                defensor.setTurnosSueno(1 + ThreadLocalRandom.current().nextInt(3));
-                yield "¡" + nomDef + " se quedó dormido!";
-            }
-            // ── Parálisis ──────────────────────────────────────────────────────
-            case "thunder-wave", "stun-spore", "glare" -> {
-                if (estadoActualDef != Estado.SALUDABLE)
-                    yield nomDef + " ya tiene un estado alterado.";
-                defensor.setEstado(Estado.PARALIZADO);
-                yield "¡" + nomDef + " está paralizado!";
-            }
-            // ── Confusión ──────────────────────────────────────────────────────
-            case "supersonic", "confuse-ray", "swagger", "flatter" -> {
-                if (nvl(defensor.getTurnosConfusion(), 0) > 0)
-                    yield nomDef + " ya está confuso.";
-                defensor.setTurnosConfusion(2 + ThreadLocalRandom.current().nextInt(3));
-                yield "¡" + nomDef + " está confundido!";
-            }
-            // ── Veneno ────────────────────────────────────────────────────────
-            case "poison-powder", "poison-gas" -> {
-                if (estadoActualDef != Estado.SALUDABLE)
-                    yield nomDef + " ya tiene un estado alterado.";
-                defensor.setEstado(Estado.ENVENENADO);
-                yield "¡" + nomDef + " está envenenado!";
-            }
-            // ── Veneno grave (tóxico) ──────────────────────────────────────────
-            case "toxic" -> {
-                if (estadoActualDef != Estado.SALUDABLE)
-                    yield nomDef + " ya tiene un estado alterado.";
-                defensor.setEstado(Estado.GRAVE_ENVENENADO);
-                defensor.setContadorToxico(0);
-                yield "¡" + nomDef + " está gravemente envenenado!";
-            }
-            // ── Quemadura ─────────────────────────────────────────────────────
-            case "will-o-wisp" -> {
-                if (estadoActualDef != Estado.SALUDABLE)
-                    yield nomDef + " ya tiene un estado alterado.";
-                defensor.setEstado(Estado.QUEMADO);
-                yield "¡" + nomDef + " está quemado!";
-            }
-            // ── Bajar Ataque del rival ─────────────────────────────────────────
-            case "growl", "baby-doll-eyes" -> {
-                defensor.setAtaqueStat(Math.max(1, (int)(nvl(defensor.getAtaqueStat(), 1) * 0.85)));
-                yield "El Ataque de " + nomDef + " bajó.";
-            }
-            // ── Bajar Defensa del rival ────────────────────────────────────────
-            case "leer", "tail-whip" -> {
-                defensor.setDefensaStat(Math.max(1, (int)(nvl(defensor.getDefensaStat(), 1) * 0.85)));
-                yield "La Defensa de " + nomDef + " bajó.";
-            }
-            case "screech" -> {
-                defensor.setDefensaStat(Math.max(1, (int)(nvl(defensor.getDefensaStat(), 1) * 0.70)));
-                yield "¡La Defensa de " + nomDef + " bajó mucho!";
-            }
-            // ── Bajar Velocidad del rival ──────────────────────────────────────
-            case "string-shot" -> {
-                defensor.setVelocidadStat(Math.max(1, (int)(nvl(defensor.getVelocidadStat(), 1) * 0.75)));
-                yield "¡La Velocidad de " + nomDef + " cayó!";
-            }
-            // ── Subir Ataque propio ────────────────────────────────────────────
-            case "swords-dance" -> {
-                atacante.setAtaqueStat(Math.min(999, (int)(nvl(atacante.getAtaqueStat(), 1) * 1.30)));
-                yield "¡El Ataque de " + nomAtacante + " subió mucho!";
-            }
-            case "sharpen" -> {
-                atacante.setAtaqueStat(Math.min(999, (int)(nvl(atacante.getAtaqueStat(), 1) * 1.15)));
-                yield "El Ataque de " + nomAtacante + " subió.";
-            }
-            // ── Subir Ataque Especial propio ───────────────────────────────────
-            case "growth" -> {
-                atacante.setAtaqueEspecialStat(Math.min(999, (int)(nvl(atacante.getAtaqueEspecialStat(), 1) * 1.15)));
-                yield "¡" + nomAtacante + " creció!";
-            }
-            // ── Subir Defensa propia ───────────────────────────────────────────
-            case "harden", "withdraw", "defense-curl" -> {
-                atacante.setDefensaStat(Math.min(999, (int)(nvl(atacante.getDefensaStat(), 1) * 1.15)));
-                yield "La Defensa de " + nomAtacante + " subió.";
-            }
-            // ── Sin efecto mecánico en este motor ─────────────────────────────
-            case "foresight", "odor-sleuth" ->
-                nomDef + " no podrá esquivar los ataques.";
-            case "roar", "whirlwind" ->
-                "¡" + nomDef + " fue asustado!";
-            default ->
-                nombreMov + " no tuvo efecto.";
+        EfectoMovimiento efecto = catalogoEfectos.efecto(movimiento.getIdAtaque());
+        boolean aplicado = ReglasTurno.aplicarEfectoEstado(
+            efecto, new FichaPokemon(atacante), new FichaPokemon(defensor), rnd);
+        String nomObjetivo = efecto.objetivo() == EfectoMovimiento.Objetivo.PROPIO ? nomAtacante : nomDef;
+        if (!aplicado) {
+            return efecto.tipo() == EfectoMovimiento.Tipo.CONFUNDIR
+                ? nomObjetivo + " ya está confuso."
+                : nomObjetivo + " ya tiene un estado alterado.";
+        }
+        if (efecto.mensaje() != null) return plantilla(efecto.mensaje(), nomAtacante, nomDef);
+
+        return switch (efecto.tipo()) {
+            case DORMIR -> "¡" + nomObjetivo + " se quedó dormido!";
+            case PARALIZAR -> "¡" + nomObjetivo + " está paralizado!";
+            case CONFUNDIR -> "¡" + nomObjetivo + " está confundido!";
+            case ENVENENAR -> "¡" + nomObjetivo + " está envenenado!";
+            case ENVENENAR_GRAVE -> "¡" + nomObjetivo + " está gravemente envenenado!";
+            case QUEMAR -> "¡" + nomObjetivo + " está quemado!";
+            case CONGELAR -> "¡" + nomObjetivo + " está congelado!";
+            case ATAQUE, DEFENSA, ATAQUE_ESPECIAL, VELOCIDAD -> mensajeStat(efecto, nomObjetivo);
+            case NINGUNO -> movimiento.getNombre() + " no tuvo efecto.";
         };
     }
 
+    /** "El Ataque de X bajó.", "¡La Defensa de X subió mucho!" (dos niveles o más: factor ≤ 0.70 o ≥ 1.30). */
+    private static String mensajeStat(EfectoMovimiento efecto, String nombre) {
+        String stat = switch (efecto.tipo()) {
+            case ATAQUE -> "El Ataque";
+            case DEFENSA -> "La Defensa";
+            case ATAQUE_ESPECIAL -> "El Ataque Especial";
+            default -> "La Velocidad";
+        };
+        String verbo = efecto.multiplicador() > 1.0 ? " subió" : " bajó";
+        boolean mucho = efecto.multiplicador() >= 1.30 || efecto.multiplicador() <= 0.70;
+        return mucho
+            ? "¡" + stat + " de " + nombre + verbo + " mucho!"
+            : stat + " de " + nombre + verbo + ".";
+    }
+
+    /** Mensaje propio de la tabla de efectos con sus marcadores ya sustituidos. */
+    private static String plantilla(String mensaje, String nomAtacante, String nomDefensor) {
+        return mensaje.replace("{atacante}", nomAtacante).replace("{defensor}", nomDefensor);
+    }
+
     // =========================================================================
     // ESTADOS ALTERADOS
     // =========================================================================
@@ -993,50 +1536,17 @@ public class BatallaService {
      * Procesa el estado del Pokémon al inicio del turno.
      * Devuelve un mensaje si el turno queda bloqueado, null si puede atacar.
      */
-    private String procesarEstadoPreTurno(PokemonUsuario pkm) {
+    private String procesarEstadoPreTurno(PokemonUsuario pkm, RandomGenerator rnd) {
         String nom = nombreDisplay(pkm);
-        switch (pkm.getEstado()) {
-            case CONGELADO -> {
-                // 10% de probabilidad de descongelarse cada turno
-                if (Math.random() < 0.10) {
-                    pkm.setEstado(Estado.SALUDABLE);
-                    return "¡" + nom + " se descongeló!";
-                }
-                return nom + " está congelado y no puede moverse.";
-            }
-            case DORMIDO -> {
-                if (nvl(pkm.getTurnosSueno(), 0) > 0) {
-                    pkm.setTurnosSueno(pkm.getTurnosSueno() - 1);
-                    return nom + " está durmiendo...";
-                }
-                pkm.setEstado(Estado.SALUDABLE);
-                return "¡" + nom + " se despertó!";
-            }
-            case PARALIZADO -> {
-                // 25% de probabilidad de no poder moverse
-                if (Math.random() < 0.25) {
-                    return nom + " está paralizado y no puede moverse.";
-                }
-            }
-            default -> { /* SALUDABLE, QUEMADO, ENVENENADO, GRAVE_ENVENENADO: no bloquean el turno */ }
-        }
-
-        // Confusión (estado volátil)
-        if (nvl(pkm.getTurnosConfusion(), 0) > 0) {
-            pkm.setTurnosConfusion(pkm.getTurnosConfusion() - 1);
-            if (Math.random() < 0.5) {
-                int autoDanio = calculoService.calcularDanio(
-                    nvl(pkm.getNivel(), 1),
-                    nvl(pkm.getAtaqueStat(), 1),
-                    nvl(pkm.getDefensaStat(), 1),
-                    40, 1.0, false, null, true
-                );
-                pkm.setHpActual(Math.max(0, nvl(pkm.getHpActual(), 0) - autoDanio));
-                return "¡Está confuso y se hirió a sí mismo!";
-            }
-        }
-
-        return null;
+        return switch (ReglasTurno.preTurno(new FichaPokemon(pkm), rnd)) {
+            case CONGELADO -> nom + " está congelado y no puede moverse.";
+            case DESCONGELADO -> "¡" + nom + " se descongeló!";
+            case DORMIDO -> nom + " está durmiendo...";
+            case DESPIERTA -> "¡" + nom + " se despertó!";
+            case PARALIZADO -> nom + " está paralizado y no puede moverse.";
+            case AUTOGOLPE -> "¡Está confuso y se hirió a sí mismo!";
+            case PUEDE_ACTUAR -> null;
+        };
     }
 
     /**
@@ -1049,36 +1559,17 @@ public class BatallaService {
             return "";
         }
 
-        int hpMax = nvl(pkm.getHpMax(), 1);
-        int danio = 0;
-        String msg = "";
-
-        switch (pkm.getEstado()) {
-            case QUEMADO -> {
-                danio = Math.max(1, hpMax / 8);
-                msg = "La quemadura le resta PS.";
-            }
-            case ENVENENADO -> {
-                danio = Math.max(1, hpMax / 8);
-                msg = "El veneno le resta PS.";
-            }
-            case GRAVE_ENVENENADO -> {
-                pkm.setContadorToxico(nvl(pkm.getContadorToxico(), 0) + 1);
-                danio = Math.max(1, hpMax * pkm.getContadorToxico() / 16);
-                msg = "¡El veneno empeora!";
-            }
-            default -> { /* Sin daño residual */ }
-        }
-
+        String msg = switch (pkm.getEstado()) {
+            case QUEMADO -> "La quemadura le resta PS.";
+            case ENVENENADO -> "El veneno le resta PS.";
+            case GRAVE_ENVENENADO -> "¡El veneno empeora!";
+            default -> "";
+        };
         if (Boolean.TRUE.equals(pkm.getTieneDrenadoras())) {
-            danio += Math.max(1, hpMax / 8);
             msg = unir(msg, "Las drenadoras le quitan PS.");
         }
 
-        if (danio > 0) {
-            pkm.setHpActual(Math.max(0, nvl(pkm.getHpActual(), 0) - danio));
-        }
-
+        ReglasTurno.finTurno(new FichaPokemon(pkm));
         return msg;
     }
 
@@ -1087,34 +1578,20 @@ public class BatallaService {
     // =========================================================================
 
     /**
-     * Resuelve el ítem por nombre flexible y comprueba que el {@code efecto} sea de captura ({@code CAPTURE_*}).
+     * Resuelve el ítem por cualquiera de sus alias en catálogo y comprueba que su efecto sea de captura.
      */
     private Item resolverPokeball(String nombre) {
         String raw = str(nombre).trim();
         if (raw.isEmpty()) throw new ErrorNegocio("nombreBall es obligatorio.");
 
-        for (String candidato : List.of(raw, raw.replace(" ", "-"), raw.replace("-", " "))) {
-            Optional<Item> item = itemRepo.findByNombreIgnoreCase(candidato);
-            if (item.isPresent() && esPokeball(item.get())) return item.get();
-        }
-
-        throw new RecursoNoEncontrado("La Poké Ball indicada no existe: " + nombre);
-    }
-
-    /** True si el código de efecto del ítem empieza por {@code CAPTURE_}. */
-    private boolean esPokeball(Item item) {
-        return str(item.getEfecto()).toUpperCase(Locale.ROOT).startsWith("CAPTURE_");
+        return catalogoObjetos.buscarPorNombre(raw)
+            .filter(item -> catalogoObjetos.efecto(item).esPokeball())
+            .orElseThrow(() -> new RecursoNoEncontrado("La Poké Ball indicada no existe: " + nombre));
     }
 
-    /** Multiplicador numérico de la fórmula de captura según el código de efecto de la Ball. */
+    /** Multiplicador numérico de la fórmula de captura, ya compilado en el catálogo de ítems. */
     private double bonoPokeball(Item ball) {
-        return switch (str(ball.getEfecto()).toUpperCase(Locale.ROOT)) {
-            case "CAPTURE_1.0" -> 1.0;
-            case "CAPTURE_1.5" -> 1.5;
-            case "CAPTURE_2.0" -> 2.0;
-            case "CAPTURE_MAX" -> 255.0;
-            default            -> 1.0;
-        };
+        return catalogoObjetos.efecto(ball).bonoCaptura();
     }
 
     /**
@@ -1161,6 +1638,10 @@ public class BatallaService {
         if (!combatePermitido) {
             throw new ErrorNegocio("Participantes de combate no válidos para este usuario.");
         }
+        validarConPs(atacante, defensor);
+    }
+
+    private void validarConPs(PokemonUsuario atacante, PokemonUsuario defensor) {
         if (nvl(atacante.getHpActual(), 0) <= 0) {
             throw new ErrorNegocio("El Pokémon atacante está debilitado.");
         }
@@ -1179,28 +1660,53 @@ public class BatallaService {
             .orElseThrow(() -> new RecursoNoEncontrado("Usuario no encontrado."));
     }
 
-    /** @throws ErrorNegocio si {@code id} es null; @throws RecursoNoEncontrado si no hay fila */
+    /**
+     * El salvaje en memoria o la fila de BD.
+     *
+     * @throws ErrorNegocio si {@code id} es null; @throws RecursoNoEncontrado si no existe
+     */
     private PokemonUsuario cargarPokemon(Long id) {
         if (id == null) throw new ErrorNegocio("ID de Pokémon no puede ser null.");
+        if (SalvajesEfimeros.esEfimero(id)) return salvajeEfimero(id).pokemon();
         return pokemonRepo.findById(id)
             .orElseThrow(() -> new RecursoNoEncontrado("Pokémon no encontrado: " + id));
     }
 
+    /** @throws RecursoNoEncontrado si el salvaje ya no está en memoria (liberado, capturado o caducado) */
+    private SalvajeEfimero salvajeEfimero(Long id) {
+        return salvajesEfimeros.buscar(id)
+            .orElseThrow(() -> new RecursoNoEncontrado("Pokémon no encontrado: " + id));
+    }
+
+    /** Ids de {@code ATAQUES} fijados al preparar el salvaje (sala NPC); vacío si no los hay o no es salvaje. */
+    private List<Integer> movesetPersonalizado(Long pokemonId) {
+        return SalvajesEfimeros.esEfimero(pokemonId)
+            ? salvajesEfimeros.buscar(pokemonId).map(SalvajeEfimero::movesetPersonalizado).orElse(List.of())
+            : List.of();
+    }
+
+    /** Combate abierto del usuario contra el salvaje {@code salvajeId}, si lo hay. */
+    private Optional<SesionBatalla> sesionDe(Usuario usuario, Long salvajeId) {
+        return sesiones.buscar(salvajeId).filter(s -> Objects.equals(s.getUsuarioId(), usuario.getIdUsuario()));
+    }
+
+    /** El Pokémon tal como está en el combate en memoria o, si no participa, tal como está en BD. */
+    private PokemonUsuario enCombateOCargar(Optional<SesionBatalla> sesion, Long pokemonId) {
+        return sesion.flatMap(s -> s.combatiente(pokemonId))
+            .map(Combatiente::pokemon)
+            .orElseGet(() -> cargarPokemon(pokemonId));
+    }
+
     /** @throws ErrorNegocio si {@code id} es null; @throws RecursoNoEncontrado si no hay especie */
     private PokedexMaestra cargarPokedex(Integer id) {
         if (id == null) throw new ErrorNegocio("ID de Pokédex no puede ser null.");
-        return pokedexRepo.findById(id)
+        return catalogoEspecies.buscar(id)
             .orElseThrow(() -> new RecursoNoEncontrado("Especie no encontrada en Pokédex: " + id));
     }
 
     /** Nombre de especie para mensajes de combate (sin lanzar si falta fila). */
     private String nombreDisplay(PokemonUsuario pkm) {
-        if (pkm == null || pkm.getPokedexId() == null) {
-            return "?";
-        }
-        return pokedexRepo.findById(pkm.getPokedexId())
-            .map(PokedexMaestra::getNombre)
-            .orElse("?");
+        return pkm == null ? "?" : catalogoEspecies.nombre(pkm.getPokedexId());
     }
 
     // =========================================================================
@@ -1223,33 +1729,26 @@ public class BatallaService {
             .build();
     }
 
-    /** Efectos de estado secundarios de movimientos de daño (Gen II). */
-    private String aplicarEfectoSecundarioDano(String nombreMov, PokemonUsuario defensor) {
-        String nom = String.valueOf(nombreMov).toLowerCase(Locale.ROOT).trim();
+    /** Efecto secundario de un movimiento de daño (Gen II), con la probabilidad de la tabla de efectos. */
+    private String aplicarEfectoSecundarioDano(Ataques movimiento, PokemonUsuario atacante, PokemonUsuario defensor,
+                                               String nomAtacante, RandomGenerator rnd) {
+        EfectoMovimiento efecto = catalogoEfectos.efecto(movimiento.getIdAtaque());
+        if (!ReglasTurno.aplicarSecundario(efecto, new FichaPokemon(atacante), new FichaPokemon(defensor), rnd)) {
+            return "";
+        }
         String nomDef = nombreDisplay(defensor);
-        int roll = ThreadLocalRandom.current().nextInt(100);
-        return switch (nom) {
-            case "ice-beam", "blizzard", "ice-punch" -> {
-                if (roll < 10) { defensor.setEstado(Estado.CONGELADO); yield "¡" + nomDef + " se congeló!"; }
-                yield "";
-            }
-            case "sludge", "sludge-bomb" -> {
-                if (roll < 30) { defensor.setEstado(Estado.ENVENENADO); yield "¡" + nomDef + " fue envenenado!"; }
-                yield "";
-            }
-            case "poison-sting", "poison-tail", "smog" -> {
-                if (roll < 30) { defensor.setEstado(Estado.ENVENENADO); yield "¡" + nomDef + " fue envenenado!"; }
-                yield "";
-            }
-            case "ember", "flamethrower", "fire-blast", "fire-punch", "flame-wheel" -> {
-                if (roll < 10) { defensor.setEstado(Estado.QUEMADO); yield "¡" + nomDef + " fue quemado!"; }
-                yield "";
-            }
-            case "thunderbolt", "thunder", "thunder-punch" -> {
-                if (roll < 10) { defensor.setEstado(Estado.PARALIZADO); yield "¡" + nomDef + " quedó paralizado!"; }
-                yield "";
-            }
-            default -> "";
+        if (efecto.mensaje() != null) return plantilla(efecto.mensaje(), nomAtacante, nomDef);
+        String nomObjetivo = efecto.objetivo() == EfectoMovimiento.Objetivo.PROPIO ? nomAtacante : nomDef;
+        return switch (efecto.tipo()) {
+            case CONGELAR -> "¡" + nomObjetivo + " se congeló!";
+            case ENVENENAR -> "¡" + nomObjetivo + " fue envenenado!";
+            case ENVENENAR_GRAVE -> "¡" + nomObjetivo + " fue gravemente envenenado!";
+            case QUEMAR -> "¡" + nomObjetivo + " fue quemado!";
+            case PARALIZAR -> "¡" + nomObjetivo + " quedó paralizado!";
+            case DORMIR -> "¡" + nomObjetivo + " se quedó dormido!";
+            case CONFUNDIR -> "¡" + nomObjetivo + " está confundido!";
+            case ATAQUE, DEFENSA, ATAQUE_ESPECIAL, VELOCIDAD -> mensajeStat(efecto, nomObjetivo);
+            case NINGUNO -> "";
         };
     }
 
@@ -1263,11 +1762,9 @@ public class BatallaService {
         return "saludable";
     }
 
-    /** STAB si el tipo del movimiento coincide (ignorando mayúsculas) con tipo1 o tipo2 del atacante. */
-    private boolean tieneStab(String tipoMov, String tipo1, String tipo2) {
-        String mov = tipoMov.toLowerCase(Locale.ROOT);
-        return mov.equals(str(tipo1).toLowerCase(Locale.ROOT))
-            || mov.equals(str(tipo2).toLowerCase(Locale.ROOT));
+    /** STAB si el tipo del movimiento es tipo1 o tipo2 del atacante. */
+    private boolean tieneStab(TipoPokemon tipoMov, TipoPokemon tipo1, TipoPokemon tipo2) {
+        return tipoMov != null && (tipoMov == tipo1 || tipoMov == tipo2);
     }
 
     // =========================================================================
@@ -1287,21 +1784,6 @@ public class BatallaService {
         return sb.toString();
     }
 
-    /** Extrae {@code name} de mapas anidados típicos de PokéAPI ({@code move}, {@code type}, etc.). */
-    private String nombreAnidado(Object raw) {
-        if (!(raw instanceof Map<?, ?> map)) return "";
-        Object name = map.get("name");
-        return name == null ? "" : String.valueOf(name);
-    }
-
-    /** Coerción tolerante de JSON numérico o string a int. */
-    private int toInt(Object raw, int defecto) {
-        if (raw == null) return defecto;
-        if (raw instanceof Number n) return n.intValue();
-        try { return Integer.parseInt(String.valueOf(raw)); }
-        catch (NumberFormatException e) { return defecto; }
-    }
-
     /** {@code null}-safe para enteros envueltos en entidades JPA. */
     private int nvl(Integer value, int defecto) {
         return value == null ? defecto : value;
@@ -1326,6 +1808,8 @@ public class BatallaService {
         if (pokemon == null || pokemon.getId() == null || nivelAntes >= nivelNuevo) {
             return new ResultadoSincMovimientos(List.of(), List.of(), List.of());
         }
+        // Puede reescribir slots: lo que hubiera en caché se vuelca y se vuelve a materializar después
+        cacheMovesets.volcarYDescartar(pokemon.getId());
 
         List<EntradaLearnset> learnset = obtenerLearnset(nvl(pokemon.getPokedexId(), 0));
         List<EntradaLearnset> aprendibles = learnset.stream()
@@ -1341,7 +1825,7 @@ public class BatallaService {
 
         for (EntradaLearnset entrada : aprendibles) {
             if (entrada.moveId() == null) continue;
-            Optional<Ataques> ataqueOpt = ataquesRepo.findById(entrada.moveId());
+            Optional<Ataques> ataqueOpt = catalogoAtaques.buscar(entrada.moveId());
             if (ataqueOpt.isEmpty()) continue;
             Ataques ataque = ataqueOpt.get();
 
@@ -1366,7 +1850,7 @@ public class BatallaService {
 
         List<Map<String, Object>> movActuales = moveStateRepo.buscarPorPokemonId(pokemon.getId())
             .stream()
-            .map(e -> ataquesRepo.findById(e.moveId()).map(this::infoMovimiento).orElse(null))
+            .map(e -> catalogoAtaques.buscar(e.moveId()).map(this::infoMovimiento).orElse(null))
             .filter(Objects::nonNull)
             .toList();
 
@@ -1375,8 +1859,9 @@ public class BatallaService {
 
     /** Sustituye (o añade) un movimiento en el moveset del Pokémon del jugador. */
     public String aprenderMovimientoJugador(Long pokemonId, Integer moveIdNuevo, Integer moveIdAOlvidar) {
-        Ataques nuevoAtaque = ataquesRepo.findById(moveIdNuevo)
+        Ataques nuevoAtaque = catalogoAtaques.buscar(moveIdNuevo)
             .orElseThrow(() -> new ErrorNegocio("Movimiento no encontrado."));
+        cacheMovesets.volcarYDescartar(pokemonId);
 
         List<RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento> actuales =
             moveStateRepo.buscarPorPokemonId(pokemonId);
@@ -1403,7 +1888,7 @@ public class BatallaService {
         Map<String, Object> m = new HashMap<>();
         m.put("moveId", ataque.getIdAtaque());
         m.put("nombre", ataque.getNombre());
-        m.put("tipo", ataque.getTipo());
+        m.put("tipo", TipoPokemon.slugDe(ataque.getTipo()));
         m.put("pp", nvl(ataque.getPpBase(), 20));
         m.put("potencia", ataque.getPotencia());
         return m;
@@ -1420,12 +1905,14 @@ public class BatallaService {
     // RECORDS INTERNOS
     // =========================================================================
 
-    /** Par (id de ataque en catálogo, nivel mínimo de aprendizaje Gen II). */
-    private record EntradaLearnset(Integer moveId, int nivel) {}
     /** Un hueco de combate con PP actual y tope según {@link Ataques#getPpBase()}. */
     private record HuecoMovimiento(Ataques ataque, int ppActual, int ppMax) {}
     /**
      * Resultado intermedio tras elegir movimiento: entidad de catálogo, PP tras consumo y si viene del moveset persistido.
      */
     private record MovimientoResuelto(Ataques ataque, Integer ppRestante, Integer ppMax, boolean fromMoveset) {}
+    /** Los dos contendientes del estado actual, listos para el simulador. */
+    private record Enfrentamiento(Luchador jugador, Luchador salvaje) {}
+    /** XP otorgada al caer el salvaje y movimientos nuevos que trae la subida de nivel. */
+    private record Experiencia(int xpGanada, int nivelAntes, int nivelDespues, ResultadoSincMovimientos sincMov) {}
 }
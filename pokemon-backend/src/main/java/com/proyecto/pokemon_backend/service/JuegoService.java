@@ -10,14 +10,18 @@ import com.proyecto.pokemon_backend.model.PokedexMaestra;
 import com.proyecto.pokemon_backend.model.PokemonUsuario;
 import com.proyecto.pokemon_backend.model.Usuario;
 import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import java.util.Locale;
-import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
 import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon;
 import com.proyecto.pokemon_backend.repository.RepositorioInventarioUsuario;
-import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
-import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
 import com.proyecto.pokemon_backend.repository.RepositorioPokemonUsuario;
 import com.proyecto.pokemon_backend.repository.RepositorioUsuario;
+import com.proyecto.pokemon_backend.service.batalla.CacheMovesets;
+import com.proyecto.pokemon_backend.service.batalla.SesionesBatalla;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
+import com.proyecto.pokemon_backend.service.logica.EfectoItem;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,31 +50,37 @@ public class JuegoService {
 
     private final RepositorioUsuario userRepo;
     private final RepositorioPokemonUsuario pokemonRepo;
-    private final RepositorioPokedexMaestra pokedexRepo;
+    private final CatalogoEspecies catalogoEspecies;
     private final RepositorioInventarioUsuario inventarioRepo;
-    private final RepositorioObjeto itemRepo;
+    private final CatalogoObjetos catalogoObjetos;
     private final RepositorioEstadoMovimientoPokemon estadoMovimientoRepo;
-    private final RepositorioAtaques ataquesRepo;
+    private final CatalogoAtaques catalogoAtaques;
     private final BatallaService batallaService;
+    private final SesionesBatalla sesionesBatalla;
+    private final CacheMovesets cacheMovesets;
 
     public JuegoService(
         RepositorioUsuario userRepo,
         RepositorioPokemonUsuario pokemonRepo,
-        RepositorioPokedexMaestra pokedexRepo,
+        CatalogoEspecies catalogoEspecies,
         RepositorioInventarioUsuario inventarioRepo,
-        RepositorioObjeto itemRepo,
+        CatalogoObjetos catalogoObjetos,
         RepositorioEstadoMovimientoPokemon estadoMovimientoRepo,
-        RepositorioAtaques ataquesRepo,
-        @Lazy BatallaService batallaService
+        CatalogoAtaques catalogoAtaques,
+        @Lazy BatallaService batallaService,
+        SesionesBatalla sesionesBatalla,
+        CacheMovesets cacheMovesets
     ) {
         this.userRepo = userRepo;
         this.pokemonRepo = pokemonRepo;
-        this.pokedexRepo = pokedexRepo;
+        this.catalogoEspecies = catalogoEspecies;
         this.inventarioRepo = inventarioRepo;
-        this.itemRepo = itemRepo;
+        this.catalogoObjetos = catalogoObjetos;
         this.estadoMovimientoRepo = estadoMovimientoRepo;
-        this.ataquesRepo = ataquesRepo;
+        this.catalogoAtaques = catalogoAtaques;
         this.batallaService = batallaService;
+        this.sesionesBatalla = sesionesBatalla;
+        this.cacheMovesets = cacheMovesets;
     }
 
     /**
@@ -81,9 +91,12 @@ public class JuegoService {
     public Map<String, Object> reiniciarPartida(String username) {
         Usuario u = cargarUsuario(username);
         Long uid = u.getIdUsuario();
+        // Las filas del combate a medias se borran: no tiene sentido volcarlo
+        sesionesBatalla.cerrarDeUsuario(uid, false);
         List<PokemonUsuario> owned = pokemonRepo.findByUsuarioId(uid);
         // Hay FK o tablas de PP por Pokémon: limpiar antes de borrar la fila del monstruo
         for (PokemonUsuario p : owned) {
+            cacheMovesets.descartar(p.getId());
             estadoMovimientoRepo.eliminarPorPokemonId(p.getId());
         }
         pokemonRepo.deleteByUsuarioId(uid);
@@ -105,6 +118,7 @@ public class JuegoService {
     @Transactional(readOnly = true)
     public Map<String, Object> obtenerEstado(String username) {
         Usuario usuario = cargarUsuario(username);
+        sesionesBatalla.cerrarDeUsuario(usuario.getIdUsuario(), true);
         List<Map<String, Object>> equipo = equipoOrdenado(usuario.getIdUsuario()).stream()
             .map(this::toDto)
             .toList();
@@ -165,6 +179,7 @@ public class JuegoService {
             body = Map.of();
         }
         Usuario u = cargarUsuario(username);
+        sesionesBatalla.cerrarDeUsuario(u.getIdUsuario(), true);
 
         Object px = body.get("posX");
         Object py = body.get("posY");
@@ -253,10 +268,13 @@ public class JuegoService {
     @Transactional
     public void sincronizarHpEquipoDesdeBlobGuardado(String username) {
         Usuario u = cargarUsuario(username);
+        // Volver al último guardado descarta también el combate en memoria
+        sesionesBatalla.cerrarDeUsuario(u.getIdUsuario(), false);
         sincronizarHpPokemonConTeamClienteEnBlob(u);
         for (PokemonUsuario p : pokemonRepo.findByUsuarioId(u.getIdUsuario())) {
             int pos = nvl(p.getPosicionEquipo(), 99);
             if (pos >= 0 && pos <= 5) {
+                cacheMovesets.descartar(p.getId());
                 estadoMovimientoRepo.eliminarPorPokemonId(p.getId());
             }
         }
@@ -282,7 +300,7 @@ public class JuegoService {
             return Map.of("starter", toDto(equipo.get(0)));
         }
 
-        PokedexMaestra especie = pokedexRepo.findById(starterId)
+        PokedexMaestra especie = catalogoEspecies.buscar(starterId)
             .orElseThrow(() -> new RecursoNoEncontrado("Pokémon no encontrado en Pokédex: " + starterId));
 
         PokemonUsuario starter = new PokemonUsuario();
@@ -308,6 +326,7 @@ public class JuegoService {
     /** Misma lista que {@link #obtenerEstado} en la clave {@code team}, sin el resto de campos del estado. */
     public List<Map<String, Object>> obtenerEquipo(String username) {
         Usuario usuario = cargarUsuario(username);
+        sesionesBatalla.cerrarDeUsuario(usuario.getIdUsuario(), true);
         return equipoOrdenado(usuario.getIdUsuario()).stream()
             .map(this::toDto)
             .toList();
@@ -320,6 +339,7 @@ public class JuegoService {
     @Transactional
     public Map<String, Object> curarEquipoEnCentro(String username) {
         Usuario usuario = cargarUsuario(username);
+        sesionesBatalla.cerrarDeUsuario(usuario.getIdUsuario(), true);
         for (PokemonUsuario p : pokemonRepo.findByUsuarioId(usuario.getIdUsuario())) {
             int pos = nvl(p.getPosicionEquipo(), 99);
             if (pos < 0 || pos > 5) {
@@ -333,6 +353,7 @@ public class JuegoService {
             p.setTurnosSueno(0);
             p.setTieneDrenadoras(false);
             pokemonRepo.save(p);
+            cacheMovesets.descartar(p.getId());
             estadoMovimientoRepo.eliminarPorPokemonId(p.getId());
         }
         Map<String, Object> res = new HashMap<>();
@@ -348,10 +369,9 @@ public class JuegoService {
     /** Ensambla el mapa JSON que consume Phaser (sprite Gen II, tipos en inglés, stats de combate). */
     private Map<String, Object> toDto(PokemonUsuario p) {
         Integer pokedexId = p.getPokedexId();
-        Optional<PokedexMaestra> especie = pokedexId != null ? pokedexRepo.findById(pokedexId) : Optional.empty();
+        Optional<PokedexMaestra> especie = catalogoEspecies.buscar(pokedexId);
         String nombre = especie.map(PokedexMaestra::getNombre).orElse("???");
-        String tipo1es = especie.map(PokedexMaestra::getTipo_1).orElse("normal");
-        String tipo1en = normalizarTipoParaFrontend(tipo1es);
+        String tipo1en = especie.map(PokedexMaestra::getTipo_1).orElse(TipoPokemon.NORMAL).getSlug();
 
         Map<String, Object> dto = new HashMap<>();
         dto.put("pokemonUsuarioId", p.getId());
@@ -359,8 +379,8 @@ public class JuegoService {
         dto.put("name",             nombre);
         dto.put("type",             tipo1en);
         dto.put("tipo1",            tipo1en);
-        especie.map(PokedexMaestra::getTipo_2).filter(t -> t != null && !t.isBlank())
-            .ifPresent(t2 -> dto.put("tipo2", normalizarTipoParaFrontend(t2)));
+        especie.map(PokedexMaestra::getTipo_2)
+            .ifPresent(t2 -> dto.put("tipo2", t2.getSlug()));
         dto.put("sprite",           String.format(SPRITE_URL, p.getPokedexId()));
         dto.put("nivel",            p.getNivel());
         dto.put("xpActual",         nvl(p.getExperiencia(), 0));
@@ -376,11 +396,11 @@ public class JuegoService {
         if (p.getId() != null) {
             List<Map<String, Object>> movs = estadoMovimientoRepo.buscarPorPokemonId(p.getId()).stream()
                 .sorted(Comparator.comparingInt(RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento::slotIndex))
-                .map(e -> ataquesRepo.findById(e.moveId()).map(a -> {
+                .map(e -> catalogoAtaques.buscar(e.moveId()).map(a -> {
                     Map<String, Object> m = new HashMap<>();
                     m.put("moveId",  a.getIdAtaque());
                     m.put("nombre",  a.getNombre());
-                    m.put("tipo",    a.getTipo());
+                    m.put("tipo",    TipoPokemon.slugDe(a.getTipo()));
                     m.put("pp",      nvl(a.getPpBase(), 20));
                     m.put("ppActual", e.ppActual());
                     m.put("potencia", a.getPotencia());
@@ -394,30 +414,6 @@ public class JuegoService {
         return dto;
     }
 
-    /** Convierte nombres de tipo en español a inglés para el frontend. */
-    private String normalizarTipoParaFrontend(String tipo) {
-        if (tipo == null || tipo.isBlank()) return "normal";
-        return switch (tipo.trim().toLowerCase()) {
-            case "fuego"    -> "fire";
-            case "agua"     -> "water";
-            case "planta"   -> "grass";
-            case "eléctrico", "electrico" -> "electric";
-            case "hielo"    -> "ice";
-            case "lucha"    -> "fighting";
-            case "veneno"   -> "poison";
-            case "tierra"   -> "ground";
-            case "volador"  -> "flying";
-            case "psíquico", "psiquico" -> "psychic";
-            case "bicho"    -> "bug";
-            case "roca"     -> "rock";
-            case "fantasma" -> "ghost";
-            case "dragón", "dragon" -> "dragon";
-            case "siniestro" -> "dark";
-            case "acero"    -> "steel";
-            default         -> tipo.trim().toLowerCase();
-        };
-    }
-
     /** Pokémon del usuario en posiciones 0–5 (equipo activo), ordenados por posición. */
     private List<PokemonUsuario> equipoOrdenado(Long userId) {
         List<PokemonUsuario> equipo = pokemonRepo.findByUsuarioId(userId).stream()
@@ -441,11 +437,11 @@ public class JuegoService {
      */
     private Item resolverItem(Integer itemId, String nombreItem) {
         if (itemId != null && itemId > 0) {
-            return itemRepo.findById(itemId)
+            return catalogoObjetos.buscar(itemId)
                 .orElseThrow(() -> new RecursoNoEncontrado("Ítem no encontrado: id " + itemId));
         }
         if (nombreItem != null && !nombreItem.isBlank()) {
-            return itemRepo.findByNombreIgnoreCase(nombreItem.trim())
+            return catalogoObjetos.buscarPorNombre(nombreItem)
                 .orElseThrow(() -> new RecursoNoEncontrado("Ítem no encontrado: " + nombreItem));
         }
         throw new ErrorNegocio("Indica itemId o nombreItem.");
@@ -503,6 +499,8 @@ public class JuegoService {
             throw new ErrorNegocio("pokemonObjetivoId es obligatorio.");
         }
         Usuario usuario = cargarUsuario(username);
+        // Pociones en combate: se aplican sobre la fila ya volcada y el siguiente turno reabre la sesión
+        sesionesBatalla.cerrarDeUsuario(usuario.getIdUsuario(), true);
         Item item = resolverItem(itemId, nombreItem);
 
         InventarioUsuario entrada = inventarioRepo.findByUsuarioAndItem(usuario, item)
@@ -516,7 +514,7 @@ public class JuegoService {
         }
 
         int nivelAntes = nvl(pokemon.getNivel(), 1);
-        String mensaje = aplicarEfectoItem(item.getEfecto(), pokemon);
+        String mensaje = aplicarEfectoItem(catalogoObjetos.efecto(item), pokemon);
         pokemonRepo.save(pokemon);
         int nivelNuevo = nvl(pokemon.getNivel(), 1);
 
@@ -552,17 +550,12 @@ public class JuegoService {
      * Lógica de aplicación de efecto: valida estado del Pokémon, modifica sus stats y
      * devuelve el texto para la UI. No persiste — el caller hace {@code pokemonRepo.save}.
      */
-    private String aplicarEfectoItem(String efecto, PokemonUsuario pokemon) {
-        if (efecto == null) {
-            throw new ErrorNegocio("Este ítem no se puede usar fuera de combate.");
-        }
-        String ef = efecto.toUpperCase(Locale.ROOT);
-
-        if (ef.startsWith("CAPTURE_") || ef.equals("NONE")) {
+    private String aplicarEfectoItem(EfectoItem efecto, PokemonUsuario pokemon) {
+        if (efecto.clase() == EfectoItem.Clase.CAPTURA || efecto.clase() == EfectoItem.Clase.NINGUNO) {
             throw new ErrorNegocio("Este ítem no se puede usar fuera de combate.");
         }
 
-        if (ef.equals("LEVEL_UP")) {
+        if (efecto.clase() == EfectoItem.Clase.SUBIR_NIVEL) {
             if (nvl(pokemon.getHpActual(), 0) <= 0) {
                 throw new ErrorNegocio("No puedes usar este ítem en un Pokémon debilitado.");
             }
@@ -587,10 +580,8 @@ public class JuegoService {
             throw new ErrorNegocio("No puedes usar este ítem en un Pokémon debilitado.");
         }
 
-        if (ef.startsWith("HEAL_")) {
-            String sufijo = ef.substring(5);
-            boolean esFullRestore = sufijo.equals("MAX_STATUS");
-            boolean esMaxPotion   = sufijo.equals("MAX") || esFullRestore;
+        if (efecto.clase() == EfectoItem.Clase.CURACION) {
+            boolean esFullRestore = efecto.curaEstados();
 
             boolean necesitaCura  = pokemon.getEstado() != Estado.SALUDABLE;
             boolean necesitaHeal  = hpActual < hpMax;
@@ -602,15 +593,9 @@ public class JuegoService {
                 throw new ErrorNegocio("Los PS de " + nom + " ya están al máximo.");
             }
 
-            int recuperado;
-            if (esMaxPotion) {
-                recuperado = hpMax - hpActual;
-                pokemon.setHpActual(hpMax);
-            } else {
-                int cantidad = Integer.parseInt(sufijo);
-                recuperado = Math.min(cantidad, hpMax - hpActual);
-                pokemon.setHpActual(hpActual + recuperado);
-            }
+            // PS_TOTAL satura en hpMax - hpActual: mismo camino para Poción y Máx. Poción
+            int recuperado = Math.min(efecto.ps(), hpMax - hpActual);
+            pokemon.setHpActual(hpActual + recuperado);
 
             if (esFullRestore) {
                 pokemon.setEstado(Estado.SALUDABLE);
@@ -621,24 +606,13 @@ public class JuegoService {
             return nom + " recuperó " + recuperado + " PS.";
         }
 
-        // CURE_*
+        // CURA_ESTADO
         Estado estadoActual = pokemon.getEstado();
         if (estadoActual == Estado.SALUDABLE) {
             throw new ErrorNegocio(nom + " no tiene ningún estado que curar.");
         }
-
-        if (!ef.equals("CURE_ALL")) {
-            boolean coincide = switch (ef) {
-                case "CURE_PSN" -> estadoActual == Estado.ENVENENADO || estadoActual == Estado.GRAVE_ENVENENADO;
-                case "CURE_BRN" -> estadoActual == Estado.QUEMADO;
-                case "CURE_FRZ" -> estadoActual == Estado.CONGELADO;
-                case "CURE_SLP" -> estadoActual == Estado.DORMIDO;
-                case "CURE_PAR" -> estadoActual == Estado.PARALIZADO;
-                default         -> false;
-            };
-            if (!coincide) {
-                throw new ErrorNegocio("Ese ítem no cura el estado de " + nom + ".");
-            }
+        if (!efecto.cura(estadoActual)) {
+            throw new ErrorNegocio("Ese ítem no cura el estado de " + nom + ".");
         }
 
         pokemon.setEstado(Estado.SALUDABLE);
@@ -652,6 +626,7 @@ public class JuegoService {
     public Map<String, Object> aprenderMovimiento(
             String username, Long pokemonId, Integer moveIdNuevo, Integer moveIdAOlvidar) {
         Usuario usuario = cargarUsuario(username);
+        sesionesBatalla.cerrarDeUsuario(usuario.getIdUsuario(), true);
         PokemonUsuario pokemon = pokemonRepo.findById(pokemonId)
             .orElseThrow(() -> new RecursoNoEncontrado("Pokémon no encontrado."));
         if (!Objects.equals(pokemon.getUsuarioId(), usuario.getIdUsuario())) {
@@ -664,10 +639,7 @@ public class JuegoService {
 
     /** Nombre de especie para mensajes, sin lanzar excepción si falta la fila. */
     private String nombrePokemon(PokemonUsuario p) {
-        if (p == null || p.getPokedexId() == null) return "?";
-        return pokedexRepo.findById(p.getPokedexId())
-            .map(PokedexMaestra::getNombre)
-            .orElse("?");
+        return p == null ? "?" : catalogoEspecies.nombre(p.getPokedexId());
     }
 
     /** Usado tras comprar en tienda: devuelve la mochila tal como la vería {@link #obtenerEstado}. */
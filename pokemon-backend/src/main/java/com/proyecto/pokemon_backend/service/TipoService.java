@@ -1,74 +1,98 @@
 package com.proyecto.pokemon_backend.service;
 
 import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import com.proyecto.pokemon_backend.repository.RepositorioTipo;
+import com.proyecto.pokemon_backend.service.logica.MatrizEfectividad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.util.Locale;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * Consulta la matriz de efectividad de tipos almacenada en BD.
+ * Efectividad de tipos a partir de la matriz almacenada en BD.
  *
- * Los tipos de la PokéAPI vienen en inglés (fire, water...).
- * La BD los almacena en español (Fuego, Agua...) para coincidir con
- * los datos cargados por InicializadorTipos.
- * Este servicio normaliza ambas representaciones antes de consultar.
+ * La tabla {@code TIPOS} guarda los nombres en español (Fuego, Agua...) cargados por InicializadorTipos;
+ * las especies y movimientos ya llegan como {@link TipoPokemon}. El multiplicador se resuelve por ordinal
+ * en una {@link MatrizEfectividad} en memoria: {@code TIPOS} se lee entera una vez (y de nuevo con
+ * {@link #recargarMatriz()}), nunca por golpe.
  */
 @Service
 public class TipoService {
 
-    /** Mapa de normalización: cualquier variante → nombre canónico en BD. */
-    private static final Map<String, String> NORMALIZAR = Map.ofEntries(
-        Map.entry("normal",     "Normal"),
-        Map.entry("fuego",      "Fuego"),   Map.entry("fire",      "Fuego"),
-        Map.entry("agua",       "Agua"),    Map.entry("water",     "Agua"),
-        Map.entry("planta",     "Planta"),  Map.entry("grass",     "Planta"),
-        Map.entry("electrico",  "Eléctrico"), Map.entry("eléctrico", "Eléctrico"), Map.entry("electric", "Eléctrico"),
-        Map.entry("hielo",      "Hielo"),   Map.entry("ice",       "Hielo"),
-        Map.entry("lucha",      "Lucha"),   Map.entry("fighting",  "Lucha"),
-        Map.entry("veneno",     "Veneno"),  Map.entry("poison",    "Veneno"),
-        Map.entry("tierra",     "Tierra"),  Map.entry("ground",    "Tierra"),
-        Map.entry("volador",    "Volador"), Map.entry("flying",    "Volador"),
-        Map.entry("psiquico",   "Psíquico"), Map.entry("psíquico", "Psíquico"), Map.entry("psychic", "Psíquico"),
-        Map.entry("bicho",      "Bicho"),   Map.entry("bug",       "Bicho"),
-        Map.entry("roca",       "Roca"),    Map.entry("rock",      "Roca"),
-        Map.entry("fantasma",   "Fantasma"), Map.entry("ghost",    "Fantasma"),
-        Map.entry("dragon",     "Dragón"),  Map.entry("dragón",    "Dragón"), Map.entry("dragon_en", "Dragón"),
-        Map.entry("siniestro",  "Siniestro"), Map.entry("dark",    "Siniestro"),
-        Map.entry("acero",      "Acero"),   Map.entry("steel",     "Acero")
-    );
+    private static final Logger log = LoggerFactory.getLogger(TipoService.class);
+
+    private static final int NUM_TIPOS = TipoPokemon.values().length;
 
     private final RepositorioTipo tipoRepository;
 
+    /** Se sustituye entera al recargar: los lectores ven la matriz anterior o la nueva, nunca una mezcla. */
+    private volatile MatrizEfectividad matriz;
+
     /** @param tipoRepository matriz de efectividad persistida en {@code TIPOS} */
     public TipoService(RepositorioTipo tipoRepository) {
         this.tipoRepository = tipoRepository;
     }
 
     /**
-     * Calcula el multiplicador total de efectividad para un ataque contra un defensor.
-     * Si el defensor tiene dos tipos, los multiplicadores se multiplican entre sí.
+     * Al terminar el arranque carga {@code TIPOS}, salvo que ya haya matriz publicada (instantánea binaria o
+     * un cargador que haya llamado a {@link #recargarMatriz()}).
      */
-    public double calcularEfectividad(String tipoAtaque, String defensorTipo1, String defensorTipo2) {
-        String atk = normalizar(tipoAtaque);
-        String def1 = normalizar(defensorTipo1);
-        String def2 = normalizar(defensorTipo2);
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        matriz();
+    }
 
-        if (atk.isEmpty() || def1.isEmpty()) return 1.0;
+    /** Relee {@code TIPOS} y publica una matriz nueva. Debe invocarse tras cualquier cambio en la tabla. */
+    public void recargarMatriz() {
+        cargarMatrizDesde(tipoRepository.findAll());
+    }
 
-        double mult1 = tipoRepository.findByAtacanteAndDefensor(atk, def1)
-            .map(Tipo::getMultiplicador)
-            .orElse(1.0);
+    /** Publica la matriz de {@code filas} sin consultar BD (p. ej. desde la instantánea binaria). */
+    public void cargarMatrizDesde(List<Tipo> filas) {
+        double[][] m = new double[NUM_TIPOS][NUM_TIPOS];
+        for (double[] fila : m) {
+            Arrays.fill(fila, 1.0);
+        }
+        for (Tipo t : filas) {
+            TipoPokemon atk = TipoPokemon.desde(t.getAtacante());
+            TipoPokemon def = TipoPokemon.desde(t.getDefensor());
+            if (atk == null || def == null || t.getMultiplicador() == null) {
+                log.warn("Fila de TIPOS ignorada: {} → {} ({})", t.getAtacante(), t.getDefensor(), t.getMultiplicador());
+                continue;
+            }
+            m[atk.ordinal()][def.ordinal()] = t.getMultiplicador();
+        }
+        matriz = new MatrizEfectividad(m);
+        log.debug("Matriz de tipos recargada ({} relaciones no neutras)", filas.size());
+    }
 
-        double mult2 = def2.isEmpty() ? 1.0
-            : tipoRepository.findByAtacanteAndDefensor(atk, def2)
-                .map(Tipo::getMultiplicador)
-                .orElse(1.0);
+    /**
+     * Calcula el multiplicador total de efectividad para un ataque contra un defensor.
+     * Si el defensor tiene dos tipos, los multiplicadores se multiplican entre sí.
+     */
+    public double calcularEfectividad(TipoPokemon tipoAtaque, TipoPokemon defensorTipo1, TipoPokemon defensorTipo2) {
+        if (tipoAtaque == null || defensorTipo1 == null) return 1.0;
 
+        MatrizEfectividad m = matriz();
+        double mult1 = m.multiplicador(tipoAtaque.ordinal(), defensorTipo1.ordinal());
+        double mult2 = defensorTipo2 == null ? 1.0 : m.multiplicador(tipoAtaque.ordinal(), defensorTipo2.ordinal());
         return mult1 * mult2;
     }
 
+    /**
+     * Variante para texto libre (payload legacy, herramientas): traduce con {@link TipoPokemon#desde}
+     * y delega. Un tipo desconocido se trata como relación neutra.
+     */
+    public double calcularEfectividad(String tipoAtaque, String defensorTipo1, String defensorTipo2) {
+        return calcularEfectividad(
+            TipoPokemon.desde(tipoAtaque), TipoPokemon.desde(defensorTipo1), TipoPokemon.desde(defensorTipo2));
+    }
+
     /** Mensaje de efectividad para mostrar al jugador, estilo Gen II. */
     public String mensajeEfectividad(double multiplicador) {
         if (multiplicador == 0.0)  return "¡No tiene efecto!";
@@ -80,11 +104,19 @@ public class TipoService {
     }
 
     /**
-     * Traduce variantes en español/inglés a la forma de la tabla {@code TIPOS}.
-     * Si no hay entrada en el mapa, devuelve cadena vacía y la consulta de efectividad usa 1.0.
+     * Matriz publicada; si aún no se ha cargado (petición antes del arranque completo), la carga ahora.
+     * Cada recarga publica una instancia nueva, así que la identidad sirve de versión a las tablas derivadas.
      */
-    private String normalizar(String raw) {
-        if (raw == null) return "";
-        return NORMALIZAR.getOrDefault(raw.trim().toLowerCase(Locale.ROOT), "");
+    public MatrizEfectividad matriz() {
+        MatrizEfectividad actual = matriz;
+        if (actual == null) {
+            synchronized (this) {
+                if (matriz == null) {
+                    recargarMatriz();
+                }
+                actual = matriz;
+            }
+        }
+        return actual;
     }
 }
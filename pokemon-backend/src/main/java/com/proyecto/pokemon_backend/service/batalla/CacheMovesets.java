@@ -0,0 +1,174 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Movesets materializados por {@code id_pokemon_usuario}, compartidos entre combates y listados: los PP se
+ * gastan en memoria y {@code POKEMON_MOVIMIENTOS_USUARIO} se pone al día en lotes, con las filas sucias de
+ * todos los Pokémon en un solo {@code batchUpdate}.
+ *
+ * Quien borra o reescribe filas de PP por su cuenta (curar, reiniciar, aprender un movimiento...) debe llamar
+ * antes a {@link #descartar} para que un volcado posterior no las resucite. Volcados y descartes se serializan
+ * con el monitor de la caché; las lecturas no lo toman.
+ *
+ * El tamaño se acota en {@link #expulsar}, que {@link SesionesBatalla} llama en cada pasada de expiración:
+ * salen los movesets sin uso desde hace {@code pokemon.batalla.inactividad-moveset} y, si aún se supera
+ * {@code pokemon.batalla.maximo-movesets}, los menos usados. Nunca sale uno con PP sin volcar ni uno que esté
+ * en un combate abierto (la sesión comparte la instancia), así que el máximo es orientativo. Aciertos, fallos,
+ * expulsiones y tamaño se publican como {@code cache.*} con {@code cache=movesets}, igual que las cachés de
+ * Spring.
+ */
+@Service
+public class CacheMovesets {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheMovesets.class);
+
+    private final ConcurrentHashMap<Long, Moveset> movesets = new ConcurrentHashMap<>();
+    private final RepositorioEstadoMovimientoPokemon moveStateRepo;
+    private final TransactionTemplate transaccion;
+    private final PropiedadesBatalla propiedades;
+    private final Counter aciertos;
+    private final Counter fallos;
+    private final Counter expulsiones;
+
+    public CacheMovesets(
+        RepositorioEstadoMovimientoPokemon moveStateRepo,
+        PlatformTransactionManager transactionManager,
+        PropiedadesBatalla propiedades,
+        MeterRegistry metricas
+    ) {
+        this.moveStateRepo = moveStateRepo;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        // Igual que el volcado de combates: no depende de la transacción de quien lo dispara
+        this.transaccion.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.propiedades = propiedades;
+        Tags cache = Tags.of("cache", "movesets");
+        this.aciertos = metricas.counter("cache.gets", cache.and("result", "hit"));
+        this.fallos = metricas.counter("cache.gets", cache.and("result", "miss"));
+        this.expulsiones = metricas.counter("cache.evictions", cache);
+        metricas.gaugeMapSize("cache.size", cache, movesets);
+    }
+
+    /**
+     * Moveset en caché de {@code pokemonId}, o el que devuelva {@code cargar} (leído de BD) si no lo hay. Si dos
+     * peticiones lo cargan a la vez, gana la primera y ambas comparten la misma instancia.
+     */
+    public Moveset obtener(Long pokemonId, Supplier<Moveset> cargar) {
+        Moveset actual = movesets.get(pokemonId);
+        if (actual != null) {
+            aciertos.increment();
+            actual.usar();
+            return actual;
+        }
+        fallos.increment();
+        Moveset cargado = cargar.get();
+        Moveset previo = movesets.putIfAbsent(pokemonId, cargado);
+        if (previo == null) return cargado;
+        previo.usar();
+        return previo;
+    }
+
+    /** Deja el moveset en caché (si lo hay) con todos sus PP al máximo; sus filas ya se borraron. */
+    public synchronized void restaurar(Long pokemonId) {
+        Moveset m = movesets.get(pokemonId);
+        if (m != null) m.restaurarPp();
+    }
+
+    /** Olvida el moveset sin volcarlo: sus filas de BD van a borrarse o a cambiar de movimiento. */
+    public synchronized void descartar(Long pokemonId) {
+        movesets.remove(pokemonId);
+    }
+
+    /** Escribe lo pendiente de {@code pokemonId} y lo saca de la caché. */
+    public synchronized void volcarYDescartar(Long pokemonId) {
+        Moveset m = movesets.get(pokemonId);
+        if (m != null) volcar(List.of(m), () -> {});
+        movesets.remove(pokemonId);
+    }
+
+    /**
+     * Escribe en un lote los PP pendientes de {@code aVolcar}, en la misma transacción que {@code junto} (el
+     * combate guarda ahí las filas de {@code POKEMON_USUARIO}). Los movesets ya descartados no se escriben.
+     */
+    public synchronized void volcar(Collection<Moveset> aVolcar, Runnable junto) {
+        Map<Moveset, List<EstadoPpMovimiento>> pendientes = new LinkedHashMap<>();
+        for (Moveset m : aVolcar) {
+            if (movesets.get(m.pokemonId()) != m) continue;
+            List<EstadoPpMovimiento> filas = m.pendientes();
+            if (!filas.isEmpty()) pendientes.put(m, filas);
+        }
+        Map<Long, List<EstadoPpMovimiento>> porPokemon = new LinkedHashMap<>();
+        pendientes.forEach((m, filas) -> porPokemon.put(m.pokemonId(), filas));
+
+        transaccion.executeWithoutResult(estado -> {
+            junto.run();
+            if (!porPokemon.isEmpty()) moveStateRepo.insertarOActualizarLote(porPokemon);
+        });
+        pendientes.forEach(Moveset::marcarGuardado);
+    }
+
+    /** Pone al día en BD los PP gastados en combates aún abiertos. */
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    @PreDestroy
+    public void volcarPendientes() {
+        List<Moveset> sucios = movesets.values().stream().filter(Moveset::isSucio).toList();
+        if (sucios.isEmpty()) return;
+        try {
+            volcar(sucios, () -> {});
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron volcar los PP de {} Pokémon: {}", sucios.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Saca de la caché los movesets sin uso desde antes de {@code ahora} menos la inactividad máxima y, si
+     * siguen sobrando, los menos usados hasta el máximo. Respeta los sucios y los de {@code enCombate}.
+     *
+     * @return movesets expulsados
+     */
+    public synchronized int expulsar(long ahora, Predicate<Long> enCombate) {
+        long limite = ahora - propiedades.getInactividadMoveset().toMillis();
+        List<Moveset> candidatos = movesets.values().stream()
+            .filter(m -> !m.isSucio() && !enCombate.test(m.pokemonId()))
+            .sorted(Comparator.comparingLong(Moveset::ultimoUso))
+            .toList();
+        int sobran = movesets.size() - propiedades.getMaximoMovesets();
+        int expulsados = 0;
+        for (Moveset m : candidatos) {
+            if (m.ultimoUso() >= limite && sobran <= 0) break;
+            if (movesets.remove(m.pokemonId(), m)) {
+                expulsados++;
+                sobran--;
+            }
+        }
+        expulsiones.increment(expulsados);
+        if (expulsados > 0) log.debug("{} movesets expulsados de la caché ({} quedan)", expulsados, movesets.size());
+        return expulsados;
+    }
+
+    public int contar() {
+        return movesets.size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.repository.RepositorioEventosCombate;
+import com.proyecto.pokemon_backend.repository.RepositorioEventosCombate.BloqueEventos;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Escritura asíncrona del diario de combates. Al acabar cada petición de combate los eventos de la sesión
+ * ({@link RegistroCombate}) se encolan sin esperar; un hilo programado los vacía cada medio segundo en lotes
+ * de {@link #LOTE} filas ({@link RepositorioEventosCombate#insertarLote}). El turno nunca toca la BD por esto.
+ *
+ * Si la cola se llena (BD caída o muy lenta) los bloques nuevos se descartan y se cuentan, en vez de frenar
+ * los combates; un fallo al escribir pierde ese lote. El diario es para repetición y auditoría, no para
+ * reconstruir el estado del juego, que sigue en {@link SesionesBatalla}.
+ */
+@Service
+public class DiarioCombates {
+
+    private static final Logger log = LoggerFactory.getLogger(DiarioCombates.class);
+
+    static final int CAPACIDAD = 8_192;
+    static final int LOTE = 256;
+
+    private final BlockingQueue<BloqueEventos> pendientes = new ArrayBlockingQueue<>(CAPACIDAD);
+    private final AtomicLong descartados = new AtomicLong();
+    private final RepositorioEventosCombate repositorio;
+
+    public DiarioCombates(RepositorioEventosCombate repositorio) {
+        this.repositorio = repositorio;
+    }
+
+    /** Encola lo anotado en la sesión desde la última entrega. Sin I/O; el llamante tiene su monitor. */
+    public void entregar(SesionBatalla sesion) {
+        RegistroCombate registro = sesion.registro();
+        if (registro.isVacio()) return;
+        BloqueEventos bloque = new BloqueEventos(sesion.getId(), sesion.getUsuarioId(), registro.extraer());
+        if (!pendientes.offer(bloque) && descartados.getAndIncrement() % 1_000 == 0) {
+            log.warn("Cola del diario de combates llena: {} bloques descartados", descartados.get());
+        }
+    }
+
+    /** Escribe todo lo encolado, lote a lote. */
+    @Scheduled(fixedDelay = 500, initialDelay = 500)
+    public synchronized void escribir() {
+        while (!pendientes.isEmpty()) {
+            List<BloqueEventos> lote = new ArrayList<>(LOTE);
+            pendientes.drainTo(lote, LOTE);
+            try {
+                repositorio.insertarLote(lote);
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron escribir {} bloques del diario de combates: {}", lote.size(), e.getMessage());
+            }
+        }
+    }
+
+    /** Eventos del combate {@code combateId} del usuario, incluidos los que aún estaban en cola. */
+    public List<EventoCombate> leer(Long combateId, Long usuarioId) {
+        escribir();
+        List<EventoCombate> eventos = new ArrayList<>();
+        for (byte[] bloque : repositorio.buscarPorCombate(combateId, usuarioId)) {
+            eventos.addAll(EventoCombate.leer(bloque));
+        }
+        return eventos;
+    }
+
+    /** Bloques perdidos por cola llena desde que arrancó la aplicación. */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    /** Se destruye después de {@link SesionesBatalla}, así que incluye el cierre de los combates abiertos. */
+    @PreDestroy
+    public void vaciar() {
+        escribir();
+    }
+}
@@ -0,0 +1,116 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Un evento del diario de un combate. En binario ocupa un byte de tipo, el id del Pokémon que lo protagoniza y
+ * los campos del tipo, todo en varint zigzag: un turno típico cabe en unas decenas de bytes.
+ *
+ * @param pokemonId protagonista (el salvaje en {@link Tipo#INICIO}, 0 en {@link Tipo#TURNO})
+ * @param datos     valores de {@link Tipo#campos}, en ese orden
+ */
+public record EventoCombate(Tipo tipo, long pokemonId, long[] datos) {
+
+    /** Campos que se leen como sí/no. */
+    private static final Set<String> BOOLEANOS = Set.of("critico", "drenadoras", "exito");
+
+    public enum Tipo {
+        /** Sesión abierta: semilla del generador y dueño. */
+        INICIO(1, "semilla", "usuarioId"),
+        /** Un Pokémon entra al combate; su estado va en el {@link #ESTADO} que le sigue. */
+        ENTRA(2, "pokedexId", "nivel", "hpMax"),
+        /** Empieza un turno o una ronda. */
+        TURNO(3),
+        /** Movimiento elegido (por el cliente o por la IA del salvaje). */
+        ACCION(4, "movimientoId", "rivalId"),
+        /** El estado alterado impide actuar; {@code hp} tras el posible autodaño por confusión. */
+        BLOQUEO(5, "hp"),
+        /** Falla la tirada de precisión. */
+        FALLO(6),
+        DANIO(7, "rivalId", "danio", "critico", "hpRival"),
+        /** Foto del Pokémon cuando cambia algo (PS, estado, contadores o stats). */
+        ESTADO(8, "hp", "estado", "turnosSueno", "turnosConfusion", "contadorToxico", "drenadoras",
+            "ataque", "defensa", "ataqueEspecial", "velocidad"),
+        EXPERIENCIA(9, "xp", "nivelAntes", "nivelDespues", "xpActual"),
+        HUIDA(10, "exito"),
+        CAPTURA(11, "ballId", "exito"),
+        /** Sesión cerrada; lo que se anote después se ignora. */
+        FIN(12);
+
+        private static final Tipo[] POR_CODIGO = new Tipo[13];
+
+        static {
+            for (Tipo t : values()) POR_CODIGO[t.codigo] = t;
+        }
+
+        private final int codigo;
+        private final List<String> campos;
+
+        Tipo(int codigo, String... campos) {
+            this.codigo = codigo;
+            this.campos = List.of(campos);
+        }
+
+        public int codigo() {
+            return codigo;
+        }
+
+        public List<String> campos() {
+            return campos;
+        }
+
+        static Tipo deCodigo(int codigo) {
+            Tipo t = codigo > 0 && codigo < POR_CODIGO.length ? POR_CODIGO[codigo] : null;
+            if (t == null) throw new IllegalStateException("Tipo de evento desconocido: " + codigo);
+            return t;
+        }
+    }
+
+    /** Campos con nombre; {@code estado} como nombre del enum y los sí/no como booleanos. */
+    public Map<String, Object> valores() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (int i = 0; i < datos.length; i++) {
+            String campo = tipo.campos.get(i);
+            long v = datos[i];
+            if ("estado".equals(campo)) {
+                out.put(campo, v >= 0 && v < Estado.values().length ? Estado.values()[(int) v].name() : null);
+            } else if (BOOLEANOS.contains(campo)) {
+                out.put(campo, v != 0);
+            } else {
+                out.put(campo, v);
+            }
+        }
+        return out;
+    }
+
+    /** Decodifica un bloque tal como lo escribe {@link RegistroCombate}. */
+    public static List<EventoCombate> leer(byte[] bloque) {
+        List<EventoCombate> eventos = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < bloque.length) {
+            Tipo tipo = Tipo.deCodigo(bloque[pos[0]++]);
+            long pokemonId = leerVarint(bloque, pos);
+            long[] datos = new long[tipo.campos.size()];
+            for (int i = 0; i < datos.length; i++) datos[i] = leerVarint(bloque, pos);
+            eventos.add(new EventoCombate(tipo, pokemonId, datos));
+        }
+        return eventos;
+    }
+
+    private static long leerVarint(byte[] b, int[] pos) {
+        long zigzag = 0;
+        for (int desplazamiento = 0; ; desplazamiento += 7) {
+            if (pos[0] >= b.length || desplazamiento > 63) throw new IllegalStateException("Bloque de eventos truncado");
+            byte actual = b[pos[0]++];
+            zigzag |= (long) (actual & 0x7F) << desplazamiento;
+            if (actual >= 0) break;
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.service.logica.EstadoCombate;
+
+/**
+ * {@link EstadoCombate} sobre la entidad: las reglas de turno leen y escriben directamente en el
+ * {@link PokemonUsuario} del combate. Los {@code null} de la entidad se leen como en el resto del servicio
+ * (0, o 1 en los stats).
+ */
+public final class FichaPokemon implements EstadoCombate {
+
+    private final PokemonUsuario p;
+
+    public FichaPokemon(PokemonUsuario p) {
+        this.p = p;
+    }
+
+    @Override
+    public int hp() {
+        return nvl(p.getHpActual(), 0);
+    }
+
+    @Override
+    public void hp(int valor) {
+        p.setHpActual(valor);
+    }
+
+    @Override
+    public int hpMax() {
+        return nvl(p.getHpMax(), 1);
+    }
+
+    @Override
+    public int nivel() {
+        return nvl(p.getNivel(), 1);
+    }
+
+    @Override
+    public int ataque() {
+        return nvl(p.getAtaqueStat(), 1);
+    }
+
+    @Override
+    public void ataque(int valor) {
+        p.setAtaqueStat(valor);
+    }
+
+    @Override
+    public int defensa() {
+        return nvl(p.getDefensaStat(), 1);
+    }
+
+    @Override
+    public void defensa(int valor) {
+        p.setDefensaStat(valor);
+    }
+
+    @Override
+    public int ataqueEspecial() {
+        return nvl(p.getAtaqueEspecialStat(), 1);
+    }
+
+    @Override
+    public void ataqueEspecial(int valor) {
+        p.setAtaqueEspecialStat(valor);
+    }
+
+    @Override
+    public int defensaEspecial() {
+        return nvl(p.getDefensaEspecialStat(), 1);
+    }
+
+    @Override
+    public int velocidad() {
+        return nvl(p.getVelocidadStat(), 1);
+    }
+
+    @Override
+    public void velocidad(int valor) {
+        p.setVelocidadStat(valor);
+    }
+
+    @Override
+    public Estado estado() {
+        return p.getEstado() != null ? p.getEstado() : Estado.SALUDABLE;
+    }
+
+    @Override
+    public void estado(Estado valor) {
+        p.setEstado(valor);
+    }
+
+    @Override
+    public int turnosSueno() {
+        return nvl(p.getTurnosSueno(), 0);
+    }
+
+    @Override
+    public void turnosSueno(int valor) {
+        p.setTurnosSueno(valor);
+    }
+
+    @Override
+    public int turnosConfusion() {
+        return nvl(p.getTurnosConfusion(), 0);
+    }
+
+    @Override
+    public void turnosConfusion(int valor) {
+        p.setTurnosConfusion(valor);
+    }
+
+    @Override
+    public int contadorToxico() {
+        return nvl(p.getContadorToxico(), 0);
+    }
+
+    @Override
+    public void contadorToxico(int valor) {
+        p.setContadorToxico(valor);
+    }
+
+    @Override
+    public boolean drenadoras() {
+        return Boolean.TRUE.equals(p.getTieneDrenadoras());
+    }
+
+    private static int nvl(Integer value, int defecto) {
+        return value != null ? value : defecto;
+    }
+}
@@ -0,0 +1,30 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Semilla de cada combate nuevo. Solo se consulta al abrir la sesión; los turnos tiran del generador de la
+ * propia sesión, sin estado compartido entre combates.
+ */
+@Service
+public class FuenteSemillas {
+
+    /** Constante de mezcla de SplitMix64: ids consecutivos dan semillas sin correlación. */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Long semillaBase;
+
+    public FuenteSemillas(PropiedadesBatalla propiedades) {
+        this.semillaBase = propiedades.getSemilla();
+    }
+
+    /** Aleatoria o, con {@code pokemon.batalla.semilla}, función de esa base y del id del combate. */
+    public long nueva(Long batallaId) {
+        if (semillaBase == null) return ThreadLocalRandom.current().nextLong();
+        return new SplittableRandom(semillaBase ^ (batallaId * GAMMA)).nextLong();
+    }
+}
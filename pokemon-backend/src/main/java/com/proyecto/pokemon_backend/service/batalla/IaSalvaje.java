@@ -0,0 +1,177 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.service.batalla.SesionBatalla.Combatiente;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEfectos;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.TablaEnfrentamientos;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento;
+import com.proyecto.pokemon_backend.service.logica.EstadoCombate;
+import com.proyecto.pokemon_backend.service.logica.PrevisionDanio;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Movimiento del salvaje, elegido en servidor según {@code pokemon.batalla.ia}:
+ * <ul>
+ *   <li>{@link Politica#ALEATORIO}: uno al azar entre los que tienen PP, como en los juegos.</li>
+ *   <li>{@link Politica#VORAZ}: el de más daño esperado ({@link PrevisionDanio}), con la efectividad de
+ *       {@link TablaEnfrentamientos}; los de estado no puntúan.</li>
+ *   <li>{@link Politica#ESTADOS}: como el voraz, más un plus por debilitar y el valor de los efectos
+ *       ({@link CatalogoEfectos}) que aún pueden prender: dormir o paralizar a un rival sano puede valer más
+ *       que un golpe flojo.</li>
+ * </ul>
+ * Todo sale de catálogos en memoria y del estado de la sesión: ni lecturas de BD ni objetos por tirada, así que
+ * cabe dentro de la ronda. Los empates se deshacen con el generador del combate.
+ */
+@Service
+public class IaSalvaje {
+
+    public enum Politica {
+        ALEATORIO,
+        VORAZ,
+        ESTADOS
+    }
+
+    /** Plus por la probabilidad de debilitar con este golpe, en fracción de los PS del rival. */
+    static final double BONO_KO = 0.5;
+    /** Valor de un cambio de stat mientras el usuario conserva más de la mitad de sus PS. */
+    static final double VALOR_STAT = 0.15;
+    private static final double EPSILON = 1e-9;
+
+    /** Valor de dejar al rival con cada estado, en fracción de sus PS (lo que valdría un golpe equivalente). */
+    private static final double[] VALOR_ESTADO = new double[EfectoMovimiento.Tipo.values().length];
+
+    static {
+        VALOR_ESTADO[EfectoMovimiento.Tipo.DORMIR.ordinal()] = 0.60;
+        VALOR_ESTADO[EfectoMovimiento.Tipo.CONGELAR.ordinal()] = 0.60;
+        VALOR_ESTADO[EfectoMovimiento.Tipo.PARALIZAR.ordinal()] = 0.45;
+        VALOR_ESTADO[EfectoMovimiento.Tipo.ENVENENAR_GRAVE.ordinal()] = 0.40;
+        VALOR_ESTADO[EfectoMovimiento.Tipo.CONFUNDIR.ordinal()] = 0.35;
+        VALOR_ESTADO[EfectoMovimiento.Tipo.ENVENENAR.ordinal()] = 0.30;
+        VALOR_ESTADO[EfectoMovimiento.Tipo.QUEMAR.ordinal()] = 0.30;
+    }
+
+    private final TablaEnfrentamientos tablaEnfrentamientos;
+    private final CatalogoEspecies catalogoEspecies;
+    private final CatalogoEfectos catalogoEfectos;
+    private final Politica politica;
+
+    public IaSalvaje(TablaEnfrentamientos tablaEnfrentamientos, CatalogoEspecies catalogoEspecies,
+                     CatalogoEfectos catalogoEfectos, PropiedadesBatalla propiedades) {
+        this.tablaEnfrentamientos = tablaEnfrentamientos;
+        this.catalogoEspecies = catalogoEspecies;
+        this.catalogoEfectos = catalogoEfectos;
+        this.politica = propiedades.getIa();
+    }
+
+    /** La de {@code pokemon.batalla.ia}. */
+    public Politica getPolitica() {
+        return politica;
+    }
+
+    /** Id del movimiento con la política configurada, o {@code null} si no le queda PP en ninguno. */
+    public Integer elegir(Combatiente salvaje, PokemonUsuario rival, RandomGenerator rnd) {
+        return elegir(salvaje, rival, politica, rnd);
+    }
+
+    Integer elegir(Combatiente salvaje, PokemonUsuario rival, Politica politica, RandomGenerator rnd) {
+        List<Ataques> movimientos = salvaje.movimientos();
+        FichaPokemon atacante = new FichaPokemon(salvaje.pokemon());
+        FichaPokemon defensor = new FichaPokemon(rival);
+        PokedexMaestra especie = politica == Politica.ALEATORIO
+            ? null
+            : catalogoEspecies.buscar(salvaje.pokemon().getPokedexId()).orElse(null);
+
+        // Máximo con desempate uniforme por reservorio: un solo recorrido y sin listas
+        int elegido = -1;
+        int empatados = 0;
+        double mejor = Double.NEGATIVE_INFINITY;
+        for (int slot = 0; slot < movimientos.size(); slot++) {
+            if (salvaje.ppActual(slot) <= 0) continue;
+            double valor = politica == Politica.ALEATORIO
+                ? 0
+                : puntuar(movimientos.get(slot), atacante, defensor, especie, rival.getPokedexId(), politica);
+            if (valor > mejor + EPSILON) {
+                mejor = valor;
+                elegido = slot;
+                empatados = 1;
+            } else if (valor > mejor - EPSILON && rnd.nextInt(++empatados) == 0) {
+                elegido = slot;
+            }
+        }
+        return elegido < 0 ? null : movimientos.get(elegido).getIdAtaque();
+    }
+
+    /** Valor del movimiento en fracción de los PS actuales del rival. */
+    private double puntuar(Ataques mov, EstadoCombate atacante, EstadoCombate defensor, PokedexMaestra especie,
+                           Integer pokedexRival, Politica politica) {
+        int potencia = mov.getPotencia() != null ? mov.getPotencia() : 0;
+        return puntuar(
+            politica,
+            potencia,
+            mov.getPrecisionBase() != null ? mov.getPrecisionBase() : 100,
+            "special".equalsIgnoreCase(mov.getCategoria()),
+            "status".equalsIgnoreCase(mov.getCategoria()) || potencia <= 0,
+            especie != null && mov.getTipo() != null
+                && (mov.getTipo() == especie.getTipo_1() || mov.getTipo() == especie.getTipo_2()),
+            tablaEnfrentamientos.multiplicador(mov.getTipo(), pokedexRival),
+            politica == Politica.ESTADOS ? catalogoEfectos.efecto(mov.getIdAtaque()) : EfectoMovimiento.NINGUNO,
+            atacante,
+            defensor);
+    }
+
+    /**
+     * La puntuación de {@link Politica#VORAZ} y {@link Politica#ESTADOS} con el movimiento ya resuelto contra el
+     * rival (efectividad, STAB, efecto de {@link CatalogoEfectos}), para que {@code SimuladorCombate} elija igual
+     * que la ronda online. Con {@link Politica#ALEATORIO} todos valen 0.
+     */
+    public static double puntuar(Politica politica, int potencia, int precision, boolean especial, boolean deEstado,
+                                 boolean stab, double efectividad, EfectoMovimiento efecto,
+                                 EstadoCombate atacante, EstadoCombate defensor) {
+        if (politica == Politica.ALEATORIO) return 0;
+        if (politica != Politica.ESTADOS || efecto == null) efecto = EfectoMovimiento.NINGUNO;
+
+        if (deEstado) {
+            return PrevisionDanio.probabilidadImpacto(precision) * valorEfecto(efecto, atacante, defensor);
+        }
+
+        PrevisionDanio p = PrevisionDanio.calcular(
+            atacante.nivel(),
+            especial ? atacante.ataqueEspecial() : atacante.ataque(),
+            especial ? defensor.defensaEspecial() : defensor.defensa(),
+            potencia,
+            efectividad,
+            stab,
+            atacante.estado(),
+            !especial,
+            precision,
+            defensor.hp());
+
+        double valor = p.danioEsperado() / Math.max(1, defensor.hp());
+        if (politica == Politica.ESTADOS) {
+            valor += BONO_KO * p.probabilidadKo()
+                + p.probabilidadImpacto() * (1 - p.probabilidadKo()) * efecto.probabilidad() / 100.0
+                    * valorEfecto(efecto, atacante, defensor);
+        }
+        return valor;
+    }
+
+    /** Lo que aporta el efecto si se aplica ahora; 0 si no prendería (ya tiene estado, ya está confuso…). */
+    private static double valorEfecto(EfectoMovimiento efecto, EstadoCombate atacante, EstadoCombate defensor) {
+        EstadoCombate objetivo = efecto.objetivo() == EfectoMovimiento.Objetivo.PROPIO ? atacante : defensor;
+        EfectoMovimiento.Tipo tipo = efecto.tipo();
+        if (tipo == EfectoMovimiento.Tipo.NINGUNO) return 0;
+        if (tipo.esStat()) return atacante.hp() * 2 > atacante.hpMax() ? VALOR_STAT : 0;
+        if (tipo == EfectoMovimiento.Tipo.CONFUNDIR) {
+            return objetivo.turnosConfusion() > 0 ? 0 : VALOR_ESTADO[tipo.ordinal()];
+        }
+        return objetivo.estado() != Estado.SALUDABLE ? 0 : VALOR_ESTADO[tipo.ordinal()];
+    }
+}
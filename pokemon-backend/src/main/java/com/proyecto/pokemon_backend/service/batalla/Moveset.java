@@ -0,0 +1,113 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Moveset materializado de un Pokémon (hasta 4 movimientos) con sus PP vivos y los que hay en BD. La diferencia
+ * entre ambos es lo que queda por volcar ({@link #pendientes()}); el moveset en sí no cambia mientras la entrada
+ * vive en {@link CacheMovesets}: aprender u olvidar un movimiento la invalida.
+ *
+ * Los PP se leen y modifican con el monitor de la instancia, porque el volcado periódico los recorre desde otro
+ * hilo mientras el combate sigue.
+ */
+public final class Moveset {
+
+    private final Long pokemonId;
+    private final List<Ataques> movimientos;
+    private final int[] ppActual;
+    private final int[] ppMax;
+    /** PP que hay en BD para cada slot ({@code -1}: sin fila). */
+    private final int[] ppGuardado;
+    /** Última vez que {@link CacheMovesets} lo entregó; decide qué se expulsa primero. */
+    private volatile long ultimoUso = System.currentTimeMillis();
+
+    /** {@code ppActual} debe ser lo que hay en BD en este momento (recién leído o recién escrito). */
+    public Moveset(Long pokemonId, List<Ataques> movimientos, int[] ppActual, int[] ppMax) {
+        this.pokemonId = pokemonId;
+        this.movimientos = List.copyOf(movimientos);
+        this.ppActual = ppActual.clone();
+        this.ppMax = ppMax.clone();
+        this.ppGuardado = ppActual.clone();
+    }
+
+    /** Moveset sin filas en BD, con los PP al máximo: {@link #pendientes()} devuelve siempre todos los slots. */
+    public static Moveset sinFilas(Long pokemonId, List<Ataques> movimientos, int[] ppMax) {
+        Moveset m = new Moveset(pokemonId, movimientos, ppMax, ppMax);
+        Arrays.fill(m.ppGuardado, -1);
+        return m;
+    }
+
+    public Long pokemonId() {
+        return pokemonId;
+    }
+
+    public List<Ataques> movimientos() {
+        return movimientos;
+    }
+
+    public synchronized int ppActual(int slot) {
+        return ppActual[slot];
+    }
+
+    public int ppMax(int slot) {
+        return ppMax[slot];
+    }
+
+    /** Slot del movimiento en el moveset, o {@code -1} si no lo conoce. */
+    public int slotDe(int moveId) {
+        for (int i = 0; i < movimientos.size(); i++) {
+            if (Objects.equals(movimientos.get(i).getIdAtaque(), moveId)) return i;
+        }
+        return -1;
+    }
+
+    /** Gasta un PP del slot y devuelve los que quedan. */
+    public synchronized int gastarPp(int slot) {
+        return --ppActual[slot];
+    }
+
+    /** Deja todos los slots con su PP máximo; sus filas de BD se han borrado, así que el volcado las reescribe. */
+    public synchronized void restaurarPp() {
+        System.arraycopy(ppMax, 0, ppActual, 0, ppActual.length);
+        Arrays.fill(ppGuardado, -1);
+    }
+
+    /** Slots cuyo PP no coincide con el de BD. */
+    public synchronized List<EstadoPpMovimiento> pendientes() {
+        List<EstadoPpMovimiento> pendientes = new ArrayList<>();
+        for (int slot = 0; slot < movimientos.size(); slot++) {
+            if (ppActual[slot] != ppGuardado[slot]) {
+                pendientes.add(new EstadoPpMovimiento(movimientos.get(slot).getIdAtaque(), slot, ppActual[slot]));
+            }
+        }
+        return pendientes;
+    }
+
+    public synchronized boolean isSucio() {
+        return !Arrays.equals(ppActual, ppGuardado);
+    }
+
+    long ultimoUso() {
+        return ultimoUso;
+    }
+
+    void usar() {
+        ultimoUso = System.currentTimeMillis();
+    }
+
+    /**
+     * Tras escribir {@code escritas} en BD. Solo avanza esos slots: si el combate gastó PP mientras se
+     * volcaba, siguen pendientes.
+     */
+    synchronized void marcarGuardado(List<EstadoPpMovimiento> escritas) {
+        for (EstadoPpMovimiento fila : escritas) {
+            ppGuardado[fila.slotIndex()] = fila.ppActual();
+        }
+    }
+}
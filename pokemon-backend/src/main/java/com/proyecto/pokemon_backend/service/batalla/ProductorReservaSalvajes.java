@@ -0,0 +1,80 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.service.BatallaService;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.Encuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.MomentoDia;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rellena {@link ReservaSalvajes} en segundo plano para el momento del día actual: por cada mapa con tabla, tira
+ * y construye salvajes ({@link BatallaService#construirPreparado}) hasta llenar su cola. Si una cola no admite
+ * más se pasa al siguiente mapa.
+ *
+ * Si construir falla (catálogo a medias al arrancar, especie de la tabla que no está en la Pokédex...) ese mapa
+ * se deja para la siguiente pasada y el fallo se cuenta en {@code pokemon.salvajes.reserva.fallos} (por
+ * {@code mapa}); solo se avisa en el log del primero y luego de uno de cada {@link #AVISO_CADA}.
+ */
+@Service
+public class ProductorReservaSalvajes {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductorReservaSalvajes.class);
+
+    /** Con la pasada cada segundo, un mapa que falla siempre avisa unas cuatro veces por hora. */
+    static final int AVISO_CADA = 1_000;
+
+    private final AtomicLong fallos = new AtomicLong();
+    private final BatallaService batallaService;
+    private final TablasEncuentro tablasEncuentro;
+    private final ReservaSalvajes reserva;
+    private final MeterRegistry metricas;
+
+    public ProductorReservaSalvajes(
+        BatallaService batallaService,
+        TablasEncuentro tablasEncuentro,
+        ReservaSalvajes reserva,
+        MeterRegistry metricas
+    ) {
+        this.batallaService = batallaService;
+        this.tablasEncuentro = tablasEncuentro;
+        this.reserva = reserva;
+        this.metricas = metricas;
+    }
+
+    @Scheduled(fixedDelay = 1_000, initialDelay = 5_000)
+    public void reponer() {
+        reponer(MomentoDia.de(LocalTime.now()));
+    }
+
+    /** Una pasada por todos los mapas para ese momento. */
+    void reponer(MomentoDia momento) {
+        for (String mapa : tablasEncuentro.mapas()) {
+            try {
+                for (int huecos = reserva.huecos(mapa, momento); huecos > 0; huecos--) {
+                    Optional<Encuentro> encuentro = tablasEncuentro.tirar(mapa, momento, ThreadLocalRandom.current());
+                    if (encuentro.isEmpty()) break;
+                    if (!reserva.ofrecer(mapa, momento, batallaService.construirPreparado(encuentro.get()))) break;
+                }
+            } catch (RuntimeException e) {
+                metricas.counter("pokemon.salvajes.reserva.fallos", "mapa", mapa).increment();
+                if (fallos.getAndIncrement() % AVISO_CADA == 0) {
+                    log.warn("Reserva de salvajes de {} sin reponer ({} fallos en total): {}", mapa, fallos.get(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Pasadas de un mapa que no pudieron construir un salvaje desde que arrancó la aplicación. */
+    public long getFallos() {
+        return fallos.get();
+    }
+}
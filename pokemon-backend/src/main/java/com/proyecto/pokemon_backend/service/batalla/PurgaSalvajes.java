@@ -0,0 +1,148 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Usuario;
+import com.proyecto.pokemon_backend.repository.RepositorioPurgaSalvajes;
+import com.proyecto.pokemon_backend.repository.RepositorioUsuario;
+import com.proyecto.pokemon_backend.support.CuentaSalvajes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Purga periódica de salvajes abandonados: olvida los {@link SalvajesEfimeros} sin uso y borra las filas de la
+ * cuenta técnica de salvajes que quedaron en {@code POKEMON_USUARIO} (de antes de que los salvajes vivieran en
+ * memoria, o de combates cortados a medias), con sus PP y su entrada en {@link CacheMovesets}.
+ *
+ * {@code POKEMON_USUARIO} no guarda cuándo se creó cada fila, así que la edad de una fila se cuenta desde la
+ * primera pasada que la ve; se borra cuando supera {@code pokemon.batalla.edad-maxima-salvaje} y no tiene
+ * combate abierto. Tras un reinicio la cuenta empieza de cero: se tarda más en borrar, nunca antes.
+ *
+ * Las filas se recorren por páginas de {@code pokemon.batalla.lote-purga} ids y cada página se borra en su
+ * propia transacción corta, para no bloquear la tabla mientras se juega.
+ *
+ * Métricas: {@code pokemon.salvajes.purgados} (por {@code origen}: {@code memoria} o {@code bd}),
+ * {@code pokemon.salvajes.purga} (duración de cada pasada), {@code pokemon.salvajes.efimeros} y
+ * {@code pokemon.salvajes.huerfanos} (filas vistas pendientes de cumplir la edad).
+ */
+@Service
+public class PurgaSalvajes {
+
+    private static final Logger log = LoggerFactory.getLogger(PurgaSalvajes.class);
+
+    /** Primera pasada en que se vio cada fila de salvaje. */
+    private final ConcurrentHashMap<Long, Long> vistas = new ConcurrentHashMap<>();
+    private final RepositorioPurgaSalvajes purgaRepo;
+    private final RepositorioUsuario userRepo;
+    private final SesionesBatalla sesiones;
+    private final SalvajesEfimeros salvajesEfimeros;
+    private final CacheMovesets cacheMovesets;
+    private final PropiedadesBatalla propiedades;
+    private final TransactionTemplate transaccion;
+    private final Counter purgadosMemoria;
+    private final Counter purgadosBd;
+    private final Timer duracion;
+
+    public PurgaSalvajes(
+        RepositorioPurgaSalvajes purgaRepo,
+        RepositorioUsuario userRepo,
+        SesionesBatalla sesiones,
+        SalvajesEfimeros salvajesEfimeros,
+        CacheMovesets cacheMovesets,
+        PropiedadesBatalla propiedades,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry metricas
+    ) {
+        this.purgaRepo = purgaRepo;
+        this.userRepo = userRepo;
+        this.sesiones = sesiones;
+        this.salvajesEfimeros = salvajesEfimeros;
+        this.cacheMovesets = cacheMovesets;
+        this.propiedades = propiedades;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.transaccion.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.purgadosMemoria = Counter.builder("pokemon.salvajes.purgados").tag("origen", "memoria")
+            .description("Salvajes abandonados purgados").register(metricas);
+        this.purgadosBd = Counter.builder("pokemon.salvajes.purgados").tag("origen", "bd")
+            .description("Salvajes abandonados purgados").register(metricas);
+        this.duracion = Timer.builder("pokemon.salvajes.purga")
+            .description("Duración de cada pasada de purga de salvajes").register(metricas);
+        metricas.gauge("pokemon.salvajes.efimeros", salvajesEfimeros, SalvajesEfimeros::contar);
+        metricas.gauge("pokemon.salvajes.huerfanos", vistas, ConcurrentHashMap::size);
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void purgar() {
+        duracion.record(() -> purgar(System.currentTimeMillis()));
+    }
+
+    /** Una pasada completa con {@code ahora} como hora actual. */
+    synchronized void purgar(long ahora) {
+        int enMemoria = salvajesEfimeros.expirar(ahora);
+        purgadosMemoria.increment(enMemoria);
+
+        Long usuarioId = userRepo.findByUsername(CuentaSalvajes.USERNAME).map(Usuario::getIdUsuario).orElse(null);
+        int enBd = usuarioId == null ? 0 : purgarFilas(usuarioId, ahora);
+        purgadosBd.increment(enBd);
+
+        if (enMemoria > 0 || enBd > 0) {
+            log.info("Purga de salvajes: {} en memoria y {} filas de BD", enMemoria, enBd);
+        }
+    }
+
+    private int purgarFilas(Long usuarioId, long ahora) {
+        long limite = ahora - propiedades.getEdadMaximaSalvaje().toMillis();
+        int lote = propiedades.getLotePurga();
+        Set<Long> presentes = new HashSet<>();
+        int borradas = 0;
+        long ultimo = 0;
+        List<Long> pagina;
+        do {
+            pagina = purgaRepo.idsDeUsuario(usuarioId, ultimo, lote);
+            if (pagina.isEmpty()) break;
+            ultimo = pagina.getLast();
+
+            List<Long> caducadas = new ArrayList<>();
+            for (Long id : pagina) {
+                long vista = vistas.computeIfAbsent(id, k -> ahora);
+                if (vista <= limite && sesiones.buscar(id).isEmpty()) {
+                    caducadas.add(id);
+                } else {
+                    presentes.add(id);
+                }
+            }
+            try {
+                borradas += borrar(usuarioId, caducadas);
+            } catch (RuntimeException e) {
+                // Se reintentan en la siguiente pasada sin perder la edad ya contada
+                log.warn("No se pudieron purgar {} salvajes de BD: {}", caducadas.size(), e.getMessage());
+                presentes.addAll(caducadas);
+            }
+        } while (pagina.size() == lote);
+
+        // Lo que ya no está (capturado, borrado o purgado) no cuenta como huérfano
+        vistas.keySet().retainAll(presentes);
+        return borradas;
+    }
+
+    private int borrar(Long usuarioId, List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        // Fuera del monitor de la caché un volcado podría resucitar las filas de PP: se descartan antes
+        ids.forEach(cacheMovesets::descartar);
+        Integer n = transaccion.execute(status -> purgaRepo.eliminar(usuarioId, ids));
+        return n == null ? 0 : n;
+    }
+}
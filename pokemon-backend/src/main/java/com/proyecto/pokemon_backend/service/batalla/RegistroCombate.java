@@ -0,0 +1,83 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.service.batalla.EventoCombate.Tipo;
+import com.proyecto.pokemon_backend.service.logica.EstadoCombate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Eventos de una {@link SesionBatalla} aún no entregados a {@link DiarioCombates}, ya codificados en binario
+ * (formato en {@link EventoCombate}). Anotar solo escribe en un array en memoria; como el resto de la sesión,
+ * se usa con su monitor tomado.
+ *
+ * Para los cambios de estado guarda la última foto de cada participante y solo anota {@link Tipo#ESTADO}
+ * cuando algo difiere.
+ */
+public final class RegistroCombate {
+
+    private byte[] buffer = new byte[256];
+    private int longitud;
+    private boolean terminado;
+    private final Map<Long, long[]> fotos = new HashMap<>();
+
+    /** Anota un evento; después de {@link Tipo#FIN} no hace nada. */
+    public void anotar(Tipo tipo, long pokemonId, long... datos) {
+        if (terminado) return;
+        if (datos.length != tipo.campos().size()) {
+            throw new IllegalArgumentException(tipo + " espera " + tipo.campos().size() + " campos");
+        }
+        escribirByte(tipo.codigo());
+        escribirVarint(pokemonId);
+        for (long d : datos) escribirVarint(d);
+        if (tipo == Tipo.FIN) terminado = true;
+    }
+
+    /** Anota {@link Tipo#ESTADO} si el Pokémon ha cambiado desde la última foto (o no la había). */
+    public void cambios(long pokemonId, EstadoCombate f) {
+        long[] foto = {
+            f.hp(), f.estado().ordinal(), f.turnosSueno(), f.turnosConfusion(), f.contadorToxico(),
+            f.drenadoras() ? 1 : 0, f.ataque(), f.defensa(), f.ataqueEspecial(), f.velocidad()
+        };
+        long[] previa = fotos.get(pokemonId);
+        if (previa != null && Arrays.equals(previa, foto)) return;
+        fotos.put(pokemonId, foto);
+        anotar(Tipo.ESTADO, pokemonId, foto);
+    }
+
+    /**
+     * Como {@link #anotar} para {@link Tipo#DANIO}, pero actualiza los PS de la foto del rival: el daño ya dice
+     * cómo queda y no hace falta repetirlo en un {@link Tipo#ESTADO}.
+     */
+    public void danio(long atacanteId, long rivalId, int danio, boolean critico, int hpRival) {
+        anotar(Tipo.DANIO, atacanteId, rivalId, danio, critico ? 1 : 0, hpRival);
+        long[] foto = fotos.get(rivalId);
+        if (foto != null) foto[0] = hpRival;
+    }
+
+    public boolean isVacio() {
+        return longitud == 0;
+    }
+
+    /** Devuelve lo anotado desde la última llamada y vacía el registro. */
+    public byte[] extraer() {
+        byte[] bloque = Arrays.copyOf(buffer, longitud);
+        longitud = 0;
+        return bloque;
+    }
+
+    private void escribirVarint(long valor) {
+        long zigzag = (valor << 1) ^ (valor >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            escribirByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        escribirByte((int) zigzag);
+    }
+
+    private void escribirByte(int b) {
+        if (longitud == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        buffer[longitud++] = (byte) b;
+    }
+}
@@ -0,0 +1,108 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.MomentoDia;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Salvajes ya tirados y construidos (stats y moveset resueltos), a la espera de un encuentro. Hay una cola por
+ * mapa y momento del día; un encuentro en hierba se sirve sacando el primero de la suya, y solo si está vacía
+ * se prepara al momento. Las repone en segundo plano {@link ProductorReservaSalvajes} tirando en la misma tabla
+ * de encuentros, así que la reserva sigue las tasas de la tabla: tiene más de lo que más sale.
+ *
+ * Cada cola está acotada a {@code pokemon.batalla.reserva-salvajes} y no usa cerrojos: el tamaño se reserva
+ * con un CAS antes de encolar, y si no cabe el productor para (contrapresión) hasta la siguiente pasada. Los
+ * salvajes de la reserva no tienen id ni están en {@link SalvajesEfimeros} hasta que se sirven.
+ *
+ * Métricas: {@code pokemon.salvajes.reserva} (profundidad de cada cola, por {@code mapa} y {@code momento}),
+ * {@code pokemon.salvajes.encuentros} (por {@code origen}: {@code reserva} o {@code directo}) y, desde el
+ * productor, {@code pokemon.salvajes.reserva.fallos}.
+ */
+@Service
+public class ReservaSalvajes {
+
+    private final ConcurrentHashMap<String, Cola> colas = new ConcurrentHashMap<>();
+    private final PropiedadesBatalla propiedades;
+    private final MeterRegistry metricas;
+    private final Counter servidos;
+    private final Counter directos;
+
+    public ReservaSalvajes(PropiedadesBatalla propiedades, MeterRegistry metricas) {
+        this.propiedades = propiedades;
+        this.metricas = metricas;
+        this.servidos = metricas.counter("pokemon.salvajes.encuentros", "origen", "reserva");
+        this.directos = metricas.counter("pokemon.salvajes.encuentros", "origen", "directo");
+    }
+
+    /** Saca un salvaje listo para ese mapa y momento; vacío si no queda (el encuentro se prepara al momento). */
+    public Optional<SalvajePreparado> tomar(String mapa, MomentoDia momento) {
+        SalvajePreparado s = cola(mapa, momento).sacar();
+        (s != null ? servidos : directos).increment();
+        return Optional.ofNullable(s);
+    }
+
+    /** Huecos libres en la cola de ese mapa y momento. */
+    public int huecos(String mapa, MomentoDia momento) {
+        return Math.max(0, propiedades.getReservaSalvajes() - cola(mapa, momento).tamano.get());
+    }
+
+    /**
+     * Encola {@code salvaje} si cabe.
+     *
+     * @return {@code false} si la cola está llena: el productor debe parar
+     */
+    public boolean ofrecer(String mapa, MomentoDia momento, SalvajePreparado salvaje) {
+        return cola(mapa, momento).meter(salvaje, propiedades.getReservaSalvajes());
+    }
+
+    private Cola cola(String mapa, MomentoDia momento) {
+        String clave = TablasEncuentro.normalizarMapa(mapa);
+        return colas.computeIfAbsent(clave + "|" + momento, k -> {
+            Cola nueva = new Cola();
+            metricas.gauge("pokemon.salvajes.reserva", Tags.of("mapa", clave, "momento", momento.name()),
+                nueva.tamano, AtomicInteger::get);
+            return nueva;
+        });
+    }
+
+    /** Cola acotada sin cerrojos: {@code tamano} cuenta los huecos ocupados, incluidos los reservados. */
+    private static final class Cola {
+
+        private final ConcurrentLinkedQueue<SalvajePreparado> elementos = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger tamano = new AtomicInteger();
+
+        boolean meter(SalvajePreparado salvaje, int capacidad) {
+            int n;
+            do {
+                n = tamano.get();
+                if (n >= capacidad) return false;
+            } while (!tamano.compareAndSet(n, n + 1));
+            elementos.offer(salvaje);
+            return true;
+        }
+
+        SalvajePreparado sacar() {
+            SalvajePreparado s = elementos.poll();
+            if (s != null) tamano.decrementAndGet();
+            return s;
+        }
+    }
+
+    /**
+     * Un salvaje listo para registrar: la entidad sin id, el nombre de la especie para la respuesta y su moveset
+     * resuelto con los PP máximos de cada slot.
+     */
+    public record SalvajePreparado(PokemonUsuario pokemon, String nombre, List<Ataques> movimientos, int[] ppMax) {}
+}
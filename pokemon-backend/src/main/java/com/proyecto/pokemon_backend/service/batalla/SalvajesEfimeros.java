@@ -0,0 +1,115 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Instancias de Pokémon salvaje que solo existen en memoria: la mayoría de encuentros acaban en KO o huida, y
+ * así no cuestan un insert y un delete en {@code POKEMON_USUARIO} (ni filas de PP). Solo una captura las
+ * escribe, ya como Pokémon del jugador y con id nuevo.
+ *
+ * Comparten espacio de ids con {@code POKEMON_USUARIO} usando ids negativos ({@link #esEfimero}), que nunca da
+ * el autoincremento. El contador arranca en {@code -milisegundos × 1000} para que un reinicio no repita ids
+ * ya usados (el diario de combates los guarda). Una instancia sin accesos durante
+ * {@code pokemon.batalla.edad-maxima-salvaje} se olvida, salvo que siga en un combate abierto; lo programa
+ * {@link PurgaSalvajes}.
+ */
+@Service
+public class SalvajesEfimeros {
+
+    private final ConcurrentHashMap<Long, SalvajeEfimero> vivos = new ConcurrentHashMap<>();
+    private final AtomicLong siguienteId = new AtomicLong(-System.currentTimeMillis() * 1_000);
+    private final SesionesBatalla sesiones;
+    private final PropiedadesBatalla propiedades;
+
+    public SalvajesEfimeros(SesionesBatalla sesiones, PropiedadesBatalla propiedades) {
+        this.sesiones = sesiones;
+        this.propiedades = propiedades;
+    }
+
+    /** {@code true} si el id es de una instancia en memoria y no de una fila de {@code POKEMON_USUARIO}. */
+    public static boolean esEfimero(Long pokemonId) {
+        return pokemonId != null && pokemonId < 0;
+    }
+
+    /**
+     * Da id a {@code pokemon} y lo guarda.
+     *
+     * @param movesetPersonalizado ids de {@code ATAQUES} fijados al prepararlo (sala debug), o vacío
+     */
+    public SalvajeEfimero registrar(PokemonUsuario pokemon, List<Integer> movesetPersonalizado) {
+        pokemon.setId(siguienteId.getAndDecrement());
+        SalvajeEfimero s = new SalvajeEfimero(pokemon, List.copyOf(movesetPersonalizado));
+        vivos.put(pokemon.getId(), s);
+        return s;
+    }
+
+    /** Instancia viva con ese id; cuenta como acceso para su caducidad. */
+    public Optional<SalvajeEfimero> buscar(Long pokemonId) {
+        SalvajeEfimero s = pokemonId == null ? null : vivos.get(pokemonId);
+        if (s != null) s.tocar();
+        return Optional.ofNullable(s);
+    }
+
+    /** Olvida la instancia (liberada o capturada). */
+    public void eliminar(Long pokemonId) {
+        if (pokemonId != null) vivos.remove(pokemonId);
+    }
+
+    public int contar() {
+        return vivos.size();
+    }
+
+    /**
+     * Olvida las instancias sin accesos desde hace la edad máxima que no estén en un combate abierto.
+     *
+     * @return instancias olvidadas
+     */
+    int expirar(long ahora) {
+        long limite = ahora - propiedades.getEdadMaximaSalvaje().toMillis();
+        int antes = vivos.size();
+        vivos.values().removeIf(s -> s.ultimoAcceso < limite && sesiones.buscar(s.pokemon.getId()).isEmpty());
+        return antes - vivos.size();
+    }
+
+    /** Un salvaje en memoria con lo que antes se guardaba aparte: su moveset y el personalizado de la sala. */
+    public static final class SalvajeEfimero {
+
+        private final PokemonUsuario pokemon;
+        private final List<Integer> movesetPersonalizado;
+        private Moveset moveset;
+        private volatile long ultimoAcceso;
+
+        SalvajeEfimero(PokemonUsuario pokemon, List<Integer> movesetPersonalizado) {
+            this.pokemon = pokemon;
+            this.movesetPersonalizado = movesetPersonalizado;
+            tocar();
+        }
+
+        /** La entidad viva: la sesión de combate la modifica en el sitio. */
+        public PokemonUsuario pokemon() {
+            return pokemon;
+        }
+
+        public List<Integer> movesetPersonalizado() {
+            return movesetPersonalizado;
+        }
+
+        /** Moveset de la instancia, creado con {@code crear} la primera vez (sin filas en BD). */
+        public synchronized Moveset moveset(Supplier<Moveset> crear) {
+            if (moveset == null) moveset = crear.get();
+            return moveset;
+        }
+
+        void tocar() {
+            ultimoAcceso = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.service.batalla.EventoCombate.Tipo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Un combate contra un salvaje en curso. El id de la batalla es el {@code id_pokemon_usuario} del salvaje,
+ * que el cliente ya envía en cada petición de combate; el resto de combatientes son los Pokémon del jugador
+ * que han salido a pelear (se añaden al cambiar de Pokémon).
+ *
+ * Las entidades son copias desacopladas del contexto JPA: el turno las modifica en memoria y
+ * {@link SesionesBatalla} las vuelca. Quien lee o modifica la sesión lo hace con su monitor tomado
+ * ({@code synchronized (sesion)}), así dos peticiones del mismo combate no se pisan.
+ *
+ * Cada combate tira de su propio generador, creado con una semilla que se registra al abrirlo: no hay estado
+ * aleatorio compartido entre combates y, con la misma semilla y las mismas acciones, el combate se repite.
+ * Lo que ocurre se anota en su {@link RegistroCombate}, que {@link DiarioCombates} escribe aparte.
+ */
+public class SesionBatalla {
+
+    private final Long id;
+    private final Long usuarioId;
+    private final String username;
+    private final long semilla;
+    private final SplittableRandom aleatorio;
+    private final Map<Long, Combatiente> combatientes = new LinkedHashMap<>();
+    private final RegistroCombate registro = new RegistroCombate();
+    private volatile long ultimoAcceso;
+    private volatile boolean cerrada;
+
+    public SesionBatalla(Long id, Long usuarioId, String username, long semilla) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.usuarioId = usuarioId;
+        this.username = username;
+        this.semilla = semilla;
+        this.aleatorio = new SplittableRandom(semilla);
+        registro.anotar(Tipo.INICIO, id, semilla, usuarioId != null ? usuarioId : 0);
+        tocar();
+    }
+
+    /** Id del combate: el del Pokémon salvaje. */
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /** Semilla con la que se creó el generador del combate. */
+    public long getSemilla() {
+        return semilla;
+    }
+
+    /** Generador del combate. No es thread-safe: solo se usa con el monitor de la sesión tomado. */
+    public RandomGenerator aleatorio() {
+        return aleatorio;
+    }
+
+    /** Eventos pendientes de entregar al diario. Como el generador, solo con el monitor de la sesión tomado. */
+    public RegistroCombate registro() {
+        return registro;
+    }
+
+    /** Anota {@link Tipo#ESTADO} de cada participante que haya cambiado desde su última foto. */
+    public synchronized void anotarCambios() {
+        combatientes.forEach((pokemonId, c) -> registro.cambios(pokemonId, new FichaPokemon(c.pokemon())));
+    }
+
+    /** Añade (o sustituye) un participante con su moveset ya materializado. */
+    public synchronized Combatiente agregar(PokemonUsuario pokemon, Moveset moveset) {
+        Combatiente c = new Combatiente(pokemon, moveset);
+        combatientes.put(pokemon.getId(), c);
+        FichaPokemon f = new FichaPokemon(pokemon);
+        registro.anotar(Tipo.ENTRA, pokemon.getId(), pokemon.getPokedexId() != null ? pokemon.getPokedexId() : 0,
+            f.nivel(), f.hpMax());
+        registro.cambios(pokemon.getId(), f);
+        return c;
+    }
+
+    public synchronized boolean participa(Long pokemonId) {
+        return pokemonId != null && combatientes.containsKey(pokemonId);
+    }
+
+    public synchronized Optional<Combatiente> combatiente(Long pokemonId) {
+        return Optional.ofNullable(combatientes.get(pokemonId));
+    }
+
+    /** Copia de los participantes, en orden de entrada (el salvaje primero). */
+    public synchronized Collection<Combatiente> combatientes() {
+        return new ArrayList<>(combatientes.values());
+    }
+
+    public synchronized Combatiente salvaje() {
+        return combatientes.get(id);
+    }
+
+    /** Una sesión cerrada ya se volcó (o se descartó) y no admite más turnos. */
+    public boolean isCerrada() {
+        return cerrada;
+    }
+
+    synchronized void cerrar() {
+        cerrada = true;
+        registro.anotar(Tipo.FIN, id);
+    }
+
+    public long getUltimoAcceso() {
+        return ultimoAcceso;
+    }
+
+    public void tocar() {
+        ultimoAcceso = System.currentTimeMillis();
+    }
+
+    /** Pokémon en combate con su moveset, compartido con {@link CacheMovesets}. */
+    public static final class Combatiente {
+
+        private final PokemonUsuario pokemon;
+        private final Moveset moveset;
+
+        Combatiente(PokemonUsuario pokemon, Moveset moveset) {
+            this.pokemon = pokemon;
+            this.moveset = moveset;
+        }
+
+        public PokemonUsuario pokemon() {
+            return pokemon;
+        }
+
+        public Moveset moveset() {
+            return moveset;
+        }
+
+        public List<Ataques> movimientos() {
+            return moveset.movimientos();
+        }
+
+        public int ppActual(int slot) {
+            return moveset.ppActual(slot);
+        }
+
+        public int ppMax(int slot) {
+            return moveset.ppMax(slot);
+        }
+
+        /** Slot del movimiento en el moveset, o {@code -1} si no lo conoce. */
+        public int slotDe(int moveId) {
+            return moveset.slotDe(moveId);
+        }
+
+        /** Gasta un PP del slot y devuelve los que quedan. */
+        public int gastarPp(int slot) {
+            return moveset.gastarPp(slot);
+        }
+    }
+}
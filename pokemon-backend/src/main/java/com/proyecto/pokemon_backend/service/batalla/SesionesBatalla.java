@@ -0,0 +1,157 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.repository.RepositorioPokemonUsuario;
+import com.proyecto.pokemon_backend.service.batalla.SesionBatalla.Combatiente;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registro de combates abiertos y su volcado a BD (write-behind).
+ *
+ * Mientras una {@link SesionBatalla} está abierta, {@code POKEMON_USUARIO} no refleja los turnos (y
+ * {@code POKEMON_MOVIMIENTOS_USUARIO} solo lo que haya adelantado {@link CacheMovesets#volcarPendientes}): el
+ * estado vivo está aquí. Se escribe en una transacción propia al volcar
+ * ({@link #volcar}), al cerrar con volcado, al expirar por inactividad y al parar la aplicación. Los servicios
+ * que leen o modifican el equipo fuera de combate cierran antes las sesiones del usuario
+ * ({@link #cerrarDeUsuario}) para no trabajar sobre filas desfasadas.
+ */
+@Service
+public class SesionesBatalla {
+
+    private static final Logger log = LoggerFactory.getLogger(SesionesBatalla.class);
+
+    /** Sin turnos durante este tiempo el combate se da por abandonado: se vuelca y se cierra. */
+    static final Duration INACTIVIDAD_MAXIMA = Duration.ofMinutes(15);
+
+    private final ConcurrentHashMap<Long, SesionBatalla> abiertas = new ConcurrentHashMap<>();
+    private final RepositorioPokemonUsuario pokemonRepo;
+    private final CacheMovesets cacheMovesets;
+    private final DiarioCombates diario;
+
+    public SesionesBatalla(RepositorioPokemonUsuario pokemonRepo, CacheMovesets cacheMovesets, DiarioCombates diario) {
+        this.pokemonRepo = pokemonRepo;
+        this.cacheMovesets = cacheMovesets;
+        this.diario = diario;
+    }
+
+    public Optional<SesionBatalla> buscar(Long batallaId) {
+        return batallaId == null ? Optional.empty() : Optional.ofNullable(abiertas.get(batallaId));
+    }
+
+    /** Sesión abierta en la que participa {@code pokemonId}, sea el salvaje o un Pokémon del jugador. */
+    public Optional<SesionBatalla> buscarPorParticipante(Long pokemonId) {
+        if (pokemonId == null) return Optional.empty();
+        SesionBatalla directa = abiertas.get(pokemonId);
+        if (directa != null) return Optional.of(directa);
+        return abiertas.values().stream().filter(s -> s.participa(pokemonId)).findFirst();
+    }
+
+    /**
+     * Registra {@code nueva} salvo que otra petición haya abierto ya el mismo combate; devuelve la que queda
+     * registrada.
+     */
+    public SesionBatalla abrir(SesionBatalla nueva) {
+        SesionBatalla previa = abiertas.putIfAbsent(nueva.getId(), nueva);
+        if (previa != null) return previa;
+        log.info("Combate {} abierto para {} con semilla {}", nueva.getId(), nueva.getUsername(), nueva.getSemilla());
+        return nueva;
+    }
+
+    /**
+     * Checkpoint: escribe el estado de todos los participantes sin cerrar la sesión, en una transacción. De PP
+     * solo van los slots que cambiaron desde el último volcado, todos en un lote ({@link CacheMovesets#volcar}).
+     * Un salvaje en memoria ({@link SalvajesEfimeros}) no se escribe: su estado ya es el de la sesión.
+     */
+    public void volcar(SesionBatalla sesion) {
+        synchronized (sesion) {
+            Collection<Combatiente> combatientes = sesion.combatientes();
+            cacheMovesets.volcar(
+                combatientes.stream().map(Combatiente::moveset).toList(),
+                () -> combatientes.stream()
+                    .map(Combatiente::pokemon)
+                    .filter(p -> !SalvajesEfimeros.esEfimero(p.getId()))
+                    .forEach(pokemonRepo::save)
+            );
+            sesion.tocar();
+        }
+    }
+
+    /**
+     * Si {@code volcar}, escribe el estado de la sesión y solo entonces la cierra y la saca del registro: si la
+     * transacción falla la excepción se propaga y el combate sigue abierto, con todo su estado, para el
+     * siguiente intento. Sin volcado el combate se descarta (p. ej. al reiniciar partida, cuyas filas se borran
+     * igualmente). En ambos casos sus últimos eventos, con el de cierre, pasan al {@link DiarioCombates}.
+     */
+    public void cerrar(Long batallaId, boolean volcar) {
+        SesionBatalla sesion = batallaId == null ? null : abiertas.get(batallaId);
+        if (sesion == null) return;
+        synchronized (sesion) {
+            if (sesion.isCerrada()) return;
+            if (volcar) volcar(sesion);
+            sesion.cerrar();
+            abiertas.remove(batallaId, sesion);
+            diario.entregar(sesion);
+        }
+    }
+
+    /** Cierra todos los combates abiertos del usuario. */
+    public void cerrarDeUsuario(Long usuarioId, boolean volcar) {
+        for (SesionBatalla sesion : List.copyOf(abiertas.values())) {
+            if (Objects.equals(sesion.getUsuarioId(), usuarioId)) {
+                cerrar(sesion.getId(), volcar);
+            }
+        }
+    }
+
+    public int contarAbiertas() {
+        return abiertas.size();
+    }
+
+    /**
+     * Vuelca y cierra los combates sin actividad desde hace {@link #INACTIVIDAD_MAXIMA}; después acota
+     * {@link CacheMovesets} sin tocar los movesets de los combates que siguen abiertos.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void expirarInactivas() {
+        long ahora = System.currentTimeMillis();
+        long limite = ahora - INACTIVIDAD_MAXIMA.toMillis();
+        for (SesionBatalla sesion : List.copyOf(abiertas.values())) {
+            if (sesion.getUltimoAcceso() < limite) {
+                cerrarSinPropagar(sesion);
+            }
+        }
+        Set<Long> enCombate = abiertas.values().stream()
+            .flatMap(s -> s.combatientes().stream())
+            .map(c -> c.pokemon().getId())
+            .collect(Collectors.toSet());
+        cacheMovesets.expulsar(ahora, enCombate::contains);
+    }
+
+    /** Al parar la aplicación no se pierde ningún combate a medias (salvo que la BD tampoco responda). */
+    @PreDestroy
+    public void volcarTodas() {
+        for (SesionBatalla sesion : List.copyOf(abiertas.values())) {
+            cerrarSinPropagar(sesion);
+        }
+    }
+
+    private void cerrarSinPropagar(SesionBatalla sesion) {
+        try {
+            cerrar(sesion.getId(), true);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo volcar el combate {}; sigue abierto: {}", sesion.getId(), e.getMessage());
+        }
+    }
+}
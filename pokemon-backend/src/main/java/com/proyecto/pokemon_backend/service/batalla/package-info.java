@@ -0,0 +1,10 @@
+/**
+ * Estado de combate en memoria: una sesión por combate salvaje guarda PS, estados, contadores volátiles y PP
+ * de los participantes mientras dura la pelea, y se vuelca a BD solo en los puntos de control (fin, captura,
+ * huida, checkpoint explícito o abandono). Los movesets con sus PP viven en una caché compartida entre
+ * combates que se vuelca en lotes. Los salvajes viven solo en memoria hasta que se capturan
+ * ({@code SalvajesEfimeros}), los encuentros en hierba salen de una reserva ya construida por mapa
+ * ({@code ReservaSalvajes}) y una purga periódica olvida los abandonados ({@code PurgaSalvajes}); cada
+ * combate deja un diario de eventos que se escribe aparte, por lotes.
+ */
+package com.proyecto.pokemon_backend.service.batalla;
@@ -0,0 +1,106 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Instantánea de solo lectura de {@code ATAQUES} con dos índices: array por {@code id_ataque} y hash por
+ * nombre normalizado (kebab-case en minúsculas, como lo devuelve PokéAPI).
+ *
+ * Sustituye a {@code findById}/{@code findByNombreIgnoreCase} dentro de bucles (slots, learnsets, fallback).
+ * Las entidades se comparten entre hilos: nadie debe modificarlas.
+ */
+@Service
+public class CatalogoAtaques {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogoAtaques.class);
+
+    private final RepositorioAtaques ataquesRepo;
+
+    /** Ambos índices viajan juntos para que un recargado nunca se vea a medias. */
+    private volatile Indices indices;
+
+    /** @param ataquesRepo origen de la instantánea */
+    public CatalogoAtaques(RepositorioAtaques ataquesRepo) {
+        this.ataquesRepo = ataquesRepo;
+    }
+
+    /**
+     * Al terminar el arranque carga desde BD, salvo que ya haya datos publicados (instantánea binaria o un
+     * cargador que haya llamado a {@link #recargar()} tras escribir).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        indices();
+    }
+
+    /** Relee la tabla completa. Se llama tras cualquier carga masiva. */
+    public void recargar() {
+        cargarDesde(ataquesRepo.findAll());
+    }
+
+    /** Publica {@code filas} como catálogo sin consultar BD (p. ej. desde la instantánea binaria). */
+    public void cargarDesde(List<Ataques> filas) {
+        int max = 0;
+        for (Ataques a : filas) {
+            if (a.getIdAtaque() != null) max = Math.max(max, a.getIdAtaque());
+        }
+        Ataques[] porId = new Ataques[max + 1];
+        Map<String, Ataques> porNombre = new HashMap<>();
+        for (Ataques a : filas) {
+            Integer id = a.getIdAtaque();
+            if (id == null || id <= 0) continue;
+            porId[id] = a;
+            String clave = normalizar(a.getNombre());
+            if (!clave.isEmpty()) porNombre.putIfAbsent(clave, a);
+        }
+        indices = new Indices(porId, Map.copyOf(porNombre));
+        log.debug("Catálogo de movimientos recargado ({} filas)", filas.size());
+    }
+
+    /** Movimiento por {@code id_ataque}; vacío si es null, no positivo o no está en catálogo. */
+    public Optional<Ataques> buscar(Integer idAtaque) {
+        if (idAtaque == null || idAtaque <= 0) return Optional.empty();
+        Ataques[] porId = indices().porId();
+        return idAtaque < porId.length ? Optional.ofNullable(porId[idAtaque]) : Optional.empty();
+    }
+
+    /** Movimiento por nombre; acepta mayúsculas y espacios ({@code "Water Gun"} → {@code water-gun}). */
+    public Optional<Ataques> buscarPorNombre(String nombre) {
+        String clave = normalizar(nombre);
+        return clave.isEmpty() ? Optional.empty() : Optional.ofNullable(indices().porNombre().get(clave));
+    }
+
+    /** Forma canónica de nombre de movimiento en BD y PokéAPI: minúsculas, sin bordes, espacios → guion. */
+    public static String normalizar(String nombre) {
+        if (nombre == null) return "";
+        return nombre.trim().toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+
+    /** Índices publicados; si una petición llega antes del arranque completo, los carga en ese momento. */
+    private Indices indices() {
+        Indices actual = indices;
+        if (actual == null) {
+            synchronized (this) {
+                if (indices == null) {
+                    recargar();
+                }
+                actual = indices;
+            }
+        }
+        return actual;
+    }
+
+    private record Indices(Ataques[] porId, Map<String, Ataques> porNombre) {}
+}
@@ -0,0 +1,106 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Efecto de cada movimiento por {@code id_ataque}, leído al arrancar de {@link #RECURSO} y compilado a un
+ * array: el turno lo resuelve con una lectura indexada. Añadir efectos es editar el fichero, no el código.
+ *
+ * Un fichero mal formado (ids repetidos, tipos desconocidos, probabilidades o multiplicadores imposibles)
+ * impide arrancar con {@link IllegalStateException}, como el dataset.
+ */
+@Service
+public class CatalogoEfectos {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogoEfectos.class);
+
+    /** Tabla empaquetada en el jar. */
+    public static final String RECURSO = "datos/efectos-movimientos.json";
+
+    static final int FORMATO = 1;
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final EfectoMovimiento[] porId;
+
+    public CatalogoEfectos() {
+        this(new ClassPathResource(RECURSO));
+    }
+
+    /** @param recurso tabla en el formato de {@link #RECURSO} */
+    CatalogoEfectos(Resource recurso) {
+        this.porId = compilar(leer(recurso));
+        log.debug("Tabla de efectos de movimientos cargada ({} ids)", porId.length);
+    }
+
+    /** Efecto del movimiento; {@link EfectoMovimiento#NINGUNO} si no tiene o el id es null o desconocido. */
+    public EfectoMovimiento efecto(Integer idAtaque) {
+        if (idAtaque == null || idAtaque <= 0 || idAtaque >= porId.length) return EfectoMovimiento.NINGUNO;
+        return porId[idAtaque];
+    }
+
+    private static Tabla leer(Resource recurso) {
+        try (InputStream in = recurso.getInputStream()) {
+            Tabla tabla = JSON.readValue(in, Tabla.class);
+            if (tabla.formato() != FORMATO || tabla.efectos() == null) {
+                throw new IllegalStateException(
+                    "Formato de tabla de efectos no soportado: " + tabla.formato() + " (esperado " + FORMATO + ")");
+            }
+            return tabla;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + recurso.getDescription(), e);
+        }
+    }
+
+    private static EfectoMovimiento[] compilar(Tabla tabla) {
+        int max = 0;
+        for (Entrada e : tabla.efectos()) max = Math.max(max, e.id());
+        EfectoMovimiento[] porId = new EfectoMovimiento[max + 1];
+        Arrays.fill(porId, EfectoMovimiento.NINGUNO);
+
+        for (Entrada e : tabla.efectos()) {
+            if (e.id() <= 0) throw new IllegalStateException("Id de movimiento no válido en la tabla de efectos: " + e);
+            if (porId[e.id()] != EfectoMovimiento.NINGUNO) {
+                throw new IllegalStateException("Movimiento repetido en la tabla de efectos: " + e);
+            }
+            try {
+                porId[e.id()] = new EfectoMovimiento(
+                    e.tipo(),
+                    e.objetivo(),
+                    e.probabilidad() != null ? e.probabilidad() : 100,
+                    e.multiplicador() != null ? e.multiplicador() : 1.0,
+                    e.mensaje());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalStateException("Efecto no válido para " + e.movimiento() + ": " + ex.getMessage(), ex);
+            }
+        }
+        return porId;
+    }
+
+    private record Tabla(int formato, List<Entrada> efectos) {}
+
+    /** Una fila del fichero; {@code movimiento} es solo para quien lo lee. */
+    private record Entrada(
+        int id,
+        String movimiento,
+        EfectoMovimiento.Tipo tipo,
+        EfectoMovimiento.Objetivo objetivo,
+        Integer probabilidad,
+        Double multiplicador,
+        String mensaje
+    ) {}
+}
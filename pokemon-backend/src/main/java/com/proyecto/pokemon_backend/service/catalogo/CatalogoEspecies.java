@@ -0,0 +1,96 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Instantánea de solo lectura de {@code POKEDEX_MAESTRA}, indexada por número de Pokédex (1..251).
+ *
+ * La tabla no cambia tras {@code CargadorDatos}, así que una lectura de especie en turno o en el DTO
+ * de equipo es un acceso a array. Las entidades devueltas están desacopladas del contexto JPA y se
+ * comparten entre hilos: nadie debe modificarlas.
+ */
+@Service
+public class CatalogoEspecies {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogoEspecies.class);
+
+    /** Tamaño mínimo del índice: especies Gen II. */
+    public static final int LIMITE_GEN_II = 251;
+
+    private final RepositorioPokedexMaestra pokedexRepo;
+
+    /** Posición = {@code id_pokedex}; huecos a {@code null}. Se sustituye entero al recargar. */
+    private volatile PokedexMaestra[] porId;
+
+    /** @param pokedexRepo origen de la instantánea */
+    public CatalogoEspecies(RepositorioPokedexMaestra pokedexRepo) {
+        this.pokedexRepo = pokedexRepo;
+    }
+
+    /**
+     * Al terminar el arranque carga desde BD, salvo que ya haya datos publicados (instantánea binaria o un
+     * cargador que haya llamado a {@link #recargar()} tras escribir).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        indice();
+    }
+
+    /** Relee la tabla completa. Se llama tras cualquier carga masiva. */
+    public void recargar() {
+        cargarDesde(pokedexRepo.findAll());
+    }
+
+    /** Publica {@code filas} como catálogo sin consultar BD (p. ej. desde la instantánea binaria). */
+    public void cargarDesde(List<PokedexMaestra> filas) {
+        int max = LIMITE_GEN_II;
+        for (PokedexMaestra p : filas) {
+            if (p.getId_pokedex() != null) max = Math.max(max, p.getId_pokedex());
+        }
+        PokedexMaestra[] nuevo = new PokedexMaestra[max + 1];
+        for (PokedexMaestra p : filas) {
+            Integer id = p.getId_pokedex();
+            if (id != null && id > 0) nuevo[id] = p;
+        }
+        porId = nuevo;
+        log.debug("Catálogo de especies recargado ({} filas)", filas.size());
+    }
+
+    /** Especie por número de Pokédex; vacío si el id es null, está fuera de rango o no se cargó. */
+    public Optional<PokedexMaestra> buscar(Integer pokedexId) {
+        if (pokedexId == null || pokedexId <= 0) return Optional.empty();
+        PokedexMaestra[] actual = indice();
+        return pokedexId < actual.length ? Optional.ofNullable(actual[pokedexId]) : Optional.empty();
+    }
+
+    /** Nombre para mensajes de combate y UI; {@code "?"} si no hay especie. */
+    public String nombre(Integer pokedexId) {
+        return buscar(pokedexId).map(PokedexMaestra::getNombre).orElse("?");
+    }
+
+    /**
+     * Índice publicado; si una petición llega antes del arranque completo, lo carga en ese momento.
+     * Cada recarga publica un array nuevo, así que la identidad sirve de versión a las tablas derivadas.
+     */
+    PokedexMaestra[] indice() {
+        PokedexMaestra[] actual = porId;
+        if (actual == null) {
+            synchronized (this) {
+                if (porId == null) {
+                    recargar();
+                }
+                actual = porId;
+            }
+        }
+        return actual;
+    }
+}
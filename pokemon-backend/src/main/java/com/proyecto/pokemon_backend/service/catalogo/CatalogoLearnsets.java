@@ -0,0 +1,86 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset.FilaLearnset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instantánea de solo lectura de {@code POKEMON_LEARNSET}: por especie, sus movimientos de subida de nivel
+ * ordenados por nivel y id.
+ *
+ * Se hidrata con una sola consulta; en combate, pedir el learnset de una especie es un acceso a mapa y
+ * nunca sale a PokéAPI. Las especies sin filas devuelven lista vacía (el combate usa el fallback por tipo).
+ */
+@Service
+public class CatalogoLearnsets {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogoLearnsets.class);
+
+    private final RepositorioLearnset learnsetRepo;
+
+    private volatile Map<Integer, List<EntradaLearnset>> porEspecie;
+
+    /** @param learnsetRepo origen de la instantánea */
+    public CatalogoLearnsets(RepositorioLearnset learnsetRepo) {
+        this.learnsetRepo = learnsetRepo;
+    }
+
+    /**
+     * Al terminar el arranque carga desde BD, salvo que ya haya datos publicados (instantánea binaria o un
+     * cargador que haya llamado a {@link #recargar()} tras escribir).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        indice();
+    }
+
+    /** Relee la tabla completa. Se llama tras cada carga de CargadorLearnsets. */
+    public void recargar() {
+        cargarDesde(learnsetRepo.buscarTodos());
+    }
+
+    /** Publica {@code filas} como catálogo sin consultar BD (p. ej. desde la instantánea binaria). */
+    public void cargarDesde(List<FilaLearnset> filas) {
+        Map<Integer, List<EntradaLearnset>> agrupado = new HashMap<>();
+        for (FilaLearnset f : filas) {
+            agrupado.computeIfAbsent(f.pokedexId(), k -> new ArrayList<>())
+                .add(new EntradaLearnset(f.moveId(), f.nivel()));
+        }
+        Map<Integer, List<EntradaLearnset>> nuevo = new HashMap<>();
+        agrupado.forEach((id, lista) -> nuevo.put(id, List.copyOf(lista)));
+        porEspecie = Map.copyOf(nuevo);
+        log.debug("Catálogo de learnsets recargado ({} especies, {} filas)", nuevo.size(), filas.size());
+    }
+
+    /** Learnset de la especie ordenado por nivel y id de movimiento; vacío si no hay datos. */
+    public List<EntradaLearnset> learnset(Integer pokedexId) {
+        if (pokedexId == null || pokedexId <= 0) return List.of();
+        return indice().getOrDefault(pokedexId, List.of());
+    }
+
+    /** Índice publicado; si una petición llega antes del arranque completo, lo carga en ese momento. */
+    private Map<Integer, List<EntradaLearnset>> indice() {
+        Map<Integer, List<EntradaLearnset>> actual = porEspecie;
+        if (actual == null) {
+            synchronized (this) {
+                if (porEspecie == null) {
+                    recargar();
+                }
+                actual = porEspecie;
+            }
+        }
+        return actual;
+    }
+
+    /** Movimiento aprendible: id en {@code ATAQUES} y nivel mínimo en oro-plata. */
+    public record EntradaLearnset(Integer moveId, int nivel) {}
+}
@@ -0,0 +1,122 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.model.Item;
+import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
+import com.proyecto.pokemon_backend.service.logica.EfectoItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Instantánea de solo lectura de {@code ITEMS} con el {@code efecto} de cada ítem ya compilado
+ * a {@link EfectoItem} y un índice de alias para búsquedas por nombre.
+ *
+ * Los alias de un ítem son su nombre normalizado ({@code "Poké Ball"}, {@code "poke ball"} y
+ * {@code "Poke-ball"} → {@code poke-ball}) y la misma forma sin guiones ({@code pokeball}), de modo
+ * que resolver lo que escribe el cliente es una sola consulta a un mapa.
+ */
+@Service
+public class CatalogoObjetos {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogoObjetos.class);
+
+    private final RepositorioObjeto itemRepo;
+
+    /** Los tres índices viajan juntos para que un recargado nunca se vea a medias. */
+    private volatile Indices indices;
+
+    /** @param itemRepo origen de la instantánea */
+    public CatalogoObjetos(RepositorioObjeto itemRepo) {
+        this.itemRepo = itemRepo;
+    }
+
+    /**
+     * Al terminar el arranque carga desde BD, salvo que ya haya datos publicados (instantánea binaria o un
+     * cargador que haya llamado a {@link #recargar()} tras escribir).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        indices();
+    }
+
+    /** Relee la tabla completa. Se llama tras sembrar la tienda o cambiar precios. */
+    public void recargar() {
+        cargarDesde(itemRepo.findAll());
+    }
+
+    /** Publica {@code filas} como catálogo sin consultar BD (p. ej. desde la instantánea binaria). */
+    public void cargarDesde(List<Item> filas) {
+        Map<Integer, Item> porId = new HashMap<>();
+        Map<String, Item> porAlias = new HashMap<>();
+        Map<Integer, EfectoItem> efectos = new HashMap<>();
+        for (Item item : filas) {
+            if (item.getIdItem() == null) continue;
+            porId.put(item.getIdItem(), item);
+            EfectoItem efecto = EfectoItem.compilar(item.getEfecto());
+            if (efecto == EfectoItem.NINGUNO && !"NONE".equalsIgnoreCase(item.getEfecto())) {
+                log.warn("Efecto de ítem no reconocido, se ignora: {} -> {}", item.getNombre(), item.getEfecto());
+            }
+            efectos.put(item.getIdItem(), efecto);
+            String alias = normalizar(item.getNombre());
+            if (!alias.isEmpty()) {
+                porAlias.putIfAbsent(alias, item);
+                porAlias.putIfAbsent(alias.replace("-", ""), item);
+            }
+        }
+        indices = new Indices(Map.copyOf(porId), Map.copyOf(porAlias), Map.copyOf(efectos));
+        log.debug("Catálogo de ítems recargado ({} filas)", filas.size());
+    }
+
+    /** Ítem por {@code id_item}; vacío si es null o no existe. */
+    public Optional<Item> buscar(Integer idItem) {
+        return idItem == null ? Optional.empty() : Optional.ofNullable(indices().porId().get(idItem));
+    }
+
+    /** Ítem por cualquiera de sus alias (mayúsculas, tildes, espacios o guiones indistintos). */
+    public Optional<Item> buscarPorNombre(String nombre) {
+        String clave = normalizar(nombre);
+        return clave.isEmpty() ? Optional.empty() : Optional.ofNullable(indices().porAlias().get(clave));
+    }
+
+    /** Efecto compilado del ítem; los ítems fuera de catálogo se compilan al vuelo. */
+    public EfectoItem efecto(Item item) {
+        EfectoItem efecto = item.getIdItem() == null ? null : indices().efectos().get(item.getIdItem());
+        return efecto != null ? efecto : EfectoItem.compilar(item.getEfecto());
+    }
+
+    /** Minúsculas sin tildes ni bordes; espacios y guiones bajos pasan a guion. */
+    static String normalizar(String nombre) {
+        if (nombre == null) return "";
+        String sinTildes = Normalizer.normalize(nombre.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return sinTildes.toLowerCase(Locale.ROOT).replace(' ', '-').replace('_', '-');
+    }
+
+    /** Índices publicados; si una petición llega antes del arranque completo, los carga en ese momento. */
+    private Indices indices() {
+        Indices actual = indices;
+        if (actual == null) {
+            synchronized (this) {
+                if (indices == null) {
+                    recargar();
+                }
+                actual = indices;
+            }
+        }
+        return actual;
+    }
+
+    private record Indices(
+        Map<Integer, Item> porId,
+        Map<String, Item> porAlias,
+        Map<Integer, EfectoItem> efectos
+    ) {}
+}
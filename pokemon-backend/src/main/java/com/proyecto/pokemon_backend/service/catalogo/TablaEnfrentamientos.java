@@ -0,0 +1,120 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.exception.RecursoNoEncontrado;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.service.TipoService;
+import com.proyecto.pokemon_backend.service.logica.MatrizEfectividad;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multiplicador defensivo ya combinado (tipo1 × tipo2) de cada especie frente a cada tipo de ataque:
+ * {@code 17 × 251} valores en un {@code double[]} plano, indexado por {@code pokedexId * 17 + tipo.ordinal()}.
+ *
+ * Se deriva de {@link CatalogoEspecies} y de la matriz de {@link TipoService}. Guarda la identidad de
+ * ambas instantáneas y se reconstruye sola la primera vez que se consulta después de que cualquiera
+ * de las dos se recargue, de modo que no necesita su propio evento de arranque.
+ */
+@Service
+public class TablaEnfrentamientos {
+
+    private static final TipoPokemon[] TIPOS = TipoPokemon.values();
+
+    private final CatalogoEspecies catalogoEspecies;
+    private final TipoService tipoService;
+
+    private volatile Tabla tabla;
+
+    /**
+     * @param catalogoEspecies tipos de cada especie
+     * @param tipoService matriz 17×17 de efectividad
+     */
+    public TablaEnfrentamientos(CatalogoEspecies catalogoEspecies, TipoService tipoService) {
+        this.catalogoEspecies = catalogoEspecies;
+        this.tipoService = tipoService;
+    }
+
+    /**
+     * Multiplicador total de un ataque contra una especie. Tipo desconocido o especie fuera de catálogo → 1.0.
+     */
+    public double multiplicador(TipoPokemon tipoAtaque, Integer pokedexId) {
+        if (tipoAtaque == null || pokedexId == null || pokedexId <= 0) return 1.0;
+        Tabla t = tabla();
+        int base = pokedexId * TIPOS.length;
+        return base < t.valores().length ? t.valores()[base + tipoAtaque.ordinal()] : 1.0;
+    }
+
+    /**
+     * Resumen de la especie para el cliente: multiplicador por tipo (slug → valor) y listas de
+     * debilidades, resistencias e inmunidades.
+     *
+     * @throws RecursoNoEncontrado si la especie no está en catálogo
+     */
+    public Map<String, Object> resumen(Integer pokedexId) {
+        PokedexMaestra especie = catalogoEspecies.buscar(pokedexId)
+            .orElseThrow(() -> new RecursoNoEncontrado("Especie no encontrada: " + pokedexId));
+
+        Map<String, Double> multiplicadores = new LinkedHashMap<>();
+        List<String> debilidades = new ArrayList<>();
+        List<String> resistencias = new ArrayList<>();
+        List<String> inmunidades = new ArrayList<>();
+        for (TipoPokemon tipo : TIPOS) {
+            double m = multiplicador(tipo, pokedexId);
+            multiplicadores.put(tipo.getSlug(), m);
+            if (m == 0.0) inmunidades.add(tipo.getSlug());
+            else if (m > 1.0) debilidades.add(tipo.getSlug());
+            else if (m < 1.0) resistencias.add(tipo.getSlug());
+        }
+
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("id", pokedexId);
+        res.put("nombre", especie.getNombre());
+        res.put("tipo1", TipoPokemon.slugDe(especie.getTipo_1()));
+        res.put("tipo2", TipoPokemon.slugDe(especie.getTipo_2()));
+        res.put("multiplicadores", multiplicadores);
+        res.put("debilidades", debilidades);
+        res.put("resistencias", resistencias);
+        res.put("inmunidades", inmunidades);
+        return res;
+    }
+
+    /** Tabla vigente; la reconstruye si la matriz de tipos o el catálogo de especies han cambiado. */
+    private Tabla tabla() {
+        MatrizEfectividad matriz = tipoService.matriz();
+        PokedexMaestra[] especies = catalogoEspecies.indice();
+        Tabla actual = tabla;
+        if (actual == null || actual.matriz() != matriz || actual.especies() != especies) {
+            synchronized (this) {
+                actual = tabla;
+                if (actual == null || actual.matriz() != matriz || actual.especies() != especies) {
+                    actual = construir(matriz, especies);
+                    tabla = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    private static Tabla construir(MatrizEfectividad matriz, PokedexMaestra[] especies) {
+        int n = TIPOS.length;
+        double[] valores = new double[especies.length * n];
+        for (int id = 0; id < especies.length; id++) {
+            PokedexMaestra p = especies[id];
+            TipoPokemon t1 = p == null ? null : p.getTipo_1();
+            TipoPokemon t2 = p == null ? null : p.getTipo_2();
+            for (int atk = 0; atk < n; atk++) {
+                double m = t1 == null ? 1.0 : matriz.multiplicador(atk, t1.ordinal());
+                if (t2 != null && t2 != t1) m *= matriz.multiplicador(atk, t2.ordinal());
+                valores[id * n + atk] = m;
+            }
+        }
+        return new Tabla(matriz, especies, valores);
+    }
+
+    private record Tabla(MatrizEfectividad matriz, PokedexMaestra[] especies, double[] valores) {}
+}
@@ -0,0 +1,156 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proyecto.pokemon_backend.service.logica.MuestreoAlias;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Pokémon salvajes de cada mapa, leídos al arrancar de {@link #RECURSO}: especie con su tasa y rango de nivel,
+ * con variantes opcionales por momento del día (como en oro-plata). Cada tabla se compila a un
+ * {@link MuestreoAlias}, así que tirar un encuentro cuesta lo mismo sea cual sea su tamaño.
+ *
+ * Un mapa sin variante para el momento usa su tabla general. Un fichero mal formado (tasas o niveles
+ * imposibles, tablas repetidas o vacías) impide arrancar con {@link IllegalStateException}, como el dataset.
+ */
+@Service
+public class TablasEncuentro {
+
+    private static final Logger log = LoggerFactory.getLogger(TablasEncuentro.class);
+
+    /** Tablas empaquetadas en el jar. */
+    public static final String RECURSO = "datos/encuentros.json";
+
+    static final int FORMATO = 1;
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /** Por mapa normalizado: la tabla general en {@code [0]} y la de cada momento en {@code [1 + ordinal]}. */
+    private final Map<String, TablaCompilada[]> porMapa;
+
+    public TablasEncuentro() {
+        this(new ClassPathResource(RECURSO));
+    }
+
+    /** @param recurso tablas en el formato de {@link #RECURSO} */
+    TablasEncuentro(Resource recurso) {
+        this.porMapa = compilar(leer(recurso));
+        log.debug("Tablas de encuentros cargadas ({} mapas)", porMapa.size());
+    }
+
+    /** Mapas con tabla, ya normalizados. */
+    public Set<String> mapas() {
+        return porMapa.keySet();
+    }
+
+    /** {@code true} si el mapa tiene Pokémon salvajes a alguna hora. */
+    public boolean tieneEncuentros(String mapa) {
+        return porMapa.containsKey(normalizarMapa(mapa));
+    }
+
+    /**
+     * Especie y nivel de un encuentro en {@code mapa} a ese momento del día; vacío si el mapa no tiene tabla.
+     * La especie sale de la tabla con su tasa y el nivel es uniforme en su rango.
+     */
+    public Optional<Encuentro> tirar(String mapa, MomentoDia momento, RandomGenerator aleatorio) {
+        TablaCompilada[] tablas = porMapa.get(normalizarMapa(mapa));
+        if (tablas == null) return Optional.empty();
+        TablaCompilada tabla = tablas[1 + momento.ordinal()] != null ? tablas[1 + momento.ordinal()] : tablas[0];
+        if (tabla == null) return Optional.empty();
+        Especie e = tabla.especies()[tabla.muestreo().tirar(aleatorio)];
+        int nivel = e.nivelMin() + aleatorio.nextInt(e.nivelMax() - e.nivelMin() + 1);
+        return Optional.of(new Encuentro(e.id(), nivel));
+    }
+
+    /**
+     * Clave de mapa sin mayúsculas ni separadores distintos: {@code "New Bark Town"}, {@code "new_bark_town"} y
+     * {@code "new-bark-town"} son el mismo mapa.
+     */
+    public static String normalizarMapa(String mapa) {
+        if (mapa == null) return "";
+        return mapa.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_-]+", "-");
+    }
+
+    private static Fichero leer(Resource recurso) {
+        try (InputStream in = recurso.getInputStream()) {
+            Fichero fichero = JSON.readValue(in, Fichero.class);
+            if (fichero.formato() != FORMATO || fichero.mapas() == null) {
+                throw new IllegalStateException(
+                    "Formato de tablas de encuentro no soportado: " + fichero.formato() + " (esperado " + FORMATO + ")");
+            }
+            return fichero;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + recurso.getDescription(), e);
+        }
+    }
+
+    private static Map<String, TablaCompilada[]> compilar(Fichero fichero) {
+        Map<String, TablaCompilada[]> porMapa = new HashMap<>();
+        for (Tabla t : fichero.mapas()) {
+            String mapa = normalizarMapa(t.mapa());
+            if (mapa.isEmpty()) throw new IllegalStateException("Tabla de encuentros sin mapa: " + t);
+            if (t.pokemon() == null || t.pokemon().isEmpty()) {
+                throw new IllegalStateException("Tabla de encuentros vacía: " + mapa + " " + t.momento());
+            }
+            int[] tasas = new int[t.pokemon().size()];
+            for (int i = 0; i < tasas.length; i++) {
+                Especie e = t.pokemon().get(i);
+                if (e.id() <= 0 || e.tasa() <= 0 || e.nivelMin() < 1 || e.nivelMax() > 100 || e.nivelMin() > e.nivelMax()) {
+                    throw new IllegalStateException("Encuentro no válido en " + mapa + ": " + e);
+                }
+                tasas[i] = e.tasa();
+            }
+            TablaCompilada[] tablas = porMapa.computeIfAbsent(mapa, k -> new TablaCompilada[1 + MomentoDia.values().length]);
+            int hueco = t.momento() == null ? 0 : 1 + t.momento().ordinal();
+            if (tablas[hueco] != null) {
+                throw new IllegalStateException("Tabla de encuentros repetida: " + mapa + " " + t.momento());
+            }
+            tablas[hueco] = new TablaCompilada(t.pokemon().toArray(Especie[]::new), new MuestreoAlias(tasas));
+        }
+        return Map.copyOf(porMapa);
+    }
+
+    /** Franjas de oro-plata: mañana de 4:00 a 10:00, día hasta las 18:00 y noche el resto. */
+    public enum MomentoDia {
+        MANANA,
+        DIA,
+        NOCHE;
+
+        public static MomentoDia de(LocalTime hora) {
+            int h = hora.getHour();
+            if (h >= 4 && h < 10) return MANANA;
+            if (h >= 10 && h < 18) return DIA;
+            return NOCHE;
+        }
+    }
+
+    /** Resultado de una tirada: especie de la Pokédex y nivel. */
+    public record Encuentro(int pokedexId, int nivel) {}
+
+    private record TablaCompilada(Especie[] especies, MuestreoAlias muestreo) {}
+
+    private record Fichero(int formato, List<Tabla> mapas) {}
+
+    /** Una tabla del fichero; sin {@code momento} es la general del mapa. */
+    private record Tabla(String mapa, MomentoDia momento, List<Especie> pokemon) {}
+
+    /** Una especie de la tabla; {@code nombre} es solo para quien lo lee. */
+    private record Especie(int id, String nombre, int tasa, int nivelMin, int nivelMax) {}
+}
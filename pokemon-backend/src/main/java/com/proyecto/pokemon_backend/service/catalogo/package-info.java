@@ -0,0 +1,6 @@
+/**
+ * Catálogos estáticos en memoria (especies, movimientos, objetos, efectos…): se leen de BD o de recursos
+ * una vez al arrancar y se comparten entre servicios, para que los turnos y el estado de partida no
+ * repitan consultas sobre tablas que no cambian durante el juego.
+ */
+package com.proyecto.pokemon_backend.service.catalogo;
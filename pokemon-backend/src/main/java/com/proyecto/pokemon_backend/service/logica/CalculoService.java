@@ -4,16 +4,22 @@ import com.proyecto.pokemon_backend.model.enums.Estado;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Fórmulas matemáticas del motor de combate (Gen II).
  *
  * Todas las operaciones son puras (sin efectos secundarios) para facilitar
- * el testing unitario. La aleatoriedad se inyecta vía ThreadLocalRandom.
+ * el testing unitario. La aleatoriedad se inyecta: cada tirada tiene una variante que recibe el
+ * {@link RandomGenerator} del combate (reproducible por semilla) y otra que usa ThreadLocalRandom.
  */
 @Service
 public class CalculoService {
 
+    /** Tirada entera de la variación del daño, como en Gen II: V = tirada / 255, con tirada en [217, 255]. */
+    public static final int TIRADA_MINIMA = 217;
+    public static final int TIRADA_MAXIMA = 255;
+
     /**
      * Fórmula de daño Gen II:
      *   Daño = ((0.2*N + 1) * A * P / (D * 25) + 2) * B * E * V
@@ -24,7 +30,7 @@ public class CalculoService {
      * D = Stat de defensa del defensor (física o especial)
      * B = STAB: 1.5 si el tipo del movimiento coincide con un tipo del atacante, 1.0 si no
      * E = Efectividad de tipo (0, 0.25, 0.5, 1, 2, 4)
-     * V = Variación aleatoria [0.85, 1.0)
+     * V = Variación aleatoria: tirada / 255, tirada entera uniforme en [217, 255] (≈ 0.85-1.0)
      */
     public int calcularDanio(
         int nivel,
@@ -35,6 +41,51 @@ public class CalculoService {
         boolean stab,
         Estado estadoAtacante,
         boolean esFisico
+    ) {
+        return calcularDanio(nivel, ataqueStat, defensaStat, potencia, efectividad, stab, estadoAtacante, esFisico,
+            ThreadLocalRandom.current());
+    }
+
+    /** {@link #calcularDanio} tirando V del generador dado. */
+    public int calcularDanio(
+        int nivel,
+        int ataqueStat,
+        int defensaStat,
+        int potencia,
+        double efectividad,
+        boolean stab,
+        Estado estadoAtacante,
+        boolean esFisico,
+        RandomGenerator rnd
+    ) {
+        return danio(nivel, ataqueStat, defensaStat, potencia, efectividad, stab, estadoAtacante, esFisico,
+            variacion(tirada(rnd)));
+    }
+
+    /** Tirada uniforme en [{@link #TIRADA_MINIMA}, {@link #TIRADA_MAXIMA}]. */
+    public static int tirada(RandomGenerator rnd) {
+        return rnd.nextInt(TIRADA_MINIMA, TIRADA_MAXIMA + 1);
+    }
+
+    /** V para una tirada de [{@link #TIRADA_MINIMA}, {@link #TIRADA_MAXIMA}]. */
+    public static double variacion(int tirada) {
+        return tirada / (double) TIRADA_MAXIMA;
+    }
+
+    /**
+     * {@link #calcularDanio} con la variación V ya tirada; es la fórmula que usan también el simulador y la
+     * previsualización.
+     */
+    public static int danio(
+        int nivel,
+        int ataqueStat,
+        int defensaStat,
+        int potencia,
+        double efectividad,
+        boolean stab,
+        Estado estadoAtacante,
+        boolean esFisico,
+        double variacion
     ) {
         if (efectividad <= 0) return 0;
         if (defensaStat <= 0) return 1;
@@ -46,7 +97,6 @@ public class CalculoService {
 
         double base = ((0.2 * nivel + 1.0) * ataqueEfectivo * potencia) / (defensaStat * 25.0) + 2.0;
         double bonusStab = stab ? 1.5 : 1.0;
-        double variacion = ThreadLocalRandom.current().nextDouble(0.85, 1.0);
 
         return Math.max(1, (int) Math.floor(base * bonusStab * efectividad * variacion));
     }
@@ -56,8 +106,11 @@ public class CalculoService {
      * Movimientos con precisión >= 100 nunca fallan por este cálculo.
      */
     public boolean verificaImpacto(int precisionBase) {
-        if (precisionBase >= 100) return true;
-        return ThreadLocalRandom.current().nextInt(1, 101) <= precisionBase;
+        return verificaImpacto(precisionBase, ThreadLocalRandom.current());
+    }
+
+    public boolean verificaImpacto(int precisionBase, RandomGenerator rnd) {
+        return ReglasTurno.impacta(precisionBase, rnd);
     }
 
     /**
@@ -65,7 +118,11 @@ public class CalculoService {
      * Multiplica el daño por 2.0.
      */
     public boolean fueGolpeCritico() {
-        return ThreadLocalRandom.current().nextDouble() < 0.0625;
+        return fueGolpeCritico(ThreadLocalRandom.current());
+    }
+
+    public boolean fueGolpeCritico(RandomGenerator rnd) {
+        return ReglasTurno.critico(rnd);
     }
 
     /**
@@ -100,6 +157,12 @@ public class CalculoService {
      * @param estado      Estado alterado del Pokémon salvaje
      */
     public boolean calcularCaptura(int hpMax, int hpActual, int captureRate, double bonoBall, Estado estado) {
+        return calcularCaptura(hpMax, hpActual, captureRate, bonoBall, estado, ThreadLocalRandom.current());
+    }
+
+    /** {@link #calcularCaptura} tirando del generador dado. */
+    public boolean calcularCaptura(int hpMax, int hpActual, int captureRate, double bonoBall, Estado estado,
+                                   RandomGenerator rnd) {
         double a = ((3.0 * hpMax - 2.0 * hpActual) * captureRate * bonoBall) / (3.0 * hpMax);
 
         if (estado == Estado.DORMIDO || estado == Estado.CONGELADO) {
@@ -110,6 +173,6 @@ public class CalculoService {
 
         if (a >= 255) return true;
 
-        return ThreadLocalRandom.current().nextInt(0, 256) < a;
+        return rnd.nextInt(0, 256) < a;
     }
 }
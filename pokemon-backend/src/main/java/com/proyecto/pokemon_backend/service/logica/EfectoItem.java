@@ -0,0 +1,117 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+
+import java.util.Locale;
+
+/**
+ * Código {@code Item.efecto} ya interpretado: qué hace el objeto y con qué magnitud.
+ *
+ * Se compila una vez por ítem al cargar el catálogo; el uso en combate o fuera de él
+ * solo consulta campos, sin {@code toUpperCase}/{@code substring}/{@code parseInt}.
+ *
+ * @param clase familia de efecto
+ * @param ps PS que restaura ({@link #PS_TOTAL} para pociones máximas); 0 si no cura PS
+ * @param mascaraCura bit {@code 1 << Estado.ordinal()} por cada estado que elimina
+ * @param bonoCaptura multiplicador de la fórmula de captura; 1.0 si no es Ball
+ */
+public record EfectoItem(Clase clase, int ps, int mascaraCura, double bonoCaptura) {
+
+    /** Familias de efecto soportadas por el motor. */
+    public enum Clase { CURACION, CURA_ESTADO, CAPTURA, SUBIR_NIVEL, NINGUNO }
+
+    /** Marca de "restaura todos los PS" ({@code HEAL_MAX}, {@code HEAL_MAX_STATUS}). */
+    public static final int PS_TOTAL = Integer.MAX_VALUE;
+
+    /** Bono de la Master Ball: garantiza la captura con cualquier ratio. */
+    public static final double BONO_CAPTURA_MAX = 255.0;
+
+    private static final int CURA_TODO = mascara(
+        Estado.QUEMADO, Estado.ENVENENADO, Estado.DORMIDO,
+        Estado.PARALIZADO, Estado.CONGELADO, Estado.GRAVE_ENVENENADO);
+
+    /** Efecto de ítems sin uso (cuerda huida, repelente) o con código desconocido. */
+    public static final EfectoItem NINGUNO = new EfectoItem(Clase.NINGUNO, 0, 0, 1.0);
+
+    /**
+     * Interpreta un código {@code HEAL_N}, {@code HEAL_MAX}, {@code HEAL_MAX_STATUS},
+     * {@code CURE_PSN/BRN/FRZ/SLP/PAR/ALL}, {@code CAPTURE_X}, {@code CAPTURE_MAX} o {@code LEVEL_UP}.
+     * Cualquier otro valor (incluido {@code null}) se trata como {@link #NINGUNO}.
+     */
+    public static EfectoItem compilar(String codigo) {
+        if (codigo == null) return NINGUNO;
+        String ef = codigo.trim().toUpperCase(Locale.ROOT);
+
+        if (ef.equals("LEVEL_UP")) {
+            return new EfectoItem(Clase.SUBIR_NIVEL, 0, 0, 1.0);
+        }
+        if (ef.startsWith("HEAL_")) {
+            String sufijo = ef.substring(5);
+            return switch (sufijo) {
+                case "MAX"        -> new EfectoItem(Clase.CURACION, PS_TOTAL, 0, 1.0);
+                case "MAX_STATUS" -> new EfectoItem(Clase.CURACION, PS_TOTAL, CURA_TODO, 1.0);
+                default           -> {
+                    int ps = enteroPositivo(sufijo);
+                    yield ps > 0 ? new EfectoItem(Clase.CURACION, ps, 0, 1.0) : NINGUNO;
+                }
+            };
+        }
+        if (ef.startsWith("CURE_")) {
+            int mascara = switch (ef.substring(5)) {
+                case "PSN" -> mascara(Estado.ENVENENADO, Estado.GRAVE_ENVENENADO);
+                case "BRN" -> mascara(Estado.QUEMADO);
+                case "FRZ" -> mascara(Estado.CONGELADO);
+                case "SLP" -> mascara(Estado.DORMIDO);
+                case "PAR" -> mascara(Estado.PARALIZADO);
+                case "ALL" -> CURA_TODO;
+                default    -> 0;
+            };
+            return mascara != 0 ? new EfectoItem(Clase.CURA_ESTADO, 0, mascara, 1.0) : NINGUNO;
+        }
+        if (ef.startsWith("CAPTURE_")) {
+            String sufijo = ef.substring(8);
+            double bono = sufijo.equals("MAX") ? BONO_CAPTURA_MAX : decimalPositivo(sufijo);
+            return new EfectoItem(Clase.CAPTURA, 0, 0, bono);
+        }
+        return NINGUNO;
+    }
+
+    /** True si el ítem es una Poké Ball. */
+    public boolean esPokeball() {
+        return clase == Clase.CAPTURA;
+    }
+
+    /** True si el ítem elimina el estado alterado indicado. */
+    public boolean cura(Estado estado) {
+        return estado != null && (mascaraCura & (1 << estado.ordinal())) != 0;
+    }
+
+    /** True si además de PS elimina estados alterados (Restaurar Todo). */
+    public boolean curaEstados() {
+        return mascaraCura != 0;
+    }
+
+    private static int mascara(Estado... estados) {
+        int m = 0;
+        for (Estado e : estados) m |= 1 << e.ordinal();
+        return m;
+    }
+
+    private static int enteroPositivo(String s) {
+        try {
+            return Math.max(0, Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** Multiplicador de Ball; códigos ilegibles caen en la Poké Ball normal (1.0). */
+    private static double decimalPositivo(String s) {
+        try {
+            double v = Double.parseDouble(s);
+            return v > 0 ? v : 1.0;
+        } catch (NumberFormatException e) {
+            return 1.0;
+        }
+    }
+}
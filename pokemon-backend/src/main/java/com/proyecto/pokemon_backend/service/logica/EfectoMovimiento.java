@@ -0,0 +1,54 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+/**
+ * Efecto de un movimiento, tal como lo define {@code datos/efectos-movimientos.json}. En un movimiento de estado
+ * se aplica siempre que acierte; en uno de daño es el secundario y se tira con {@link #probabilidad}.
+ *
+ * @param tipo          qué cambia
+ * @param objetivo      a quién
+ * @param probabilidad  0-100; 100 en los movimientos de estado (la precisión ya se tiró)
+ * @param multiplicador factor sobre el stat en los tipos de stat; 1.0 en el resto
+ * @param mensaje       plantilla con {@code {atacante}} y {@code {defensor}} que sustituye al texto por defecto;
+ *                      {@code null} si no tiene
+ */
+public record EfectoMovimiento(Tipo tipo, Objetivo objetivo, int probabilidad, double multiplicador, String mensaje) {
+
+    /** Movimientos que no están en la tabla. */
+    public static final EfectoMovimiento NINGUNO = new EfectoMovimiento(Tipo.NINGUNO, Objetivo.RIVAL, 100, 1.0, null);
+
+    public enum Tipo {
+        DORMIR,
+        PARALIZAR,
+        CONFUNDIR,
+        ENVENENAR,
+        ENVENENAR_GRAVE,
+        QUEMAR,
+        CONGELAR,
+        ATAQUE,
+        DEFENSA,
+        ATAQUE_ESPECIAL,
+        VELOCIDAD,
+        /** Sin efecto mecánico en este motor; solo el mensaje. */
+        NINGUNO;
+
+        /** Cambio de stat por {@link EfectoMovimiento#multiplicador}, que nunca falla. */
+        public boolean esStat() {
+            return this == ATAQUE || this == DEFENSA || this == ATAQUE_ESPECIAL || this == VELOCIDAD;
+        }
+    }
+
+    public enum Objetivo {
+        RIVAL,
+        PROPIO
+    }
+
+    public EfectoMovimiento {
+        if (tipo == null || objetivo == null) throw new IllegalArgumentException("Efecto sin tipo u objetivo");
+        if (probabilidad < 0 || probabilidad > 100) {
+            throw new IllegalArgumentException("Probabilidad fuera de 0-100: " + probabilidad);
+        }
+        if (tipo.esStat() && (multiplicador <= 0 || multiplicador == 1.0)) {
+            throw new IllegalArgumentException("Cambio de " + tipo + " sin multiplicador válido: " + multiplicador);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+
+/**
+ * Lo que {@link ReglasTurno} lee y modifica de un Pokémon en combate, con tipos primitivos. Lo implementan la
+ * entidad del combate online (a través de un adaptador) y el luchador del simulador, así ambos aplican las
+ * mismas reglas.
+ */
+public interface EstadoCombate {
+
+    int hp();
+
+    void hp(int valor);
+
+    int hpMax();
+
+    int nivel();
+
+    int ataque();
+
+    void ataque(int valor);
+
+    int defensa();
+
+    void defensa(int valor);
+
+    int ataqueEspecial();
+
+    void ataqueEspecial(int valor);
+
+    int defensaEspecial();
+
+    int velocidad();
+
+    void velocidad(int valor);
+
+    /** Nunca {@code null}: sin estado alterado es {@link Estado#SALUDABLE}. */
+    Estado estado();
+
+    void estado(Estado valor);
+
+    int turnosSueno();
+
+    void turnosSueno(int valor);
+
+    int turnosConfusion();
+
+    void turnosConfusion(int valor);
+
+    int contadorToxico();
+
+    void contadorToxico(int valor);
+
+    boolean drenadoras();
+}
@@ -0,0 +1,38 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+/**
+ * Tabla de tipos Gen II en memoria: {@code N×N} multiplicadores en un {@code double[]} plano,
+ * indexado por {@code atacante * N + defensor}.
+ *
+ * Inmutable una vez construida; quien la recarga crea otra instancia y sustituye la referencia.
+ * Las celdas no informadas valen 1.0 (relación neutra), igual que las filas ausentes en {@code TIPOS}.
+ */
+public final class MatrizEfectividad {
+
+    private final int dimension;
+    private final double[] valores;
+
+    /**
+     * @param multiplicadores matriz cuadrada {@code [atacante][defensor]}; se copia, no se retiene
+     */
+    public MatrizEfectividad(double[][] multiplicadores) {
+        this.dimension = multiplicadores.length;
+        this.valores = new double[dimension * dimension];
+        for (int atk = 0; atk < dimension; atk++) {
+            if (multiplicadores[atk].length != dimension) {
+                throw new IllegalArgumentException("La matriz de efectividad debe ser cuadrada.");
+            }
+            System.arraycopy(multiplicadores[atk], 0, valores, atk * dimension, dimension);
+        }
+    }
+
+    /** Número de tipos (17 en Gen II). */
+    public int dimension() {
+        return dimension;
+    }
+
+    /** Multiplicador de un tipo atacante contra un único tipo defensor (índices ya validados). */
+    public double multiplicador(int atacante, int defensor) {
+        return valores[atacante * dimension + defensor];
+    }
+}
@@ -0,0 +1,65 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Elección ponderada en tiempo constante (método alias, variante de Vose): cada tirada es un índice uniforme
+ * y una comparación con su probabilidad, sin recorrer los pesos.
+ *
+ * La tabla se construye una vez en {@code O(n)} y es inmutable; el generador lo pone quien tira.
+ */
+public final class MuestreoAlias {
+
+    private final double[] probabilidad;
+    private final int[] alias;
+
+    /**
+     * @param pesos pesos relativos, todos positivos (p. ej. tasas de encuentro en %)
+     */
+    public MuestreoAlias(int[] pesos) {
+        int n = pesos.length;
+        if (n == 0) throw new IllegalArgumentException("Hace falta al menos un peso.");
+        long total = 0;
+        for (int p : pesos) {
+            if (p <= 0) throw new IllegalArgumentException("Los pesos deben ser positivos: " + p);
+            total += p;
+        }
+        this.probabilidad = new double[n];
+        this.alias = new int[n];
+
+        // Escalados a media 1: los de debajo se completan con un alias de los de encima
+        double[] escalado = new double[n];
+        int[] pequenos = new int[n];
+        int[] grandes = new int[n];
+        int np = 0;
+        int ng = 0;
+        for (int i = 0; i < n; i++) {
+            escalado[i] = (double) pesos[i] * n / total;
+            if (escalado[i] < 1.0) pequenos[np++] = i;
+            else grandes[ng++] = i;
+        }
+        while (np > 0 && ng > 0) {
+            int menor = pequenos[--np];
+            int mayor = grandes[--ng];
+            probabilidad[menor] = escalado[menor];
+            alias[menor] = mayor;
+            escalado[mayor] = escalado[mayor] + escalado[menor] - 1.0;
+            if (escalado[mayor] < 1.0) pequenos[np++] = mayor;
+            else grandes[ng++] = mayor;
+        }
+        // Lo que queda vale 1 salvo error de redondeo
+        while (ng > 0) probabilidad[grandes[--ng]] = 1.0;
+        while (np > 0) probabilidad[pequenos[--np]] = 1.0;
+    }
+
+    /** Número de opciones. */
+    public int tamano() {
+        return probabilidad.length;
+    }
+
+    /** Índice elegido con probabilidad proporcional a su peso. */
+    public int tirar(RandomGenerator aleatorio) {
+        int i = aleatorio.nextInt(probabilidad.length);
+        return aleatorio.nextDouble() < probabilidad[i] ? i : alias[i];
+    }
+}
@@ -0,0 +1,82 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+
+/**
+ * Lo que puede hacer un movimiento de daño a un defensor, calculado de forma exacta y sin tirar dados: la
+ * variación V solo toma las 39 tiradas enteras de [{@link CalculoService#TIRADA_MINIMA},
+ * {@link CalculoService#TIRADA_MAXIMA}], así que basta evaluar {@link CalculoService#danio} en cada una, con y
+ * sin crítico, para tener el rango y contar las que debilitan.
+ *
+ * No cuenta el estado del atacante antes de actuar (sueño, parálisis, confusión) ni los efectos secundarios.
+ *
+ * @param probabilidadImpacto de la precisión del movimiento, 0-1
+ * @param probabilidadKo      de que este golpe deje al defensor a 0 PS: impacto × (normal o crítico) × tiradas
+ * @param danioEsperado       PS que quita de media, contando fallo y crítico y sin pasar de los que le quedan
+ */
+public record PrevisionDanio(
+    int minimo,
+    int maximo,
+    int minimoCritico,
+    int maximoCritico,
+    double probabilidadImpacto,
+    double probabilidadKo,
+    double danioEsperado
+) {
+
+    private static final int TIRADAS = CalculoService.TIRADA_MAXIMA - CalculoService.TIRADA_MINIMA + 1;
+
+    /**
+     * @param multiplicador efectividad de tipos contra el defensor (sin crítico)
+     * @param precision     precisión base; 100 o más no falla
+     * @param hpDefensor    PS actuales del defensor
+     */
+    public static PrevisionDanio calcular(
+        int nivel,
+        int ataqueStat,
+        int defensaStat,
+        int potencia,
+        double multiplicador,
+        boolean stab,
+        Estado estadoAtacante,
+        boolean esFisico,
+        int precision,
+        int hpDefensor
+    ) {
+        int minimo = Integer.MAX_VALUE;
+        int maximo = 0;
+        int minimoCritico = Integer.MAX_VALUE;
+        int maximoCritico = 0;
+        int koNormal = 0;
+        int koCritico = 0;
+        long sumaNormal = 0;
+        long sumaCritico = 0;
+        for (int tirada = CalculoService.TIRADA_MINIMA; tirada <= CalculoService.TIRADA_MAXIMA; tirada++) {
+            double v = CalculoService.variacion(tirada);
+            int normal = CalculoService.danio(nivel, ataqueStat, defensaStat, potencia, multiplicador, stab,
+                estadoAtacante, esFisico, v);
+            int critico = CalculoService.danio(nivel, ataqueStat, defensaStat, potencia, multiplicador * 2.0, stab,
+                estadoAtacante, esFisico, v);
+            minimo = Math.min(minimo, normal);
+            maximo = Math.max(maximo, normal);
+            minimoCritico = Math.min(minimoCritico, critico);
+            maximoCritico = Math.max(maximoCritico, critico);
+            if (normal >= hpDefensor) koNormal++;
+            if (critico >= hpDefensor) koCritico++;
+            sumaNormal += Math.min(normal, hpDefensor);
+            sumaCritico += Math.min(critico, hpDefensor);
+        }
+
+        double impacto = probabilidadImpacto(precision);
+        double ko = impacto * ((1 - ReglasTurno.PROBABILIDAD_CRITICO) * koNormal
+            + ReglasTurno.PROBABILIDAD_CRITICO * koCritico) / TIRADAS;
+        double esperado = impacto * ((1 - ReglasTurno.PROBABILIDAD_CRITICO) * sumaNormal
+            + ReglasTurno.PROBABILIDAD_CRITICO * sumaCritico) / TIRADAS;
+        return new PrevisionDanio(minimo, maximo, minimoCritico, maximoCritico, impacto, ko, esperado);
+    }
+
+    /** La de {@link ReglasTurno#impacta}: 100 o más no falla; si no, {@code precision} de cada 100. */
+    public static double probabilidadImpacto(int precision) {
+        return precision >= 100 ? 1.0 : Math.max(0, precision) / 100.0;
+    }
+}
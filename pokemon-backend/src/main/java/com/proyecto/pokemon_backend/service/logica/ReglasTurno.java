@@ -0,0 +1,187 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Reglas de turno Gen II sobre {@link EstadoCombate}: estados que bloquean, precisión, crítico, daño, efectos
+ * de movimientos y residuales de fin de turno.
+ *
+ * Sin textos ni objetos intermedios: el combate online traduce el resultado a mensajes y el simulador lo
+ * ejecuta millones de veces. La aleatoriedad llega siempre por parámetro.
+ */
+public final class ReglasTurno {
+
+    public static final double PROBABILIDAD_CRITICO = 0.0625;
+    public static final double PROBABILIDAD_DESCONGELAR = 0.10;
+    public static final double PROBABILIDAD_PARALISIS = 0.25;
+    public static final double PROBABILIDAD_AUTOGOLPE = 0.5;
+    /** Potencia del golpe que se da a sí mismo un Pokémon confuso (físico, sin tipo). */
+    public static final int POTENCIA_AUTOGOLPE = 40;
+
+    /** Qué pasó al comprobar el estado antes de actuar; todo salvo {@link #PUEDE_ACTUAR} pierde el turno. */
+    public enum PreTurno {
+        PUEDE_ACTUAR,
+        CONGELADO,
+        DESCONGELADO,
+        DORMIDO,
+        DESPIERTA,
+        PARALIZADO,
+        AUTOGOLPE
+    }
+
+    private ReglasTurno() {
+    }
+
+    /** Estados al inicio del turno: congelación, sueño, parálisis y, después, confusión. */
+    public static PreTurno preTurno(EstadoCombate c, RandomGenerator rnd) {
+        switch (c.estado()) {
+            case CONGELADO -> {
+                if (rnd.nextDouble() < PROBABILIDAD_DESCONGELAR) {
+                    c.estado(Estado.SALUDABLE);
+                    return PreTurno.DESCONGELADO;
+                }
+                return PreTurno.CONGELADO;
+            }
+            case DORMIDO -> {
+                if (c.turnosSueno() > 0) {
+                    c.turnosSueno(c.turnosSueno() - 1);
+                    return PreTurno.DORMIDO;
+                }
+                c.estado(Estado.SALUDABLE);
+                return PreTurno.DESPIERTA;
+            }
+            case PARALIZADO -> {
+                if (rnd.nextDouble() < PROBABILIDAD_PARALISIS) return PreTurno.PARALIZADO;
+            }
+            default -> { /* SALUDABLE, QUEMADO, ENVENENADO, GRAVE_ENVENENADO: no bloquean el turno */ }
+        }
+
+        if (c.turnosConfusion() > 0) {
+            c.turnosConfusion(c.turnosConfusion() - 1);
+            if (rnd.nextDouble() < PROBABILIDAD_AUTOGOLPE) {
+                int autoDanio = danio(c.nivel(), c.ataque(), c.defensa(), POTENCIA_AUTOGOLPE, 1.0, false, null, true, rnd);
+                c.hp(Math.max(0, c.hp() - autoDanio));
+                return PreTurno.AUTOGOLPE;
+            }
+        }
+        return PreTurno.PUEDE_ACTUAR;
+    }
+
+    /** Precisión 100 o más no falla nunca. */
+    public static boolean impacta(int precisionBase, RandomGenerator rnd) {
+        return precisionBase >= 100 || rnd.nextInt(1, 101) <= precisionBase;
+    }
+
+    public static boolean critico(RandomGenerator rnd) {
+        return rnd.nextDouble() < PROBABILIDAD_CRITICO;
+    }
+
+    /** {@link CalculoService#danio} con la variación tirada de {@code rnd}. */
+    public static int danio(
+        int nivel,
+        int ataqueStat,
+        int defensaStat,
+        int potencia,
+        double multiplicador,
+        boolean stab,
+        Estado estadoAtacante,
+        boolean esFisico,
+        RandomGenerator rnd
+    ) {
+        return CalculoService.danio(nivel, ataqueStat, defensaStat, potencia, multiplicador, stab, estadoAtacante,
+            esFisico, CalculoService.variacion(CalculoService.tirada(rnd)));
+    }
+
+    /**
+     * Aplica el efecto de un movimiento de estado que ha acertado. Devuelve {@code false} si no prende porque el
+     * objetivo ya tiene un estado alterado (o ya está confuso); los cambios de stat y los efectos sin mecánica
+     * siempre cuentan como aplicados.
+     */
+    public static boolean aplicarEfectoEstado(EfectoMovimiento efecto, EstadoCombate atacante, EstadoCombate defensor,
+                                              RandomGenerator rnd) {
+        EstadoCombate objetivo = efecto.objetivo() == EfectoMovimiento.Objetivo.PROPIO ? atacante : defensor;
+        switch (efecto.tipo()) {
+            case DORMIR -> {
+                if (!cambiarEstado(objetivo, Estado.DORMIDO)) return false;
+                objetivo.turnosSueno(1 + rnd.nextInt(3));
+            }
+            case PARALIZAR -> { return cambiarEstado(objetivo, Estado.PARALIZADO); }
+            case ENVENENAR -> { return cambiarEstado(objetivo, Estado.ENVENENADO); }
+            case ENVENENAR_GRAVE -> {
+                if (!cambiarEstado(objetivo, Estado.GRAVE_ENVENENADO)) return false;
+                objetivo.contadorToxico(0);
+            }
+            case QUEMAR -> { return cambiarEstado(objetivo, Estado.QUEMADO); }
+            case CONGELAR -> { return cambiarEstado(objetivo, Estado.CONGELADO); }
+            case CONFUNDIR -> {
+                if (objetivo.turnosConfusion() > 0) return false;
+                objetivo.turnosConfusion(2 + rnd.nextInt(3));
+            }
+            case ATAQUE -> objetivo.ataque(escalar(objetivo.ataque(), efecto.multiplicador()));
+            case DEFENSA -> objetivo.defensa(escalar(objetivo.defensa(), efecto.multiplicador()));
+            case ATAQUE_ESPECIAL -> objetivo.ataqueEspecial(escalar(objetivo.ataqueEspecial(), efecto.multiplicador()));
+            case VELOCIDAD -> objetivo.velocidad(escalar(objetivo.velocidad(), efecto.multiplicador()));
+            case NINGUNO -> { /* sin efecto mecánico */ }
+        }
+        return true;
+    }
+
+    /**
+     * Tira el efecto secundario de un movimiento de daño contra un defensor que sigue en pie. Devuelve si se
+     * aplicó; un estado no prende sobre quien ya tiene uno.
+     */
+    public static boolean aplicarSecundario(EfectoMovimiento efecto, EstadoCombate atacante, EstadoCombate defensor,
+                                            RandomGenerator rnd) {
+        if (efecto.tipo() == EfectoMovimiento.Tipo.NINGUNO || defensor.hp() <= 0) return false;
+        if (rnd.nextInt(100) >= efecto.probabilidad()) return false;
+        return aplicarEfectoEstado(efecto, atacante, defensor, rnd);
+    }
+
+    /**
+     * Daño residual de fin de turno (quemadura, veneno, tóxico, drenadoras); un Pokémon ya debilitado no lo
+     * sufre. Devuelve el daño aplicado.
+     */
+    public static int finTurno(EstadoCombate c) {
+        if (c.hp() <= 0) return 0;
+
+        int hpMax = Math.max(1, c.hpMax());
+        int danio = switch (c.estado()) {
+            case QUEMADO, ENVENENADO -> Math.max(1, hpMax / 8);
+            case GRAVE_ENVENENADO -> {
+                c.contadorToxico(c.contadorToxico() + 1);
+                yield Math.max(1, hpMax * c.contadorToxico() / 16);
+            }
+            default -> 0;
+        };
+        if (c.drenadoras()) danio += Math.max(1, hpMax / 8);
+
+        if (danio > 0) c.hp(Math.max(0, c.hp() - danio));
+        return danio;
+    }
+
+    /** Velocidad para decidir el orden: la parálisis la divide entre 4. */
+    public static int velocidadEfectiva(EstadoCombate c) {
+        int velocidad = c.velocidad();
+        return c.estado() == Estado.PARALIZADO ? Math.max(1, velocidad / 4) : velocidad;
+    }
+
+    /** Orden Gen II sin prioridades: más velocidad actúa antes, empate al azar. */
+    public static boolean actuaAntes(EstadoCombate a, EstadoCombate b, RandomGenerator rnd) {
+        int va = velocidadEfectiva(a);
+        int vb = velocidadEfectiva(b);
+        return va != vb ? va > vb : rnd.nextBoolean();
+    }
+
+    private static boolean cambiarEstado(EstadoCombate c, Estado estado) {
+        if (c.estado() != Estado.SALUDABLE) return false;
+        c.estado(estado);
+        return true;
+    }
+
+    /** Stat × factor, acotado a 1-999. */
+    private static int escalar(int stat, double factor) {
+        return Math.min(999, Math.max(1, (int) (stat * factor)));
+    }
+}
@@ -1,5 +1,6 @@
 /**
- * Motor numérico al estilo Gen II: daño, precisión, críticos y tabla de tipos. Sin JPA ni seguridad;
+ * Motor numérico al estilo Gen II: daño, precisión, críticos, tabla de tipos y reglas de turno
+ * ({@link com.proyecto.pokemon_backend.service.logica.ReglasTurno}). Sin JPA ni seguridad;
  * fácil de probar con datos fijos y asserts sobre enteros.
  */
 package com.proyecto.pokemon_backend.service.logica;
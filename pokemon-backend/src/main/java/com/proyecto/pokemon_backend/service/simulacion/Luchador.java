@@ -0,0 +1,290 @@
+package com.proyecto.pokemon_backend.service.simulacion;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento;
+import com.proyecto.pokemon_backend.service.logica.EstadoCombate;
+
+import java.util.List;
+
+/**
+ * Pokémon del simulador: stats, estado y moveset en campos y arrays primitivos. La efectividad y el STAB de cada
+ * movimiento vienen ya resueltos contra el rival del enfrentamiento, así un combate simulado no consulta
+ * catálogos ni crea objetos.
+ *
+ * Cada hilo trabaja con su copia ({@link #Luchador(Luchador)}) y la devuelve al estado de partida con
+ * {@link #restaurar} antes de cada combate.
+ */
+public final class Luchador implements EstadoCombate {
+
+    /**
+     * Un movimiento tal como lo necesita el simulador.
+     *
+     * @param efectividad multiplicador de tipos contra el rival de este enfrentamiento
+     * @param deEstado    sin daño directo (categoría {@code status} o potencia 0)
+     * @param efecto      el de {@code CatalogoEfectos}: de estado si {@code deEstado}, secundario si no
+     */
+    public record Movimiento(
+        int potencia,
+        int precision,
+        boolean especial,
+        boolean deEstado,
+        boolean stab,
+        double efectividad,
+        EfectoMovimiento efecto,
+        int pp
+    ) {}
+
+    // --- Fijos durante el combate ---
+    private final int nivel;
+    private final int hpMax;
+    private final int defensaEspecial;
+    private final int[] potencia;
+    private final int[] precision;
+    private final boolean[] especial;
+    private final boolean[] deEstado;
+    private final boolean[] stab;
+    private final double[] efectividad;
+    private final EfectoMovimiento[] efecto;
+
+    // --- Cambian turno a turno ---
+    private int hp;
+    private int ataque;
+    private int defensa;
+    private int ataqueEspecial;
+    private int velocidad;
+    private Estado estado = Estado.SALUDABLE;
+    private int turnosSueno;
+    private int turnosConfusion;
+    private int contadorToxico;
+    private boolean drenadoras;
+    private final int[] pp;
+
+    public Luchador(int nivel, int hpMax, int hp, int ataque, int defensa, int ataqueEspecial, int defensaEspecial,
+                    int velocidad, List<Movimiento> movimientos) {
+        this.nivel = nivel;
+        this.hpMax = hpMax;
+        this.hp = hp;
+        this.ataque = ataque;
+        this.defensa = defensa;
+        this.ataqueEspecial = ataqueEspecial;
+        this.defensaEspecial = defensaEspecial;
+        this.velocidad = velocidad;
+
+        int n = movimientos.size();
+        potencia = new int[n];
+        precision = new int[n];
+        especial = new boolean[n];
+        deEstado = new boolean[n];
+        stab = new boolean[n];
+        efectividad = new double[n];
+        efecto = new EfectoMovimiento[n];
+        pp = new int[n];
+        for (int i = 0; i < n; i++) {
+            Movimiento m = movimientos.get(i);
+            potencia[i] = m.potencia();
+            precision[i] = m.precision();
+            especial[i] = m.especial();
+            deEstado[i] = m.deEstado();
+            stab[i] = m.stab();
+            efectividad[i] = m.efectividad();
+            efecto[i] = m.efecto() != null ? m.efecto() : EfectoMovimiento.NINGUNO;
+            pp[i] = m.pp();
+        }
+    }
+
+    /** Copia para otro hilo: comparte los arrays fijos y duplica los que cambian. */
+    public Luchador(Luchador origen) {
+        nivel = origen.nivel;
+        hpMax = origen.hpMax;
+        defensaEspecial = origen.defensaEspecial;
+        potencia = origen.potencia;
+        precision = origen.precision;
+        especial = origen.especial;
+        deEstado = origen.deEstado;
+        stab = origen.stab;
+        efectividad = origen.efectividad;
+        efecto = origen.efecto;
+        pp = new int[origen.pp.length];
+        restaurar(origen);
+    }
+
+    /** Vuelve al estado de {@code origen}, que debe ser el luchador del que se copió este. */
+    public void restaurar(Luchador origen) {
+        hp = origen.hp;
+        ataque = origen.ataque;
+        defensa = origen.defensa;
+        ataqueEspecial = origen.ataqueEspecial;
+        velocidad = origen.velocidad;
+        estado = origen.estado;
+        turnosSueno = origen.turnosSueno;
+        turnosConfusion = origen.turnosConfusion;
+        contadorToxico = origen.contadorToxico;
+        drenadoras = origen.drenadoras;
+        System.arraycopy(origen.pp, 0, pp, 0, pp.length);
+    }
+
+    /** Estado de partida: estado persistente y contadores volátiles que trae el Pokémon al combate. */
+    public Luchador conEstado(Estado estado, int turnosSueno, int turnosConfusion, int contadorToxico,
+                              boolean drenadoras) {
+        this.estado = estado != null ? estado : Estado.SALUDABLE;
+        this.turnosSueno = turnosSueno;
+        this.turnosConfusion = turnosConfusion;
+        this.contadorToxico = contadorToxico;
+        this.drenadoras = drenadoras;
+        return this;
+    }
+
+    // --- Moveset ---
+
+    public int movimientos() {
+        return pp.length;
+    }
+
+    public int pp(int slot) {
+        return pp[slot];
+    }
+
+    void gastarPp(int slot) {
+        pp[slot]--;
+    }
+
+    int potencia(int slot) {
+        return potencia[slot];
+    }
+
+    int precision(int slot) {
+        return precision[slot];
+    }
+
+    boolean especial(int slot) {
+        return especial[slot];
+    }
+
+    boolean deEstado(int slot) {
+        return deEstado[slot];
+    }
+
+    boolean stab(int slot) {
+        return stab[slot];
+    }
+
+    double efectividad(int slot) {
+        return efectividad[slot];
+    }
+
+    EfectoMovimiento efecto(int slot) {
+        return efecto[slot];
+    }
+
+    // --- EstadoCombate ---
+
+    @Override
+    public int hp() {
+        return hp;
+    }
+
+    @Override
+    public void hp(int valor) {
+        hp = valor;
+    }
+
+    @Override
+    public int hpMax() {
+        return hpMax;
+    }
+
+    @Override
+    public int nivel() {
+        return nivel;
+    }
+
+    @Override
+    public int ataque() {
+        return ataque;
+    }
+
+    @Override
+    public void ataque(int valor) {
+        ataque = valor;
+    }
+
+    @Override
+    public int defensa() {
+        return defensa;
+    }
+
+    @Override
+    public void defensa(int valor) {
+        defensa = valor;
+    }
+
+    @Override
+    public int ataqueEspecial() {
+        return ataqueEspecial;
+    }
+
+    @Override
+    public void ataqueEspecial(int valor) {
+        ataqueEspecial = valor;
+    }
+
+    @Override
+    public int defensaEspecial() {
+        return defensaEspecial;
+    }
+
+    @Override
+    public int velocidad() {
+        return velocidad;
+    }
+
+    @Override
+    public void velocidad(int valor) {
+        velocidad = valor;
+    }
+
+    @Override
+    public Estado estado() {
+        return estado;
+    }
+
+    @Override
+    public void estado(Estado valor) {
+        estado = valor;
+    }
+
+    @Override
+    public int turnosSueno() {
+        return turnosSueno;
+    }
+
+    @Override
+    public void turnosSueno(int valor) {
+        turnosSueno = valor;
+    }
+
+    @Override
+    public int turnosConfusion() {
+        return turnosConfusion;
+    }
+
+    @Override
+    public void turnosConfusion(int valor) {
+        turnosConfusion = valor;
+    }
+
+    @Override
+    public int contadorToxico() {
+        return contadorToxico;
+    }
+
+    @Override
+    public void contadorToxico(int valor) {
+        contadorToxico = valor;
+    }
+
+    @Override
+    public boolean drenadoras() {
+        return drenadoras;
+    }
+}
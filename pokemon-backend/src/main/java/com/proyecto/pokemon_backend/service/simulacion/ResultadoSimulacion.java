@@ -0,0 +1,22 @@
+package com.proyecto.pokemon_backend.service.simulacion;
+
+/**
+ * Recuento de una tanda de combates simulados entre A y B.
+ *
+ * @param empates      ambos debilitados a la vez o sin ganador en {@link SimuladorCombate#MAX_RONDAS} rondas
+ * @param rondasMedias rondas por combate, de media
+ */
+public record ResultadoSimulacion(int combates, int victoriasA, int victoriasB, int empates, double rondasMedias) {
+
+    public double probabilidadA() {
+        return combates == 0 ? 0 : (double) victoriasA / combates;
+    }
+
+    public double probabilidadB() {
+        return combates == 0 ? 0 : (double) victoriasB / combates;
+    }
+
+    public double probabilidadEmpate() {
+        return combates == 0 ? 0 : (double) empates / combates;
+    }
+}
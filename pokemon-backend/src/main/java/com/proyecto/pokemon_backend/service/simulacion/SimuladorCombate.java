@@ -0,0 +1,196 @@
+package com.proyecto.pokemon_backend.service.simulacion;
+
+import com.proyecto.pokemon_backend.service.batalla.IaSalvaje;
+import com.proyecto.pokemon_backend.service.batalla.IaSalvaje.Politica;
+import com.proyecto.pokemon_backend.service.logica.ReglasTurno;
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Monte Carlo de combates uno contra uno con las reglas de {@link ReglasTurno}, repartido entre núcleos con
+ * fork/join. Cada tramo recibe su propio {@link SplittableRandom} (dividido del de su padre) y su copia de los
+ * luchadores, así que no se comparte nada mutable y una misma semilla da siempre el mismo resultado.
+ *
+ * La ronda sigue a {@code /batalla/ronda}: el primero elige al azar entre los movimientos con PP y el segundo con
+ * la política que se le pase, puntuando como {@link IaSalvaje}; actúa primero el más rápido, y los residuales
+ * van al final si nadie ha caído. Sin PP se pierde la acción; si
+ * ninguno cae en {@link #MAX_RONDAS} rondas el combate cuenta como empate.
+ */
+@Service
+public class SimuladorCombate {
+
+    public static final int MAX_RONDAS = 200;
+
+    /** Combates por debajo de los cuales un tramo ya no se divide. */
+    private static final int UMBRAL_TRAMO = 5_000;
+    private static final double EPSILON = 1e-9;
+
+    /** Como {@link #simular(Luchador, Luchador, Politica, int, long)} con ambos eligiendo al azar. */
+    public ResultadoSimulacion simular(Luchador a, Luchador b, int combates, long semilla) {
+        return simular(a, b, Politica.ALEATORIO, combates, semilla);
+    }
+
+    /**
+     * @param a        primer luchador (el del jugador en {@code /batalla/probabilidad}); no se modifica
+     * @param b        su rival; no se modifica
+     * @param politicaB cómo elige {@code b} (la del salvaje en {@code /batalla/probabilidad})
+     * @param combates número de combates a simular
+     * @param semilla  misma semilla y mismos luchadores → mismo resultado
+     */
+    public ResultadoSimulacion simular(Luchador a, Luchador b, Politica politicaB, int combates, long semilla) {
+        if (combates <= 0) return new ResultadoSimulacion(0, 0, 0, 0, 0);
+        Recuento r = ForkJoinPool.commonPool().invoke(
+            new Tramo(a, b, politicaB, combates, new SplittableRandom(semilla)));
+        return new ResultadoSimulacion(combates, r.victoriasA(), r.victoriasB(), r.empates(),
+            (double) r.rondas() / combates);
+    }
+
+    /**
+     * Un combate completo entre {@code a} y {@code b}, que quedan en su estado final. Devuelve las rondas
+     * jugadas; el ganador es quien conserva PS.
+     */
+    static int combatir(Luchador a, Luchador b, Politica politicaB, RandomGenerator rnd) {
+        for (int ronda = 1; ronda <= MAX_RONDAS; ronda++) {
+            int movA = elegirMovimiento(a, rnd);
+            int movB = elegirMovimiento(b, a, politicaB, rnd);
+            boolean aPrimero = ReglasTurno.actuaAntes(a, b, rnd);
+            Luchador primero = aPrimero ? a : b;
+            Luchador segundo = aPrimero ? b : a;
+
+            actuar(primero, segundo, aPrimero ? movA : movB, rnd);
+            if (primero.hp() > 0 && segundo.hp() > 0) {
+                actuar(segundo, primero, aPrimero ? movB : movA, rnd);
+            }
+            if (a.hp() == 0 || b.hp() == 0) return ronda;
+
+            ReglasTurno.finTurno(primero);
+            ReglasTurno.finTurno(segundo);
+            if (a.hp() == 0 || b.hp() == 0) return ronda;
+        }
+        return MAX_RONDAS;
+    }
+
+    /** Slot al azar entre los que tienen PP, o {@code -1} si no queda ninguno. */
+    static int elegirMovimiento(Luchador l, RandomGenerator rnd) {
+        int disponibles = 0;
+        for (int slot = 0; slot < l.movimientos(); slot++) {
+            if (l.pp(slot) > 0) disponibles++;
+        }
+        if (disponibles == 0) return -1;
+        int elegido = rnd.nextInt(disponibles);
+        for (int slot = 0; slot < l.movimientos(); slot++) {
+            if (l.pp(slot) > 0 && elegido-- == 0) return slot;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot de más valor según {@link IaSalvaje#puntuar} contra {@code rival}, con desempate al azar como en la
+     * ronda online; {@code -1} si no queda PP. Con {@link Politica#ALEATORIO} es {@link #elegirMovimiento(Luchador,
+     * RandomGenerator)}, así las semillas de antes dan lo mismo.
+     */
+    static int elegirMovimiento(Luchador l, Luchador rival, Politica politica, RandomGenerator rnd) {
+        if (politica == Politica.ALEATORIO) return elegirMovimiento(l, rnd);
+        int elegido = -1;
+        int empatados = 0;
+        double mejor = Double.NEGATIVE_INFINITY;
+        for (int slot = 0; slot < l.movimientos(); slot++) {
+            if (l.pp(slot) <= 0) continue;
+            double valor = IaSalvaje.puntuar(politica, l.potencia(slot), l.precision(slot), l.especial(slot),
+                l.deEstado(slot), l.stab(slot), l.efectividad(slot), l.efecto(slot), l, rival);
+            if (valor > mejor + EPSILON) {
+                mejor = valor;
+                elegido = slot;
+                empatados = 1;
+            } else if (valor > mejor - EPSILON && rnd.nextInt(++empatados) == 0) {
+                elegido = slot;
+            }
+        }
+        return elegido;
+    }
+
+    /** Una acción, en el mismo orden que el turno online: PP, estado previo, precisión, efecto o daño. */
+    private static void actuar(Luchador atacante, Luchador defensor, int slot, RandomGenerator rnd) {
+        if (slot < 0) return;
+        atacante.gastarPp(slot);
+
+        if (ReglasTurno.preTurno(atacante, rnd) != ReglasTurno.PreTurno.PUEDE_ACTUAR) return;
+        if (!ReglasTurno.impacta(atacante.precision(slot), rnd)) return;
+
+        if (atacante.deEstado(slot)) {
+            ReglasTurno.aplicarEfectoEstado(atacante.efecto(slot), atacante, defensor, rnd);
+            return;
+        }
+
+        boolean especial = atacante.especial(slot);
+        double multiplicador = atacante.efectividad(slot);
+        if (ReglasTurno.critico(rnd)) multiplicador *= 2.0;
+        int danio = ReglasTurno.danio(
+            atacante.nivel(),
+            especial ? atacante.ataqueEspecial() : atacante.ataque(),
+            especial ? defensor.defensaEspecial() : defensor.defensa(),
+            atacante.potencia(slot),
+            multiplicador,
+            atacante.stab(slot),
+            atacante.estado(),
+            !especial,
+            rnd
+        );
+        defensor.hp(Math.max(0, defensor.hp() - danio));
+        ReglasTurno.aplicarSecundario(atacante.efecto(slot), atacante, defensor, rnd);
+    }
+
+    private record Recuento(int victoriasA, int victoriasB, int empates, long rondas) {
+        Recuento sumar(Recuento otro) {
+            return new Recuento(victoriasA + otro.victoriasA, victoriasB + otro.victoriasB,
+                empates + otro.empates, rondas + otro.rondas);
+        }
+    }
+
+    private static final class Tramo extends RecursiveTask<Recuento> {
+
+        private final Luchador a;
+        private final Luchador b;
+        private final Politica politicaB;
+        private final int combates;
+        private final SplittableRandom rnd;
+
+        Tramo(Luchador a, Luchador b, Politica politicaB, int combates, SplittableRandom rnd) {
+            this.a = a;
+            this.b = b;
+            this.politicaB = politicaB;
+            this.combates = combates;
+            this.rnd = rnd;
+        }
+
+        @Override
+        protected Recuento compute() {
+            if (combates <= UMBRAL_TRAMO) return ejecutar();
+            int mitad = combates / 2;
+            Tramo izquierda = new Tramo(a, b, politicaB, mitad, rnd.split());
+            izquierda.fork();
+            Recuento derecha = new Tramo(a, b, politicaB, combates - mitad, rnd).compute();
+            return izquierda.join().sumar(derecha);
+        }
+
+        private Recuento ejecutar() {
+            Luchador la = new Luchador(a);
+            Luchador lb = new Luchador(b);
+            int victoriasA = 0;
+            int victoriasB = 0;
+            long rondas = 0;
+            for (int i = 0; i < combates; i++) {
+                la.restaurar(a);
+                lb.restaurar(b);
+                rondas += combatir(la, lb, politicaB, rnd);
+                if (la.hp() > 0 && lb.hp() == 0) victoriasA++;
+                else if (lb.hp() > 0 && la.hp() == 0) victoriasB++;
+            }
+            return new Recuento(victoriasA, victoriasB, combates - victoriasA - victoriasB, rondas);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Simulador de combates sin JPA ni Spring en el bucle: luchadores con estado primitivo, las reglas de
+ * {@code service.logica.ReglasTurno} y fork/join para repartir miles de combates entre núcleos. Sirve para
+ * estimar probabilidades de victoria (balanceo, IA del servidor).
+ */
+package com.proyecto.pokemon_backend.service.simulacion;
@@ -0,0 +1,8 @@
+-- Learnset Gen II (oro-plata, subida de nivel) por especie, ya cruzado con ATAQUES.
+-- Lo rellena CargadorLearnsets al arrancar; el combate solo lee de aquí (vía CatalogoLearnsets).
+CREATE TABLE IF NOT EXISTS POKEMON_LEARNSET (
+    id_pokedex INT NOT NULL,
+    id_ataque INT NOT NULL,
+    nivel INT NOT NULL,
+    PRIMARY KEY (id_pokedex, id_ataque)
+);
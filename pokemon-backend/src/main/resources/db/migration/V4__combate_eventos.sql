@@ -0,0 +1,11 @@
+-- Diario de combates para repetición y auditoría: cada fila es un bloque de eventos binarios (ver EventoCombate)
+-- que DiarioCombates escribe por lotes fuera del turno. Solo se inserta; se lee en orden de id.
+CREATE TABLE IF NOT EXISTS COMBATE_EVENTOS (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    id_combate BIGINT NOT NULL,
+    id_usuario BIGINT NOT NULL,
+    datos BLOB NOT NULL,
+    creado TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id),
+    KEY idx_combate_eventos_combate (id_combate, id)
+);
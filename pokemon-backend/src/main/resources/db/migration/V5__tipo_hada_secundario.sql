@@ -0,0 +1,2 @@
+-- Hada no existe en Gen II: las especies con Hada secundario (Marill, Mr. Mime...) tenían un solo tipo.
+UPDATE POKEDEX_MAESTRA SET tipo_2 = NULL WHERE tipo_2 IN ('fairy', 'hada');
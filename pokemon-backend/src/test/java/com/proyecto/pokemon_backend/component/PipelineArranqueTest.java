@@ -0,0 +1,138 @@
+package com.proyecto.pokemon_backend.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelineArranqueTest {
+
+    private static final List<String> trazas = new CopyOnWriteArrayList<>();
+    private static CountDownLatch cita;
+
+    @Test
+    void run_respetaDependenciasYEjecutaEnParaleloLasIndependientes() {
+        trazas.clear();
+        cita = new CountDownLatch(2);
+        PipelineArranque pipeline = new PipelineArranque(List.of(new Final(), new IndependienteA(), new IndependienteB()));
+
+        pipeline.run();
+
+        // A y B solo terminan si se esperan la una a la otra, es decir, si corren a la vez
+        assertThat(trazas).hasSize(3).endsWith("Final");
+        assertThat(pipeline.informe().etapas())
+            .extracting(PipelineArranque.MedicionEtapa::estado)
+            .containsOnly(PipelineArranque.Estado.OK);
+        assertThat(pipeline.informe().etapas())
+            .filteredOn(m -> m.etapa().equals("Final"))
+            .singleElement()
+            .extracting(PipelineArranque.MedicionEtapa::dependencias)
+            .isEqualTo(List.of("IndependienteA", "IndependienteB"));
+    }
+
+    @Test
+    void run_etapaQueFalla_propagaLaExcepcionYNoEjecutaSusDependientes() {
+        trazas.clear();
+        PipelineArranque pipeline = new PipelineArranque(List.of(new Fallida(), new TrasFallida()));
+
+        assertThatThrownBy(pipeline::run).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(trazas).isEmpty();
+        assertThat(pipeline.informe().etapas())
+            .extracting(PipelineArranque.MedicionEtapa::estado)
+            .containsExactly(PipelineArranque.Estado.ERROR, PipelineArranque.Estado.NO_EJECUTADA);
+    }
+
+    @Test
+    void run_cicloODependenciaNoRegistrada_abortaAntesDeEjecutar() {
+        assertThatThrownBy(() -> new PipelineArranque(List.of(new CicloA(), new CicloB())).run())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Ciclo");
+        assertThatThrownBy(() -> new PipelineArranque(List.of(new TrasFallida())).run())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("no es una etapa registrada");
+    }
+
+    private static void esperarALaOtra() {
+        cita.countDown();
+        try {
+            assertThat(cita.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class IndependienteA implements EtapaArranque {
+        @Override
+        public void ejecutar() {
+            esperarALaOtra();
+            trazas.add("IndependienteA");
+        }
+    }
+
+    static class IndependienteB implements EtapaArranque {
+        @Override
+        public void ejecutar() {
+            esperarALaOtra();
+            trazas.add("IndependienteB");
+        }
+    }
+
+    static class Final implements EtapaArranque {
+        @Override
+        public Set<Class<? extends EtapaArranque>> dependencias() {
+            return Set.of(IndependienteA.class, IndependienteB.class);
+        }
+
+        @Override
+        public void ejecutar() {
+            trazas.add("Final");
+        }
+    }
+
+    static class Fallida implements EtapaArranque {
+        @Override
+        public void ejecutar() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    static class TrasFallida implements EtapaArranque {
+        @Override
+        public Set<Class<? extends EtapaArranque>> dependencias() {
+            return Set.of(Fallida.class);
+        }
+
+        @Override
+        public void ejecutar() {
+            trazas.add("TrasFallida");
+        }
+    }
+
+    static class CicloA implements EtapaArranque {
+        @Override
+        public Set<Class<? extends EtapaArranque>> dependencias() {
+            return Set.of(CicloB.class);
+        }
+
+        @Override
+        public void ejecutar() {}
+    }
+
+    static class CicloB implements EtapaArranque {
+        @Override
+        public Set<Class<? extends EtapaArranque>> dependencias() {
+            return Set.of(CicloA.class);
+        }
+
+        @Override
+        public void ejecutar() {}
+    }
+}
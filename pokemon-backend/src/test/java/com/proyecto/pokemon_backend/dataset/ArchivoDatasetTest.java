@@ -0,0 +1,68 @@
+package com.proyecto.pokemon_backend.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchivoDatasetTest {
+
+    @Test
+    void leerEmpaquetado_verificaChecksumYFormato() {
+        DatasetGenII dataset = ArchivoDataset.leerEmpaquetado();
+
+        assertThat(dataset.formato()).isEqualTo(DatasetGenII.FORMATO);
+        assertThat(dataset.tipos()).hasSize(110);
+        assertThat(dataset.objetos()).extracting(DatasetGenII.Objeto::nombre).contains("Poke-ball", "Rare-candy");
+    }
+
+    @Test
+    void seccionesObligatoriasVacias_listaLasQueFaltan() {
+        DatasetGenII soloObjetos = new DatasetGenII(DatasetGenII.FORMATO, "x", null, null,
+            List.of(new DatasetGenII.Objeto("Potion", 1, "HEAL_20")), null, null);
+        DatasetGenII completo = new DatasetGenII(DatasetGenII.FORMATO, "x",
+            List.of(new DatasetGenII.Especie(25, "pikachu", "electric", null, 35, 55, 30, 50, 40, 90, 82, 190)),
+            List.of(new DatasetGenII.Movimiento(84, "thunder-shock", "electric", "special", 40, 100, 30)),
+            null, List.of(new DatasetGenII.Learnset(25, 84, 1)), null);
+
+        assertThat(soloObjetos.seccionesObligatoriasVacias()).containsExactly("especies", "movimientos", "learnsets");
+        assertThat(completo.seccionesObligatoriasVacias()).isEmpty();
+    }
+
+    @Test
+    void leer_checksumDistinto_lanzaIllegalStateException() {
+        byte[] json = "{\"formato\":1,\"version\":\"x\"}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayResource suma = new ByteArrayResource(
+            "0000000000000000000000000000000000000000000000000000000000000000  x.json\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ArchivoDataset.leer(new ByteArrayResource(json), suma))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Checksum");
+    }
+
+    @Test
+    void escribir_yLeer_conservaElContenido(@TempDir Path dir) {
+        DatasetGenII original = new DatasetGenII(
+            DatasetGenII.FORMATO, "prueba",
+            List.of(new DatasetGenII.Especie(25, "pikachu", "electric", null, 35, 55, 30, 50, 40, 90, 82, 190)),
+            List.of(new DatasetGenII.Movimiento(84, "thunder-shock", "electric", "special", 40, 100, 30)),
+            List.of(new DatasetGenII.Objeto("Potion", 1, "HEAL_20")),
+            List.of(new DatasetGenII.Learnset(25, 84, 1)),
+            List.of(new DatasetGenII.RelacionTipo("Eléctrico", "Tierra", 0.0))
+        );
+        Path destino = dir.resolve("dataset.json");
+
+        ArchivoDataset.escribir(original, destino);
+        DatasetGenII leido = ArchivoDataset.leer(
+            new FileSystemResource(destino), new FileSystemResource(dir.resolve("dataset.json.sha256")));
+
+        assertThat(leido).isEqualTo(original);
+    }
+}
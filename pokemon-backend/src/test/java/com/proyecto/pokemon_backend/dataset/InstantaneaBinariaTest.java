@@ -0,0 +1,113 @@
+package com.proyecto.pokemon_backend.dataset;
+
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.Item;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioLearnset.FilaLearnset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstantaneaBinariaTest {
+
+    private static final String SUMA = "ab".repeat(32);
+
+    @Test
+    void escribir_yAbrir_conservaTodasLasSecciones(@TempDir Path dir) {
+        Path fichero = dir.resolve("catalogo.bin");
+
+        InstantaneaBinaria.escribir(fichero, SUMA,
+            List.of(especie()), List.of(movimiento()), List.of(objeto()),
+            List.of(new FilaLearnset(158, 55, 13)), List.of(tipo()));
+        InstantaneaBinaria instantanea = InstantaneaBinaria.abrir(fichero);
+
+        assertThat(instantanea.cabecera())
+            .isEqualTo(new InstantaneaBinaria.Cabecera(1, 1, 1, 1, 1, SUMA));
+        assertThat(instantanea.especies()).containsExactly(especie());
+        assertThat(instantanea.movimientos()).containsExactly(movimiento());
+        assertThat(instantanea.objetos()).containsExactly(objeto());
+        assertThat(instantanea.learnsets()).containsExactly(new FilaLearnset(158, 55, 13));
+        assertThat(instantanea.tipos()).containsExactly(tipo());
+    }
+
+    @Test
+    void sinDataset_dejaLaSumaVacia() {
+        byte[] bytes = InstantaneaBinaria.serializar("", List.of(), List.of(), List.of(), List.of(), List.of());
+
+        assertThat(InstantaneaBinaria.desdeBytes(bytes).cabecera().sumaDataset()).isEmpty();
+    }
+
+    @Test
+    void ficheroTruncado_lanzaIllegalStateException() {
+        byte[] bytes = InstantaneaBinaria.serializar(SUMA, List.of(especie()), List.of(), List.of(), List.of(), List.of());
+        byte[] truncado = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThatThrownBy(() -> InstantaneaBinaria.desdeBytes(truncado))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("truncada");
+    }
+
+    @Test
+    void nombreDemasiadoLargo_lanzaIllegalArgumentException() {
+        PokedexMaestra larga = especie();
+        larga.setNombre("x".repeat(InstantaneaBinaria.ANCHO_NOMBRE + 1));
+
+        assertThatThrownBy(() -> InstantaneaBinaria.serializar(
+            SUMA, List.of(larga), List.of(), List.of(), List.of(), List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PokedexMaestra especie() {
+        PokedexMaestra p = new PokedexMaestra();
+        p.setId_pokedex(158);
+        p.setNombre("totodile");
+        p.setTipo_1(TipoPokemon.AGUA);
+        p.setStat_base_hp(50);
+        p.setStat_base_ataque(65);
+        p.setStat_base_defensa(64);
+        p.setStat_base_atq_especial(44);
+        p.setStat_base_def_especial(48);
+        p.setStat_base_velocidad(43);
+        p.setXp_base(63);
+        p.setRatioCaptura(45);
+        return p;
+    }
+
+    private static Ataques movimiento() {
+        Ataques a = new Ataques();
+        a.setIdAtaque(55);
+        a.setNombre("water-gun");
+        a.setTipo(TipoPokemon.AGUA);
+        a.setCategoria("special");
+        a.setPotencia(40);
+        a.setPrecisionBase(100);
+        a.setPpBase(25);
+        return a;
+    }
+
+    private static Item objeto() {
+        Item i = new Item();
+        i.setIdItem(3);
+        i.setNombre("Poké-ball");
+        i.setPrecio(1);
+        i.setEfecto("CAPTURE_1.0");
+        return i;
+    }
+
+    private static Tipo tipo() {
+        Tipo t = new Tipo();
+        t.setIdTipo(7);
+        t.setAtacante("Agua");
+        t.setDefensor("Fuego");
+        t.setMultiplicador(2.0);
+        return t;
+    }
+}
@@ -0,0 +1,51 @@
+package com.proyecto.pokemon_backend.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regenera {@code src/main/resources/datos/gen2-dataset-v1.json} (y su {@code .sha256}) desde PokéAPI: arranca
+ * sobre H2 con la descarga activada, {@code ExportadorDataset} vuelca la BD a {@code target/} y, solo si el
+ * volcado cubre todas las tablas, se copia al recurso. Necesita red, así que solo corre a petición:
+ *
+ * <pre>mvn test -Dtest=RegenerarDatasetTest -Dpokemon.regenerar-dataset=true</pre>
+ */
+@EnabledIfSystemProperty(named = "pokemon.regenerar-dataset", matches = "true")
+@SpringBootTest(properties = {
+    "pokemon.datos.pokeapi-habilitada=true",
+    "pokemon.datos.exportar-dataset=" + RegenerarDatasetTest.VOLCADO,
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:db/migration/V1__pokemon_movimientos_usuario.sql,"
+        + "classpath:db/migration/V3__pokemon_learnset.sql,classpath:db/migration/V4__combate_eventos.sql"
+})
+@ActiveProfiles("test")
+class RegenerarDatasetTest {
+
+    static final String VOLCADO = "target/gen2-dataset-v1.json";
+    private static final Path RECURSO = Path.of("src/main/resources", ArchivoDataset.RECURSO);
+
+    @Test
+    void volcado_cubreTodasLasTablas_yReemplazaElEmpaquetado() throws IOException {
+        DatasetGenII dataset = ArchivoDataset.leer(
+            new FileSystemResource(VOLCADO), new FileSystemResource(VOLCADO + ".sha256"));
+
+        assertThat(dataset.especies()).hasSize(251);
+        assertThat(dataset.movimientos()).isNotEmpty();
+        assertThat(dataset.learnsets()).isNotEmpty();
+        assertThat(dataset.objetos()).isNotEmpty();
+        assertThat(dataset.tipos()).hasSize(110);
+
+        Files.copy(Path.of(VOLCADO), RECURSO, StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(Path.of(VOLCADO + ".sha256"), Path.of(RECURSO + ".sha256"), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -8,6 +8,7 @@ import com.proyecto.pokemon_backend.model.PokedexMaestra;
 import com.proyecto.pokemon_backend.model.PokemonUsuario;
 import com.proyecto.pokemon_backend.model.Usuario;
 import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
 import com.proyecto.pokemon_backend.repository.RepositorioAtaques;
 import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon;
 import com.proyecto.pokemon_backend.repository.RepositorioInventarioUsuario;
@@ -15,6 +16,11 @@ import com.proyecto.pokemon_backend.repository.RepositorioObjeto;
 import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
 import com.proyecto.pokemon_backend.repository.RepositorioPokemonUsuario;
 import com.proyecto.pokemon_backend.repository.RepositorioUsuario;
+import com.proyecto.pokemon_backend.service.batalla.CacheMovesets;
+import com.proyecto.pokemon_backend.service.batalla.SesionesBatalla;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoAtaques;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoObjetos;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,12 +59,16 @@ class JuegoServiceTest {
     private RepositorioAtaques ataquesRepo;
     @Mock
     private BatallaService batallaService;
+    @Mock
+    private SesionesBatalla sesionesBatalla;
+    @Mock
+    private CacheMovesets cacheMovesets;
 
     private JuegoService juegoService;
 
     @BeforeEach
     void setUp() {
-        juegoService = new JuegoService(userRepo, pokemonRepo, pokedexRepo, inventarioRepo, itemRepo, estadoMovimientoRepo, ataquesRepo, batallaService);
+        juegoService = new JuegoService(userRepo, pokemonRepo, new CatalogoEspecies(pokedexRepo), inventarioRepo, new CatalogoObjetos(itemRepo), estadoMovimientoRepo, new CatalogoAtaques(ataquesRepo), batallaService, sesionesBatalla, cacheMovesets);
     }
 
     @Test
@@ -92,7 +102,7 @@ class JuegoServiceTest {
         existente.setHpActual(22);
         existente.setPosicionEquipo(0);
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(List.of(existente));
-        when(pokedexRepo.findById(152)).thenReturn(Optional.of(especiePlanta()));
+        when(pokedexRepo.findAll()).thenReturn(List.of(especiePlanta()));
 
         Map<String, Object> res = juegoService.elegirStarter("ash", 152);
 
@@ -111,7 +121,7 @@ class JuegoServiceTest {
         u.setUsername("misty");
         when(userRepo.findByUsername("misty")).thenReturn(Optional.of(u));
         when(pokemonRepo.findByUsuarioId(7L)).thenReturn(Collections.emptyList());
-        when(pokedexRepo.findById(155)).thenReturn(Optional.of(especieFuego()));
+        when(pokedexRepo.findAll()).thenReturn(List.of(especieFuego()));
 
         PokemonUsuario guardado = new PokemonUsuario();
         guardado.setId(200L);
@@ -137,7 +147,6 @@ class JuegoServiceTest {
         u.setIdUsuario(1L);
         when(userRepo.findByUsername("brock")).thenReturn(Optional.of(u));
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(Collections.emptyList());
-        when(pokedexRepo.findById(152)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.elegirStarter("brock", 152))
             .isInstanceOf(RecursoNoEncontrado.class);
@@ -166,7 +175,7 @@ class JuegoServiceTest {
         Usuario u = usuarioBase();
         Item pocion = itemPocion();
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.tirarDelInventario("ash", null, "Potion", 1))
@@ -180,7 +189,7 @@ class JuegoServiceTest {
         Item pocion = itemPocion();
         InventarioUsuario entrada = new InventarioUsuario(u, pocion, 2);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion)).thenReturn(Optional.of(entrada));
 
         assertThatThrownBy(() -> juegoService.tirarDelInventario("ash", null, "Potion", 5))
@@ -194,7 +203,7 @@ class JuegoServiceTest {
         Item pocion = itemPocion();
         InventarioUsuario entrada = new InventarioUsuario(u, pocion, 5);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion)).thenReturn(Optional.of(entrada));
         when(inventarioRepo.findByUsuario(u)).thenReturn(List.of(entrada));
 
@@ -212,7 +221,7 @@ class JuegoServiceTest {
         Item pocion = itemPocion();
         InventarioUsuario entrada = new InventarioUsuario(u, pocion, 1);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion)).thenReturn(Optional.of(entrada));
         when(inventarioRepo.findByUsuario(u)).thenReturn(Collections.emptyList());
 
@@ -240,7 +249,7 @@ class JuegoServiceTest {
         Item ball = itemConEfecto("Poke-Ball", "CAPTURE_1.0");
         PokemonUsuario pkm = pokemonSano(u, 30, 30);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Poke-Ball")).thenReturn(Optional.of(ball));
+        when(itemRepo.findAll()).thenReturn(List.of(ball));
         when(inventarioRepo.findByUsuarioAndItem(u, ball))
             .thenReturn(Optional.of(new InventarioUsuario(u, ball, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
@@ -256,11 +265,10 @@ class JuegoServiceTest {
         Item pocion = itemPocion();
         PokemonUsuario pkm = pokemonSano(u, 0, 40); // HP 0 = debilitado
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion))
             .thenReturn(Optional.of(new InventarioUsuario(u, pocion, 3)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(152)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.usarItemFueraCombate("ash", null, "Potion", 10L))
             .isInstanceOf(ErrorNegocio.class)
@@ -273,11 +281,10 @@ class JuegoServiceTest {
         Item pocion = itemPocion();
         PokemonUsuario pkm = pokemonSano(u, 40, 40); // HP máximo
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion))
             .thenReturn(Optional.of(new InventarioUsuario(u, pocion, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.usarItemFueraCombate("ash", null, "Potion", 10L))
             .isInstanceOf(ErrorNegocio.class)
@@ -291,10 +298,9 @@ class JuegoServiceTest {
         PokemonUsuario pkm = pokemonSano(u, 10, 40);
         InventarioUsuario inv = new InventarioUsuario(u, pocion, 2);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion)).thenReturn(Optional.of(inv));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(List.of(pkm));
         when(inventarioRepo.findByUsuario(u)).thenReturn(List.of());
 
@@ -316,10 +322,9 @@ class JuegoServiceTest {
         pkm.setEstado(Estado.ENVENENADO);
         InventarioUsuario inv = new InventarioUsuario(u, antidoto, 1);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Antidote")).thenReturn(Optional.of(antidoto));
+        when(itemRepo.findAll()).thenReturn(List.of(antidoto));
         when(inventarioRepo.findByUsuarioAndItem(u, antidoto)).thenReturn(Optional.of(inv));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(List.of(pkm));
         when(inventarioRepo.findByUsuario(u)).thenReturn(List.of());
 
@@ -338,10 +343,9 @@ class JuegoServiceTest {
         PokemonUsuario pkm = pokemonSano(u, 15, 50);
         InventarioUsuario inv = new InventarioUsuario(u, maxPocion, 1);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Max-Potion")).thenReturn(Optional.of(maxPocion));
+        when(itemRepo.findAll()).thenReturn(List.of(maxPocion));
         when(inventarioRepo.findByUsuarioAndItem(u, maxPocion)).thenReturn(Optional.of(inv));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(List.of(pkm));
         when(inventarioRepo.findByUsuario(u)).thenReturn(List.of());
 
@@ -360,10 +364,9 @@ class JuegoServiceTest {
         pkm.setEstado(Estado.PARALIZADO);
         InventarioUsuario inv = new InventarioUsuario(u, fullRestore, 1);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Full-Restore")).thenReturn(Optional.of(fullRestore));
+        when(itemRepo.findAll()).thenReturn(List.of(fullRestore));
         when(inventarioRepo.findByUsuarioAndItem(u, fullRestore)).thenReturn(Optional.of(inv));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(List.of(pkm));
         when(inventarioRepo.findByUsuario(u)).thenReturn(List.of());
 
@@ -382,11 +385,10 @@ class JuegoServiceTest {
         Item fullRestore = itemConEfecto("Full-Restore", "HEAL_MAX_STATUS");
         PokemonUsuario pkm = pokemonSano(u, 50, 50); // HP máximo y SALUDABLE
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Full-Restore")).thenReturn(Optional.of(fullRestore));
+        when(itemRepo.findAll()).thenReturn(List.of(fullRestore));
         when(inventarioRepo.findByUsuarioAndItem(u, fullRestore))
             .thenReturn(Optional.of(new InventarioUsuario(u, fullRestore, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.usarItemFueraCombate("ash", null, "Full-Restore", 10L))
             .isInstanceOf(ErrorNegocio.class)
@@ -402,10 +404,9 @@ class JuegoServiceTest {
         pkm.setContadorToxico(3);
         InventarioUsuario inv = new InventarioUsuario(u, curaTotal, 2);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Full-Heal")).thenReturn(Optional.of(curaTotal));
+        when(itemRepo.findAll()).thenReturn(List.of(curaTotal));
         when(inventarioRepo.findByUsuarioAndItem(u, curaTotal)).thenReturn(Optional.of(inv));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
         when(pokemonRepo.findByUsuarioId(1L)).thenReturn(List.of(pkm));
         when(inventarioRepo.findByUsuario(u)).thenReturn(List.of());
 
@@ -424,11 +425,10 @@ class JuegoServiceTest {
         PokemonUsuario pkm = pokemonSano(u, 20, 40);
         pkm.setEstado(Estado.PARALIZADO); // estado diferente al que cura el antídoto
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Antidote")).thenReturn(Optional.of(antidoto));
+        when(itemRepo.findAll()).thenReturn(List.of(antidoto));
         when(inventarioRepo.findByUsuarioAndItem(u, antidoto))
             .thenReturn(Optional.of(new InventarioUsuario(u, antidoto, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.usarItemFueraCombate("ash", null, "Antidote", 10L))
             .isInstanceOf(ErrorNegocio.class)
@@ -442,7 +442,7 @@ class JuegoServiceTest {
         PokemonUsuario pkm = pokemonSano(u, 10, 40);
         pkm.setUsuarioId(999L); // pertenece a otro usuario
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Potion")).thenReturn(Optional.of(pocion));
+        when(itemRepo.findAll()).thenReturn(List.of(pocion));
         when(inventarioRepo.findByUsuarioAndItem(u, pocion))
             .thenReturn(Optional.of(new InventarioUsuario(u, pocion, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
@@ -458,7 +458,7 @@ class JuegoServiceTest {
         Item cuerda = itemConEfecto("Escape-Rope", "NONE");
         PokemonUsuario pkm = pokemonSano(u, 20, 40);
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Escape-Rope")).thenReturn(Optional.of(cuerda));
+        when(itemRepo.findAll()).thenReturn(List.of(cuerda));
         when(inventarioRepo.findByUsuarioAndItem(u, cuerda))
             .thenReturn(Optional.of(new InventarioUsuario(u, cuerda, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
@@ -474,11 +474,10 @@ class JuegoServiceTest {
         Item antidoto = itemConEfecto("Antidote", "CURE_PSN");
         PokemonUsuario pkm = pokemonSano(u, 20, 40); // SALUDABLE por defecto
         when(userRepo.findByUsername("ash")).thenReturn(Optional.of(u));
-        when(itemRepo.findByNombreIgnoreCase("Antidote")).thenReturn(Optional.of(antidoto));
+        when(itemRepo.findAll()).thenReturn(List.of(antidoto));
         when(inventarioRepo.findByUsuarioAndItem(u, antidoto))
             .thenReturn(Optional.of(new InventarioUsuario(u, antidoto, 1)));
         when(pokemonRepo.findById(10L)).thenReturn(Optional.of(pkm));
-        when(pokedexRepo.findById(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> juegoService.usarItemFueraCombate("ash", null, "Antidote", 10L))
             .isInstanceOf(ErrorNegocio.class)
@@ -532,7 +531,7 @@ class JuegoServiceTest {
         PokedexMaestra p = new PokedexMaestra();
         p.setId_pokedex(152);
         p.setNombre("Chikorita");
-        p.setTipo_1("planta");
+        p.setTipo_1(TipoPokemon.PLANTA);
         p.setStat_base_hp(45);
         p.setStat_base_ataque(49);
         p.setStat_base_defensa(65);
@@ -546,7 +545,7 @@ class JuegoServiceTest {
         PokedexMaestra p = new PokedexMaestra();
         p.setId_pokedex(155);
         p.setNombre("Cyndaquil");
-        p.setTipo_1("fuego");
+        p.setTipo_1(TipoPokemon.FUEGO);
         p.setStat_base_hp(39);
         p.setStat_base_ataque(52);
         p.setStat_base_defensa(43);
@@ -0,0 +1,96 @@
+package com.proyecto.pokemon_backend.service;
+
+import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioTipo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TipoServiceTest {
+
+    @Mock
+    private RepositorioTipo tipoRepository;
+
+    private TipoService tipoService;
+
+    @BeforeEach
+    void setUp() {
+        tipoService = new TipoService(tipoRepository);
+    }
+
+    @Test
+    void efectividad_dobleTipo_multiplicaAmbasCeldas() {
+        when(tipoRepository.findAll()).thenReturn(List.of(
+            fila("Hielo", "Volador", 2.0),
+            fila("Hielo", "Dragón", 2.0),
+            fila("Fuego", "Agua", 0.5)
+        ));
+
+        // Dragonite (dragon/flying) recibiendo un ataque de hielo: x4
+        assertThat(tipoService.calcularEfectividad("ice", "dragon", "flying")).isEqualTo(4.0);
+        assertThat(tipoService.calcularEfectividad("fire", "water", null)).isEqualTo(0.5);
+        assertThat(tipoService.calcularEfectividad("Fuego", "Planta", "")).isEqualTo(1.0);
+    }
+
+    @Test
+    void efectividad_tipoDesconocido_esNeutra() {
+        assertThat(tipoService.calcularEfectividad("shadow", "normal", null)).isEqualTo(1.0);
+        assertThat(tipoService.calcularEfectividad(null, "normal", null)).isEqualTo(1.0);
+    }
+
+    @Test
+    void efectividad_porEnum_coincideConLaVarianteTexto() {
+        when(tipoRepository.findAll()).thenReturn(List.of(fila("Planta", "Agua", 2.0), fila("Planta", "Tierra", 2.0)));
+
+        // Quagsire (agua/tierra) recibiendo un ataque de planta
+        assertThat(tipoService.calcularEfectividad(TipoPokemon.PLANTA, TipoPokemon.AGUA, TipoPokemon.TIERRA))
+            .isEqualTo(4.0)
+            .isEqualTo(tipoService.calcularEfectividad("grass", "Agua", "ground"));
+        assertThat(TipoPokemon.desde("Psíquico")).isSameAs(TipoPokemon.desde("psychic")).isSameAs(TipoPokemon.PSIQUICO);
+        assertThat(TipoPokemon.desde("fairy")).isSameAs(TipoPokemon.NORMAL);
+    }
+
+    @Test
+    void efectividad_noConsultaLaBdPorGolpe() {
+        when(tipoRepository.findAll()).thenReturn(List.of(fila("Eléctrico", "Tierra", 0.0)));
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(tipoService.calcularEfectividad("electric", "ground", null)).isZero();
+        }
+
+        verify(tipoRepository, times(1)).findAll();
+        verify(tipoRepository, never()).findByAtacanteAndDefensor(anyString(), anyString());
+    }
+
+    @Test
+    void recargarMatriz_publicaLosCambiosDeLaTabla() {
+        when(tipoRepository.findAll())
+            .thenReturn(List.of())
+            .thenReturn(List.of(fila("Agua", "Fuego", 2.0)));
+
+        assertThat(tipoService.calcularEfectividad("water", "fire", null)).isEqualTo(1.0);
+        tipoService.recargarMatriz();
+        assertThat(tipoService.calcularEfectividad("water", "fire", null)).isEqualTo(2.0);
+    }
+
+    private static Tipo fila(String atacante, String defensor, double multiplicador) {
+        Tipo t = new Tipo();
+        t.setAtacante(atacante);
+        t.setDefensor(defensor);
+        t.setMultiplicador(multiplicador);
+        return t;
+    }
+}
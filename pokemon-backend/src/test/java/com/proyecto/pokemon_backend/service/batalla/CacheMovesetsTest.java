@@ -0,0 +1,82 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class CacheMovesetsTest {
+
+    @Mock
+    private RepositorioEstadoMovimientoPokemon moveStateRepo;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final PropiedadesBatalla propiedades = new PropiedadesBatalla();
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+    private CacheMovesets cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheMovesets(moveStateRepo, transactionManager, propiedades, metricas);
+    }
+
+    @Test
+    void expulsar_porInactividadRespetaSuciosYEnCombate() {
+        obtener(1L);
+        obtener(2L).gastarPp(0);
+        obtener(3L);
+        obtener(1L);
+        long despues = System.currentTimeMillis() + propiedades.getInactividadMoveset().toMillis() + 1;
+
+        int expulsados = cache.expulsar(despues, id -> id == 3L);
+
+        assertThat(expulsados).isEqualTo(1);
+        assertThat(cache.contar()).isEqualTo(2);
+        assertThat(metricas.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(metricas.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(3);
+        assertThat(metricas.get("cache.evictions").counter().count()).isEqualTo(1);
+        assertThat(metricas.get("cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void expulsar_porTamanoSacaLosMenosUsados() throws InterruptedException {
+        propiedades.setMaximoMovesets(2);
+        obtener(1L);
+        Thread.sleep(2);
+        obtener(2L);
+        Thread.sleep(2);
+        obtener(3L);
+        Thread.sleep(2);
+        obtener(1L);
+
+        cache.expulsar(System.currentTimeMillis(), id -> false);
+
+        assertThat(cache.contar()).isEqualTo(2);
+        Moveset recargado = new Moveset(2L, List.of(placaje()), new int[] {35}, new int[] {35});
+        assertThat(cache.obtener(2L, () -> recargado)).isSameAs(recargado);
+    }
+
+    private Moveset obtener(Long pokemonId) {
+        return cache.obtener(pokemonId, () -> new Moveset(pokemonId, List.of(placaje()), new int[] {35}, new int[] {35}));
+    }
+
+    private static Ataques placaje() {
+        Ataques a = new Ataques();
+        a.setIdAtaque(33);
+        a.setNombre("tackle");
+        a.setPpBase(35);
+        return a;
+    }
+}
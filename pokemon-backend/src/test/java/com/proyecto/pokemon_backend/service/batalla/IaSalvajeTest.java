@@ -0,0 +1,130 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.service.batalla.IaSalvaje.Politica;
+import com.proyecto.pokemon_backend.service.batalla.SesionBatalla.Combatiente;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEfectos;
+import com.proyecto.pokemon_backend.service.catalogo.CatalogoEspecies;
+import com.proyecto.pokemon_backend.service.catalogo.TablaEnfrentamientos;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class IaSalvajeTest {
+
+    private static final int PLACAJE = 33;
+    private static final int PISTOLA_AGUA = 55;
+    private static final int ONDA_TRUENO = 86;
+
+    @Mock
+    private TablaEnfrentamientos tablaEnfrentamientos;
+
+    @Mock
+    private CatalogoEspecies catalogoEspecies;
+
+    private IaSalvaje ia;
+    private final SplittableRandom rnd = new SplittableRandom(1);
+
+    @BeforeEach
+    void setUp() {
+        ia = new IaSalvaje(tablaEnfrentamientos, catalogoEspecies, new CatalogoEfectos(), new PropiedadesBatalla());
+        lenient().when(catalogoEspecies.buscar(anyInt())).thenReturn(Optional.empty());
+        lenient().when(tablaEnfrentamientos.multiplicador(eq(TipoPokemon.NORMAL), any())).thenReturn(1.0);
+        lenient().when(tablaEnfrentamientos.multiplicador(eq(TipoPokemon.AGUA), any())).thenReturn(2.0);
+    }
+
+    @Test
+    void vorazEligeElDeMasDanioEsperado() {
+        Combatiente salvaje = salvaje(35, 25, 20);
+
+        assertThat(ia.elegir(salvaje, rival(Estado.SALUDABLE), Politica.VORAZ, rnd)).isEqualTo(PISTOLA_AGUA);
+    }
+
+    @Test
+    void estadosParalizaAUnRivalSanoPeroNoAUnoYaParalizado() {
+        Combatiente salvaje = salvaje(35, 25, 20);
+
+        assertThat(ia.elegir(salvaje, rival(Estado.SALUDABLE), Politica.ESTADOS, rnd)).isEqualTo(ONDA_TRUENO);
+        assertThat(ia.elegir(salvaje, rival(Estado.PARALIZADO), Politica.ESTADOS, rnd)).isEqualTo(PISTOLA_AGUA);
+    }
+
+    @Test
+    void soloConsideraSlotsConPp() {
+        assertThat(ia.elegir(salvaje(35, 0, 0), rival(Estado.SALUDABLE), Politica.VORAZ, rnd)).isEqualTo(PLACAJE);
+        assertThat(ia.elegir(salvaje(0, 0, 0), rival(Estado.SALUDABLE), Politica.ESTADOS, rnd)).isNull();
+    }
+
+    @Test
+    void aleatorioRepartePorTodosLosSlotsConPp() {
+        Combatiente salvaje = salvaje(35, 25, 20);
+        Set<Integer> elegidos = new HashSet<>();
+        for (int i = 0; i < 100; i++) elegidos.add(ia.elegir(salvaje, rival(Estado.SALUDABLE), rnd));
+
+        assertThat(elegidos).containsExactlyInAnyOrder(PLACAJE, PISTOLA_AGUA, ONDA_TRUENO);
+    }
+
+    /** Nv 10, stats 20: Placaje, Pistola Agua (×2 contra el rival) y Onda Trueno, con los PP indicados. */
+    private static Combatiente salvaje(int ppPlacaje, int ppPistolaAgua, int ppOndaTrueno) {
+        PokemonUsuario p = pokemon(1L);
+        Moveset moveset = new Moveset(1L,
+            List.of(
+                ataque(PLACAJE, "tackle", TipoPokemon.NORMAL, "physical", 40),
+                ataque(PISTOLA_AGUA, "water-gun", TipoPokemon.AGUA, "special", 40),
+                ataque(ONDA_TRUENO, "thunder-wave", TipoPokemon.ELECTRICO, "status", 0)),
+            new int[] {ppPlacaje, ppPistolaAgua, ppOndaTrueno},
+            new int[] {35, 25, 20});
+        return new SesionBatalla(1L, 9L, "ash", 1L).agregar(p, moveset);
+    }
+
+    private static PokemonUsuario rival(Estado estado) {
+        PokemonUsuario p = pokemon(2L);
+        p.setEstado(estado);
+        return p;
+    }
+
+    private static PokemonUsuario pokemon(Long id) {
+        PokemonUsuario p = new PokemonUsuario();
+        p.setId(id);
+        p.setPokedexId(id.intValue());
+        p.setNivel(10);
+        p.setHpMax(40);
+        p.setHpActual(40);
+        p.setAtaqueStat(20);
+        p.setDefensaStat(20);
+        p.setAtaqueEspecialStat(20);
+        p.setDefensaEspecialStat(20);
+        p.setVelocidadStat(20);
+        p.setEstado(Estado.SALUDABLE);
+        return p;
+    }
+
+    private static Ataques ataque(int id, String nombre, TipoPokemon tipo, String categoria, int potencia) {
+        Ataques a = new Ataques();
+        a.setIdAtaque(id);
+        a.setNombre(nombre);
+        a.setTipo(tipo);
+        a.setCategoria(categoria);
+        a.setPotencia(potencia);
+        a.setPrecisionBase(100);
+        return a;
+    }
+}
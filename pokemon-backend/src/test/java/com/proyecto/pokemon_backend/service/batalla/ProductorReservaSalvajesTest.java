@@ -0,0 +1,83 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.exception.RecursoNoEncontrado;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.service.BatallaService;
+import com.proyecto.pokemon_backend.service.batalla.ReservaSalvajes.SalvajePreparado;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.Encuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.MomentoDia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductorReservaSalvajesTest {
+
+    @Mock
+    private BatallaService batallaService;
+    @Mock
+    private TablasEncuentro tablasEncuentro;
+
+    private final PropiedadesBatalla propiedades = new PropiedadesBatalla();
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+    private ReservaSalvajes reserva;
+    private ProductorReservaSalvajes productor;
+
+    @BeforeEach
+    void setUp() {
+        propiedades.setReservaSalvajes(3);
+        reserva = new ReservaSalvajes(propiedades, metricas);
+        productor = new ProductorReservaSalvajes(batallaService, tablasEncuentro, reserva, metricas);
+    }
+
+    @Test
+    void reponer_llenaCadaColaHastaSuCapacidad() {
+        when(tablasEncuentro.mapas()).thenReturn(Set.of("route-29"));
+        when(tablasEncuentro.tirar(eq("route-29"), eq(MomentoDia.DIA), any()))
+            .thenReturn(Optional.of(new Encuentro(16, 3)));
+        when(batallaService.construirPreparado(new Encuentro(16, 3)))
+            .thenAnswer(i -> new SalvajePreparado(new PokemonUsuario(), "pidgey", List.of(), new int[0]));
+
+        productor.reponer(MomentoDia.DIA);
+
+        assertThat(reserva.huecos("route-29", MomentoDia.DIA)).isZero();
+        assertThat(reserva.huecos("route-29", MomentoDia.NOCHE)).isEqualTo(3);
+        assertThat(productor.getFallos()).isZero();
+    }
+
+    @Test
+    void reponer_cuentaLosFallosPorMapaYSigueConElResto() {
+        when(tablasEncuentro.mapas()).thenReturn(Set.of("route-29", "route-30"));
+        when(tablasEncuentro.tirar(eq("route-29"), eq(MomentoDia.DIA), any()))
+            .thenReturn(Optional.of(new Encuentro(999, 3)));
+        when(tablasEncuentro.tirar(eq("route-30"), eq(MomentoDia.DIA), any()))
+            .thenReturn(Optional.of(new Encuentro(16, 3)));
+        when(batallaService.construirPreparado(new Encuentro(999, 3)))
+            .thenThrow(new RecursoNoEncontrado("Pokémon no encontrado en Pokédex: 999"));
+        when(batallaService.construirPreparado(new Encuentro(16, 3)))
+            .thenAnswer(i -> new SalvajePreparado(new PokemonUsuario(), "pidgey", List.of(), new int[0]));
+
+        productor.reponer(MomentoDia.DIA);
+        productor.reponer(MomentoDia.DIA);
+
+        assertThat(productor.getFallos()).isEqualTo(2);
+        assertThat(metricas.get("pokemon.salvajes.reserva.fallos").tag("mapa", "route-29").counter().count())
+            .isEqualTo(2);
+        assertThat(reserva.huecos("route-29", MomentoDia.DIA)).isEqualTo(3);
+        assertThat(reserva.huecos("route-30", MomentoDia.DIA)).isZero();
+    }
+}
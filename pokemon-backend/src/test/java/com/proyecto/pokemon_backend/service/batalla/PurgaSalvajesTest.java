@@ -0,0 +1,95 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Usuario;
+import com.proyecto.pokemon_backend.repository.RepositorioPurgaSalvajes;
+import com.proyecto.pokemon_backend.repository.RepositorioUsuario;
+import com.proyecto.pokemon_backend.support.CuentaSalvajes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PurgaSalvajesTest {
+
+    private static final Long SALVAJES_ID = 7L;
+
+    @Mock
+    private RepositorioPurgaSalvajes purgaRepo;
+    @Mock
+    private RepositorioUsuario userRepo;
+    @Mock
+    private SesionesBatalla sesiones;
+    @Mock
+    private CacheMovesets cacheMovesets;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final PropiedadesBatalla propiedades = new PropiedadesBatalla();
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+    private PurgaSalvajes purga;
+
+    @BeforeEach
+    void setUp() {
+        propiedades.setLotePurga(2);
+        SalvajesEfimeros salvajes = new SalvajesEfimeros(sesiones, propiedades);
+        purga = new PurgaSalvajes(
+            purgaRepo, userRepo, sesiones, salvajes, cacheMovesets, propiedades, transactionManager, metricas
+        );
+        Usuario cuenta = new Usuario();
+        cuenta.setIdUsuario(SALVAJES_ID);
+        when(userRepo.findByUsername(CuentaSalvajes.USERNAME)).thenReturn(Optional.of(cuenta));
+        lenient().when(sesiones.buscar(anyLong())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void purgar_borraPorLotesSoloLasFilasQueCumplenLaEdad() {
+        long edad = propiedades.getEdadMaximaSalvaje().toMillis();
+        when(purgaRepo.idsDeUsuario(SALVAJES_ID, 0, 2)).thenReturn(List.of(1L, 2L));
+        when(purgaRepo.idsDeUsuario(SALVAJES_ID, 2, 2)).thenReturn(List.of(3L));
+
+        purga.purgar(1_000);
+
+        verify(purgaRepo, never()).eliminar(any(), any());
+        assertThat(metricas.get("pokemon.salvajes.huerfanos").gauge().value()).isEqualTo(3);
+
+        when(purgaRepo.eliminar(SALVAJES_ID, List.of(1L, 2L))).thenReturn(2);
+        when(purgaRepo.eliminar(SALVAJES_ID, List.of(3L))).thenReturn(1);
+
+        purga.purgar(1_000 + edad);
+
+        verify(cacheMovesets).descartar(1L);
+        verify(cacheMovesets).descartar(3L);
+        assertThat(metricas.get("pokemon.salvajes.purgados").tag("origen", "bd").counter().count()).isEqualTo(3);
+        assertThat(metricas.get("pokemon.salvajes.huerfanos").gauge().value()).isZero();
+    }
+
+    @Test
+    void purgar_respetaLasFilasConCombateAbierto() {
+        long edad = propiedades.getEdadMaximaSalvaje().toMillis();
+        when(purgaRepo.idsDeUsuario(SALVAJES_ID, 0, 2)).thenReturn(List.of(5L));
+        when(sesiones.buscar(5L)).thenReturn(Optional.of(new SesionBatalla(5L, 1L, "u", 1L)));
+
+        purga.purgar(0);
+        purga.purgar(edad + 1);
+
+        verify(purgaRepo, never()).eliminar(eq(SALVAJES_ID), any());
+        assertThat(metricas.get("pokemon.salvajes.huerfanos").gauge().value()).isEqualTo(1);
+    }
+}
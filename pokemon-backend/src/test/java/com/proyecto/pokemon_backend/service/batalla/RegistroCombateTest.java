@@ -0,0 +1,48 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import com.proyecto.pokemon_backend.service.batalla.EventoCombate.Tipo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistroCombateTest {
+
+    @Test
+    void anotarYLeer_conservanTiposYValoresExtremos() {
+        RegistroCombate registro = new RegistroCombate();
+        registro.anotar(Tipo.INICIO, 7L, Long.MIN_VALUE, 3L);
+        registro.anotar(Tipo.ACCION, 7L, -1L, Long.MAX_VALUE);
+        registro.anotar(Tipo.FALLO, 0L);
+
+        List<EventoCombate> eventos = EventoCombate.leer(registro.extraer());
+
+        assertThat(eventos).extracting(EventoCombate::tipo).containsExactly(Tipo.INICIO, Tipo.ACCION, Tipo.FALLO);
+        assertThat(eventos.get(0).datos()).containsExactly(Long.MIN_VALUE, 3L);
+        assertThat(eventos.get(1).datos()).containsExactly(-1L, Long.MAX_VALUE);
+        assertThat(registro.isVacio()).isTrue();
+    }
+
+    @Test
+    void cambios_soloAnotaLoQueDifiereYNadaTrasElFin() {
+        PokemonUsuario p = new PokemonUsuario();
+        p.setHpActual(20);
+        FichaPokemon f = new FichaPokemon(p);
+        RegistroCombate registro = new RegistroCombate();
+
+        registro.cambios(1L, f);
+        registro.cambios(1L, f);
+        p.setEstado(Estado.PARALIZADO);
+        registro.cambios(1L, f);
+        registro.anotar(Tipo.FIN, 1L);
+        p.setHpActual(5);
+        registro.cambios(1L, f);
+
+        List<EventoCombate> eventos = EventoCombate.leer(registro.extraer());
+        assertThat(eventos).extracting(EventoCombate::tipo).containsExactly(Tipo.ESTADO, Tipo.ESTADO, Tipo.FIN);
+        assertThat(eventos.get(1).valores()).containsEntry("estado", "PARALIZADO").containsEntry("hp", 20L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.service.batalla.ReservaSalvajes.SalvajePreparado;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.MomentoDia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservaSalvajesTest {
+
+    private final PropiedadesBatalla propiedades = new PropiedadesBatalla();
+    private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+
+    @Test
+    void colaAcotadaPorMapaYMomentoConContrapresion() {
+        propiedades.setReservaSalvajes(2);
+        ReservaSalvajes reserva = new ReservaSalvajes(propiedades, metricas);
+
+        assertThat(reserva.ofrecer("New Bark Town", MomentoDia.DIA, preparado("rattata"))).isTrue();
+        assertThat(reserva.ofrecer("new-bark-town", MomentoDia.DIA, preparado("pidgey"))).isTrue();
+        assertThat(reserva.ofrecer("new_bark_town", MomentoDia.DIA, preparado("sentret"))).isFalse();
+        assertThat(reserva.huecos("new-bark-town", MomentoDia.DIA)).isZero();
+        assertThat(reserva.huecos("new-bark-town", MomentoDia.NOCHE)).isEqualTo(2);
+        assertThat(metricas.get("pokemon.salvajes.reserva").tags("mapa", "new-bark-town", "momento", "DIA")
+            .gauge().value()).isEqualTo(2);
+
+        assertThat(reserva.tomar("new-bark-town", MomentoDia.DIA)).map(SalvajePreparado::nombre).contains("rattata");
+        assertThat(reserva.tomar("new-bark-town", MomentoDia.NOCHE)).isEmpty();
+
+        assertThat(reserva.huecos("new-bark-town", MomentoDia.DIA)).isEqualTo(1);
+        assertThat(metricas.get("pokemon.salvajes.encuentros").tag("origen", "reserva").counter().count()).isEqualTo(1);
+        assertThat(metricas.get("pokemon.salvajes.encuentros").tag("origen", "directo").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sinCapacidadNoGuardaNada() {
+        propiedades.setReservaSalvajes(0);
+        ReservaSalvajes reserva = new ReservaSalvajes(propiedades, metricas);
+
+        assertThat(reserva.ofrecer("new-bark-town", MomentoDia.DIA, preparado("rattata"))).isFalse();
+        assertThat(reserva.tomar("new-bark-town", MomentoDia.DIA)).isEmpty();
+    }
+
+    private static SalvajePreparado preparado(String nombre) {
+        return new SalvajePreparado(new PokemonUsuario(), nombre, List.of(), new int[0]);
+    }
+}
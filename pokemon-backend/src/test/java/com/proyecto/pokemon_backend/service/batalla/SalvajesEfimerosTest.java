@@ -0,0 +1,52 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalvajesEfimerosTest {
+
+    @Mock
+    private SesionesBatalla sesiones;
+
+    @Test
+    void registrar_daIdsNegativosDistintos() {
+        SalvajesEfimeros salvajes = new SalvajesEfimeros(sesiones, new PropiedadesBatalla());
+
+        Long a = salvajes.registrar(new PokemonUsuario(), List.of()).pokemon().getId();
+        Long b = salvajes.registrar(new PokemonUsuario(), List.of(33)).pokemon().getId();
+
+        assertThat(a).isNegative().isNotEqualTo(b);
+        assertThat(SalvajesEfimeros.esEfimero(a)).isTrue();
+        assertThat(SalvajesEfimeros.esEfimero(1L)).isFalse();
+        assertThat(salvajes.buscar(b).orElseThrow().movesetPersonalizado()).containsExactly(33);
+    }
+
+    @Test
+    void expirar_soloOlvidaLosCaducadosSinCombateAbierto() {
+        SalvajesEfimeros salvajes = new SalvajesEfimeros(sesiones, new PropiedadesBatalla());
+        SalvajesEfimeros.SalvajeEfimero enCombate = salvajes.registrar(new PokemonUsuario(), List.of());
+        SalvajesEfimeros.SalvajeEfimero abandonado = salvajes.registrar(new PokemonUsuario(), List.of());
+        Long enCombateId = enCombate.pokemon().getId();
+        Long abandonadoId = abandonado.pokemon().getId();
+        when(sesiones.buscar(enCombateId)).thenReturn(Optional.of(new SesionBatalla(enCombateId, 1L, "u", 1L)));
+        when(sesiones.buscar(abandonadoId)).thenReturn(Optional.empty());
+
+        int expirados = salvajes.expirar(System.currentTimeMillis() + new PropiedadesBatalla().getEdadMaximaSalvaje().toMillis() + 1);
+
+        assertThat(expirados).isEqualTo(1);
+        assertThat(salvajes.buscar(enCombateId)).isPresent();
+        assertThat(salvajes.buscar(abandonadoId)).isEmpty();
+        assertThat(salvajes.contar()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,196 @@
+package com.proyecto.pokemon_backend.service.batalla;
+
+import com.proyecto.pokemon_backend.config.PropiedadesBatalla;
+import com.proyecto.pokemon_backend.model.Ataques;
+import com.proyecto.pokemon_backend.model.PokemonUsuario;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioEstadoMovimientoPokemon.EstadoPpMovimiento;
+import com.proyecto.pokemon_backend.repository.RepositorioEventosCombate;
+import com.proyecto.pokemon_backend.repository.RepositorioEventosCombate.BloqueEventos;
+import com.proyecto.pokemon_backend.repository.RepositorioPokemonUsuario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SesionesBatallaTest {
+
+    @Mock
+    private RepositorioPokemonUsuario pokemonRepo;
+    @Mock
+    private RepositorioEstadoMovimientoPokemon moveStateRepo;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private RepositorioEventosCombate eventosRepo;
+
+    private CacheMovesets cache;
+    private DiarioCombates diario;
+    private SesionesBatalla sesiones;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheMovesets(moveStateRepo, transactionManager, new PropiedadesBatalla(), new SimpleMeterRegistry());
+        diario = new DiarioCombates(eventosRepo);
+        sesiones = new SesionesBatalla(pokemonRepo, cache, diario);
+    }
+
+    @Test
+    void cerrarConVolcado_guardaPokemonYPpDeLaSesion() {
+        SesionBatalla sesion = sesiones.abrir(sesionDe(1L, 100L, 10L));
+        SesionBatalla.Combatiente jugador = sesion.combatiente(10L).orElseThrow();
+        jugador.pokemon().setHpActual(3);
+        jugador.gastarPp(0);
+
+        sesiones.cerrar(100L, true);
+
+        verify(pokemonRepo).save(jugador.pokemon());
+        verify(pokemonRepo).save(sesion.salvaje().pokemon());
+        verify(moveStateRepo).insertarOActualizarLote(Map.of(10L, List.of(new EstadoPpMovimiento(33, 0, 34))));
+        assertThat(sesion.isCerrada()).isTrue();
+        assertThat(sesiones.buscar(100L)).isEmpty();
+    }
+
+    @Test
+    void cerrarConVolcado_siFallaLaTransaccionLaSesionSigueAbierta() {
+        SesionBatalla sesion = sesiones.abrir(sesionDe(1L, 100L, 10L));
+        SesionBatalla.Combatiente jugador = sesion.combatiente(10L).orElseThrow();
+        jugador.pokemon().setHpActual(3);
+        when(pokemonRepo.save(any(PokemonUsuario.class)))
+            .thenThrow(new DataAccessResourceFailureException("BD caída"))
+            .thenAnswer(i -> i.getArgument(0));
+
+        assertThatThrownBy(() -> sesiones.cerrar(100L, true)).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(sesion.isCerrada()).isFalse();
+        assertThat(sesiones.buscar(100L)).containsSame(sesion);
+
+        sesiones.cerrar(100L, true);
+
+        verify(pokemonRepo).save(jugador.pokemon());
+        assertThat(jugador.pokemon().getHpActual()).isEqualTo(3);
+        assertThat(sesion.isCerrada()).isTrue();
+        assertThat(sesiones.buscar(100L)).isEmpty();
+    }
+
+    @Test
+    void volcarDosVeces_laSegundaNoReescribePpSinCambios() {
+        SesionBatalla sesion = sesiones.abrir(sesionDe(1L, 100L, 10L));
+        sesion.combatiente(10L).orElseThrow().gastarPp(0);
+
+        sesiones.volcar(sesion);
+        sesiones.volcar(sesion);
+
+        verify(moveStateRepo, times(1)).insertarOActualizarLote(anyMap());
+        verify(moveStateRepo).insertarOActualizarLote(Map.of(10L, List.of(new EstadoPpMovimiento(33, 0, 34))));
+    }
+
+    @Test
+    void cerrarSinVolcado_noEscribeNada() {
+        sesiones.abrir(sesionDe(1L, 100L, 10L));
+
+        sesiones.cerrar(100L, false);
+
+        verifyNoInteractions(pokemonRepo, moveStateRepo);
+        assertThat(sesiones.contarAbiertas()).isZero();
+    }
+
+    @Test
+    void cerrarDeUsuario_soloCierraSusCombates() {
+        sesiones.abrir(sesionDe(1L, 100L, 10L));
+        sesiones.abrir(sesionDe(2L, 200L, 20L));
+
+        sesiones.cerrarDeUsuario(1L, false);
+
+        assertThat(sesiones.buscar(100L)).isEmpty();
+        assertThat(sesiones.buscarPorParticipante(20L)).isPresent();
+        verify(moveStateRepo, never()).insertarOActualizarLote(anyMap());
+    }
+
+    @Test
+    void volcarPendientes_juntaEnUnLoteLosPpDeVariosPokemonYOmiteLosDescartados() {
+        sesiones.abrir(sesionDe(1L, 100L, 10L)).combatiente(10L).orElseThrow().gastarPp(0);
+        sesiones.abrir(sesionDe(2L, 200L, 20L)).combatiente(20L).orElseThrow().gastarPp(0);
+        sesiones.buscar(100L).orElseThrow().salvaje().gastarPp(0);
+        cache.descartar(100L);
+
+        cache.volcarPendientes();
+        cache.volcarPendientes();
+
+        verify(moveStateRepo, times(1)).insertarOActualizarLote(Map.of(
+            10L, List.of(new EstadoPpMovimiento(33, 0, 34)),
+            20L, List.of(new EstadoPpMovimiento(33, 0, 34))
+        ));
+        verifyNoInteractions(pokemonRepo);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cerrar_entregaAlDiarioLosEventosHastaElFin() {
+        SesionBatalla sesion = sesiones.abrir(sesionDe(1L, 100L, 10L));
+        sesion.salvaje().pokemon().setHpActual(13);
+        sesion.registro().danio(10L, 100L, 7, true, 13);
+        sesion.anotarCambios();
+
+        sesiones.cerrar(100L, false);
+        diario.escribir();
+
+        ArgumentCaptor<List<BloqueEventos>> lote = ArgumentCaptor.forClass(List.class);
+        verify(eventosRepo).insertarLote(lote.capture());
+        assertThat(lote.getValue()).singleElement().satisfies(b -> {
+            assertThat(b.combateId()).isEqualTo(100L);
+            assertThat(b.usuarioId()).isEqualTo(1L);
+            assertThat(EventoCombate.leer(b.datos())).extracting(EventoCombate::tipo).containsExactly(
+                EventoCombate.Tipo.INICIO,
+                EventoCombate.Tipo.ENTRA, EventoCombate.Tipo.ESTADO,
+                EventoCombate.Tipo.ENTRA, EventoCombate.Tipo.ESTADO,
+                EventoCombate.Tipo.DANIO,
+                EventoCombate.Tipo.FIN);
+        });
+    }
+
+    private SesionBatalla sesionDe(Long usuarioId, Long salvajeId, Long jugadorId) {
+        SesionBatalla sesion = new SesionBatalla(salvajeId, usuarioId, "u" + usuarioId, salvajeId);
+        sesion.agregar(pokemon(salvajeId), moveset(salvajeId));
+        sesion.agregar(pokemon(jugadorId), moveset(jugadorId));
+        return sesion;
+    }
+
+    private Moveset moveset(Long pokemonId) {
+        return cache.obtener(pokemonId, () -> new Moveset(pokemonId, List.of(placaje()), new int[] {35}, new int[] {35}));
+    }
+
+    private static PokemonUsuario pokemon(Long id) {
+        PokemonUsuario p = new PokemonUsuario();
+        p.setId(id);
+        p.setHpMax(20);
+        p.setHpActual(20);
+        return p;
+    }
+
+    private static Ataques placaje() {
+        Ataques a = new Ataques();
+        a.setIdAtaque(33);
+        a.setNombre("tackle");
+        a.setPpBase(35);
+        return a;
+    }
+}
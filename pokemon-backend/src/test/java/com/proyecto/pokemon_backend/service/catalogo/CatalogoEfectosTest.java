@@ -0,0 +1,57 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento.Objetivo;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento.Tipo;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogoEfectosTest {
+
+    private final CatalogoEfectos catalogo = new CatalogoEfectos();
+
+    @Test
+    void tablaEmpaquetadaResuelvePorIdAtaque() {
+        // 86 thunder-wave, 14 swords-dance, 58 ice-beam
+        assertThat(catalogo.efecto(86).tipo()).isEqualTo(Tipo.PARALIZAR);
+        EfectoMovimiento danzaEspada = catalogo.efecto(14);
+        assertThat(danzaEspada.objetivo()).isEqualTo(Objetivo.PROPIO);
+        assertThat(danzaEspada.multiplicador()).isEqualTo(1.30);
+        assertThat(catalogo.efecto(58)).extracting(EfectoMovimiento::tipo, EfectoMovimiento::probabilidad)
+            .containsExactly(Tipo.CONGELAR, 10);
+    }
+
+    @Test
+    void sinEntradaEsNinguno() {
+        assertThat(catalogo.efecto(33)).isSameAs(EfectoMovimiento.NINGUNO); // tackle
+        assertThat(catalogo.efecto(null)).isSameAs(EfectoMovimiento.NINGUNO);
+        assertThat(catalogo.efecto(100_000)).isSameAs(EfectoMovimiento.NINGUNO);
+    }
+
+    @Test
+    void rechazaIdsRepetidosYMultiplicadoresImposibles() {
+        assertThatThrownBy(() -> new CatalogoEfectos(json("""
+            {"formato": 1, "efectos": [
+              {"id": 45, "movimiento": "growl", "tipo": "ATAQUE", "objetivo": "RIVAL", "multiplicador": 0.85},
+              {"id": 45, "movimiento": "growl", "tipo": "DEFENSA", "objetivo": "RIVAL", "multiplicador": 0.85}
+            ]}""")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("repetido");
+
+        assertThatThrownBy(() -> new CatalogoEfectos(json("""
+            {"formato": 1, "efectos": [
+              {"id": 45, "movimiento": "growl", "tipo": "ATAQUE", "objetivo": "RIVAL"}
+            ]}""")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("growl");
+    }
+
+    private static ByteArrayResource json(String contenido) {
+        return new ByteArrayResource(contenido.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.exception.RecursoNoEncontrado;
+import com.proyecto.pokemon_backend.model.ConversorTipoSecundario;
+import com.proyecto.pokemon_backend.model.PokedexMaestra;
+import com.proyecto.pokemon_backend.model.Tipo;
+import com.proyecto.pokemon_backend.model.enums.TipoPokemon;
+import com.proyecto.pokemon_backend.repository.RepositorioPokedexMaestra;
+import com.proyecto.pokemon_backend.repository.RepositorioTipo;
+import com.proyecto.pokemon_backend.service.TipoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TablaEnfrentamientosTest {
+
+    @Mock
+    private RepositorioPokedexMaestra pokedexRepo;
+
+    @Mock
+    private RepositorioTipo tipoRepo;
+
+    private TipoService tipoService;
+    private TablaEnfrentamientos tabla;
+
+    @BeforeEach
+    void setUp() {
+        tipoService = new TipoService(tipoRepo);
+        tabla = new TablaEnfrentamientos(new CatalogoEspecies(pokedexRepo), tipoService);
+    }
+
+    @Test
+    void multiplicador_combinaAmbosTiposDeLaEspecie() {
+        when(pokedexRepo.findAll()).thenReturn(List.of(especie(195, "Quagsire", TipoPokemon.AGUA, TipoPokemon.TIERRA)));
+        when(tipoRepo.findAll()).thenReturn(List.of(
+            fila("Planta", "Agua", 2.0), fila("Planta", "Tierra", 2.0), fila("Eléctrico", "Tierra", 0.0)));
+
+        assertThat(tabla.multiplicador(TipoPokemon.PLANTA, 195)).isEqualTo(4.0);
+        assertThat(tabla.multiplicador(TipoPokemon.ELECTRICO, 195)).isZero();
+        assertThat(tabla.multiplicador(TipoPokemon.NORMAL, 195)).isEqualTo(1.0);
+        assertThat(tabla.multiplicador(TipoPokemon.PLANTA, 9999)).isEqualTo(1.0);
+
+        Map<String, Object> resumen = tabla.resumen(195);
+        assertThat(resumen.get("debilidades")).isEqualTo(List.of("grass"));
+        assertThat(resumen.get("inmunidades")).isEqualTo(List.of("electric"));
+    }
+
+    @Test
+    void multiplicador_seReconstruyeAlRecargarLaMatriz() {
+        when(pokedexRepo.findAll()).thenReturn(List.of(especie(4, "Charmander", TipoPokemon.FUEGO, null)));
+        when(tipoRepo.findAll())
+            .thenReturn(List.of())
+            .thenReturn(List.of(fila("Agua", "Fuego", 2.0)));
+
+        assertThat(tabla.multiplicador(TipoPokemon.AGUA, 4)).isEqualTo(1.0);
+        tipoService.recargarMatriz();
+        assertThat(tabla.multiplicador(TipoPokemon.AGUA, 4)).isEqualTo(2.0);
+    }
+
+    @Test
+    void multiplicador_hadaSecundarioSeLeeComoTipoUnico() {
+        TipoPokemon hada = new ConversorTipoSecundario().convertToEntityAttribute("fairy");
+        when(pokedexRepo.findAll()).thenReturn(List.of(especie(183, "Marill", TipoPokemon.AGUA, hada)));
+        when(tipoRepo.findAll()).thenReturn(List.of(fila("Lucha", "Normal", 2.0), fila("Planta", "Agua", 2.0)));
+
+        assertThat(hada).isNull();
+        assertThat(tabla.multiplicador(TipoPokemon.LUCHA, 183)).isEqualTo(1.0);
+        assertThat(tabla.multiplicador(TipoPokemon.PLANTA, 183)).isEqualTo(2.0);
+        assertThat(tabla.resumen(183).get("debilidades")).isEqualTo(List.of("grass"));
+    }
+
+    @Test
+    void resumen_especieInexistente_lanzaRecursoNoEncontrado() {
+        when(pokedexRepo.findAll()).thenReturn(List.of());
+
+        assertThatThrownBy(() -> tabla.resumen(25)).isInstanceOf(RecursoNoEncontrado.class);
+    }
+
+    private static PokedexMaestra especie(int id, String nombre, TipoPokemon t1, TipoPokemon t2) {
+        PokedexMaestra p = new PokedexMaestra();
+        p.setId_pokedex(id);
+        p.setNombre(nombre);
+        p.setTipo_1(t1);
+        p.setTipo_2(t2);
+        return p;
+    }
+
+    private static Tipo fila(String atacante, String defensor, double multiplicador) {
+        Tipo t = new Tipo();
+        t.setAtacante(atacante);
+        t.setDefensor(defensor);
+        t.setMultiplicador(multiplicador);
+        return t;
+    }
+}
@@ -0,0 +1,67 @@
+package com.proyecto.pokemon_backend.service.catalogo;
+
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.Encuentro;
+import com.proyecto.pokemon_backend.service.catalogo.TablasEncuentro.MomentoDia;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TablasEncuentroTest {
+
+    private final TablasEncuentro tablas = new TablasEncuentro();
+
+    @Test
+    void tablaEmpaquetadaUsaLaVarianteDeNocheYElRangoDeNivel() {
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        Set<Integer> deDia = new HashSet<>();
+        Set<Integer> deNoche = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            Encuentro dia = tablas.tirar("New Bark Town", MomentoDia.DIA, aleatorio).orElseThrow();
+            Encuentro noche = tablas.tirar("new_bark_town", MomentoDia.NOCHE, aleatorio).orElseThrow();
+            assertThat(dia.nivel()).isBetween(2, 4);
+            deDia.add(dia.pokedexId());
+            deNoche.add(noche.pokedexId());
+        }
+
+        assertThat(deDia).containsExactlyInAnyOrder(16, 19, 161, 163);
+        assertThat(deNoche).containsExactlyInAnyOrder(19, 163);
+        assertThat(tablas.tirar("elm-lab", MomentoDia.DIA, aleatorio)).isEmpty();
+    }
+
+    @Test
+    void momentoDelDiaPorFranjas() {
+        assertThat(MomentoDia.de(LocalTime.of(4, 0))).isEqualTo(MomentoDia.MANANA);
+        assertThat(MomentoDia.de(LocalTime.of(17, 59))).isEqualTo(MomentoDia.DIA);
+        assertThat(MomentoDia.de(LocalTime.of(3, 59))).isEqualTo(MomentoDia.NOCHE);
+    }
+
+    @Test
+    void rechazaTablasRepetidasYNivelesImposibles() {
+        assertThatThrownBy(() -> new TablasEncuentro(json("""
+            {"formato": 1, "mapas": [
+              {"mapa": "ruta-29", "pokemon": [{"id": 16, "tasa": 10, "nivelMin": 2, "nivelMax": 3}]},
+              {"mapa": "Ruta 29", "pokemon": [{"id": 19, "tasa": 10, "nivelMin": 2, "nivelMax": 3}]}
+            ]}""")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("repetida");
+
+        assertThatThrownBy(() -> new TablasEncuentro(json("""
+            {"formato": 1, "mapas": [
+              {"mapa": "ruta-29", "pokemon": [{"id": 16, "tasa": 10, "nivelMin": 5, "nivelMax": 3}]}
+            ]}""")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("ruta-29");
+    }
+
+    private static ByteArrayResource json(String contenido) {
+        return new ByteArrayResource(contenido.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,9 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.proyecto.pokemon_backend.model.enums.Estado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 public class CalculoServiceTest {
     
     private CalculoService calculoService;
@@ -154,5 +158,21 @@ void testVerificaImpacto() {
     assertTrue(impactosContados >= limiteInferior && impactosContados <= limiteSuperior, 
                "La precisión del 50% debe caer entre 40% y 60% para ser estadísticamente válida.");
     }
-}
 
+    @Test
+    void testMismaSemillaMismasTiradas() {
+        // Dos combates con la misma semilla tiran exactamente lo mismo: daño, impacto, crítico y captura
+        assertEquals(tiradas(new SplittableRandom(42)), tiradas(new SplittableRandom(42)));
+    }
+
+    private String tiradas(RandomGenerator rnd) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append(calculoService.calcularDanio(20, 50, 40, 80, 1.0, true, Estado.SALUDABLE, true, rnd)).append(',')
+                .append(calculoService.verificaImpacto(70, rnd)).append(',')
+                .append(calculoService.fueGolpeCritico(rnd)).append(',')
+                .append(calculoService.calcularCaptura(100, 50, 45, 1.0, Estado.SALUDABLE, rnd)).append(';');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EfectoItemTest {
+
+    @Test
+    void compilar_curacion_distingueCantidadYMaximo() {
+        EfectoItem pocion = EfectoItem.compilar("HEAL_20");
+        assertThat(pocion.clase()).isEqualTo(EfectoItem.Clase.CURACION);
+        assertThat(pocion.ps()).isEqualTo(20);
+        assertThat(pocion.curaEstados()).isFalse();
+
+        EfectoItem restaurarTodo = EfectoItem.compilar("heal_max_status");
+        assertThat(restaurarTodo.ps()).isEqualTo(EfectoItem.PS_TOTAL);
+        assertThat(restaurarTodo.cura(Estado.QUEMADO)).isTrue();
+        assertThat(restaurarTodo.cura(Estado.SALUDABLE)).isFalse();
+    }
+
+    @Test
+    void compilar_curaEstado_usaMascara() {
+        EfectoItem antidoto = EfectoItem.compilar("CURE_PSN");
+        assertThat(antidoto.cura(Estado.ENVENENADO)).isTrue();
+        assertThat(antidoto.cura(Estado.GRAVE_ENVENENADO)).isTrue();
+        assertThat(antidoto.cura(Estado.DORMIDO)).isFalse();
+
+        EfectoItem curaTotal = EfectoItem.compilar("CURE_ALL");
+        for (Estado e : Estado.values()) {
+            assertThat(curaTotal.cura(e)).isEqualTo(e != Estado.SALUDABLE);
+        }
+    }
+
+    @Test
+    void compilar_capturaYDesconocidos() {
+        assertThat(EfectoItem.compilar("CAPTURE_1.5").bonoCaptura()).isEqualTo(1.5);
+        assertThat(EfectoItem.compilar("CAPTURE_MAX").bonoCaptura()).isEqualTo(EfectoItem.BONO_CAPTURA_MAX);
+        assertThat(EfectoItem.compilar("CAPTURE_1.0").esPokeball()).isTrue();
+
+        assertThat(EfectoItem.compilar(null)).isSameAs(EfectoItem.NINGUNO);
+        assertThat(EfectoItem.compilar("NONE")).isSameAs(EfectoItem.NINGUNO);
+        assertThat(EfectoItem.compilar("HEAL_abc")).isSameAs(EfectoItem.NINGUNO);
+    }
+}
@@ -0,0 +1,35 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MuestreoAliasTest {
+
+    @Test
+    void frecuenciasProporcionalesALosPesos() {
+        int[] pesos = {30, 25, 20, 25, 1};
+        MuestreoAlias muestreo = new MuestreoAlias(pesos);
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        int tiradas = 1_010_000;
+        int[] veces = new int[pesos.length];
+        for (int i = 0; i < tiradas; i++) veces[muestreo.tirar(aleatorio)]++;
+
+        for (int i = 0; i < pesos.length; i++) {
+            assertThat((double) veces[i] / tiradas).isCloseTo(pesos[i] / 101.0, within(0.002));
+        }
+    }
+
+    @Test
+    void unSoloPesoSiempreSaleYPesosNoPositivosSeRechazan() {
+        MuestreoAlias unico = new MuestreoAlias(new int[] {7});
+        assertThat(unico.tirar(new SplittableRandom(1))).isZero();
+
+        assertThatThrownBy(() -> new MuestreoAlias(new int[] {10, 0})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MuestreoAlias(new int[0])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.proyecto.pokemon_backend.service.logica;
+
+import com.proyecto.pokemon_backend.model.enums.Estado;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PrevisionDanioTest {
+
+    // Pikachu Nv 10 con Placaje contra defensa 40: base 8.6 → 7-8 normal, 14-17 crítico
+    private static PrevisionDanio placaje(int precision, int hpDefensor) {
+        return PrevisionDanio.calcular(10, 55, 40, 40, 1.0, false, Estado.SALUDABLE, true, precision, hpDefensor);
+    }
+
+    @Test
+    void rangosExactosConYSinCritico() {
+        PrevisionDanio p = placaje(100, 50);
+
+        assertThat(p.minimo()).isEqualTo(7);
+        assertThat(p.maximo()).isEqualTo(8);
+        assertThat(p.minimoCritico()).isEqualTo(14);
+        assertThat(p.maximoCritico()).isEqualTo(17);
+        assertThat(p.probabilidadKo()).isZero();
+    }
+
+    @Test
+    void probabilidadKoCuentaTiradasCriticoYPrecision() {
+        // 8 PS: sin crítico debilitan las tiradas 238-255 (18 de 39); con crítico, todas
+        double esperada = (1 - ReglasTurno.PROBABILIDAD_CRITICO) * 18 / 39.0 + ReglasTurno.PROBABILIDAD_CRITICO;
+
+        assertThat(placaje(100, 8).probabilidadKo()).isCloseTo(esperada, within(1e-12));
+        assertThat(placaje(50, 8).probabilidadKo()).isCloseTo(esperada / 2, within(1e-12));
+        assertThat(placaje(50, 8).probabilidadImpacto()).isEqualTo(0.5);
+    }
+
+    @Test
+    void elDanioDelTurnoCaeSiempreEnElRango() {
+        CalculoService calculo = new CalculoService();
+        PrevisionDanio p = placaje(100, 50);
+        SplittableRandom rnd = new SplittableRandom(7);
+
+        for (int i = 0; i < 1_000; i++) {
+            int danio = calculo.calcularDanio(10, 55, 40, 40, 1.0, false, Estado.SALUDABLE, true, rnd);
+            assertThat(danio).isBetween(p.minimo(), p.maximo());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.proyecto.pokemon_backend.service.simulacion;
+
+import com.proyecto.pokemon_backend.service.batalla.IaSalvaje.Politica;
+import com.proyecto.pokemon_backend.service.logica.EfectoMovimiento;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SimuladorCombateTest {
+
+    private final SimuladorCombate simulador = new SimuladorCombate();
+
+    @Test
+    void nivelAltoContraNivelBajo_ganaCasiSiempre() {
+        Luchador fuerte = placajero(50, 150, 80);
+        Luchador debil = placajero(5, 20, 10);
+
+        ResultadoSimulacion r = simulador.simular(fuerte, debil, 20_000, 1L);
+
+        assertThat(r.combates()).isEqualTo(20_000);
+        assertThat(r.probabilidadA()).isGreaterThan(0.99);
+        assertThat(r.victoriasA() + r.victoriasB() + r.empates()).isEqualTo(20_000);
+        // Los luchadores de partida no se tocan
+        assertThat(fuerte.hp()).isEqualTo(150);
+        assertThat(debil.pp(0)).isEqualTo(35);
+    }
+
+    @Test
+    void espejo_rondaElCincuentaPorCiento_yLaSemillaLoRepite() {
+        Luchador a = placajero(20, 60, 40);
+        Luchador b = placajero(20, 60, 40);
+
+        ResultadoSimulacion r1 = simulador.simular(a, b, 50_000, 42L);
+        ResultadoSimulacion r2 = simulador.simular(a, b, 50_000, 42L);
+
+        assertThat(r1.probabilidadA()).isCloseTo(0.5, within(0.03));
+        assertThat(r1).isEqualTo(r2);
+    }
+
+    @Test
+    void sinMovimientosConDanio_terminaEnEmpatePorRondas() {
+        Luchador a = new Luchador(10, 30, 30, 20, 20, 20, 20, 20, List.of(gruñido()));
+        Luchador b = new Luchador(10, 30, 30, 20, 20, 20, 20, 20, List.of(gruñido()));
+
+        ResultadoSimulacion r = simulador.simular(a, b, 100, 7L);
+
+        assertThat(r.empates()).isEqualTo(100);
+        assertThat(r.rondasMedias()).isEqualTo(SimuladorCombate.MAX_RONDAS);
+    }
+
+    @Test
+    void salvajeVoraz_eligeSiempreElGolpeFuerte_yGanaMasQueAlAzar() {
+        Luchador jugador = placajero(20, 60, 40);
+        Luchador salvaje = new Luchador(20, 60, 60, 40, 40, 40, 40, 40, List.of(
+            new Luchador.Movimiento(10, 100, false, false, false, 1.0, EfectoMovimiento.NINGUNO, 35),
+            new Luchador.Movimiento(90, 100, false, false, true, 1.0, EfectoMovimiento.NINGUNO, 35)
+        ));
+
+        assertThat(SimuladorCombate.elegirMovimiento(salvaje, jugador, Politica.VORAZ, new SplittableRandom(3L)))
+            .isEqualTo(1);
+        ResultadoSimulacion alAzar = simulador.simular(jugador, salvaje, Politica.ALEATORIO, 20_000, 5L);
+        ResultadoSimulacion voraz = simulador.simular(jugador, salvaje, Politica.VORAZ, 20_000, 5L);
+
+        assertThat(voraz.probabilidadB()).isGreaterThan(alAzar.probabilidadB() + 0.1);
+        assertThat(simulador.simular(jugador, salvaje, 20_000, 5L)).isEqualTo(alAzar);
+    }
+
+    private static Luchador placajero(int nivel, int hp, int stat) {
+        return new Luchador(nivel, hp, hp, stat, stat, stat, stat, stat, List.of(
+            new Luchador.Movimiento(40, 100, false, false, true, 1.0, EfectoMovimiento.NINGUNO, 35)
+        ));
+    }
+
+    private static Luchador.Movimiento gruñido() {
+        return new Luchador.Movimiento(0, 100, false, true, false, 1.0,
+            new EfectoMovimiento(EfectoMovimiento.Tipo.ATAQUE, EfectoMovimiento.Objetivo.RIVAL, 100, 0.85, null), 40);
+    }
+}
@@ -793,7 +793,8 @@ export default class EscenaBatalla extends Phaser.Scene {
         mensajeFinal = res?.mensaje ?? '¡Falló la captura!';
         capturado = typeof mensajeFinal === 'string' && mensajeFinal.toLowerCase().includes('fue capturado');
         if (capturado) {
-          this._capturadoPokemonId = defensorId;
+          // El capturado recibe id propio; el del salvaje solo existía en memoria del servidor
+          this._capturadoPokemonId = res?.pokemonUsuarioId ?? defensorId;
           this._salvajePokemonUsuarioId = null;
         }
         const invActual = usarJuegoStore.getState().inventario ?? [];
@@ -1198,38 +1199,16 @@ export default class EscenaBatalla extends Phaser.Scene {
     const enemigo = this._pokemonSalvaje;
     const jugador = this._pokemonJugador;
 
-    const n = Math.max(1, this._movimientosEnemigo?.length ?? 0);
-    const movEnemigoIdx = Math.floor(Math.random() * Math.min(n, 4));
-    const movEnemigo = this._movimientosEnemigo?.[movEnemigoIdx] ?? {
-      movimientoId: 33,
-      id: 33,
-      nombre: 'Placaje',
-      potencia: 40,
-      tipo: 'NORMAL',
-      categoria: 'physical',
-    };
-
+    // El movimiento del salvaje lo elige el servidor (IaSalvaje); solo se indican los participantes
     const atacanteId = enemigo.pokemonUsuarioId;
     const defensorId = jugador.pokemonUsuarioId;
-    const movimientoId = movEnemigo.movimientoId ?? movEnemigo.id;
-    if (atacanteId == null || defensorId == null || movimientoId == null) {
+    if (atacanteId == null || defensorId == null) {
       this._mostrarMenuAcciones();
       return;
     }
 
     try {
-      const resultado = await PuenteApi.ejecutarTurno({
-        atacanteId,
-        defensorId,
-        movimientoId,
-        nivelAtacante: enemigo.nivel,
-        potenciaMovimiento: movEnemigo.potencia ?? 40,
-        tipoAtaque: movEnemigo.tipo ?? 'NORMAL',
-        ataqueStat: enemigo.ataque ?? 50,
-        defensaStat: jugador.defensa ?? 50,
-        esEspecial: this._categoriaEsEspecial(movEnemigo.categoria),
-        esMismoTipo: false,
-      });
+      const resultado = await PuenteApi.ejecutarTurno({ atacanteId, defensorId });
 
       const nuevoHpJugador =
         typeof resultado.hpRestanteDefensor === 'number'
@@ -1253,7 +1232,7 @@ export default class EscenaBatalla extends Phaser.Scene {
       const gen = (resultado.mensajeGeneral && String(resultado.mensajeGeneral).trim()) || '';
       const lineas = gen
         ? gen.split('\n').map(s => s.trim()).filter(Boolean)
-        : [`¡${enemigo.nombre} usó ${movEnemigo.nombre}!`,
+        : [`¡${enemigo.nombre} atacó!`,
             ...(resultado.golpeCritico ? ['¡Golpe crítico!'] : []),
             ...(resultado.mensajeEfectividad ? [resultado.mensajeEfectividad] : [])];
 
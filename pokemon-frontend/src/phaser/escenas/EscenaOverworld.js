@@ -372,7 +372,7 @@ export default class EscenaOverworld extends Phaser.Scene {
         const tablaKey = `encuentros-${mapaKey}`;
         const tabla = this.cache.json.get(tablaKey);
         if (tabla) {
-          this._encuentros = new SistemaEncuentros(this, capaHierba, tabla);
+          this._encuentros = new SistemaEncuentros(this, capaHierba, tabla, mapaKey);
           this._jugador.on('paso', (tx, ty) => this._encuentros.comprobarPaso(tx, ty));
           this.events.once('encuentro', (pokemon) => this._iniciarBatalla(pokemon));
         }
@@ -1427,7 +1427,26 @@ export default class EscenaOverworld extends Phaser.Scene {
     const debugCaptura = Boolean(pokemon?.esDebugCaptura);
 
     let salvaje = { ...pokemon };
-    if (salvaje.pokemonUsuarioId == null && salvaje.id != null) {
+    if (salvaje.encuentroServidor) {
+      try {
+        const enc = await PuenteApi.encuentroSalvajePokemon(salvaje.mapaActual);
+        salvaje = {
+          pokemonUsuarioId: enc.pokemonUsuarioId,
+          pokedexId: enc.pokedexId,
+          id: enc.pokedexId,
+          nombre: enc.nombre,
+          nivel: enc.nivel,
+          hpActual: enc.hpActual,
+          hpMax: enc.hpMax,
+          ataque: enc.ataque,
+          defensa: enc.defensa,
+        };
+      } catch (e) {
+        console.error('[batalla] encuentro salvaje', e);
+        this._dialogo.mostrar(['No se pudo iniciar', 'el combate.'], () => {});
+        return;
+      }
+    } else if (salvaje.pokemonUsuarioId == null && salvaje.id != null) {
       try {
         const prep = await PuenteApi.prepararSalvajePokemon({
           pokedexId: salvaje.id,
@@ -146,6 +146,12 @@ const PuenteApi = {
     return res.data;
   },
 
+  /** Encuentro en hierba: el servidor elige especie y nivel por mapa y hora, y prepara la instancia. */
+  async encuentroSalvajePokemon(mapaActual) {
+    const res = await api.post('/api/v1/batalla/salvaje/encuentro', mapaActual ? { mapaActual } : {});
+    return res.data;
+  },
+
   async liberarSalvajePokemon(pokemonUsuarioId) {
     await api.post('/api/v1/batalla/salvaje/liberar', { pokemonUsuarioId });
   },
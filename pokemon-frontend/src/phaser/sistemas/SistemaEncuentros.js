@@ -6,8 +6,9 @@ import { usarJuegoStore } from '../../store/usarJuegoStore';
  * Gen II:
  *   - Cada paso en hierba aumenta un contador.
  *   - Se genera un umbral aleatorio entre MIN_PASOS y MAX_PASOS.
- *   - Al alcanzar el umbral, se selecciona un Pokémon de la tabla de encuentros
- *     ponderada por tasa y se emite el evento 'encuentro'.
+ *   - Al alcanzar el umbral se emite el evento 'encuentro'. Especie y nivel los tira
+ *     el servidor con la tabla del mapa y la hora (POST /batalla/salvaje/encuentro);
+ *     la tabla local solo indica que el mapa tiene hierba con salvajes.
  *   - Si el jugador no tiene starter en el equipo, no se emite el evento.
  */
 
@@ -19,11 +20,13 @@ export default class SistemaEncuentros {
    * @param {Phaser.Scene} scene
    * @param {Phaser.Tilemaps.TilemapLayer} capaHierba
    * @param {Object} tablaEncuentros - JSON cargado desde encuentros_<mapa>.json
+   * @param {string} mapaKey - mapa en el que se camina; el servidor tira con su tabla
    */
-  constructor(scene, capaHierba, tablaEncuentros) {
+  constructor(scene, capaHierba, tablaEncuentros, mapaKey) {
     this.scene = scene;
     this.capaHierba = capaHierba;
     this.tabla = tablaEncuentros?.hierba_alta?.pokemon ?? [];
+    this.mapaKey = mapaKey;
     this._pasosEnHierba = 0;
     this._umbral = this._nuevoUmbral();
   }
@@ -55,9 +58,8 @@ export default class SistemaEncuentros {
       const tieneEquipoReal = team.some((p) => p.pokemonUsuarioId != null || p.esStarter);
       if (!tieneEquipoReal) return;
 
-      const pokemon = this._seleccionarPokemon();
-      if (pokemon) {
-        this.scene.events.emit('encuentro', pokemon);
+      if (this.tabla.length) {
+        this.scene.events.emit('encuentro', { encuentroServidor: true, mapaActual: this.mapaKey });
       }
     }
   }
@@ -65,26 +67,4 @@ export default class SistemaEncuentros {
   _nuevoUmbral() {
     return MIN_PASOS + Math.floor(Math.random() * (MAX_PASOS - MIN_PASOS + 1));
   }
-
-  _seleccionarPokemon() {
-    if (!this.tabla.length) return null;
-
-    // Suma total de tasas para normalizar
-    const total = this.tabla.reduce((acc, p) => acc + p.tasa, 0);
-    let roll = Math.floor(Math.random() * total);
-
-    for (const entry of this.tabla) {
-      roll -= entry.tasa;
-      if (roll < 0) {
-        const nivel =
-          entry.nivelMin +
-          Math.floor(Math.random() * (entry.nivelMax - entry.nivelMin + 1));
-        return { id: entry.id, nombre: entry.nombre, nivel };
-      }
-    }
-
-    // Fallback: último de la tabla
-    const ultimo = this.tabla[this.tabla.length - 1];
-    return { id: ultimo.id, nombre: ultimo.nombre, nivel: ultimo.nivelMin };
-  }
 }